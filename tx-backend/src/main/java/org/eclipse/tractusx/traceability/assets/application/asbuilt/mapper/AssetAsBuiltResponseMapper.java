@@ -69,7 +69,8 @@ public class AssetAsBuiltResponseMapper extends AssetBaseResponseMapper {
                 assetPageResult.page(),
                 assetPageResult.pageCount(),
                 assetPageResult.pageSize(),
-                assetPageResult.totalItems()
+                assetPageResult.totalItems(),
+                assetPageResult.nextCursor()
         );
     }
 
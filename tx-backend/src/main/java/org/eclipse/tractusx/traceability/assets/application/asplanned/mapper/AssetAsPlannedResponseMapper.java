@@ -71,7 +71,8 @@ public class AssetAsPlannedResponseMapper extends AssetBaseResponseMapper {
                 assetPageResult.page(),
                 assetPageResult.pageCount(),
                 assetPageResult.pageSize(),
-                assetPageResult.totalItems()
+                assetPageResult.totalItems(),
+                assetPageResult.nextCursor()
         );
     }
 
@@ -28,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface AssetBaseService {
 
@@ -49,7 +50,9 @@ public interface AssetBaseService {
 
     List<String> getSearchableValues(String fieldName, String startWith, Integer size, Owner owner, List<String> inAssetIds);
 
-    List<String> getAssetIdsInImportState(ImportState... importStates);
+    Set<String> getAssetIdsInImportState(ImportState... importStates);
+
+    Set<String> getExistingAssetIds(List<String> assetIds);
 
     List<AssetBase> findAll();
 }
@@ -20,14 +20,16 @@
 package org.eclipse.tractusx.traceability.assets.application.importpoc;
 
 
-import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Map;
 
 public interface ImportService {
-    Map<AssetBase, Boolean> importAssets(MultipartFile file, ImportJob importJob);
+    /**
+     * @return whether the asset was persisted, by asset id in the order of the file
+     */
+    Map<String, Boolean> importAssets(MultipartFile file, ImportJob importJob);
 
     ImportJob createJob();
 
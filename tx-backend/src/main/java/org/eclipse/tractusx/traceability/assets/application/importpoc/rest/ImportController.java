@@ -39,7 +39,6 @@ import org.eclipse.tractusx.traceability.assets.application.importpoc.ImportServ
 import org.eclipse.tractusx.traceability.assets.application.importpoc.PublishService;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.mapper.ImportJobResponseMapper;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.JsonFileValidator;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportException;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
 import org.springframework.http.HttpStatus;
@@ -148,7 +147,7 @@ public class ImportController {
         }
 
 
-        Map<AssetBase, Boolean> resultMap = null;
+        Map<String, Boolean> resultMap = null;
         try {
             resultMap = importService.importAssets(file, importJob);
         } catch (ImportException e) {
@@ -163,9 +162,9 @@ public class ImportController {
         }
 
         List<ImportStateMessage> importStateMessages = resultMap.entrySet().stream()
-                .map(assetBaseSet -> new ImportStateMessage(
-                        assetBaseSet.getKey().getId(),
-                        assetBaseSet.getValue())
+                .map(assetImportState -> new ImportStateMessage(
+                        assetImportState.getKey(),
+                        assetImportState.getValue())
                 ).toList();
 
         log.info("Successfully imported {} assets.", importStateMessages.size());
@@ -18,52 +18,61 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.application.importpoc.validation;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.fge.jackson.JsonLoader;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.LogLevel;
 import com.github.fge.jsonschema.core.report.ProcessingMessage;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 import com.github.fge.jsonschema.main.JsonSchema;
-import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import lombok.RequiredArgsConstructor;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.JsonFileProcessingException;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.NotSupportedSchemaException;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.parser.ImportFileParser;
+import org.eclipse.tractusx.traceability.common.properties.ImportValidationProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.isNull;
+import static org.eclipse.tractusx.traceability.assets.domain.importpoc.parser.ImportFileParser.ASSETS_FIELD;
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.IMPORT_VALIDATION_EXECUTOR;
 
 @Component
+@RequiredArgsConstructor
 public class JsonFileValidator {
 
-    public static final Map<String, String> SUPPORTED_SCHEMA_VALIDATION = Map.ofEntries(
-            Map.entry("base", "/schema/tracex/schema_V1.json"),
-            Map.entry("urn:samm:io.catenax.batch:3.0.0#Batch", "/schema/semantichub/Batch_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.just_in_sequence_part:3.0.0#JustInSequencePart", "/schema/semantichub/JustInSequencePart_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.serial_part:3.0.0#SerialPart", "/schema/semantichub/SerialPart_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.part_site_information_as_planned:1.0.0#PartSiteInformationAsPlanned", "/schema/semantichub/PartSiteInformationAsPlanned_1.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.single_level_bom_as_built:3.0.0#SingleLevelBomAsBuilt", "/schema/semantichub/SingleLevelBomAsBuilt_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.single_level_usage_as_built:3.0.0#SingleLevelUsageAsBuilt", "/schema/semantichub/SingleLevelUsageAsBuilt_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.traction_battery_code:2.0.0#TractionBatteryCode", "/schema/semantichub/TractionBatteryCode_2.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.part_as_planned:2.0.0#PartAsPlanned", "/schema/semantichub/PartAsPlanned_2.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.single_level_bom_as_planned:3.0.0#SingleLevelBomAsPlanned", "/schema/semantichub/SingleLevelBomAsPlanned_3.0.0-schema.json")
-    );
-
-    private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
-
+    private final JsonSchemaRegistry jsonSchemaRegistry;
+    private final ImportValidationProperties importValidationProperties;
+    @Qualifier(IMPORT_VALIDATION_EXECUTOR)
+    private final ThreadPoolTaskExecutor importValidationExecutor;
+    // floats are read as BigDecimal like JsonLoader does, so numeric constraints are checked the same way
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    /**
+     * Validates the file in one streaming pass: assets are read in batches, the assets of a batch are validated in
+     * parallel against the asset definition of the base schema and their submodel payloads against their aspect
+     * schemas. The top level of the file is validated against the base schema without its assets. The errors are
+     * reported in the order of the assets in the file.
+     */
     public List<String> isValid(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             return List.of();
@@ -77,87 +86,124 @@ public class JsonFileValidator {
             return List.of("Supported file is *.json");
         }
 
-
         final List<String> errors = new ArrayList<>();
-
-        try {
-            final JsonSchema schema = factory.getJsonSchema(JsonLoader.fromURL(getSchemaUrl("base")));
-            InputStreamReader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8);
-            ProcessingReport report = schema.validate(JsonLoader.fromReader(reader));
-            StreamSupport.stream(report.spliterator(), false).filter(processingMessage -> processingMessage.getLogLevel().equals(LogLevel.WARNING))
-                    .map(ProcessingMessage::getMessage)
-                    .forEach(errors::add);
-            reader.close();
-
+        final Map<String, List<ProcessingMessage>> processingMessages = new LinkedHashMap<>();
+
+        try (InputStream inputStream = file.getInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            ObjectNode topLevel = objectMapper.createObjectNode();
+            ImportFileParser.TopLevelFieldReader topLevelFieldReader = (fieldName, fieldParser) -> topLevel.set(fieldName, objectMapper.readTree(fieldParser));
+            if (!ImportFileParser.moveToAssets(parser, topLevelFieldReader)) {
+                errors.add("Could not find assets");
+                return errors;
+            }
+            List<JsonNode> batch = new ArrayList<>();
+            if (parser.currentToken() == JsonToken.START_ARRAY) {
+                topLevel.putArray(ASSETS_FIELD);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    batch.add(objectMapper.readTree(parser));
+                    if (batch.size() >= importValidationProperties.getBatchSize()) {
+                        validateAssets(batch, errors, processingMessages);
+                        batch.clear();
+                    }
+                }
+            } else {
+                JsonNode assets = objectMapper.readTree(parser);
+                topLevel.set(ASSETS_FIELD, assets.isObject() ? objectMapper.createObjectNode() : assets);
+                assets.forEach(batch::add);
+            }
+            validateAssets(batch, errors, processingMessages);
+            ImportFileParser.readRemainingFields(parser, topLevelFieldReader);
+            errors.addAll(0, validateTopLevel(topLevel));
         } catch (ProcessingException | IOException e) {
             return List.of("Json file is not processable." + e.getMessage());
         }
-        errors.addAll(validateAspectPayload(file));
+
+        List<String> constructedErrorMessages = processingMessages.entrySet().stream().map(entry ->
+                        entry.getValue().stream().map(processingMessage -> entry.getKey() + " Following error occurred: " + processingMessage.getMessage()).toList()
+                ).flatMap(Collection::stream)
+                .toList();
+        errors.addAll(constructedErrorMessages);
         return errors;
     }
 
-    private List<String> validateAspectPayload(MultipartFile file) {
-        List<String> errors = new ArrayList<>();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode rootNode;
-        try {
-            rootNode = objectMapper.readTree(file.getInputStream());
-        } catch (IOException e) {
-            throw new IllegalStateException(e);
+    private void validateAssets(List<JsonNode> assets, List<String> errors, Map<String, List<ProcessingMessage>> processingMessages) throws ProcessingException {
+        List<CompletableFuture<AssetValidationResult>> validations = assets.stream()
+                .map(asset -> CompletableFuture.supplyAsync(() -> validateAsset(asset), importValidationExecutor))
+                .toList();
+        for (CompletableFuture<AssetValidationResult> validation : validations) {
+            AssetValidationResult result = join(validation);
+            errors.addAll(result.errors());
+            processingMessages.putAll(result.processingMessages());
         }
+    }
+
+    // the assets are replaced by an empty value of their type, they are validated one by one
+    private List<String> validateTopLevel(JsonNode topLevel) throws ProcessingException {
+        return StreamSupport.stream(jsonSchemaRegistry.getBaseSchema().validate(topLevel).spliterator(), false)
+                .filter(processingMessage -> processingMessage.getLogLevel().equals(LogLevel.WARNING))
+                .map(ProcessingMessage::getMessage)
+                .toList();
+    }
 
-        JsonNode assetsNode = rootNode.get("assets");
-        if (isNull(assetsNode)) {
-            errors.add("Could not find assets");
-            return errors;
+    private AssetValidationResult validateAsset(JsonNode asset) {
+        final List<String> errors = new ArrayList<>();
+        final Map<String, List<ProcessingMessage>> processingMessages = new LinkedHashMap<>();
+        try {
+            StreamSupport.stream(jsonSchemaRegistry.getAssetSchema().validate(asset).spliterator(), false)
+                    .filter(processingMessage -> processingMessage.getLogLevel().equals(LogLevel.WARNING))
+                    .map(ProcessingMessage::getMessage)
+                    .forEach(errors::add);
+        } catch (ProcessingException e) {
+            throw new CompletionException(e);
         }
-        Map<String, List<ProcessingMessage>> processingMessages = new HashMap<>();
-        for (JsonNode asset : assetsNode) {
-            JsonNode assetMetaInfo = asset.get("assetMetaInfo");
-            String assetId = assetMetaInfo.get("catenaXId").asText();
-            JsonNode submodels = asset.get("submodels");
-            for (JsonNode submodel : submodels) {
-                JsonNode aspectTypeNode = submodel.get("aspectType");
-                if (isNull(aspectTypeNode)) {
-                    errors.add("Missing property aspectType");
-                    continue;
-                }
-                String aspectType = aspectTypeNode.asText();
-                String payload = submodel.get("payload").toString();
-
-                try {
-                    final JsonSchema schema = factory.getJsonSchema(JsonLoader.fromURL(getSchemaUrl(aspectType)));
-
-                    ProcessingReport report = schema.validate(JsonLoader.fromString(payload));
-                    List<ProcessingMessage> payloadProcessingMessages = StreamSupport.stream(report.spliterator(), false)
-                            .filter(processingMessage -> !processingMessage.getLogLevel().equals(LogLevel.WARNING))
-                            .filter(processingMessage -> !processingMessage.getLogLevel().equals(LogLevel.INFO))
-                            .toList();
-                    processingMessages.put("For Asset with ID: " + assetId + " And aspectType: " + aspectType, payloadProcessingMessages);
-                } catch (NotSupportedSchemaException e) {
-                    errors.add(e.getMessage());
-                } catch (ProcessingException | IOException e) {
-                    throw new JsonFileProcessingException(e);
-                }
 
+        JsonNode assetMetaInfo = asset.get("assetMetaInfo");
+        String assetId = assetMetaInfo.get("catenaXId").asText();
+        JsonNode submodels = asset.get("submodels");
+        for (JsonNode submodel : submodels) {
+            JsonNode aspectTypeNode = submodel.get("aspectType");
+            if (isNull(aspectTypeNode)) {
+                errors.add("Missing property aspectType");
+                continue;
+            }
+            String aspectType = aspectTypeNode.asText();
+            JsonNode payload = Objects.requireNonNullElse(submodel.get("payload"), NullNode.getInstance());
+
+            try {
+                final JsonSchema schema = jsonSchemaRegistry.getSchema(aspectType);
+
+                ProcessingReport report = schema.validate(payload);
+                List<ProcessingMessage> payloadProcessingMessages = StreamSupport.stream(report.spliterator(), false)
+                        .filter(processingMessage -> !processingMessage.getLogLevel().equals(LogLevel.WARNING))
+                        .filter(processingMessage -> !processingMessage.getLogLevel().equals(LogLevel.INFO))
+                        .toList();
+                processingMessages.put("For Asset with ID: " + assetId + " And aspectType: " + aspectType, payloadProcessingMessages);
+            } catch (NotSupportedSchemaException e) {
+                errors.add(e.getMessage());
+            } catch (ProcessingException e) {
+                throw new JsonFileProcessingException(e);
             }
         }
-
-        List<String> constructedErrorMessages = processingMessages.entrySet().stream().map(entry ->
-                        entry.getValue().stream().map(processingMessage -> entry.getKey() + " Following error occurred: " + processingMessage.getMessage()).toList()
-                ).flatMap(Collection::stream)
-                .toList();
-        errors.addAll(constructedErrorMessages);
-        return errors;
+        return new AssetValidationResult(errors, processingMessages);
     }
 
-    private URL getSchemaUrl(String schemaName) {
-        String schemaPath = SUPPORTED_SCHEMA_VALIDATION.get(schemaName);
-        if (isNull(schemaPath)) {
-            throw new NotSupportedSchemaException(schemaName);
+    // waits for the validation of an asset and rethrows its failure as if the asset was validated by the caller
+    private static AssetValidationResult join(CompletableFuture<AssetValidationResult> validation) throws ProcessingException {
+        try {
+            return validation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ProcessingException processingException) {
+                throw processingException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
         }
+    }
 
-        return JsonFileValidator.class.getResource(schemaPath);
+    private record AssetValidationResult(List<String> errors, Map<String, List<ProcessingMessage>> processingMessages) {
     }
 
 }
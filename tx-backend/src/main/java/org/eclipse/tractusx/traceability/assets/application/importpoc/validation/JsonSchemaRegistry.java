@@ -0,0 +1,115 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.application.importpoc.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.NotSupportedSchemaException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Holds the compiled schemas of the import file. They are loaded and compiled once at startup, compiled schemas are
+ * immutable and shared by all validations.
+ */
+@Slf4j
+@Component
+public class JsonSchemaRegistry {
+
+    public static final Map<String, String> SUPPORTED_SCHEMA_VALIDATION = Map.ofEntries(
+            Map.entry("base", "/schema/tracex/schema_V1.json"),
+            Map.entry("urn:samm:io.catenax.batch:3.0.0#Batch", "/schema/semantichub/Batch_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.just_in_sequence_part:3.0.0#JustInSequencePart", "/schema/semantichub/JustInSequencePart_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.serial_part:3.0.0#SerialPart", "/schema/semantichub/SerialPart_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.part_site_information_as_planned:1.0.0#PartSiteInformationAsPlanned", "/schema/semantichub/PartSiteInformationAsPlanned_1.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.single_level_bom_as_built:3.0.0#SingleLevelBomAsBuilt", "/schema/semantichub/SingleLevelBomAsBuilt_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.single_level_usage_as_built:3.0.0#SingleLevelUsageAsBuilt", "/schema/semantichub/SingleLevelUsageAsBuilt_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.traction_battery_code:2.0.0#TractionBatteryCode", "/schema/semantichub/TractionBatteryCode_2.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.part_as_planned:2.0.0#PartAsPlanned", "/schema/semantichub/PartAsPlanned_2.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.single_level_bom_as_planned:3.0.0#SingleLevelBomAsPlanned", "/schema/semantichub/SingleLevelBomAsPlanned_3.0.0-schema.json")
+    );
+
+    private static final String BASE_SCHEMA = "base";
+    private static final String ASSET_ITEM_SCHEMA_POINTER = "/properties/assets/items";
+
+    private final Map<String, JsonSchema> schemas;
+    private final JsonSchema assetSchema;
+
+    public JsonSchemaRegistry() {
+        JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+        Map<String, JsonSchema> compiledSchemas = new HashMap<>();
+        try {
+            for (Map.Entry<String, String> supportedSchema : SUPPORTED_SCHEMA_VALIDATION.entrySet()) {
+                compiledSchemas.put(supportedSchema.getKey(), factory.getJsonSchema(load(supportedSchema.getValue())));
+            }
+            JsonNode baseSchema = load(SUPPORTED_SCHEMA_VALIDATION.get(BASE_SCHEMA));
+            this.assetSchema = factory.getJsonSchema(baseSchema, ASSET_ITEM_SCHEMA_POINTER);
+        } catch (ProcessingException | IOException e) {
+            throw new IllegalStateException("Failed to compile the import schemas", e);
+        }
+        this.schemas = Map.copyOf(compiledSchemas);
+        log.info("Compiled {} import schemas", schemas.size());
+    }
+
+    /**
+     * Returns the base schema of the import file.
+     */
+    public JsonSchema getBaseSchema() {
+        return schemas.get(BASE_SCHEMA);
+    }
+
+    /**
+     * Returns the schema of a single asset of the import file, which is the asset definition of the base schema.
+     */
+    public JsonSchema getAssetSchema() {
+        return assetSchema;
+    }
+
+    /**
+     * Returns the schema of the submodel payloads of the given aspect type.
+     *
+     * @throws NotSupportedSchemaException if no schema is known for the aspect type
+     */
+    public JsonSchema getSchema(String aspectType) {
+        JsonSchema schema = schemas.get(aspectType);
+        if (isNull(schema)) {
+            throw new NotSupportedSchemaException(aspectType);
+        }
+        return schema;
+    }
+
+    private static JsonNode load(String schemaPath) throws IOException {
+        URL schemaUrl = JsonSchemaRegistry.class.getResource(schemaPath);
+        if (isNull(schemaUrl)) {
+            throw new IOException("Schema %s not found".formatted(schemaPath));
+        }
+        return JsonLoader.fromURL(schemaUrl);
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 
 import java.util.List;
+import java.util.Map;
 
 public interface AssetRepository {
     AssetBase getAssetById(String assetId);
@@ -46,10 +47,16 @@ public interface AssetRepository {
 
     long countAssetsByOwner(Owner owner);
 
+    Map<Owner, Long> countAssetsGroupedByOwner();
+
     List<String> getFieldValues(String fieldName, String startWith, Integer resultLimit, Owner owner, List<String> inAssetIds);
 
     List<AssetBase> findByImportStateIn(ImportState... importStates);
 
+    List<String> findIdsByImportStateIn(ImportState... importStates);
+
+    List<String> findIdsByIdIn(List<String> assetIds);
+
     void updateImportStateAndNoteForAssets(ImportState importState, String importNote, List<String> assetIds);
 
     List<AssetBase> findAll();
@@ -25,7 +25,9 @@ public class ImportNote {
     public static final String PERSISTED = "Asset created/updated successfully in persistent state.";
     public static final String IN_SYNCHRONIZATION = "Twin in sync with digital twin registry. Twin will not be updated.";
     public static final String PUBLISHED_TO_CORE_SERVICES = "Assets published to core services.";
+    public static final String ERROR_ASSET_NOT_FOUND = "Asset not found while publishing to core services.";
     public static final String ERROR_DTR_SHELL_CREATION_FAILED = "Failed to create shell in DTR.";
+    public static final String ERROR_SUBMODEL_CREATION_FAILED = "Failed to create submodel on submodel server.";
     public static final String ERROR_EDC_POLICY_CREATION_FAILED = "Failed to create policy in EDC.";
     public static final String ERROR_EDC_ASSET_CREATION_FAILED = "Failed to create asset in EDC.";
     public static final String ERROR_EDC_CONTRACT_CREATION_FAILED = "Failed to create contract in EDC.";
@@ -35,9 +35,11 @@ import org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig;
 import org.springframework.scheduling.annotation.Async;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -76,7 +78,7 @@ public abstract class AbstractAssetBaseService implements AssetBaseService {
     }
 
     @Override
-    @Async(value = AssetsAsyncConfig.SYNCHRONIZE_ASSETS_EXECUTOR)
+    @Async(value = AssetsAsyncConfig.SYNCHRONIZE_ASSETS_REQUEST_EXECUTOR)
     public void synchronizeAssetsAsync(List<String> globalAssetIds) {
         for (String globalAssetId : globalAssetIds) {
             try {
@@ -127,8 +129,16 @@ public abstract class AbstractAssetBaseService implements AssetBaseService {
     }
 
     @Override
-    public List<String> getAssetIdsInImportState(ImportState... importStates) {
-        return getAssetRepository().findByImportStateIn(importStates).stream().map(AssetBase::getId).toList();
+    public Set<String> getAssetIdsInImportState(ImportState... importStates) {
+        return new HashSet<>(getAssetRepository().findIdsByImportStateIn(importStates));
+    }
+
+    @Override
+    public Set<String> getExistingAssetIds(List<String> assetIds) {
+        if (assetIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(getAssetRepository().findIdsByIdIn(assetIds));
     }
 
     @Override
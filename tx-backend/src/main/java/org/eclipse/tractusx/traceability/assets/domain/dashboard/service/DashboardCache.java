@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.domain.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.model.Dashboard;
+import org.eclipse.tractusx.traceability.common.properties.DashboardCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Holds the last computed {@link Dashboard} for a short time. Concurrent requests for an expired dashboard wait for a
+ * single computation. Asset and notification writes invalidate the dashboard, see
+ * {@code DashboardCacheInvalidationListener}.
+ */
+@Component
+public class DashboardCache {
+
+    private static final String KEY = "dashboard";
+
+    private final Cache<String, Dashboard> cache;
+    private final boolean enabled;
+
+    public DashboardCache(DashboardCacheProperties dashboardCacheProperties, MeterRegistry meterRegistry) {
+        Duration expireAfterWrite = dashboardCacheProperties.getExpireAfterWrite();
+        this.enabled = !expireAfterWrite.isZero() && !expireAfterWrite.isNegative();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(enabled ? expireAfterWrite : Duration.ZERO)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, dashboardCacheProperties.getName());
+    }
+
+    public Dashboard get(Supplier<Dashboard> dashboardSupplier) {
+        if (!enabled) {
+            return dashboardSupplier.get();
+        }
+        return cache.get(KEY, key -> dashboardSupplier.get());
+    }
+
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+}
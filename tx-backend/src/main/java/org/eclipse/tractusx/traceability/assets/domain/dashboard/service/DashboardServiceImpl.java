@@ -32,7 +32,7 @@ import org.eclipse.tractusx.traceability.notification.domain.base.model.Notifica
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -42,49 +42,40 @@ public class DashboardServiceImpl implements DashboardService {
     private final AssetAsBuiltRepository assetAsBuiltRepository;
     private final AssetAsPlannedRepository assetAsPlannedRepository;
     private final NotificationRepository notificationRepository;
+    private final DashboardCache dashboardCache;
 
     @Override
     public Dashboard getDashboard() {
-        long asBuiltCustomerParts = assetAsBuiltRepository.countAssetsByOwner(Owner.CUSTOMER);
-        long asPlannedCustomerParts = assetAsPlannedRepository.countAssetsByOwner(Owner.CUSTOMER);
-        long asBuiltSupplierParts = assetAsBuiltRepository.countAssetsByOwner(Owner.SUPPLIER);
-        long asPlannedSupplierParts = assetAsPlannedRepository.countAssetsByOwner(Owner.SUPPLIER);
-        long asBuiltOwnParts = assetAsBuiltRepository.countAssetsByOwner(Owner.OWN);
-        long asPlannedOwnParts = assetAsPlannedRepository.countAssetsByOwner(Owner.OWN);
-
-
-        long myPartsWithSentAlerts = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.OWN), NotificationType.ALERT);
-        long myPartsWithReceivedInvestigations = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.OWN), NotificationType.INVESTIGATION);
-
-        long supplierPartsWithOpenReceivedAlerts = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.SUPPLIER), NotificationType.ALERT);
-        long supplierPartsWithOpenSentInvestigations = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.SUPPLIER), NotificationType.INVESTIGATION);
-
-        long customerPartsWithOpenReceivedAlerts = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.CUSTOMER), NotificationType.ALERT);
-        long customerPartsWithOpenSentInvestigations = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.CUSTOMER), NotificationType.INVESTIGATION);
-
-        long receivedActiveInvestigations = notificationRepository.countNotificationsBySideAndType(NotificationSide.RECEIVER, NotificationType.INVESTIGATION);
-        long sentActiveInvestigations = notificationRepository.countNotificationsBySideAndType(NotificationSide.SENDER, NotificationType.INVESTIGATION);
+        return dashboardCache.get(this::computeDashboard);
+    }
 
-        long receivedActiveAlerts = notificationRepository.countNotificationsBySideAndType(NotificationSide.RECEIVER, NotificationType.ALERT);
-        long sentActiveAlerts = notificationRepository.countNotificationsBySideAndType(NotificationSide.SENDER, NotificationType.ALERT);
+    private Dashboard computeDashboard() {
+        Map<Owner, Long> asBuiltParts = assetAsBuiltRepository.countAssetsGroupedByOwner();
+        Map<Owner, Long> asPlannedParts = assetAsPlannedRepository.countAssetsGroupedByOwner();
+        Map<Owner, Map<NotificationType, Long>> partsWithOpenNotifications = notificationRepository.countAssetsWithOpenNotificationsGroupedByOwnerAndType();
+        Map<NotificationSide, Map<NotificationType, Long>> notifications = notificationRepository.countNotificationsGroupedBySideAndType();
 
         return Dashboard.builder()
-                .asBuiltCustomerParts(asBuiltCustomerParts)
-                .asPlannedCustomerParts(asPlannedCustomerParts)
-                .asBuiltSupplierParts(asBuiltSupplierParts)
-                .asPlannedSupplierParts(asPlannedSupplierParts)
-                .asBuiltOwnParts(asBuiltOwnParts)
-                .asPlannedOwnParts(asPlannedOwnParts)
-                .myPartsWithOpenAlerts(myPartsWithSentAlerts)
-                .myPartsWithOpenInvestigations(myPartsWithReceivedInvestigations)
-                .supplierPartsWithOpenAlerts(supplierPartsWithOpenReceivedAlerts)
-                .customerPartsWithOpenAlerts(customerPartsWithOpenReceivedAlerts)
-                .supplierPartsWithOpenInvestigations(supplierPartsWithOpenSentInvestigations)
-                .customerPartsWithOpenInvestigations(customerPartsWithOpenSentInvestigations)
-                .receivedActiveAlerts(receivedActiveAlerts)
-                .receivedActiveInvestigations(receivedActiveInvestigations)
-                .sentActiveAlerts(sentActiveAlerts)
-                .sentActiveInvestigations(sentActiveInvestigations)
+                .asBuiltCustomerParts(asBuiltParts.getOrDefault(Owner.CUSTOMER, 0L))
+                .asPlannedCustomerParts(asPlannedParts.getOrDefault(Owner.CUSTOMER, 0L))
+                .asBuiltSupplierParts(asBuiltParts.getOrDefault(Owner.SUPPLIER, 0L))
+                .asPlannedSupplierParts(asPlannedParts.getOrDefault(Owner.SUPPLIER, 0L))
+                .asBuiltOwnParts(asBuiltParts.getOrDefault(Owner.OWN, 0L))
+                .asPlannedOwnParts(asPlannedParts.getOrDefault(Owner.OWN, 0L))
+                .myPartsWithOpenAlerts(count(partsWithOpenNotifications, Owner.OWN, NotificationType.ALERT))
+                .myPartsWithOpenInvestigations(count(partsWithOpenNotifications, Owner.OWN, NotificationType.INVESTIGATION))
+                .supplierPartsWithOpenAlerts(count(partsWithOpenNotifications, Owner.SUPPLIER, NotificationType.ALERT))
+                .customerPartsWithOpenAlerts(count(partsWithOpenNotifications, Owner.CUSTOMER, NotificationType.ALERT))
+                .supplierPartsWithOpenInvestigations(count(partsWithOpenNotifications, Owner.SUPPLIER, NotificationType.INVESTIGATION))
+                .customerPartsWithOpenInvestigations(count(partsWithOpenNotifications, Owner.CUSTOMER, NotificationType.INVESTIGATION))
+                .receivedActiveAlerts(count(notifications, NotificationSide.RECEIVER, NotificationType.ALERT))
+                .receivedActiveInvestigations(count(notifications, NotificationSide.RECEIVER, NotificationType.INVESTIGATION))
+                .sentActiveAlerts(count(notifications, NotificationSide.SENDER, NotificationType.ALERT))
+                .sentActiveInvestigations(count(notifications, NotificationSide.SENDER, NotificationType.INVESTIGATION))
                 .build();
     }
+
+    private static <K> long count(Map<K, Map<NotificationType, Long>> counts, K key, NotificationType notificationType) {
+        return counts.getOrDefault(key, Map.of()).getOrDefault(notificationType, 0L);
+    }
 }
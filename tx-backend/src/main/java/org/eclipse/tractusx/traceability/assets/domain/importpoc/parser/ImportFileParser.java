@@ -0,0 +1,83 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.domain.importpoc.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+
+/**
+ * Navigates the top level of an import file, shared by the validation and the import which both stream the file.
+ */
+@UtilityClass
+public class ImportFileParser {
+
+    public static final String ASSETS_FIELD = "assets";
+
+    /**
+     * Positions the parser on the value of the top level assets field. The parser is positioned on the value of every
+     * other top level field before it is passed to the reader, a value which is not read is skipped.
+     *
+     * @return false if the document is no object or has no assets
+     */
+    public static boolean moveToAssets(JsonParser parser, TopLevelFieldReader otherFieldReader) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (ASSETS_FIELD.equals(fieldName) && value != JsonToken.VALUE_NULL) {
+                return true;
+            }
+            otherFieldReader.read(fieldName, parser);
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    public static boolean moveToAssets(JsonParser parser) throws IOException {
+        return moveToAssets(parser, (fieldName, fieldParser) -> {
+        });
+    }
+
+    /**
+     * Passes the top level fields behind the assets to the reader like {@link #moveToAssets(JsonParser, TopLevelFieldReader)}
+     * and reads the rest of the document, so malformed content behind the assets is reported as well.
+     */
+    public static void readRemainingFields(JsonParser parser, TopLevelFieldReader fieldReader) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            fieldReader.read(fieldName, parser);
+            parser.skipChildren();
+        }
+        while (parser.nextToken() != null) {
+            parser.skipChildren();
+        }
+    }
+
+    @FunctionalInterface
+    public interface TopLevelFieldReader {
+        void read(String fieldName, JsonParser parser) throws IOException;
+    }
+}
@@ -19,13 +19,25 @@
 package org.eclipse.tractusx.traceability.assets.domain.importpoc.repository;
 
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
 import org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model.ImportJobEntity;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
 public interface ImportJobRepository {
 
     ImportJob createJob();
 
     void save(ImportJobEntity importJobEntity);
 
+    /**
+     * Links the given stored assets to the import job without loading the assets already linked to it.
+     */
+    void addAssets(UUID importJobId, List<String> assetAsBuiltIds, List<String> assetAsPlannedIds);
+
+    void updateStatus(UUID importJobId, ImportJobStatus status, Instant completedOn);
+
     ImportJob getImportJob(String importJobId);
 }
@@ -25,9 +25,21 @@ import java.util.List;
 import java.util.Map;
 
 public interface SubmodelPayloadRepository {
-    void savePayloadForAssetAsBuilt(String assetId, List<IrsSubmodel> submodels);
+    /**
+     * Stores the submodel payloads of the given as-built assets, keyed by asset id, with one batched insert.
+     */
+    void savePayloadsForAssetsAsBuilt(Map<String, List<IrsSubmodel>> submodelsByAssetId);
 
-    void savePayloadForAssetAsPlanned(String assetId, List<IrsSubmodel> submodels);
+    /**
+     * Stores the submodel payloads of the given as-planned assets, keyed by asset id, with one batched insert.
+     */
+    void savePayloadsForAssetsAsPlanned(Map<String, List<IrsSubmodel>> submodelsByAssetId);
 
     Map<String, String> getAspectTypesAndPayloadsByAssetId(String assetId);
+
+    /**
+     * Returns the payloads by aspect type of all given assets, keyed by asset id. Stored assets without payloads are
+     * mapped to no payloads, assets which are not stored are missing.
+     */
+    Map<String, Map<String, String>> getAspectTypesAndPayloadsByAssetIds(List<String> assetIds);
 }
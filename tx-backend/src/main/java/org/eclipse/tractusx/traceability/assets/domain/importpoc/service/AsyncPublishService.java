@@ -19,45 +19,97 @@
 
 package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.tractusx.irs.edc.client.asset.model.exception.CreateEdcAssetException;
 import org.eclipse.tractusx.irs.edc.client.contract.model.exception.CreateEdcContractDefinitionException;
 import org.eclipse.tractusx.irs.edc.client.policy.model.exception.CreateEdcPolicyDefinitionException;
 import org.eclipse.tractusx.irs.registryclient.decentral.exception.CreateDtrShellException;
+import org.eclipse.tractusx.traceability.assets.domain.asbuilt.exception.AssetNotFoundException;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
 import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.SubmodelPayloadRepository;
 import org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig;
+import org.eclipse.tractusx.traceability.common.properties.PublishAssetsProperties;
 import org.eclipse.tractusx.traceability.shelldescriptor.domain.service.DecentralRegistryServiceImpl;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class AsyncPublishService {
 
+    private static final String ASSET_NOT_FOUND_EXCEPTION_TEMPLATE = "Asset with id: '%s' not found while publishing";
+
     private final AssetAsPlannedRepository assetAsPlannedRepository;
     private final AssetAsBuiltRepository assetAsBuiltRepository;
     private final EdcAssetCreationService edcAssetCreationService;
     private final DtrService dtrService;
     private final DecentralRegistryServiceImpl decentralRegistryService;
+    private final SubmodelPayloadRepository submodelPayloadRepository;
+    private final PublishAssetsProperties publishAssetsProperties;
+    private final Counter publishedAssets;
+    private final Counter failedAssets;
+    private final AtomicLong throughput = new AtomicLong(Double.doubleToLongBits(0));
+
+    public AsyncPublishService(AssetAsPlannedRepository assetAsPlannedRepository,
+                               AssetAsBuiltRepository assetAsBuiltRepository,
+                               EdcAssetCreationService edcAssetCreationService,
+                               DtrService dtrService,
+                               DecentralRegistryServiceImpl decentralRegistryService,
+                               SubmodelPayloadRepository submodelPayloadRepository,
+                               PublishAssetsProperties publishAssetsProperties,
+                               MeterRegistry meterRegistry) {
+        this.assetAsPlannedRepository = assetAsPlannedRepository;
+        this.assetAsBuiltRepository = assetAsBuiltRepository;
+        this.edcAssetCreationService = edcAssetCreationService;
+        this.dtrService = dtrService;
+        this.decentralRegistryService = decentralRegistryService;
+        this.submodelPayloadRepository = submodelPayloadRepository;
+        this.publishAssetsProperties = publishAssetsProperties;
+        this.publishedAssets = Counter.builder("publish.assets")
+                .description("Assets published to the submodel server and the DTR")
+                .tag("outcome", "published")
+                .register(meterRegistry);
+        this.failedAssets = Counter.builder("publish.assets")
+                .description("Assets published to the submodel server and the DTR")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        Gauge.builder("publish.assets.throughput", throughput, value -> Double.longBitsToDouble(value.get()))
+                .description("Assets per second published in the last chunk")
+                .baseUnit("assets/s")
+                .register(meterRegistry);
+    }
 
     @Async(value = AssetsAsyncConfig.PUBLISH_ASSETS_EXECUTOR)
     public void publishAssetsToCoreServices(List<AssetBase> assets, boolean triggerSynchronizeAssets) {
         Map<String, List<AssetBase>> assetsByPolicyId = assets.stream().collect(Collectors.groupingBy(AssetBase::getPolicyId));
 
-        List<String> createdShellsAssetIds = new ArrayList<>();
         assetsByPolicyId.forEach((policyId, assetsForPolicy) -> {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
             String submodelServerAssetId = null;
 
             try {
@@ -74,18 +126,14 @@ public class AsyncPublishService {
             }
 
             if (Objects.nonNull(submodelServerAssetId)) {
-                String tempSubmodelServerAssetId = submodelServerAssetId;
-                assetsForPolicy.forEach(assetBase -> {
-                    try {
-                        String assetId = dtrService.createShellInDtr(assetBase, tempSubmodelServerAssetId);
-                        createdShellsAssetIds.add(assetId);
-                    } catch (CreateDtrShellException e) {
-                        log.error("Failed to create shell in dtr for asset with id %s".formatted(assetBase.getId()), e);
-                        updateAssetStates(ImportState.ERROR, ImportNote.ERROR_DTR_SHELL_CREATION_FAILED, List.of(assetBase.getId()));
+                for (List<AssetBase> chunk : ListUtils.partition(assetsForPolicy, publishAssetsProperties.getChunkSize())) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        log.warn("Publishing to core services interrupted, remaining assets stay in synchronization");
+                        return;
                     }
-                });
+                    publishChunk(chunk, submodelServerAssetId);
+                }
 
-                updateAssetStates(ImportState.PUBLISHED_TO_CORE_SERVICES, ImportNote.PUBLISHED_TO_CORE_SERVICES, createdShellsAssetIds);
                 if (triggerSynchronizeAssets) {
                     decentralRegistryService.synchronizeAssets();
                 }
@@ -93,7 +141,93 @@ public class AsyncPublishService {
         });
     }
 
+    /**
+     * Publishes the assets of a chunk in parallel and retries the failed ones only, with the shell id of their first
+     * attempt. Assets which are not stored anymore fail without retry. The outcome is stored in the import state of the
+     * assets once the chunk is done, assets of chunks not reached yet, also when the publishing thread is interrupted,
+     * stay IN_SYNCHRONIZATION and are published by the next run.
+     */
+    private void publishChunk(List<AssetBase> chunk, String submodelServerAssetId) {
+        long start = System.nanoTime();
+        Map<String, Map<String, String>> payloadsByAssetId = submodelPayloadRepository.getAspectTypesAndPayloadsByAssetIds(chunk.stream().map(AssetBase::getId).toList());
+        Map<String, Map<String, UUID>> createdSubmodelsByAssetId = new HashMap<>();
+        Map<String, String> shellIdByAssetId = new HashMap<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        List<String> publishedAssetIds = new ArrayList<>();
+
+        List<AssetBase> pending = new ArrayList<>();
+        for (AssetBase asset : chunk) {
+            if (payloadsByAssetId.containsKey(asset.getId())) {
+                pending.add(asset);
+            } else {
+                failures.put(asset.getId(), new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(asset.getId())));
+            }
+        }
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            if (attempt > 1 && !awaitRetry(attempt - 1, pending.size())) {
+                break;
+            }
+            Map<AssetBase, CompletableFuture<String>> publications = new LinkedHashMap<>();
+            pending.forEach(asset -> publications.put(asset, dtrService.createShellInDtr(
+                    asset,
+                    shellIdByAssetId.computeIfAbsent(asset.getId(), assetId -> UUID.randomUUID().toString()),
+                    payloadsByAssetId.get(asset.getId()),
+                    createdSubmodelsByAssetId.computeIfAbsent(asset.getId(), assetId -> new ConcurrentHashMap<>()),
+                    submodelServerAssetId)));
+
+            List<AssetBase> failed = new ArrayList<>();
+            publications.forEach((asset, publication) -> {
+                try {
+                    publishedAssetIds.add(publication.join());
+                    failures.remove(asset.getId());
+                } catch (CompletionException | CancellationException e) {
+                    failures.put(asset.getId(), Objects.requireNonNullElse(e.getCause(), e));
+                    failed.add(asset);
+                }
+            });
+            pending = attempt < publishAssetsProperties.getMaxAttempts() ? failed : List.of();
+        }
+
+        updateAssetStates(ImportState.PUBLISHED_TO_CORE_SERVICES, ImportNote.PUBLISHED_TO_CORE_SERVICES, publishedAssetIds);
+        failures.forEach((assetId, failure) -> log.error("Failed to publish asset with id %s".formatted(assetId), failure));
+        failures.entrySet().stream()
+                .collect(Collectors.groupingBy(failure -> importNoteOf(failure.getValue()),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((importNote, assetIds) -> updateAssetStates(ImportState.ERROR, importNote, assetIds));
+
+        publishedAssets.increment(publishedAssetIds.size());
+        failedAssets.increment(failures.size());
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+        throughput.set(Double.doubleToLongBits(publishedAssetIds.size() / seconds));
+        log.info("Published {} of {} assets of chunk to core services, {} failed", publishedAssetIds.size(), chunk.size(), failures.size());
+    }
+
+    private static String importNoteOf(Throwable failure) {
+        if (failure instanceof AssetNotFoundException) {
+            return ImportNote.ERROR_ASSET_NOT_FOUND;
+        }
+        if (failure instanceof CreateDtrShellException) {
+            return ImportNote.ERROR_DTR_SHELL_CREATION_FAILED;
+        }
+        return ImportNote.ERROR_SUBMODEL_CREATION_FAILED;
+    }
+
+    private boolean awaitRetry(int attempts, int failedAssets) {
+        Duration backoff = publishAssetsProperties.getInitialBackoff().multipliedBy(1L << (attempts - 1));
+        log.warn("Retrying {} failed assets in {}", failedAssets, backoff);
+        try {
+            Thread.sleep(backoff.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private void updateAssetStates(ImportState importState, String importNote, List<String> assetIds) {
+        if (assetIds.isEmpty()) {
+            return;
+        }
         assetAsBuiltRepository.updateImportStateAndNoteForAssets(importState, importNote, assetIds);
         assetAsPlannedRepository.updateImportStateAndNoteForAssets(importState, importNote, assetIds);
     }
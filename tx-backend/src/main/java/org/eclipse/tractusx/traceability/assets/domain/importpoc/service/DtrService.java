@@ -32,19 +32,26 @@ import org.eclipse.tractusx.irs.component.assetadministrationshell.SubmodelDescr
 import org.eclipse.tractusx.irs.registryclient.decentral.DigitalTwinRegistryCreateShellService;
 import org.eclipse.tractusx.irs.registryclient.decentral.exception.CreateDtrShellException;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
-import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.SubmodelPayloadRepository;
 import org.eclipse.tractusx.traceability.common.properties.EdcProperties;
 import org.eclipse.tractusx.traceability.submodel.domain.repository.SubmodelServerRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
 
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.DTR_EXECUTOR;
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.SUBMODEL_SERVER_EXECUTOR;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -53,23 +60,57 @@ public class DtrService {
     private static final String EXTERNAL_REFERENCE = "ExternalReference";
 
     private final DigitalTwinRegistryCreateShellService dtrCreateShellService;
-    private final SubmodelPayloadRepository submodelPayloadRepository;
     private final SubmodelServerRepository submodelServerRepository;
     private final EdcProperties edcProperties;
+    @Qualifier(SUBMODEL_SERVER_EXECUTOR)
+    private final ThreadPoolTaskExecutor submodelServerExecutor;
+    @Qualifier(DTR_EXECUTOR)
+    private final ThreadPoolTaskExecutor dtrExecutor;
 
     @Value("${registry.allowedBpns}")
     String allowedBpns;
 
-    public String createShellInDtr(final AssetBase assetBase, String submodelServerAssetId) throws CreateDtrShellException {
-        Map<String, String> payloadByAspectType = submodelPayloadRepository.getAspectTypesAndPayloadsByAssetId(assetBase.getId());
-        Map<String, UUID> createdSubmodelIdByAspectType = payloadByAspectType.entrySet().stream()
-                .map(this::createSubmodel)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    /**
+     * Creates the submodels of the asset on the submodel server and afterwards its shell in the DTR. The submodels are
+     * created in parallel on the submodel server executor and the shell on the DTR executor, so the shell of one asset
+     * is created while the submodels of the next assets are uploaded. Created submodels are added to
+     * createdSubmodelIdByAspectType, when the asset is published again only the missing submodels are created and the
+     * shell is created again with the same shellId. A conflict for that shellId means the shell was created by an earlier
+     * attempt whose response was lost and counts as created.
+     *
+     * @return the asset id, completed exceptionally with a {@link CreateDtrShellException} if the shell could not be
+     * created or with the failure of the submodel server otherwise
+     */
+    public CompletableFuture<String> createShellInDtr(AssetBase assetBase, String shellId, Map<String, String> payloadByAspectType,
+                                                      Map<String, UUID> createdSubmodelIdByAspectType, String submodelServerAssetId) {
+        CompletableFuture<?>[] submodels = payloadByAspectType.entrySet().stream()
+                .filter(payload -> !createdSubmodelIdByAspectType.containsKey(payload.getKey()))
+                .map(payload -> CompletableFuture.runAsync(() -> {
+                    Map.Entry<String, UUID> createdSubmodel = createSubmodel(payload);
+                    createdSubmodelIdByAspectType.put(createdSubmodel.getKey(), createdSubmodel.getValue());
+                }, submodelServerExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(submodels).thenApplyAsync(ignored -> {
+            List<SubmodelDescriptor> descriptors = toSubmodelDescriptors(createdSubmodelIdByAspectType, submodelServerAssetId);
+            AssetAdministrationShellDescriptor assetAdministrationShellDescriptor = aasFrom(assetBase, shellId, descriptors);
+            try {
+                dtrCreateShellService.createShell(assetAdministrationShellDescriptor);
+            } catch (CreateDtrShellException e) {
+                if (!isConflict(e)) {
+                    throw new CompletionException(e);
+                }
+                log.info("Shell {} of asset {} already exists in DTR", shellId, assetBase.getId());
+            } catch (RuntimeException e) {
+                throw new CompletionException(new CreateDtrShellException(e));
+            }
+            return assetBase.getId();
+        }, dtrExecutor);
+    }
 
-        List<SubmodelDescriptor> descriptors = toSubmodelDescriptors(createdSubmodelIdByAspectType, submodelServerAssetId);
-        AssetAdministrationShellDescriptor assetAdministrationShellDescriptor = aasFrom(assetBase, descriptors);
-        dtrCreateShellService.createShell(assetAdministrationShellDescriptor);
-        return assetBase.getId();
+    private static boolean isConflict(CreateDtrShellException e) {
+        return e.getCause() instanceof HttpClientErrorException clientError
+                && clientError.getStatusCode().isSameCodeAs(HttpStatus.CONFLICT);
     }
 
     private List<SubmodelDescriptor> toSubmodelDescriptors(Map<String, UUID> createdSubmodelIdByAspectType, String submodelServerAssetId) {
@@ -131,11 +172,11 @@ public class DtrService {
         return Map.entry(payloadByAspectType.getKey(), submodelId);
     }
 
-    private AssetAdministrationShellDescriptor aasFrom(AssetBase assetBase, List<SubmodelDescriptor> descriptors) {
+    private AssetAdministrationShellDescriptor aasFrom(AssetBase assetBase, String shellId, List<SubmodelDescriptor> descriptors) {
         return AssetAdministrationShellDescriptor.builder()
                 .globalAssetId(assetBase.getId())
                 .idShort(assetBase.getIdShort())
-                .id(UUID.randomUUID().toString())
+                .id(shellId)
                 .specificAssetIds(aasIdentifiersFromAsset(assetBase))
                 .submodelDescriptors(descriptors)
                 .build();
@@ -18,7 +18,11 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.enums.BomLifecycle;
@@ -30,20 +34,26 @@ import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.Impor
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportRequest;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.parser.ImportFileParser;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.ImportJobRepository;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.SubmodelPayloadRepository;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsSubmodel;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.ImportAssetMapper;
-import org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model.ImportJobEntity;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
+import org.eclipse.tractusx.traceability.common.repository.StatementCounter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.time.Instant;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,6 +61,9 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 @Service
 public class ImportServiceImpl implements ImportService {
+
+    private static final int IMPORT_CHUNK_SIZE = 100;
+
     private final ObjectMapper objectMapper;
     private final AssetAsPlannedRepository assetAsPlannedRepository;
     private final AssetAsBuiltRepository assetAsBuiltRepository;
@@ -58,39 +71,85 @@ public class ImportServiceImpl implements ImportService {
     private final SubmodelPayloadRepository submodelPayloadRepository;
     private final ImportJobRepository importJobRepository;
     private final ImportAssetMapper assetMapper;
-
-
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
+
+
+    /**
+     * Reads the assets of the file in one streaming pass and maps and persists them in chunks of
+     * {@value #IMPORT_CHUNK_SIZE}. Only the assets and submodel payloads of one chunk are held in memory, the persisted
+     * assets of a chunk are linked to the import job by id, the result keeps one flag per asset id. All chunks are
+     * written in one transaction, an import failing in a later chunk leaves no assets of the earlier chunks behind.
+     * The database round trips of the import, including the ones of its commit, are reported once the transaction is
+     * completed, for failed imports as well.
+     */
     @Override
-    public Map<AssetBase, Boolean> importAssets(MultipartFile file, ImportJob importJob) {
-        try {
-            ImportRequest importRequest = objectMapper.readValue(file.getBytes(), ImportRequest.class);
-            Map<BomLifecycle, List<AssetBase>> assetToUploadByBomLifecycle = assetMapper.toAssetBaseList(importRequest.assets()).stream().collect(Collectors.groupingBy(AssetBase::getBomLifecycle));
-            assetToUploadByBomLifecycle.values().stream().flatMap(Collection::stream)
-                    .forEach(mappedAsset -> {
-                        if (!mappedAsset.isOwnAsset(traceabilityProperties.getBpn().toString())) {
-                            throw new ImportException("At least one asset does not match the application bpn " + traceabilityProperties.getBpn().value());
-                        }
-                    });
+    @Transactional
+    public Map<String, Boolean> importAssets(MultipartFile file, ImportJob importJob) {
+        recordDatabaseRoundTrips(importJob);
+        try (InputStream inputStream = file.getInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (!ImportFileParser.moveToAssets(parser) || parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new ImportException("Could not find assets");
+            }
+
+            Map<String, Boolean> uploadResult = new LinkedHashMap<>();
+            List<ImportRequest.AssetImportRequest> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(objectMapper.readValue(parser, ImportRequest.AssetImportRequest.class));
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    importChunk(chunk, importJob, uploadResult);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, importJob, uploadResult);
+            }
+
+            log.info("Import job {} persisted {} of {} assets", importJob.getId(),
+                    uploadResult.values().stream().filter(Boolean::booleanValue).count(), uploadResult.size());
+            return uploadResult;
+        } catch (Exception e) {
+            throw new ImportException(e.getMessage(), e);
+        }
+    }
 
-            List<AssetBase> assetAsBuilt = assetToUploadByBomLifecycle.get(BomLifecycle.AS_BUILT);
-            List<AssetBase> assetAsPlanned = assetToUploadByBomLifecycle.get(BomLifecycle.AS_PLANNED);
+    // counts the statements of the current thread until the transaction of the import is committed or rolled back
+    private void recordDatabaseRoundTrips(ImportJob importJob) {
+        statementCounter.start();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                long roundTrips = statementCounter.stop();
+                String outcome = status == STATUS_COMMITTED ? "imported" : "failed";
+                meterRegistry.summary("import.job.database.round.trips", "outcome", outcome).record(roundTrips);
+                log.info("Import job {} {} with {} database round trips", importJob.getId(), outcome, roundTrips);
+            }
+        });
+    }
 
-            List<AssetBase> persistedAsBuilt = assetAsBuiltRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(assetAsBuilt);
-            List<AssetBase> persistedAsPlanned = assetAsPlannedRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(assetAsPlanned);
+    private void importChunk(List<ImportRequest.AssetImportRequest> chunk, ImportJob importJob, Map<String, Boolean> uploadResult) {
+        List<AssetBase> mappedAssets = assetMapper.toAssetBaseList(chunk);
+        Map<BomLifecycle, List<AssetBase>> assetToUploadByBomLifecycle = mappedAssets.stream().collect(Collectors.groupingBy(AssetBase::getBomLifecycle));
+        mappedAssets.forEach(mappedAsset -> {
+            if (!mappedAsset.isOwnAsset(traceabilityProperties.getBpn().toString())) {
+                throw new ImportException("At least one asset does not match the application bpn " + traceabilityProperties.getBpn().value());
+            }
+        });
 
-            importJob.setAssetAsBuilt(persistedAsBuilt);
-            importJob.setAssetAsPlanned(persistedAsPlanned);
-            importJobRepository.save(ImportJobEntity.from(importJob));
+        List<AssetBase> chunkAsBuilt = assetAsBuiltRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(assetToUploadByBomLifecycle.get(BomLifecycle.AS_BUILT));
+        List<AssetBase> chunkAsPlanned = assetAsPlannedRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(assetToUploadByBomLifecycle.get(BomLifecycle.AS_PLANNED));
 
-            List<AssetBase> expectedAssetsToBePersisted = assetToUploadByBomLifecycle.values().stream().flatMap(Collection::stream).toList();
-            List<AssetBase> persistedAssets = Stream.concat(persistedAsBuilt.stream(), persistedAsPlanned.stream()).toList();
+        Map<String, AssetBase> persistedAssetsById = indexById(Stream.concat(chunkAsBuilt.stream(), chunkAsPlanned.stream()).toList());
+        saveRawDataForPersistedAssets(persistedAssetsById, chunk);
+        importJobRepository.addAssets(importJob.getId(), ids(chunkAsBuilt), ids(chunkAsPlanned));
 
-            saveRawDataForPersistedAssets(persistedAssets, importRequest);
+        mappedAssets.forEach(asset -> uploadResult.put(asset.getId(), persistedAssetsById.containsKey(asset.getId())));
 
-            return compareForUploadResult(expectedAssetsToBePersisted, persistedAssets);
-        } catch (Exception e) {
-            throw new ImportException(e.getMessage(), e);
-        }
+        // the written entities of the chunk are not needed any longer, only the ones of the next chunk are kept in memory
+        entityManager.flush();
+        entityManager.clear();
     }
 
     @Override
@@ -100,19 +159,13 @@ public class ImportServiceImpl implements ImportService {
 
     @Override
     public void completeJob(ImportJob importJob) {
-        ImportJobEntity importJobEntity = ImportJobEntity.from(importJob);
-        importJobEntity.setCompletedOn(Instant.now());
-        importJobEntity.setImportJobStatus(ImportJobStatus.COMPLETED);
-        importJobRepository.save(importJobEntity);
+        importJobRepository.updateStatus(importJob.getId(), ImportJobStatus.COMPLETED, Instant.now());
         log.info("Successfully completed import job {}", importJob.getId());
     }
 
     @Override
     public void cancelJob(ImportJob importJob) {
-        ImportJobEntity importJobEntity = ImportJobEntity.from(importJob);
-        importJobEntity.setCompletedOn(Instant.now());
-        importJobEntity.setImportJobStatus(ImportJobStatus.ERROR);
-        importJobRepository.save(importJobEntity);
+        importJobRepository.updateStatus(importJob.getId(), ImportJobStatus.ERROR, Instant.now());
         log.info("Cancelling import job {}", importJob.getId());
     }
 
@@ -122,30 +175,37 @@ public class ImportServiceImpl implements ImportService {
     }
 
 
-    private void saveRawDataForPersistedAssets(List<AssetBase> persistedAssets, ImportRequest importRequest) {
-        List<String> persistedAssetsIds = persistedAssets.stream().map(AssetBase::getId).toList();
-        importRequest.assets().stream().filter(asset -> persistedAssetsIds.contains(asset.assetMetaInfoRequest().catenaXId()))
-                .map(assetImportRequest -> Map.entry(
-                        getAssetById(assetImportRequest.assetMetaInfoRequest().catenaXId(), persistedAssets),
-                        assetImportRequest.submodels()))
-                .forEach(entry -> {
-                    if (entry.getKey().getBomLifecycle() == BomLifecycle.AS_BUILT) {
-                        submodelPayloadRepository.savePayloadForAssetAsBuilt(entry.getKey().getId(), entry.getValue());
-                    } else if (entry.getKey().getBomLifecycle() == BomLifecycle.AS_PLANNED) {
-                        submodelPayloadRepository.savePayloadForAssetAsPlanned(entry.getKey().getId(), entry.getValue());
-                    }
-                });
+    /**
+     * Collects the submodels of all persisted assets of the chunk by asset id and stores them with one batched insert
+     * per bom lifecycle.
+     */
+    private void saveRawDataForPersistedAssets(Map<String, AssetBase> persistedAssetsById, List<ImportRequest.AssetImportRequest> assetImportRequests) {
+        Map<String, List<IrsSubmodel>> asBuiltSubmodels = new LinkedHashMap<>();
+        Map<String, List<IrsSubmodel>> asPlannedSubmodels = new LinkedHashMap<>();
+        for (ImportRequest.AssetImportRequest assetImportRequest : assetImportRequests) {
+            AssetBase persistedAsset = persistedAssetsById.get(assetImportRequest.assetMetaInfoRequest().catenaXId());
+            if (persistedAsset == null) {
+                continue;
+            }
+            if (persistedAsset.getBomLifecycle() == BomLifecycle.AS_BUILT) {
+                addSubmodels(asBuiltSubmodels, persistedAsset.getId(), assetImportRequest.submodels());
+            } else if (persistedAsset.getBomLifecycle() == BomLifecycle.AS_PLANNED) {
+                addSubmodels(asPlannedSubmodels, persistedAsset.getId(), assetImportRequest.submodels());
+            }
+        }
+        submodelPayloadRepository.savePayloadsForAssetsAsBuilt(asBuiltSubmodels);
+        submodelPayloadRepository.savePayloadsForAssetsAsPlanned(asPlannedSubmodels);
     }
 
-    private AssetBase getAssetById(String assetId, List<AssetBase> assets) {
-        return assets.stream().filter(asset -> asset.getId().equals(assetId)).findFirst().orElseThrow(() -> new ImportException("Failed when trying to persist raw payload to persisted Assets"));
+    private static void addSubmodels(Map<String, List<IrsSubmodel>> submodelsByAssetId, String assetId, List<IrsSubmodel> submodels) {
+        submodelsByAssetId.computeIfAbsent(assetId, id -> new ArrayList<>()).addAll(submodels);
     }
 
-    public static Map<AssetBase, Boolean> compareForUploadResult(List<AssetBase> incoming, List<AssetBase> persisted) {
-        return incoming.stream().map(asset -> {
-                    Optional<AssetBase> persistedAssetOptional = persisted.stream().filter(persistedAsset -> persistedAsset.getId().equals(asset.getId())).findFirst();
-                    return persistedAssetOptional.map(assetBase -> Map.entry(assetBase, true)).orElseGet(() -> Map.entry(asset, false));
-                }
-        ).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (x, y) -> y, LinkedHashMap::new));
+    private static Map<String, AssetBase> indexById(List<AssetBase> assets) {
+        return assets.stream().collect(Collectors.toMap(AssetBase::getId, Function.identity(), (x, y) -> y, LinkedHashMap::new));
+    }
+
+    private static List<String> ids(List<AssetBase> assets) {
+        return assets.stream().map(AssetBase::getId).distinct().toList();
     }
 }
@@ -48,8 +48,6 @@ import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.Semant
 import org.eclipse.tractusx.traceability.contracts.domain.model.ContractAgreement;
 import org.eclipse.tractusx.traceability.contracts.infrastructure.model.ContractAgreementAsBuiltEntity;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
-import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationSideBaseEntity;
-import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationTypeEntity;
 import org.eclipse.tractusx.traceability.submodel.infrastructure.model.SubmodelPayloadEntity;
 
 import java.time.Instant;
@@ -91,10 +89,10 @@ public class AssetAsBuiltEntity extends AssetBaseEntity {
     private List<NotificationEntity> notifications = new ArrayList<>();
 
 
-    @OneToMany(mappedBy = "assetAsBuilt", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "assetAsBuilt", fetch = FetchType.LAZY)
     private List<SubmodelPayloadEntity> submodels;
 
-    @OneToMany(mappedBy = "assetAsBuilt", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "assetAsBuilt", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<ContractAgreementAsBuiltEntity> contractAgreements;
 
     public static AssetAsBuiltEntity from(AssetBase asset) {
@@ -134,7 +132,28 @@ public class AssetAsBuiltEntity extends AssetBaseEntity {
                 .build();
     }
 
+    /**
+     * Maps the asset together with references to its notifications, as needed to display it.
+     */
     public AssetBase toDomain() {
+        AssetNotificationReferences notificationReferences = AssetNotificationReferences.of(this.notifications);
+        return toDomainBuilder()
+                .sentQualityAlerts(notificationReferences.sentAlerts())
+                .receivedQualityAlerts(notificationReferences.receivedAlerts())
+                .sentQualityInvestigations(notificationReferences.sentInvestigations())
+                .receivedQualityInvestigations(notificationReferences.receivedInvestigations())
+                .build();
+    }
+
+    /**
+     * Maps the asset without touching its notifications, for synchronization, publishing and enrichment which never
+     * read them.
+     */
+    public AssetBase toDomainWithoutNotifications() {
+        return toDomainBuilder().build();
+    }
+
+    private AssetBase.AssetBaseBuilder toDomainBuilder() {
         return AssetBase.builder()
                 .id(this.getId())
                 .idShort(this.getIdShort())
@@ -155,40 +174,11 @@ public class AssetAsBuiltEntity extends AssetBaseEntity {
                 .van(this.getVan())
                 .classification(this.getClassification())
                 .detailAspectModels(DetailAspectModel.from(this))
-                .sentQualityAlerts(
-                        emptyIfNull(this.notifications).stream()
-                                .filter(notification -> NotificationSideBaseEntity.SENDER.equals(notification.getSide()))
-                                .filter(notification -> NotificationTypeEntity.ALERT.equals(notification.getType()))
-                                .map(NotificationEntity::toDomain)
-                                .toList()
-                )
-                .receivedQualityAlerts(
-                        emptyIfNull(this.notifications).stream()
-                                .filter(notification -> NotificationSideBaseEntity.RECEIVER.equals(notification.getSide()))
-                                .filter(notification -> NotificationTypeEntity.ALERT.equals(notification.getType()))
-                                .map(NotificationEntity::toDomain)
-                                .toList()
-                )
-                .sentQualityInvestigations(
-                        emptyIfNull(this.notifications).stream()
-                                .filter(notification -> NotificationSideBaseEntity.SENDER.equals(notification.getSide()))
-                                .filter(notification -> NotificationTypeEntity.INVESTIGATION.equals(notification.getType()))
-                                .map(NotificationEntity::toDomain)
-                                .toList()
-                )
-                .receivedQualityInvestigations(
-                        emptyIfNull(this.notifications).stream()
-                                .filter(notification -> NotificationSideBaseEntity.RECEIVER.equals(notification.getSide()))
-                                .filter(notification -> NotificationTypeEntity.INVESTIGATION.equals(notification.getType()))
-                                .map(NotificationEntity::toDomain)
-                                .toList()
-                )
                 .importState(this.getImportState())
                 .importNote(this.getImportNote())
                 .policyId(this.getPolicyId())
                 .tombstone(this.getTombstone())
-                .contractAgreements(ContractAgreement.fromAsBuiltEntityToContractAgreements(emptyIfNull(this.getContractAgreements())))
-                .build();
+                .contractAgreements(ContractAgreement.fromAsBuiltEntityToContractAgreements(emptyIfNull(this.getContractAgreements())));
     }
 
     public static List<AssetAsBuiltEntity> fromList(List<AssetBase> assets) {
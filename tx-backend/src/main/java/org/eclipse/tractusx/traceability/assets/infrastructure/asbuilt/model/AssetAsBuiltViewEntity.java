@@ -46,15 +46,12 @@ import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.Semant
 import org.eclipse.tractusx.traceability.contracts.domain.model.ContractAgreement;
 import org.eclipse.tractusx.traceability.contracts.infrastructure.model.ContractAgreementAsBuiltEntity;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
-import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationSideBaseEntity;
-import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationTypeEntity;
 import org.springframework.data.annotation.Immutable;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
 @Getter
 @Setter
@@ -95,10 +92,11 @@ public class AssetAsBuiltViewEntity extends AssetBaseEntity {
             inverseJoinColumns = @JoinColumn(name = "notification_id"))
     private List<NotificationEntity> notifications = new ArrayList<>();
 
-    @OneToMany(mappedBy = "assetAsBuiltView", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "assetAsBuiltView", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<ContractAgreementAsBuiltEntity> contractAgreements;
 
     public AssetBase toDomain() {
+        AssetNotificationReferences notificationReferences = AssetNotificationReferences.of(this.notifications);
         return AssetBase.builder()
                 .id(this.getId())
                 .idShort(this.getIdShort())
@@ -122,34 +120,10 @@ public class AssetAsBuiltViewEntity extends AssetBaseEntity {
                 .importState(this.getImportState())
                 .policyId(this.getPolicyId())
                 .detailAspectModels(DetailAspectModel.from(this))
-                .sentQualityAlerts(
-                        emptyIfNull(this.notifications).stream()
-                                .filter(notification -> NotificationSideBaseEntity.SENDER.equals(notification.getSide()))
-                                .filter(notification -> NotificationTypeEntity.ALERT.equals(notification.getType()))
-                                .map(NotificationEntity::toDomain)
-                                .toList()
-                )
-                .receivedQualityAlerts(
-                        emptyIfNull(this.notifications).stream()
-                                .filter(notification -> NotificationSideBaseEntity.RECEIVER.equals(notification.getSide()))
-                                .filter(notification -> NotificationTypeEntity.ALERT.equals(notification.getType()))
-                                .map(NotificationEntity::toDomain)
-                                .toList()
-                )
-                .sentQualityInvestigations(
-                        emptyIfNull(this.notifications).stream()
-                                .filter(notification -> NotificationSideBaseEntity.SENDER.equals(notification.getSide()))
-                                .filter(notification -> NotificationTypeEntity.INVESTIGATION.equals(notification.getType()))
-                                .map(NotificationEntity::toDomain)
-                                .toList()
-                )
-                .receivedQualityInvestigations(
-                        emptyIfNull(this.notifications).stream()
-                                .filter(notification -> NotificationSideBaseEntity.RECEIVER.equals(notification.getSide()))
-                                .filter(notification -> NotificationTypeEntity.INVESTIGATION.equals(notification.getType()))
-                                .map(NotificationEntity::toDomain)
-                                .toList()
-                )
+                .sentQualityAlerts(notificationReferences.sentAlerts())
+                .receivedQualityAlerts(notificationReferences.receivedAlerts())
+                .sentQualityInvestigations(notificationReferences.sentInvestigations())
+                .receivedQualityInvestigations(notificationReferences.receivedInvestigations())
                 .tombstone(this.getTombstone())
                 .contractAgreements(ContractAgreement.fromAsBuiltEntityToContractAgreements(this.getContractAgreements()))
                 .build();
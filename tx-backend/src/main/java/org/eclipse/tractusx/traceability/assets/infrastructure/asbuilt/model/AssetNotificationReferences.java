@@ -0,0 +1,53 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model;
+
+import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationSideBaseEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationTypeEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+
+/**
+ * Notifications of an asset grouped by side and type in a single pass. Only the references are mapped, the messages
+ * and affected parts of the notifications are not loaded.
+ */
+record AssetNotificationReferences(List<Notification> sentAlerts,
+                                   List<Notification> receivedAlerts,
+                                   List<Notification> sentInvestigations,
+                                   List<Notification> receivedInvestigations) {
+
+    static AssetNotificationReferences of(List<NotificationEntity> notifications) {
+        AssetNotificationReferences references = new AssetNotificationReferences(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        for (NotificationEntity notification : emptyIfNull(notifications)) {
+            boolean sender = NotificationSideBaseEntity.SENDER.equals(notification.getSide());
+            if (NotificationTypeEntity.ALERT.equals(notification.getType())) {
+                (sender ? references.sentAlerts : references.receivedAlerts).add(NotificationEntity.toReference(notification));
+            } else if (NotificationTypeEntity.INVESTIGATION.equals(notification.getType())) {
+                (sender ? references.sentInvestigations : references.receivedInvestigations).add(NotificationEntity.toReference(notification));
+            }
+        }
+        return references;
+    }
+}
@@ -33,17 +33,21 @@ import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.AssetCallbackRepository;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.repository.AssetEntityBatchWriter;
 import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
 import org.eclipse.tractusx.traceability.contracts.domain.model.ContractAgreement;
 import org.eclipse.tractusx.traceability.contracts.domain.model.ContractType;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
 @RequiredArgsConstructor
 @Component
@@ -95,59 +99,75 @@ public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, Asset
 
     @Override
     public AssetBase save(AssetBase asset) {
-        enrichContractAgreementsAsBuilt(List.of(asset));
-        return jpaAssetAsBuiltRepository.save(AssetAsBuiltEntity.from(asset)).toDomain();
-    }
-
-    private void enrichContractAgreementsAsBuilt(List<AssetBase> assets) {
-
-
-        assets.forEach(assetBase -> {
-            List<ContractAgreement> contractAgreements = new ArrayList<>();
-            contractAgreements.add(ContractAgreement.toDomain(assetBase.getLatestContractAgreementId(), assetBase.getId(), ContractType.ASSET_AS_BUILT));
-            Optional<AssetAsBuiltEntity> byId = jpaAssetAsBuiltRepository.findById(assetBase.getId());
-            byId.ifPresent(assetAsBuiltEntity -> contractAgreements.addAll(ContractAgreement.fromAsBuiltEntityToContractAgreements(assetAsBuiltEntity.getContractAgreements())));
-            assetBase.setContractAgreements(contractAgreements);
-        });
+        return saveAll(List.of(asset)).get(0);
     }
 
     @Override
     public List<AssetBase> saveAll(List<AssetBase> assets) {
-        enrichContractAgreementsAsBuilt(assets);
-        return jpaAssetAsBuiltRepository.saveAll(AssetAsBuiltEntity.fromList(assets)).stream()
-                .map(AssetAsBuiltEntity::toDomain)
+        Map<String, AssetAsBuiltEntity> existingAssets = AssetEntityBatchWriter.findExistingAssets(assets, jpaAssetAsBuiltRepository::findByIdIn);
+        enrichContractAgreementsAsBuilt(assets, existingAssets);
+        return AssetEntityBatchWriter.persistOrMerge(entityManager, AssetAsBuiltEntity.fromList(assets), existingAssets.keySet()).stream()
+                .map(AssetAsBuiltEntity::toDomainWithoutNotifications)
                 .toList();
     }
 
+    @Override
+    public void saveOrUpdateAll(List<AssetBase> assets) {
+        Map<String, AssetAsBuiltEntity> existingAssets = AssetEntityBatchWriter.findExistingAssets(assets, jpaAssetAsBuiltRepository::findByIdIn);
+        enrichContractAgreementsAsBuilt(assets, existingAssets);
+        AssetEntityBatchWriter.persistOrMerge(entityManager, AssetAsBuiltEntity.fromList(assets), existingAssets.keySet());
+    }
+
     @Override
     public List<AssetBase> saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(List<AssetBase> assets) {
         if (Objects.isNull(assets)) {
             return List.of();
         }
-        List<AssetAsBuiltEntity> toPersist = assets.stream().map(assetToPersist -> new AbstractMap.SimpleEntry<AssetBase, AssetBaseEntity>(assetToPersist, jpaAssetAsBuiltRepository.findById(assetToPersist.getId()).orElse(null)))
-                .filter(this::entityIsTransientOrNotExistent)
-                .map(entry -> {
-                    if (entry.getValue() != null) {
-                        entry.getKey().setImportNote(ImportNote.TRANSIENT_UPDATED);
+        Map<String, AssetAsBuiltEntity> existingAssets = AssetEntityBatchWriter.findExistingAssets(assets, jpaAssetAsBuiltRepository::findByIdIn);
+        List<AssetAsBuiltEntity> toPersist = assets.stream()
+                .filter(asset -> entityIsTransientOrNotExistent(existingAssets.get(asset.getId())))
+                .map(asset -> {
+                    if (existingAssets.containsKey(asset.getId())) {
+                        asset.setImportNote(ImportNote.TRANSIENT_UPDATED);
                     }
-                    return entry.getKey();
+                    return AssetAsBuiltEntity.from(asset);
                 })
-                .map(AssetAsBuiltEntity::from).toList();
+                .toList();
 
-        return jpaAssetAsBuiltRepository.saveAll(toPersist).stream().map(AssetAsBuiltEntity::toDomain).toList();
+        return AssetEntityBatchWriter.persistOrMerge(entityManager, toPersist, existingAssets.keySet()).stream().map(AssetAsBuiltEntity::toDomainWithoutNotifications).toList();
     }
 
-    private boolean entityIsTransientOrNotExistent(AbstractMap.SimpleEntry<AssetBase, AssetBaseEntity> assetBaseAssetBaseEntitySimpleEntry) {
-        if (Objects.isNull(assetBaseAssetBaseEntitySimpleEntry.getValue())) {
+    private static boolean entityIsTransientOrNotExistent(AssetBaseEntity existingAsset) {
+        if (Objects.isNull(existingAsset)) {
             return true;
         }
-        return assetBaseAssetBaseEntitySimpleEntry.getValue().getImportState() == ImportState.TRANSIENT;
+        return existingAsset.getImportState() == ImportState.TRANSIENT;
+    }
+
+    private static void enrichContractAgreementsAsBuilt(List<AssetBase> assets, Map<String, AssetAsBuiltEntity> existingAssets) {
+        assets.forEach(assetBase -> {
+            List<ContractAgreement> contractAgreements = new ArrayList<>();
+            contractAgreements.add(ContractAgreement.toDomain(assetBase.getLatestContractAgreementId(), assetBase.getId(), ContractType.ASSET_AS_BUILT));
+            Optional.ofNullable(existingAssets.get(assetBase.getId()))
+                    .ifPresent(existingAsset -> contractAgreements.addAll(ContractAgreement.fromAsBuiltEntityToContractAgreements(emptyIfNull(existingAsset.getContractAgreements()))));
+            assetBase.setContractAgreements(contractAgreements);
+        });
     }
 
     @Override
     public List<AssetBase> findByImportStateIn(ImportState... importStates) {
         return jpaAssetAsBuiltRepository.findByImportStateIn(importStates).stream()
-                .map(AssetAsBuiltEntity::toDomain).toList();
+                .map(AssetAsBuiltEntity::toDomainWithoutNotifications).toList();
+    }
+
+    @Override
+    public List<String> findIdsByImportStateIn(ImportState... importStates) {
+        return jpaAssetAsBuiltRepository.findIdsByImportStateIn(List.of(importStates));
+    }
+
+    @Override
+    public List<String> findIdsByIdIn(List<String> assetIds) {
+        return jpaAssetAsBuiltRepository.findIdsByIdIn(assetIds);
     }
 
     @Override
@@ -169,7 +189,7 @@ public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, Asset
     @Override
     public Optional<AssetBase> findById(String assetId) {
         return jpaAssetAsBuiltRepository.findById(assetId)
-                .map(AssetAsBuiltEntity::toDomain);
+                .map(AssetAsBuiltEntity::toDomainWithoutNotifications);
     }
 
     @Override
@@ -181,4 +201,11 @@ public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, Asset
     public long countAssetsByOwner(Owner owner) {
         return jpaAssetAsBuiltRepository.countAssetsByOwner(owner);
     }
+
+    @Override
+    public Map<Owner, Long> countAssetsGroupedByOwner() {
+        return jpaAssetAsBuiltRepository.countAssetsGroupedByOwner().stream()
+                .filter(row -> row[0] != null)
+                .collect(Collectors.toMap(row -> (Owner) row[0], row -> (Long) row[1]));
+    }
 }
@@ -36,6 +36,6 @@ public class AssetAsBuiltViewSpecification extends BaseSpecification<AssetAsBuil
 
     @Override
     public Predicate toPredicate(@NotNull Root<AssetAsBuiltViewEntity> root, @NotNull CriteriaQuery<?> query, @NotNull CriteriaBuilder builder) {
-        return createPredicate(getSearchCriteriaFilter(), root, builder);
+        return createPredicate(getSearchCriteriaFilter(), root, query, builder);
     }
 }
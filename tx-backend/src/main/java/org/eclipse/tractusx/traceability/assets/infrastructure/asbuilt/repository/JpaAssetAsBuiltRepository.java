@@ -39,5 +39,14 @@ public interface JpaAssetAsBuiltRepository extends JpaRepository<AssetAsBuiltEnt
     @Query("SELECT COUNT(asset) FROM AssetAsBuiltEntity asset WHERE asset.owner = :owner")
     long countAssetsByOwner(@Param("owner") Owner owner);
 
+    @Query("SELECT asset.owner, COUNT(asset) FROM AssetAsBuiltEntity asset GROUP BY asset.owner")
+    List<Object[]> countAssetsGroupedByOwner();
+
     List<AssetAsBuiltEntity> findByImportStateIn(ImportState... importState);
+
+    @Query("SELECT asset.id FROM AssetAsBuiltEntity asset WHERE asset.importState IN :importStates")
+    List<String> findIdsByImportStateIn(@Param("importStates") List<ImportState> importStates);
+
+    @Query("SELECT asset.id FROM AssetAsBuiltEntity asset WHERE asset.id IN :assetIds")
+    List<String> findIdsByIdIn(@Param("assetIds") List<String> assetIds);
 }
@@ -81,7 +81,7 @@ public class AssetAsPlannedEntity extends AssetBaseEntity {
         private String idShort;
     }
 
-    @OneToMany(mappedBy = "assetAsPlanned", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "assetAsPlanned", fetch = FetchType.LAZY)
     private List<SubmodelPayloadEntity> submodels;
 
 
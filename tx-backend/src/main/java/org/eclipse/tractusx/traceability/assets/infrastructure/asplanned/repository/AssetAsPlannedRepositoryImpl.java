@@ -31,9 +31,11 @@ import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asplanned.model.AssetAsPlannedEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.AssetCallbackRepository;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.repository.AssetEntityBatchWriter;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
+import org.eclipse.tractusx.traceability.common.repository.KeysetPaging;
 import org.eclipse.tractusx.traceability.contracts.domain.model.ContractAgreement;
 import org.eclipse.tractusx.traceability.contracts.domain.model.ContractType;
 import org.springframework.data.domain.Pageable;
@@ -41,11 +43,12 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
@@ -93,7 +96,7 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
     public PageResult<AssetBase> getAssets(Pageable pageable, SearchCriteria searchCriteria) {
         List<AssetAsPlannedSpecification> assetAsPlannedSpecifications = emptyIfNull(searchCriteria.getSearchCriteriaFilterList()).stream().map(AssetAsPlannedSpecification::new).toList();
         Specification<AssetAsPlannedEntity> specification = AssetAsPlannedSpecification.toSpecification(assetAsPlannedSpecifications);
-        return new PageResult<>(jpaAssetAsPlannedRepository.findAll(specification, pageable), AssetAsPlannedEntity::toDomain);
+        return KeysetPaging.findPage(jpaAssetAsPlannedRepository, AssetAsPlannedEntity.class, specification, pageable, AssetAsPlannedEntity::toDomain);
     }
 
     @Override
@@ -103,14 +106,33 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
 
     @Override
     public AssetBase save(AssetBase asset) {
-        enrichContractAgreementsAsPlanned(List.of(asset));
-        return AssetAsPlannedEntity.toDomain(jpaAssetAsPlannedRepository.save(AssetAsPlannedEntity.from(asset)));
+        return saveAll(List.of(asset)).get(0);
     }
 
     @Override
     public List<AssetBase> saveAll(List<AssetBase> assets) {
-        enrichContractAgreementsAsPlanned(assets);
-        return AssetAsPlannedEntity.toDomainList(jpaAssetAsPlannedRepository.saveAll(AssetAsPlannedEntity.fromList(assets)));
+        Map<String, AssetAsPlannedEntity> existingAssets = AssetEntityBatchWriter.findExistingAssets(assets, jpaAssetAsPlannedRepository::findByIdIn);
+        enrichContractAgreementsAsPlanned(assets, existingAssets);
+        return AssetAsPlannedEntity.toDomainList(AssetEntityBatchWriter.persistOrMerge(entityManager, AssetAsPlannedEntity.fromList(assets), existingAssets.keySet()));
+    }
+
+    @Override
+    public void saveOrUpdateAll(List<AssetBase> assets) {
+        Map<String, AssetAsPlannedEntity> existingAssets = AssetEntityBatchWriter.findExistingAssets(assets, jpaAssetAsPlannedRepository::findByIdIn);
+
+        List<AssetAsPlannedEntity> entities = assets.stream()
+                .map(assetBase -> {
+                    // the latest contract agreement comes first, followed by the stored ones, as for assets as built
+                    List<ContractAgreement> contractAgreements = new ArrayList<>();
+                    contractAgreements.add(ContractAgreement.toDomain(assetBase.getLatestContractAgreementId(), assetBase.getId(), ContractType.ASSET_AS_PLANNED));
+                    Optional.ofNullable(existingAssets.get(assetBase.getId()))
+                            .ifPresent(existingAsset -> contractAgreements.addAll(ContractAgreement.fromAsPlannedEntityToContractAgreements(emptyIfNull(existingAsset.getContractAgreements()))));
+                    assetBase.setContractAgreements(contractAgreements);
+                    return AssetAsPlannedEntity.from(assetBase);
+                })
+                .toList();
+
+        AssetEntityBatchWriter.persistOrMerge(entityManager, entities, existingAssets.keySet());
     }
 
     @Override
@@ -118,31 +140,23 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
         if (Objects.isNull(assets)) {
             return List.of();
         }
-        List<AssetAsPlannedEntity> toPersist = assets.stream().map(assetToPersist ->
-                        new AbstractMap.SimpleEntry<AssetBase, AssetBaseEntity>(
-                                assetToPersist,
-                                jpaAssetAsPlannedRepository.findById(assetToPersist.getId()).orElse(null)))
-                .filter(this::entityIsTransientOrNotExistent)
-                .map(entry -> {
-                    if (entry.getValue() != null) {
-                        entry.getKey().setImportNote(ImportNote.TRANSIENT_UPDATED);
-                    }
-                    return entry.getKey();
-                })
-                .map(assetBase -> {
-                    enrichContractAgreementsAsPlanned(List.of(assetBase));
-                    return AssetAsPlannedEntity.from(assetBase);
-                }).toList();
-
-        return jpaAssetAsPlannedRepository.saveAll(toPersist).stream().map(AssetAsPlannedEntity::toDomain).toList();
+        Map<String, AssetAsPlannedEntity> existingAssets = AssetEntityBatchWriter.findExistingAssets(assets, jpaAssetAsPlannedRepository::findByIdIn);
+        List<AssetBase> toPersist = assets.stream()
+                .filter(asset -> entityIsTransientOrNotExistent(existingAssets.get(asset.getId())))
+                .toList();
+        toPersist.stream()
+                .filter(asset -> existingAssets.containsKey(asset.getId()))
+                .forEach(asset -> asset.setImportNote(ImportNote.TRANSIENT_UPDATED));
+        enrichContractAgreementsAsPlanned(toPersist, existingAssets);
 
+        return AssetAsPlannedEntity.toDomainList(AssetEntityBatchWriter.persistOrMerge(entityManager, AssetAsPlannedEntity.fromList(toPersist), existingAssets.keySet()));
     }
 
-    private boolean entityIsTransientOrNotExistent(AbstractMap.SimpleEntry<AssetBase, AssetBaseEntity> assetBaseAssetBaseEntitySimpleEntry) {
-        if (Objects.isNull(assetBaseAssetBaseEntitySimpleEntry.getValue())) {
+    private static boolean entityIsTransientOrNotExistent(AssetBaseEntity existingAsset) {
+        if (Objects.isNull(existingAsset)) {
             return true;
         }
-        return assetBaseAssetBaseEntitySimpleEntry.getValue().getImportState() == ImportState.TRANSIENT;
+        return existingAsset.getImportState() == ImportState.TRANSIENT;
     }
 
     @Override
@@ -161,6 +175,13 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
         return jpaAssetAsPlannedRepository.countAssetsByOwner(owner);
     }
 
+    @Override
+    public Map<Owner, Long> countAssetsGroupedByOwner() {
+        return jpaAssetAsPlannedRepository.countAssetsGroupedByOwner().stream()
+                .filter(row -> row[0] != null)
+                .collect(Collectors.toMap(row -> (Owner) row[0], row -> (Long) row[1]));
+    }
+
     @Override
     public List<String> getFieldValues(String fieldName, String startWith, Integer resultLimit, Owner owner, List<String> inAssetIds) {
         return CriteriaUtility.getDistinctAssetFieldValues(fieldName, startWith, resultLimit, owner, inAssetIds, AssetAsPlannedEntity.class, entityManager);
@@ -172,6 +193,16 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
                 .map(AssetAsPlannedEntity::toDomain).toList();
     }
 
+    @Override
+    public List<String> findIdsByImportStateIn(ImportState... importStates) {
+        return jpaAssetAsPlannedRepository.findIdsByImportStateIn(List.of(importStates));
+    }
+
+    @Override
+    public List<String> findIdsByIdIn(List<String> assetIds) {
+        return jpaAssetAsPlannedRepository.findIdsByIdIn(assetIds);
+    }
+
     @Override
     public void updateImportStateAndNoteForAssets(ImportState importState, String importNote, List<String> assetIds) {
         List<AssetAsPlannedEntity> foundAssets = jpaAssetAsPlannedRepository.findByIdIn(assetIds);
@@ -183,12 +214,11 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
     }
 
 
-    private void enrichContractAgreementsAsPlanned(List<AssetBase> assets) {
-
+    private static void enrichContractAgreementsAsPlanned(List<AssetBase> assets, Map<String, AssetAsPlannedEntity> existingAssets) {
         assets.forEach(assetBase -> {
-            Optional<AssetAsPlannedEntity> byId = jpaAssetAsPlannedRepository.findById(assetBase.getId());
-            if (byId.isPresent()) {
-                List<ContractAgreement> contractAgreements = new ArrayList<>(ContractAgreement.fromAsPlannedEntityToContractAgreements(byId.get().getContractAgreements()));
+            AssetAsPlannedEntity existingAsset = existingAssets.get(assetBase.getId());
+            if (existingAsset != null) {
+                List<ContractAgreement> contractAgreements = new ArrayList<>(ContractAgreement.fromAsPlannedEntityToContractAgreements(existingAsset.getContractAgreements()));
                 contractAgreements.add(ContractAgreement.toDomain(assetBase.getLatestContractAgreementId(), assetBase.getId(), ContractType.ASSET_AS_PLANNED));
                 assetBase.setContractAgreements(contractAgreements);
             }
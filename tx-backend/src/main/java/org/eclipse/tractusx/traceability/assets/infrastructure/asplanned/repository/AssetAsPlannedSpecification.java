@@ -38,6 +38,6 @@ public class AssetAsPlannedSpecification extends BaseSpecification<AssetAsPlanne
 
     @Override
     public Predicate toPredicate(@NotNull Root<AssetAsPlannedEntity> root, @NotNull CriteriaQuery<?> query, @NotNull CriteriaBuilder builder) {
-        return createPredicate(getSearchCriteriaFilter(), root, builder);
+        return createPredicate(getSearchCriteriaFilter(), root, query, builder);
     }
 }
@@ -34,5 +34,14 @@ public interface JpaAssetAsPlannedRepository extends JpaRepository<AssetAsPlanne
     @Query("SELECT COUNT(asset) FROM AssetAsPlannedEntity asset WHERE asset.owner = :owner")
     long countAssetsByOwner(@Param("owner") Owner owner);
 
+    @Query("SELECT asset.owner, COUNT(asset) FROM AssetAsPlannedEntity asset GROUP BY asset.owner")
+    List<Object[]> countAssetsGroupedByOwner();
+
     List<AssetAsPlannedEntity> findByImportStateIn(ImportState... importState);
+
+    @Query("SELECT asset.id FROM AssetAsPlannedEntity asset WHERE asset.importState IN :importStates")
+    List<String> findIdsByImportStateIn(@Param("importStates") List<ImportState> importStates);
+
+    @Query("SELECT asset.id FROM AssetAsPlannedEntity asset WHERE asset.id IN :assetIds")
+    List<String> findIdsByIdIn(@Param("assetIds") List<String> assetIds);
 }
@@ -21,6 +21,7 @@ package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
 
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AssetCallbackRepository {
@@ -28,4 +29,10 @@ public interface AssetCallbackRepository {
     Optional<AssetBase> findById(final String assetId);
 
     AssetBase save(AssetBase asset);
+
+    /**
+     * Persists the given assets within one transaction. Existing assets and their contract agreements are loaded
+     * with a single query, so the contract agreement of the IRS job is appended without a lookup per asset.
+     */
+    void saveOrUpdateAll(List<AssetBase> assets);
 }
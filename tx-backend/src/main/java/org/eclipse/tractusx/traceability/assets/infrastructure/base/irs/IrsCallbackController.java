@@ -29,7 +29,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -40,12 +39,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class IrsCallbackController {
 
-    private final JobRepository jobRepository;
+    private final IrsCallbackJobQueue irsCallbackJobQueue;
+    private final IrsJobSubmissionScheduler irsJobSubmissionScheduler;
 
     @Operation(operationId = "irsCallback",
             summary = "Callback of irs get job details",
             tags = {"IRSCallback"},
-            description = "The endpoint retrieves the information about a job which has been completed recently.",
+            description = "The endpoint queues a job which has been completed recently. The job details are retrieved and persisted asynchronously.",
             security = @SecurityRequirement(name = "oAuth2", scopes = "profile email"))
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Retrieves job id in completed state."),
             @ApiResponse(
@@ -94,8 +94,14 @@ public class IrsCallbackController {
     @GetMapping("/irs/job/callback")
     void handleIrsJobCallback(@RequestParam("id") String jobId, @RequestParam("state") String jobState) {
         // Security measurment for injection
-        if (jobId.matches("^[a-zA-Z0-9_-]*$")) {
-            jobRepository.handleJobFinishedCallback(jobId, jobState);
+        if (!jobId.matches("^[a-zA-Z0-9_-]*$")) {
+            return;
+        }
+        irsJobSubmissionScheduler.jobFinished(jobId);
+        if (JobRepositoryImpl.JOB_STATUS_COMPLETED.equals(jobState)) {
+            if (!irsCallbackJobQueue.enqueue(jobId, jobState)) {
+                log.info("IRS callback for job {} is already queued.", jobId);
+            }
         }
     }
 }
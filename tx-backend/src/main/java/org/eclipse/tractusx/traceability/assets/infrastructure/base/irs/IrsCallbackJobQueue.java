@@ -0,0 +1,110 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.exception.IrsCallbackQueueFullException;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.IrsCallbackJobEntity;
+import org.eclipse.tractusx.traceability.common.properties.IrsCallbackQueueProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.IrsCallbackJobStatus.FAILED;
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.IrsCallbackJobStatus.IN_PROGRESS;
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.IrsCallbackJobStatus.PENDING;
+
+/**
+ * Durable queue of finished IRS jobs, backed by the irs_callback_job table. Every job id is queued at most once until
+ * it failed, concurrent workers claim due jobs with row level locks, so multiple instances can drain the same queue.
+ */
+@Slf4j
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class IrsCallbackJobQueue {
+
+    private final JpaIrsCallbackJobRepository jpaIrsCallbackJobRepository;
+    private final IrsCallbackQueueProperties irsCallbackQueueProperties;
+    private final Clock clock;
+
+    /**
+     * Queues the job, or queues it again if it failed before. The capacity is checked by the same statement which
+     * queues the job, concurrent enqueues wait for each other's transaction so the capacity is never exceeded.
+     *
+     * @return false if the job is already queued
+     * @throws IrsCallbackQueueFullException if the configured capacity is reached
+     */
+    public boolean enqueue(String jobId, String jobState) {
+        jpaIrsCallbackJobRepository.lockCapacity();
+        if (jpaIrsCallbackJobRepository.insertIfAbsentOrFailed(jobId, jobState, clock.instant(), irsCallbackQueueProperties.getCapacity()) > 0) {
+            return true;
+        }
+        if (jpaIrsCallbackJobRepository.findById(jobId).filter(job -> job.getStatus() != FAILED).isPresent()) {
+            return false;
+        }
+        throw new IrsCallbackQueueFullException("IRS callback queue reached its capacity of %d jobs.".formatted(irsCallbackQueueProperties.getCapacity()));
+    }
+
+    public List<IrsCallbackJobEntity> claim(int limit) {
+        Instant now = clock.instant();
+        List<IrsCallbackJobEntity> dueJobs = jpaIrsCallbackJobRepository.findDueForUpdate(now, now.minus(irsCallbackQueueProperties.getLeaseTimeout()), limit);
+        dueJobs.forEach(job -> {
+            job.setStatus(IN_PROGRESS);
+            job.setUpdatedOn(now);
+        });
+        return dueJobs;
+    }
+
+    public void complete(String jobId) {
+        jpaIrsCallbackJobRepository.deleteById(jobId);
+    }
+
+    public void retryLater(String jobId, String errorMessage) {
+        jpaIrsCallbackJobRepository.findById(jobId).ifPresent(job -> {
+            Instant now = clock.instant();
+            int attempts = job.getAttempts() + 1;
+            job.setAttempts(attempts);
+            job.setErrorMessage(errorMessage);
+            job.setUpdatedOn(now);
+            if (attempts >= irsCallbackQueueProperties.getMaxAttempts()) {
+                log.warn("IRS callback for job {} failed {} times and will not be retried anymore.", jobId, attempts);
+                job.setStatus(FAILED);
+            } else {
+                job.setStatus(PENDING);
+                job.setNextAttemptOn(now.plus(irsCallbackQueueProperties.getInitialBackoff().multipliedBy(1L << (attempts - 1))));
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public long depth() {
+        return jpaIrsCallbackJobRepository.countByStatusIn(List.of(PENDING, IN_PROGRESS));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> oldestPendingCreatedOn() {
+        return jpaIrsCallbackJobRepository.findOldestCreatedOnByStatus(PENDING);
+    }
+}
@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.IrsCallbackJobEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.IRS_CALLBACK_EXECUTOR;
+
+/**
+ * Drains the {@link IrsCallbackJobQueue} with the bounded irsCallbackExecutor pool
+ * and exposes depth, lag and processing time of the queue as metrics.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class IrsCallbackJobWorker {
+
+    private final IrsCallbackJobQueue irsCallbackJobQueue;
+    private final JobRepository jobRepository;
+    private final ThreadPoolTaskExecutor irsCallbackExecutor;
+    private final Clock clock;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong queueLagSeconds = new AtomicLong();
+    private final Timer succeededTimer;
+    private final Timer failedTimer;
+
+    public IrsCallbackJobWorker(
+            IrsCallbackJobQueue irsCallbackJobQueue,
+            JobRepository jobRepository,
+            @Qualifier(IRS_CALLBACK_EXECUTOR) ThreadPoolTaskExecutor irsCallbackExecutor,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.irsCallbackJobQueue = irsCallbackJobQueue;
+        this.jobRepository = jobRepository;
+        this.irsCallbackExecutor = irsCallbackExecutor;
+        this.clock = clock;
+
+        Gauge.builder("irs.callback.queue.depth", queueDepth, AtomicLong::get)
+                .description("Number of IRS callbacks waiting for or in processing")
+                .register(meterRegistry);
+        Gauge.builder("irs.callback.queue.lag", queueLagSeconds, AtomicLong::get)
+                .description("Age of the oldest pending IRS callback")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.succeededTimer = Timer.builder("irs.callback.processing")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failedTimer = Timer.builder("irs.callback.processing")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${irsCallbackQueue.pollInterval:PT5S}")
+    public void drain() {
+        refreshQueueMetrics();
+
+        int freeWorkers = irsCallbackExecutor.getMaxPoolSize() - irsCallbackExecutor.getActiveCount();
+        if (freeWorkers <= 0) {
+            return;
+        }
+
+        for (IrsCallbackJobEntity job : irsCallbackJobQueue.claim(freeWorkers)) {
+            try {
+                irsCallbackExecutor.execute(() -> process(job.getJobId(), job.getJobState()));
+            } catch (TaskRejectedException e) {
+                // the claimed job is picked up again once its lease timed out
+                log.warn("IRS callback for job {} was rejected by the worker pool.", job.getJobId());
+            }
+        }
+    }
+
+    void process(String jobId, String jobState) {
+        long start = System.nanoTime();
+        try {
+            jobRepository.handleJobFinishedCallback(jobId, jobState);
+            irsCallbackJobQueue.complete(jobId);
+            succeededTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.warn("Processing of IRS callback for job {} failed.", jobId, e);
+            irsCallbackJobQueue.retryLater(jobId, e.getMessage());
+            failedTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private void refreshQueueMetrics() {
+        queueDepth.set(irsCallbackJobQueue.depth());
+        queueLagSeconds.set(irsCallbackJobQueue.oldestPendingCreatedOn()
+                .map(createdOn -> Duration.between(createdOn, clock.instant()).toSeconds())
+                .orElse(0L));
+    }
+}
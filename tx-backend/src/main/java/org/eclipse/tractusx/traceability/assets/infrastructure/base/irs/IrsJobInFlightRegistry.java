@@ -0,0 +1,69 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Registered IRS jobs without callback, backed by the irs_job_in_flight table. The callback of a job may arrive at any
+ * instance, it removes the job here and the instance which registered the job releases its slot. A callback arriving
+ * before the job is registered leaves a marker owned by {@value #FINISHED}, so the registration sees that the job is
+ * finished already. Markers are removed with the timed out jobs.
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class IrsJobInFlightRegistry {
+
+    static final String FINISHED = "finished";
+
+    private final JpaIrsJobInFlightRepository jpaIrsJobInFlightRepository;
+
+    /**
+     * @return false if the callback of the job arrived already, the job is not registered in that case
+     */
+    public boolean register(String jobId, String owner, Instant registeredOn) {
+        return jpaIrsJobInFlightRepository.insertIfAbsent(jobId, owner, registeredOn) > 0;
+    }
+
+    public void finish(String jobId, Instant finishedOn) {
+        if (jpaIrsJobInFlightRepository.deleteByJobId(jobId) == 0) {
+            jpaIrsJobInFlightRepository.markFinished(jobId, FINISHED, finishedOn);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findJobIds(String owner) {
+        return new HashSet<>(jpaIrsJobInFlightRepository.findJobIdsByOwner(owner));
+    }
+
+    /**
+     * Removes the jobs of all instances registered before the given instant, including those of stopped instances.
+     */
+    public int removeRegisteredBefore(Instant registeredBefore) {
+        return jpaIrsJobInFlightRepository.deleteRegisteredBefore(registeredBefore);
+    }
+}
@@ -0,0 +1,159 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.RegisterJobRequest;
+import org.eclipse.tractusx.traceability.common.properties.IrsJobSubmissionProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Registers IRS jobs at a limited rate and with a limited number of jobs in flight. A submission blocks until a token
+ * of the rate limit and an in-flight slot are available, which pushes back on the synchronization executor. Slots are
+ * released when the IRS callback for the job arrives or when the job is outstanding for longer than
+ * {@link IrsJobSubmissionProperties#getOutstandingJobTimeout()}. Registered jobs are tracked in the
+ * {@link IrsJobInFlightRegistry}, so a callback arriving at another instance releases the slot as well. A callback
+ * arriving before the job is registered is recorded there too and releases the slot right after the registration.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class IrsJobSubmissionScheduler {
+
+    private final JobClient jobClient;
+    private final IrsJobInFlightRegistry irsJobInFlightRegistry;
+    private final IrsJobSubmissionProperties irsJobSubmissionProperties;
+    private final Clock clock;
+    private final TokenBucket tokenBucket;
+    private final Semaphore inFlightSlots;
+    private final Map<String, Instant> outstandingJobs = new ConcurrentHashMap<>();
+    private final Timer submissionWaitTimer;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public IrsJobSubmissionScheduler(JobClient jobClient, IrsJobInFlightRegistry irsJobInFlightRegistry,
+                                     IrsJobSubmissionProperties irsJobSubmissionProperties,
+                                     MeterRegistry meterRegistry, Clock clock) {
+        this.jobClient = jobClient;
+        this.irsJobInFlightRegistry = irsJobInFlightRegistry;
+        this.irsJobSubmissionProperties = irsJobSubmissionProperties;
+        this.clock = clock;
+        this.tokenBucket = new TokenBucket(irsJobSubmissionProperties.getJobsPerSecond(), irsJobSubmissionProperties.getBurst(), System::nanoTime);
+        this.inFlightSlots = new Semaphore(irsJobSubmissionProperties.getMaxInFlight(), true);
+        this.submissionWaitTimer = meterRegistry.timer("irs.job.submission.wait");
+        Gauge.builder("irs.job.submission.outstanding", outstandingJobs, Map::size)
+                .description("Number of registered IRS jobs waiting for their callback")
+                .register(meterRegistry);
+    }
+
+    public void submit(RegisterJobRequest registerJobRequest) {
+        Timer.Sample sample = Timer.start();
+        try {
+            inFlightSlots.acquire();
+            tokenBucket.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to register IRS job.", e);
+        } finally {
+            sample.stop(submissionWaitTimer);
+        }
+
+        String jobId;
+        try {
+            jobId = jobClient.registerJob(registerJobRequest);
+        } catch (RuntimeException e) {
+            inFlightSlots.release();
+            throw e;
+        }
+
+        if (jobId == null) {
+            inFlightSlots.release();
+            return;
+        }
+        try {
+            if (!irsJobInFlightRegistry.register(jobId, instanceId, clock.instant())) {
+                log.info("Callback for IRS job {} arrived before its registration, releasing its slot.", jobId);
+                irsJobInFlightRegistry.finish(jobId, clock.instant());
+                inFlightSlots.release();
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not track IRS job {} as in flight, its slot is released with the next lookup.", jobId, e);
+        }
+        // tracked after the registration is committed, so every later lookup of the registry sees it
+        outstandingJobs.put(jobId, clock.instant());
+    }
+
+    /**
+     * Called on the instance receiving the callback, which is not necessarily the instance which registered the job.
+     */
+    public void jobFinished(String jobId) {
+        irsJobInFlightRegistry.finish(jobId, clock.instant());
+        if (outstandingJobs.remove(jobId) != null) {
+            inFlightSlots.release();
+        }
+    }
+
+    public int outstandingJobs() {
+        return outstandingJobs.size();
+    }
+
+    /**
+     * Releases the slots of jobs whose callback arrived at another instance. Jobs registered after the lookup are kept,
+     * their registration might not have been visible to it.
+     */
+    @Scheduled(fixedDelayString = "${irsJobSubmission.releaseInterval:PT5S}")
+    public void releaseFinishedJobs() {
+        if (outstandingJobs.isEmpty()) {
+            return;
+        }
+        Instant lookedUpOn = clock.instant();
+        Set<String> inFlightJobIds = irsJobInFlightRegistry.findJobIds(instanceId);
+        outstandingJobs.forEach((jobId, registeredOn) -> {
+            if (registeredOn.isBefore(lookedUpOn) && !inFlightJobIds.contains(jobId) && outstandingJobs.remove(jobId, registeredOn)) {
+                log.info("Callback for IRS job {} arrived at another instance, releasing its slot.", jobId);
+                inFlightSlots.release();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${irsJobSubmission.cleanupInterval:PT1M}")
+    public void releaseTimedOutJobs() {
+        Instant timedOutBefore = clock.instant().minus(irsJobSubmissionProperties.getOutstandingJobTimeout());
+        outstandingJobs.forEach((jobId, registeredOn) -> {
+            if (registeredOn.isBefore(timedOutBefore) && outstandingJobs.remove(jobId, registeredOn)) {
+                log.warn("No callback received for IRS job {} since {}, releasing its slot.", jobId, registeredOn);
+                inFlightSlots.release();
+            }
+        });
+        irsJobInFlightRegistry.removeRegisteredBefore(timedOutBefore);
+    }
+}
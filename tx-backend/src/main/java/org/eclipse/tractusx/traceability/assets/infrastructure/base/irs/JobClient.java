@@ -18,7 +18,10 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.component.JobHandle;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.RegisterJobRequest;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
 import org.jetbrains.annotations.Nullable;
@@ -26,9 +29,12 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+
 import static org.eclipse.tractusx.traceability.common.config.RestTemplateConfiguration.IRS_REGULAR_TEMPLATE;
 
 @Slf4j
@@ -41,8 +47,10 @@ public class JobClient {
         this.irsRegularTemplate = irsRegularTemplate;
     }
 
-    public void registerJob(RegisterJobRequest registerJobRequest) {
-        irsRegularTemplate.exchange("/irs/jobs", HttpMethod.POST, new HttpEntity<>(registerJobRequest), Void.class);
+    @Nullable
+    public String registerJob(RegisterJobRequest registerJobRequest) {
+        JobHandle jobHandle = irsRegularTemplate.exchange("/irs/jobs", HttpMethod.POST, new HttpEntity<>(registerJobRequest), JobHandle.class).getBody();
+        return jobHandle == null || jobHandle.getId() == null ? null : jobHandle.getId().toString();
     }
 
     @Nullable
@@ -50,4 +58,28 @@ public class JobClient {
         return irsRegularTemplate.exchange("/irs/jobs/" + jobId, HttpMethod.GET, null, new ParameterizedTypeReference<IRSResponse>() {
         }).getBody();
     }
+
+    /**
+     * Hands the body of the IRS job response to the given reader without buffering it, so that large responses can be
+     * processed while they are read. The parser is configured like the message converter of the IRS rest template.
+     */
+    @Nullable
+    public <T> T getIrsJobDetailResponse(String jobId, IrsResponseReader<T> irsResponseReader) {
+        ObjectMapper objectMapper = irsRegularTemplate.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("IRS rest template has no JSON message converter."));
+
+        return irsRegularTemplate.execute("/irs/jobs/" + jobId, HttpMethod.GET, irsRegularTemplate.acceptHeaderRequestCallback(IRSResponse.class), response -> {
+            try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+                return irsResponseReader.read(parser);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    public interface IrsResponseReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
 }
@@ -21,28 +21,26 @@
 
 package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.RegisterJobRequest;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseAssets;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.IrsResponseAssetMapper;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
-import org.eclipse.tractusx.traceability.contracts.domain.model.ContractAgreement;
-import org.eclipse.tractusx.traceability.contracts.domain.model.ContractType;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.ShellDescriptorFingerprintRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Clock;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import static org.eclipse.tractusx.irs.component.enums.BomLifecycle.AS_BUILT;
 import static org.eclipse.tractusx.irs.component.enums.BomLifecycle.AS_PLANNED;
@@ -54,33 +52,43 @@ public class JobRepositoryImpl implements JobRepository {
     private final TraceabilityProperties traceabilityProperties;
     private final AssetCallbackRepository assetAsBuiltCallbackRepository;
     private final AssetCallbackRepository assetAsPlannedCallbackRepository;
-    private static final String JOB_STATUS_COMPLETED = "COMPLETED";
+    static final String JOB_STATUS_COMPLETED = "COMPLETED";
 
     private final IrsResponseAssetMapper assetMapperFactory;
 
     private final JobClient jobClient;
-    private final ObjectMapper objectMapper;
+
+    private final IrsJobSubmissionScheduler irsJobSubmissionScheduler;
+
+    private final ShellDescriptorFingerprintRepository shellDescriptorFingerprintRepository;
+
+    private final Clock clock;
 
     public JobRepositoryImpl(
             JobClient jobClient,
+            IrsJobSubmissionScheduler irsJobSubmissionScheduler,
             TraceabilityProperties traceabilityProperties,
             @Qualifier("assetAsBuiltRepositoryImpl")
             AssetCallbackRepository assetAsBuiltCallbackRepository,
             @Qualifier("assetAsPlannedRepositoryImpl")
             AssetCallbackRepository assetAsPlannedCallbackRepository,
-            IrsResponseAssetMapper assetMapperFactory, ObjectMapper objectMapper) {
+            IrsResponseAssetMapper assetMapperFactory,
+            ShellDescriptorFingerprintRepository shellDescriptorFingerprintRepository,
+            Clock clock) {
         this.traceabilityProperties = traceabilityProperties;
         this.assetAsBuiltCallbackRepository = assetAsBuiltCallbackRepository;
         this.assetAsPlannedCallbackRepository = assetAsPlannedCallbackRepository;
         this.jobClient = jobClient;
+        this.irsJobSubmissionScheduler = irsJobSubmissionScheduler;
         this.assetMapperFactory = assetMapperFactory;
-        this.objectMapper = objectMapper;
+        this.shellDescriptorFingerprintRepository = shellDescriptorFingerprintRepository;
+        this.clock = clock;
     }
 
     @Override
     public void createJobToResolveAssets(String globalAssetId, Direction direction, List<String> aspects, BomLifecycle bomLifecycle) {
         RegisterJobRequest registerJobRequest = RegisterJobRequest.buildJobRequest(globalAssetId, traceabilityProperties.getBpn().toString(), direction, aspects, bomLifecycle, traceabilityProperties.getUrl());
-        this.jobClient.registerJob(registerJobRequest);
+        this.irsJobSubmissionScheduler.submit(registerJobRequest);
     }
 
 
@@ -90,55 +98,53 @@ public class JobRepositoryImpl implements JobRepository {
             return;
         }
 
-        final IRSResponse jobResponseIRS = this.jobClient.getIrsJobDetailResponse(jobId);
+        final IrsResponseAssets irsResponseAssets = getIrsResponseAssets(jobId);
 
-        if (jobResponseIRS == null) {
+        if (irsResponseAssets == null) {
             return;
         }
 
-        long runtime = (jobResponseIRS.jobStatus().lastModifiedOn().getTime() - jobResponseIRS.jobStatus().startedOn().getTime()) / 1000;
-        log.info("IRS call for globalAssetId: {} finished with status: {}, runtime {} s.", jobResponseIRS.jobStatus().globalAssetId(), jobResponseIRS.jobStatus().state(), runtime);
-
-        if (jobCompleted(jobResponseIRS.jobStatus())) {
-            List<AssetBase> assets = assetMapperFactory.toAssetBaseList(jobResponseIRS);
-            assets.forEach(assetBase -> {
-                if (assetBase.getBomLifecycle() == AS_BUILT) {
-                    saveOrUpdateAssets(assetAsBuiltCallbackRepository, assetBase);
-                } else if (assetBase.getBomLifecycle() == AS_PLANNED) {
-                    saveOrUpdateAssets(assetAsPlannedCallbackRepository, assetBase);
-                }
-            });
+        JobStatus jobStatus = irsResponseAssets.jobStatus();
+        long runtime = (jobStatus.lastModifiedOn().getTime() - jobStatus.startedOn().getTime()) / 1000;
+        log.info("IRS call for globalAssetId: {} finished with status: {}, runtime {} s.", jobStatus.globalAssetId(), jobStatus.state(), runtime);
+
+        if (jobCompleted(jobStatus)) {
+            List<AssetBase> assets = irsResponseAssets.assets();
+            saveOrUpdateAssets(assetAsBuiltCallbackRepository, assets.stream().filter(assetBase -> assetBase.getBomLifecycle() == AS_BUILT).toList());
+            saveOrUpdateAssets(assetAsPlannedCallbackRepository, assets.stream().filter(assetBase -> assetBase.getBomLifecycle() == AS_PLANNED).toList());
+            shellDescriptorFingerprintRepository.confirmPending(jobStatus.globalAssetId(), clock.instant());
         }
     }
 
-    void saveOrUpdateAssets(AssetCallbackRepository repository, AssetBase asset) {
-        try {
-            enrichAssetBaseByContractAgreements(repository, asset);
-            repository.save(asset);
-        } catch (DataIntegrityViolationException ex) {
-            //retry save in case of ERROR: duplicate key value violates unique constraint "asset_pkey"
-            log.info("Asset with id {} already exists in the database. The record will be updated instead.", asset.getId());
-            repository.save(asset);
+    private IrsResponseAssets getIrsResponseAssets(String jobId) {
+        if (traceabilityProperties.isIrsResponseStreaming()) {
+            return jobClient.getIrsJobDetailResponse(jobId, assetMapperFactory::readAssetBaseList);
         }
+
+        IRSResponse jobResponseIRS = jobClient.getIrsJobDetailResponse(jobId);
+        if (jobResponseIRS == null) {
+            return null;
+        }
+        List<AssetBase> assets = jobCompleted(jobResponseIRS.jobStatus()) ? assetMapperFactory.toAssetBaseList(jobResponseIRS) : List.of();
+        return new IrsResponseAssets(jobResponseIRS.jobStatus(), assets);
     }
 
-    private void enrichAssetBaseByContractAgreements(AssetCallbackRepository repository, AssetBase asset) {
-        Optional<AssetBase> byId = repository.findById(asset.getId());
-        List<ContractAgreement> agreementsToAdd = new ArrayList<>();
-        byId.ifPresent(assetBase -> agreementsToAdd.addAll(assetBase.getContractAgreements()));
-        try {
-            log.info("Found the following existing contractAgreements {}", this.objectMapper.writeValueAsString(agreementsToAdd));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+    void saveOrUpdateAssets(AssetCallbackRepository repository, List<AssetBase> assets) {
+        List<List<AssetBase>> chunks = ListUtils.partition(assets, traceabilityProperties.getIrsCallbackChunkSize());
+        for (int i = 0; i < chunks.size(); i++) {
+            long start = System.currentTimeMillis();
+            saveOrUpdateChunk(repository, chunks.get(i));
+            log.info("Persisted chunk {}/{} with {} assets in {} ms.", i + 1, chunks.size(), chunks.get(i).size(), System.currentTimeMillis() - start);
         }
+    }
 
-        ContractType contractType = asset.getSemanticDataModel().isAsBuilt() ? ContractType.ASSET_AS_BUILT : ContractType.ASSET_AS_PLANNED;
-        agreementsToAdd.add(ContractAgreement.toDomain(asset.getLatestContractAgreementId(), asset.getId(), contractType));
-        asset.setContractAgreements(agreementsToAdd);
+    private void saveOrUpdateChunk(AssetCallbackRepository repository, List<AssetBase> chunk) {
         try {
-            log.info("Found the following NEW contractAgreements {}", this.objectMapper.writeValueAsString(agreementsToAdd));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            repository.saveOrUpdateAll(chunk);
+        } catch (DataIntegrityViolationException ex) {
+            //retry save in case of ERROR: duplicate key value violates unique constraint "asset_pkey"
+            log.info("Assets of chunk were inserted concurrently. The chunk will be persisted again to update the records instead.");
+            repository.saveOrUpdateAll(chunk);
         }
     }
 
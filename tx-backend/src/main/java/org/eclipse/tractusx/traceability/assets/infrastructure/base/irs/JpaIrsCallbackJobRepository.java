@@ -0,0 +1,78 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.IrsCallbackJobEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.IrsCallbackJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaIrsCallbackJobRepository extends JpaRepository<IrsCallbackJobEntity, String> {
+
+    /**
+     * Takes the transaction level lock which serializes the capacity checks of {@link #insertIfAbsentOrFailed}, it is
+     * released on commit or rollback.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('irs_callback_job'))", nativeQuery = true)
+    int lockCapacity();
+
+    /**
+     * Queues the job unless it is already pending or in progress, a failed job is queued again with reset attempts.
+     * Nothing is queued if the number of pending and in progress jobs reached the capacity. The count only sees jobs
+     * queued by committed transactions, concurrent callers take {@link #lockCapacity()} first.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO irs_callback_job (job_id, job_state, status, attempts, next_attempt_on, created_on, updated_on)
+            SELECT :jobId, :jobState, 'PENDING', 0, :now, :now, :now
+            WHERE (SELECT COUNT(*) FROM irs_callback_job WHERE status IN ('PENDING', 'IN_PROGRESS')) < :capacity
+            ON CONFLICT (job_id) DO UPDATE
+                SET job_state       = EXCLUDED.job_state,
+                    status          = 'PENDING',
+                    attempts        = 0,
+                    error_message   = NULL,
+                    next_attempt_on = EXCLUDED.next_attempt_on,
+                    updated_on      = EXCLUDED.updated_on
+                WHERE irs_callback_job.status = 'FAILED'
+            """, nativeQuery = true)
+    int insertIfAbsentOrFailed(@Param("jobId") String jobId, @Param("jobState") String jobState, @Param("now") Instant now, @Param("capacity") int capacity);
+
+    @Query(value = """
+            SELECT * FROM irs_callback_job
+            WHERE (status = 'PENDING' AND next_attempt_on <= :now)
+               OR (status = 'IN_PROGRESS' AND updated_on < :staleBefore)
+            ORDER BY next_attempt_on
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<IrsCallbackJobEntity> findDueForUpdate(@Param("now") Instant now, @Param("staleBefore") Instant staleBefore, @Param("limit") int limit);
+
+    long countByStatusIn(List<IrsCallbackJobStatus> statuses);
+
+    @Query("SELECT MIN(job.createdOn) FROM IrsCallbackJobEntity job WHERE job.status = :status")
+    Optional<Instant> findOldestCreatedOnByStatus(@Param("status") IrsCallbackJobStatus status);
+}
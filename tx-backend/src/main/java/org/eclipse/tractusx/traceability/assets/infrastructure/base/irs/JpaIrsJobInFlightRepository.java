@@ -0,0 +1,64 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.IrsJobInFlightEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface JpaIrsJobInFlightRepository extends JpaRepository<IrsJobInFlightEntity, String> {
+
+    @Query("SELECT job.jobId FROM IrsJobInFlightEntity job WHERE job.owner = :owner")
+    List<String> findJobIdsByOwner(@Param("owner") String owner);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO irs_job_in_flight (job_id, owner, registered_on)
+            VALUES (:jobId, :owner, :registeredOn)
+            ON CONFLICT (job_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("jobId") String jobId, @Param("owner") String owner, @Param("registeredOn") Instant registeredOn);
+
+    /**
+     * Marks the job as finished, a job registered concurrently is taken over by the marker.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO irs_job_in_flight (job_id, owner, registered_on)
+            VALUES (:jobId, :owner, :finishedOn)
+            ON CONFLICT (job_id) DO UPDATE SET owner = EXCLUDED.owner
+            """, nativeQuery = true)
+    int markFinished(@Param("jobId") String jobId, @Param("owner") String owner, @Param("finishedOn") Instant finishedOn);
+
+    @Modifying
+    @Query("DELETE FROM IrsJobInFlightEntity job WHERE job.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") String jobId);
+
+    @Modifying
+    @Query("DELETE FROM IrsJobInFlightEntity job WHERE job.registeredOn < :registeredBefore")
+    int deleteRegisteredBefore(@Param("registeredBefore") Instant registeredBefore);
+}
@@ -0,0 +1,58 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket which hands out one token per {@code 1 / permitsPerSecond} seconds and stores up to {@code burst}
+ * unused tokens. Callers reserve a token and wait until it becomes available.
+ */
+class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final LongSupplier nanoTime;
+    private long nextTokenNanos;
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoTime) {
+        this.nanosPerToken = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = nanosPerToken * Math.max(burst - 1, 0);
+        this.nanoTime = nanoTime;
+        this.nextTokenNanos = nanoTime.getAsLong() - burstNanos;
+    }
+
+    /**
+     * Reserves the next token and returns the nanoseconds to wait until it may be used.
+     */
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        long tokenNanos = Math.max(nextTokenNanos, now - burstNanos);
+        nextTokenNanos = tokenNanos + nanosPerToken;
+        return Math.max(tokenNanos - now, 0);
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /********************************************************************************
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
  *
  * See the NOTICE file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -16,14 +16,11 @@
  *
  * SPDX-License-Identifier: Apache-2.0
  ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.exception;
 
-package org.eclipse.tractusx.traceability.common.repository;
+public class IrsCallbackQueueFullException extends RuntimeException {
 
-import lombok.Builder;
-import org.eclipse.tractusx.traceability.common.model.SearchCriteriaOperator;
-
-@Builder
-public class FieldOperatorMap {
-    String fieldName;
-    SearchCriteriaOperator operator;
+    public IrsCallbackQueueFullException(String message) {
+        super(message);
+    }
 }
@@ -18,27 +18,37 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.component.Bpn;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Tombstone;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.aspect.DetailAspectModel;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.exception.IrsException;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.mapper.TombstoneMapper;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseAssets;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsSubmodel;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Shell;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.AssetBaseMappers;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.RelationshipMapper;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper;
-import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.SubmodelMapper;
 import org.eclipse.tractusx.traceability.bpn.domain.service.BpnService;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 
 import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.enrichAssetBase;
@@ -59,6 +69,82 @@ public class IrsResponseAssetMapper implements AssetBaseMappers<IRSResponse> {
 
     @Override
     public List<AssetBase> toAssetBaseList(IRSResponse irsResponse) {
+        List<AssetBase> submodelAssets = irsResponse.submodels().stream()
+                .map(this::extractMainSubmodel)
+                .flatMap(Optional::stream)
+                .toList();
+        return enrichAssets(irsResponse, submodelAssets);
+    }
+
+    /**
+     * Reads an IRS job response from the given parser and maps it to assets. In contrast to
+     * {@link #toAssetBaseList(IRSResponse)} the response is never held in memory as a whole: every main submodel
+     * is mapped to its asset as soon as it is read and its payload is released right away. Only the small parts of
+     * the response which are needed to enrich the assets (job, relationships, shells, tombstones, bpns and the
+     * detail submodels) are kept until the end of the response.
+     */
+    @Nullable
+    public IrsResponseAssets readAssetBaseList(JsonParser parser) throws IOException {
+        JobStatus jobStatus = null;
+        List<Relationship> relationships = List.of();
+        List<Shell> shells = List.of();
+        List<Bpn> bpns = List.of();
+        List<Tombstone> tombstones = List.of();
+        List<IrsSubmodel> detailSubmodels = new ArrayList<>();
+        List<AssetBase> submodelAssets = new ArrayList<>();
+
+        JsonToken firstToken = parser.nextToken();
+        if (firstToken == null) {
+            return null;
+        }
+        if (firstToken != JsonToken.START_OBJECT) {
+            throw new IrsException("IRS job response is not a JSON object.");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (fieldName) {
+                case "job" -> jobStatus = parser.readValueAs(JobStatus.class);
+                case "relationships" -> relationships = readArray(parser, Relationship.class);
+                case "shells" -> shells = readArray(parser, Shell.class);
+                case "bpns" -> bpns = readArray(parser, Bpn.class);
+                case "tombstones" -> tombstones = readArray(parser, Tombstone.class);
+                case "submodels" -> {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        IrsSubmodel irsSubmodel = parser.readValueAs(IrsSubmodel.class);
+                        Optional<AssetBase> submodelAsset = extractMainSubmodel(irsSubmodel);
+                        if (submodelAsset.isPresent()) {
+                            submodelAssets.add(submodelAsset.get());
+                        } else if (isDetailSubmodel(irsSubmodel)) {
+                            detailSubmodels.add(irsSubmodel);
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (jobStatus == null) {
+            throw new IrsException("IRS job response does not contain a job.");
+        }
+
+        IRSResponse irsResponse = new IRSResponse(jobStatus, relationships, shells, detailSubmodels, bpns, tombstones);
+        return new IrsResponseAssets(jobStatus, enrichAssets(irsResponse, submodelAssets));
+    }
+
+    private Optional<AssetBase> extractMainSubmodel(IrsSubmodel irsSubmodel) {
+        return assetBaseMapperProvider.getMainSubmodelMapper(irsSubmodel)
+                .map(mapper -> mapper.extractSubmodel(irsSubmodel));
+    }
+
+    private boolean isDetailSubmodel(IrsSubmodel irsSubmodel) {
+        return assetBaseMapperProvider.getAsBuiltDetailMapper(irsSubmodel).isPresent()
+                || assetBaseMapperProvider.getAsPlannedDetailMapper(irsSubmodel).isPresent();
+    }
+
+    private List<AssetBase> enrichAssets(IRSResponse irsResponse, List<AssetBase> submodelAssets) {
         Map<String, List<Descriptions>> descriptionMap = extractRelationshipToDescriptionMap(irsResponse);
         List<DetailAspectModel> tractionBatteryCode = MapperHelper.extractTractionBatteryCode(irsResponse.submodels(), irsResponse.jobStatus().globalAssetId(), assetBaseMapperProvider);
         List<DetailAspectModel> partSiteInformationAsPlanned = MapperHelper.extractPartSiteInformationAsPlanned(irsResponse.submodels(), assetBaseMapperProvider);
@@ -67,34 +153,33 @@ public class IrsResponseAssetMapper implements AssetBaseMappers<IRSResponse> {
             log.info("Found {} tombstones", tombstones.size());
         }
 
-        List<AssetBase> submodelAssets = new ArrayList<>(irsResponse
-                .submodels()
-                .stream()
-                .map(irsSubmodel -> {
-                    Optional<SubmodelMapper> mapper = assetBaseMapperProvider.getMainSubmodelMapper(irsSubmodel);
-                    if (mapper.isPresent()) {
-                        AssetBase assetBase = mapper.get().extractSubmodel(irsSubmodel);
-                        assetBase.setOwner(getOwner(assetBase, irsResponse));
-                        assetBase.setIdShort(getShortId(irsResponse.shells(), assetBase.getId()));
-                        assetBase.setLatestContractAgreementId(getContractAgreementId(irsResponse.shells(), assetBase.getId()));
-                        assetBase.setManufacturerId(getManufacturerId(irsResponse, assetBase));
-                        assetBase.setManufacturerName(bpnService.findByBpn(assetBase.getManufacturerId()));
-                        enrichUpwardAndDownwardDescriptions(descriptionMap, assetBase);
-                        enrichAssetBase(tractionBatteryCode, assetBase);
-                        enrichAssetBase(partSiteInformationAsPlanned, assetBase);
-                        return assetBase;
-                    }
-                    return null;
-                })
-                .filter(Objects::nonNull)
-                .toList());
+        List<AssetBase> assets = new ArrayList<>(submodelAssets);
+        assets.forEach(assetBase -> {
+            assetBase.setOwner(getOwner(assetBase, irsResponse));
+            assetBase.setIdShort(getShortId(irsResponse.shells(), assetBase.getId()));
+            assetBase.setLatestContractAgreementId(getContractAgreementId(irsResponse.shells(), assetBase.getId()));
+            assetBase.setManufacturerId(getManufacturerId(irsResponse, assetBase));
+            enrichUpwardAndDownwardDescriptions(descriptionMap, assetBase);
+            enrichAssetBase(tractionBatteryCode, assetBase);
+            enrichAssetBase(partSiteInformationAsPlanned, assetBase);
+        });
+
+        Map<String, String> manufacturerNames = bpnService.findManufacturerNames(assets.stream().map(AssetBase::getManufacturerId).toList());
+        assets.forEach(assetBase -> assetBase.setManufacturerName(manufacturerNames.get(assetBase.getManufacturerId())));
 
         if (tombstones != null) {
-            submodelAssets.addAll(tombstones);
+            assets.addAll(tombstones);
         }
-        return submodelAssets;
+        return assets;
     }
 
+    private static <T> List<T> readArray(JsonParser parser, Class<T> type) throws IOException {
+        List<T> values = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            values.add(parser.readValueAs(type));
+        }
+        return values;
+    }
 
     @NotNull
     private Map<String, List<Descriptions>> extractRelationshipToDescriptionMap(IRSResponse irsResponse) {
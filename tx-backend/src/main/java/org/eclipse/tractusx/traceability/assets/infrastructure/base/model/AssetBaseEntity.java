@@ -19,6 +19,7 @@
 package org.eclipse.tractusx.traceability.assets.infrastructure.base.model;
 
 import jakarta.persistence.EnumType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
@@ -30,12 +31,14 @@ import lombok.experimental.SuperBuilder;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.QualityType;
+import org.eclipse.tractusx.traceability.assets.infrastructure.dashboard.DashboardCacheInvalidationListener;
 
 @NoArgsConstructor
 @Getter
 @Setter
 @SuperBuilder
 @MappedSuperclass
+@EntityListeners(DashboardCacheInvalidationListener.class)
 @ToString
 public class AssetBaseEntity {
 
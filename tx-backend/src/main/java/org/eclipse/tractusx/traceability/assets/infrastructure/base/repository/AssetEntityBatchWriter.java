@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the assets of a chunk with one query loading the already stored assets, shared by the as built and as planned
+ * repositories.
+ */
+@UtilityClass
+public class AssetEntityBatchWriter {
+
+    /**
+     * Loads all already stored assets with one query, they stay part of the persistence context for the following
+     * writes.
+     */
+    public static <E extends AssetBaseEntity> Map<String, E> findExistingAssets(List<AssetBase> assets, Function<List<String>, List<E>> findByIdIn) {
+        return findByIdIn.apply(assets.stream().map(AssetBase::getId).distinct().toList()).stream()
+                .collect(Collectors.toMap(AssetBaseEntity::getId, Function.identity()));
+    }
+
+    /**
+     * Persists new and merges existing entities. Existing entities are already part of the persistence context, so
+     * neither has to select them again and the inserts are sent in JDBC batches on flush.
+     */
+    public static <E extends AssetBaseEntity> List<E> persistOrMerge(EntityManager entityManager, List<E> entities, Set<String> existingAssetIds) {
+        Set<String> managedAssetIds = new HashSet<>(existingAssetIds);
+        return entities.stream()
+                .map(entity -> {
+                    if (managedAssetIds.add(entity.getId())) {
+                        entityManager.persist(entity);
+                        return entity;
+                    }
+                    return entityManager.merge(entity);
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,59 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.dashboard;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.service.DashboardCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Entity listener of the assets and notifications counted on the dashboard. Instances are created by Hibernate through
+ * the Spring bean container. Inside a transaction the dashboard is invalidated once after completion, so that a
+ * dashboard computed concurrently from uncommitted state is not kept.
+ */
+@RequiredArgsConstructor
+public class DashboardCacheInvalidationListener {
+
+    private final DashboardCache dashboardCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidateDashboard(Object entity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dashboardCache.invalidate();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(dashboardCache)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(dashboardCache, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(dashboardCache);
+                dashboardCache.invalidate();
+            }
+        });
+    }
+}
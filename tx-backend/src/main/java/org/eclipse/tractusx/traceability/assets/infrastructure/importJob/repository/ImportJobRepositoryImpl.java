@@ -27,9 +27,12 @@ import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.ImportJobRepository;
 import org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model.ImportJobEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Component
@@ -58,6 +61,23 @@ public class ImportJobRepositoryImpl implements ImportJobRepository {
         importJobRepository.save(importJobEntity);
     }
 
+    @Override
+    @Transactional
+    public void addAssets(UUID importJobId, List<String> assetAsBuiltIds, List<String> assetAsPlannedIds) {
+        if (!assetAsBuiltIds.isEmpty()) {
+            importJobRepository.addAssetsAsBuilt(importJobId.toString(), assetAsBuiltIds);
+        }
+        if (!assetAsPlannedIds.isEmpty()) {
+            importJobRepository.addAssetsAsPlanned(importJobId.toString(), assetAsPlannedIds);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updateStatus(UUID importJobId, ImportJobStatus status, Instant completedOn) {
+        importJobRepository.updateStatus(importJobId.toString(), status, completedOn);
+    }
+
     @Override
     public ImportJob getImportJob(String importJobId) {
         try {
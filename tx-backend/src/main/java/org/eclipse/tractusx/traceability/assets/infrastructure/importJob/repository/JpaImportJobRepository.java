@@ -18,12 +18,36 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.infrastructure.importJob.repository;
 
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
 import org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model.ImportJobEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+
 @Repository
 public interface JpaImportJobRepository extends JpaRepository<ImportJobEntity, String>, JpaSpecificationExecutor<ImportJobEntity> {
 
+    @Modifying
+    @Query(value = """
+            INSERT INTO import_job_assets_as_built (import_job_id, asset_as_built_id)
+            SELECT :importJobId, asset.id FROM assets_as_built asset WHERE asset.id IN (:assetIds)
+            """, nativeQuery = true)
+    int addAssetsAsBuilt(@Param("importJobId") String importJobId, @Param("assetIds") List<String> assetIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO import_job_assets_as_planned (import_job_id, asset_as_planned_id)
+            SELECT :importJobId, asset.id FROM assets_as_planned asset WHERE asset.id IN (:assetIds)
+            """, nativeQuery = true)
+    int addAssetsAsPlanned(@Param("importJobId") String importJobId, @Param("assetIds") List<String> assetIds);
+
+    @Modifying
+    @Query("UPDATE ImportJobEntity importJob SET importJob.importJobStatus = :status, importJob.completedOn = :completedOn WHERE importJob.id = :importJobId")
+    int updateStatus(@Param("importJobId") String importJobId, @Param("status") ImportJobStatus status, @Param("completedOn") Instant completedOn);
 }
@@ -21,11 +21,18 @@ package org.eclipse.tractusx.traceability.bpn.domain.service;
 import bpn.request.BpnMappingRequest;
 import org.eclipse.tractusx.traceability.bpn.domain.model.BpnEdcMapping;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface BpnService {
     String findByBpn(String bpn);
 
+    /**
+     * Resolves the manufacturer names of the given BPNs in one go. BPNs without a known name are missing in the result.
+     */
+    Map<String, String> findManufacturerNames(Collection<String> bpns);
+
     List<BpnEdcMapping> findAllBpnMappings();
 
     List<BpnEdcMapping> saveAllBpnEdcMappings(List<BpnMappingRequest> bpnEdcMappings);
@@ -0,0 +1,69 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.bpn.infrastructure.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.tractusx.traceability.common.properties.BpnCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches the manufacturer names stored in bpn_storage. BPNs for which the BPDM returned no name are cached as
+ * {@link Optional#empty()}, so that they are not looked up again until the entry expires or the BPN is written.
+ */
+@Component
+public class BpnNameCache {
+
+    private final Cache<String, Optional<String>> cache;
+
+    public BpnNameCache(BpnCacheProperties bpnCacheProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(bpnCacheProperties.getMaximumSize())
+                .expireAfterWrite(bpnCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, bpnCacheProperties.getName());
+    }
+
+    public Map<String, Optional<String>> getAllPresent(Collection<String> bpns) {
+        return cache.getAllPresent(bpns);
+    }
+
+    public void put(String bpn, String manufacturerName) {
+        cache.put(bpn, Optional.ofNullable(manufacturerName));
+    }
+
+    public void invalidate(String bpn) {
+        cache.invalidate(bpn);
+    }
+
+    public void invalidateAll(Collection<String> bpns) {
+        cache.invalidateAll(bpns);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
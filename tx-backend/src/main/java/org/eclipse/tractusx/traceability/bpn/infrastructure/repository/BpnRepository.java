@@ -25,8 +25,10 @@ import org.eclipse.tractusx.traceability.bpn.domain.model.BpnEdcMapping;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BpnEntity;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartnerResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface BpnRepository {
 
@@ -36,12 +38,24 @@ public interface BpnRepository {
 
     boolean existsWhereUrlNotNull(String bpn);
 
+    /**
+     * Resolves the mapped EDC URLs of the given BPNs with one query, BPNs without mapped URL are missing in the result.
+     */
+    Map<String, String> findUrlsWhereUrlNotNull(Collection<String> bpns);
+
     List<BpnEdcMapping> saveAll(List<BpnMappingRequest> bpnEdcMappings);
 
     void deleteById(String bpn);
 
     String findManufacturerName(String manufacturerId);
 
+    /**
+     * Resolves the stored manufacturer names of the given BPNs with at most one query. BPNs for which the BPDM recently
+     * returned no name are mapped to {@link Optional#empty()}, all other BPNs without a stored name are missing in the
+     * result.
+     */
+    Map<String, Optional<String>> findManufacturerNames(Collection<String> manufacturerIds);
+
     void updateManufacturers(Map<String, String> bpns);
 
     BpnEntity save(BusinessPartnerResponse businessPartner);
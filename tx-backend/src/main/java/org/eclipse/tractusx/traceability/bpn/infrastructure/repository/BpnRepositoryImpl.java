@@ -30,8 +30,14 @@ import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartne
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.NameResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -39,6 +45,7 @@ import java.util.Map;
 public class BpnRepositoryImpl implements BpnRepository {
 
     private final JpaBpnRepository repository;
+    private final BpnNameCache bpnNameCache;
 
     @Override
     public BpnEdcMapping findByIdOrThrowNotFoundException(String bpn) {
@@ -53,6 +60,13 @@ public class BpnRepositoryImpl implements BpnRepository {
         return repository.existsByManufacturerIdAndUrlIsNotNull(manufacturerId);
     }
 
+    @Override
+    public Map<String, String> findUrlsWhereUrlNotNull(Collection<String> bpns) {
+        return repository.findAllById(bpns).stream()
+                .filter(bpnEntity -> bpnEntity.getUrl() != null)
+                .collect(Collectors.toMap(BpnEntity::getManufacturerId, BpnEntity::getUrl));
+    }
+
     @Override
     public List<BpnEdcMapping> findAllWhereUrlNotNull() {
         return repository.findAllByUrlNotNull().stream().map(this::toDTO).toList();
@@ -61,16 +75,36 @@ public class BpnRepositoryImpl implements BpnRepository {
     @Override
     public void deleteById(String bpn) {
         repository.deleteById(bpn);
+        bpnNameCache.invalidate(bpn);
     }
 
     @Override
     public String findManufacturerName(String manufacturerId) {
         if (manufacturerId != null) {
-            return repository.findById(manufacturerId).map(BpnEntity::getManufacturerName).orElse(null);
+            return findManufacturerNames(List.of(manufacturerId)).getOrDefault(manufacturerId, Optional.empty()).orElse(null);
         }
         return null;
     }
 
+    @Override
+    public Map<String, Optional<String>> findManufacturerNames(Collection<String> manufacturerIds) {
+        Set<String> distinctManufacturerIds = manufacturerIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<String, Optional<String>> manufacturerNames = new HashMap<>(bpnNameCache.getAllPresent(distinctManufacturerIds));
+
+        List<String> uncachedManufacturerIds = distinctManufacturerIds.stream()
+                .filter(manufacturerId -> !manufacturerNames.containsKey(manufacturerId))
+                .toList();
+        if (!uncachedManufacturerIds.isEmpty()) {
+            repository.findAllById(uncachedManufacturerIds).stream()
+                    .filter(bpnEntity -> bpnEntity.getManufacturerName() != null)
+                    .forEach(bpnEntity -> {
+                        bpnNameCache.put(bpnEntity.getManufacturerId(), bpnEntity.getManufacturerName());
+                        manufacturerNames.put(bpnEntity.getManufacturerId(), Optional.of(bpnEntity.getManufacturerName()));
+                    });
+        }
+        return manufacturerNames;
+    }
+
     @Override
     public void updateManufacturers(Map<String, String> bpns) {
         List<BpnEntity> entities = bpns.entrySet().stream()
@@ -87,6 +121,7 @@ public class BpnRepositoryImpl implements BpnRepository {
         } catch (Exception e) {
             log.warn("Exception in bpn mapping storage", e);
         }
+        bpnNameCache.invalidateAll(bpns.keySet());
     }
 
     @Override
@@ -95,13 +130,17 @@ public class BpnRepositoryImpl implements BpnRepository {
                 .filter(it -> StringUtils.isNotBlank(it.getValue()))
                 .findFirst().map(NameResponse::getValue).orElse(null);
         BpnEntity entity = BpnEntity.builder().manufacturerId(businessPartner.getBpn()).manufacturerName(value).build();
-        return repository.save(entity);
+        BpnEntity savedEntity = repository.save(entity);
+        bpnNameCache.put(savedEntity.getManufacturerId(), savedEntity.getManufacturerName());
+        return savedEntity;
     }
 
     @Override
     public List<BpnEdcMapping> saveAll(List<BpnMappingRequest> bpnEdcMappings) {
         List<BpnEntity> bpnEdcMappingEntities = bpnEdcMappings.stream().map(this::toEntity).toList();
-        return repository.saveAll(bpnEdcMappingEntities).stream().map(this::toDTO).toList();
+        List<BpnEdcMapping> savedMappings = repository.saveAll(bpnEdcMappingEntities).stream().map(this::toDTO).toList();
+        bpnNameCache.invalidateAll(bpnEdcMappings.stream().map(BpnMappingRequest::bpn).toList());
+        return savedMappings;
     }
 
     private BpnEdcMapping toDTO(BpnEntity entity) {
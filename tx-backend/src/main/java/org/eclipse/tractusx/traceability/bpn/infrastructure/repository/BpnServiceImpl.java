@@ -20,6 +20,8 @@
 package org.eclipse.tractusx.traceability.bpn.infrastructure.repository;
 
 import bpn.request.BpnMappingRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.traceability.bpn.domain.model.BpnEdcMapping;
@@ -28,27 +30,89 @@ import org.eclipse.tractusx.traceability.bpn.domain.service.BpnService;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.client.BpdmClient;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BpnEntity;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartnerResponse;
+import org.eclipse.tractusx.traceability.discovery.domain.service.DiscoveryCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.BPDM_LOOKUP_EXECUTOR;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BpnServiceImpl implements BpnService {
 
+    private static final String BPDM_LOOKUP_METRIC = "bpdm.lookup";
+
     private final BpnRepository bpnRepository;
     private final BpdmClient bpdmClient;
+    private final MeterRegistry meterRegistry;
+    @Qualifier(BPDM_LOOKUP_EXECUTOR)
+    private final ThreadPoolTaskExecutor bpdmLookupExecutor;
+    private final DiscoveryCache discoveryCache;
 
     @Override
     public String findByBpn(String bpn) {
-        String manufacturerName = bpnRepository.findManufacturerName(bpn);
-        if (manufacturerName == null && bpn != null) {
+        if (bpn == null) {
+            return null;
+        }
+        return findManufacturerNames(List.of(bpn)).get(bpn);
+    }
+
+    @Override
+    public Map<String, String> findManufacturerNames(Collection<String> bpns) {
+        Map<String, Optional<String>> storedManufacturerNames = bpnRepository.findManufacturerNames(bpns);
+
+        List<String> unknownBpns = bpns.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(bpn -> !storedManufacturerNames.containsKey(bpn))
+                .toList();
+        List<CompletableFuture<BusinessPartnerResponse>> lookups = unknownBpns.stream()
+                .map(bpn -> CompletableFuture.supplyAsync(() -> lookupBusinessPartner(bpn), bpdmLookupExecutor))
+                .toList();
+
+        Map<String, String> manufacturerNames = new HashMap<>();
+        storedManufacturerNames.forEach((bpn, manufacturerName) -> manufacturerName.ifPresent(name -> manufacturerNames.put(bpn, name)));
+        for (CompletableFuture<BusinessPartnerResponse> lookup : lookups) {
+            BpnEntity bpnEntity = bpnRepository.save(join(lookup));
+            if (bpnEntity.getManufacturerName() != null) {
+                manufacturerNames.put(bpnEntity.getManufacturerId(), bpnEntity.getManufacturerName());
+            }
+        }
+        return manufacturerNames;
+    }
+
+    private BusinessPartnerResponse lookupBusinessPartner(String bpn) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
             BusinessPartnerResponse businessPartner = bpdmClient.getBusinessPartner(bpn);
-            BpnEntity bpnEntity = bpnRepository.save(businessPartner);
-            manufacturerName = bpnEntity.getManufacturerName();
+            outcome = "success";
+            return businessPartner;
+        } finally {
+            sample.stop(meterRegistry.timer(BPDM_LOOKUP_METRIC, "outcome", outcome));
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
         }
-        return manufacturerName;
     }
 
     @Override
@@ -58,7 +122,9 @@ public class BpnServiceImpl implements BpnService {
 
     @Override
     public List<BpnEdcMapping> saveAllBpnEdcMappings(List<BpnMappingRequest> bpnEdcMappings) {
-        return bpnRepository.saveAll(bpnEdcMappings);
+        List<BpnEdcMapping> savedMappings = bpnRepository.saveAll(bpnEdcMappings);
+        discoveryCache.invalidateAll(bpnEdcMappings.stream().map(BpnMappingRequest::bpn).toList());
+        return savedMappings;
     }
 
     @Override
@@ -68,13 +134,16 @@ public class BpnServiceImpl implements BpnService {
                 log.warn("Cannot update mapping of bpn {}, therefore will be created", bpnEdcMappingRequest.bpn());
             }
         });
-        return bpnRepository.saveAll(bpnEdcMappings);
+        List<BpnEdcMapping> savedMappings = bpnRepository.saveAll(bpnEdcMappings);
+        discoveryCache.invalidateAll(bpnEdcMappings.stream().map(BpnMappingRequest::bpn).toList());
+        return savedMappings;
     }
 
     @Override
     public void deleteBpnMapping(String bpn) {
         if (bpnRepository.existsWhereUrlNotNull(bpn)) {
             bpnRepository.deleteById(bpn);
+            discoveryCache.invalidateAll(List.of(bpn));
             return;
         }
         throw new BpnNotFoundException("Could not find BPN EDC Mapping for BPN " + bpn);
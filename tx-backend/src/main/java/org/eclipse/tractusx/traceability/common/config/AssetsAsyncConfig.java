@@ -21,18 +21,40 @@
 
 package org.eclipse.tractusx.traceability.common.config;
 
+import org.eclipse.tractusx.traceability.common.properties.BpnCacheProperties;
+import org.eclipse.tractusx.traceability.common.properties.DiscoveryCacheProperties;
+import org.eclipse.tractusx.traceability.common.properties.ImportValidationProperties;
+import org.eclipse.tractusx.traceability.common.properties.IrsCallbackQueueProperties;
+import org.eclipse.tractusx.traceability.common.properties.NotificationFanOutProperties;
+import org.eclipse.tractusx.traceability.common.properties.NotificationInboxProperties;
+import org.eclipse.tractusx.traceability.common.properties.NotificationOutboxProperties;
+import org.eclipse.tractusx.traceability.common.properties.PublishAssetsProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class AssetsAsyncConfig {
 
     public static final String SYNCHRONIZE_ASSETS_EXECUTOR = "synchronizeAssetsExecutor";
+    public static final String SYNCHRONIZE_ASSETS_REQUEST_EXECUTOR = "synchronizeAssetsRequestExecutor";
     public static final String LOAD_SHELL_DESCRIPTORS_EXECUTOR = "loadShellDescriptorsExecutor";
-    public static final String UPDATE_NOTIFICATION_EXECUTOR = "updateNotificationExecutor";
+    public static final String NOTIFICATION_OUTBOX_EXECUTOR = "notificationOutboxExecutor";
+    public static final String NOTIFICATION_INBOX_EXECUTOR = "notificationInboxExecutor";
 
     public static final String PUBLISH_ASSETS_EXECUTOR = "publishAssetsExecutor";
+    public static final String IRS_CALLBACK_EXECUTOR = "irsCallbackExecutor";
+    public static final String BPDM_LOOKUP_EXECUTOR = "bpdmLookupExecutor";
+    public static final String NOTIFICATION_FAN_OUT_EXECUTOR = "notificationFanOutExecutor";
+    public static final String DISCOVERY_LOOKUP_EXECUTOR = "discoveryLookupExecutor";
+    public static final String IMPORT_VALIDATION_EXECUTOR = "importValidationExecutor";
+    public static final String SUBMODEL_SERVER_EXECUTOR = "submodelServerExecutor";
+    public static final String DTR_EXECUTOR = "dtrExecutor";
+
+    private static final int SYNCHRONIZE_ASSETS_QUEUE_CAPACITY = 1000;
+    private static final int SYNCHRONIZE_ASSETS_REQUEST_QUEUE_CAPACITY = 100;
 
     @Bean(name = PUBLISH_ASSETS_EXECUTOR)
     public ThreadPoolTaskExecutor publishAssetsExecutor() {
@@ -48,10 +70,25 @@ public class AssetsAsyncConfig {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(100);
+        executor.setQueueCapacity(SYNCHRONIZE_ASSETS_QUEUE_CAPACITY);
+        // synchronizations which do not fit into the queue are run by the caller, which slows down the producer. Only
+        // background producers submit here, synchronizations requested over the api use the request executor
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setThreadNamePrefix("%s-".formatted(SYNCHRONIZE_ASSETS_EXECUTOR));
         return executor;
     }
 
+    @Bean(name = SYNCHRONIZE_ASSETS_REQUEST_EXECUTOR)
+    public ThreadPoolTaskExecutor synchronizeAssetsRequestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(10);
+        executor.setQueueCapacity(SYNCHRONIZE_ASSETS_REQUEST_QUEUE_CAPACITY);
+        // requests which do not fit into the queue are rejected instead of blocking the web thread, see ErrorHandlingConfig
+        executor.setThreadNamePrefix("%s-".formatted(SYNCHRONIZE_ASSETS_REQUEST_EXECUTOR));
+        return executor;
+    }
+
     @Bean(name = LOAD_SHELL_DESCRIPTORS_EXECUTOR)
     public ThreadPoolTaskExecutor loadShellDescriptorsExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -63,13 +100,95 @@ public class AssetsAsyncConfig {
         return executor;
     }
 
-    @Bean(name = UPDATE_NOTIFICATION_EXECUTOR)
-    public ThreadPoolTaskExecutor updateNotificationExecutor() {
+    @Bean(name = NOTIFICATION_OUTBOX_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationOutboxExecutor(NotificationOutboxProperties notificationOutboxProperties) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(100);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("%s-".formatted(UPDATE_NOTIFICATION_EXECUTOR));
+        executor.setCorePoolSize(notificationOutboxProperties.getWorkerPoolSize());
+        executor.setMaxPoolSize(notificationOutboxProperties.getWorkerPoolSize());
+        executor.setQueueCapacity(notificationOutboxProperties.getWorkerPoolSize());
+        executor.setThreadNamePrefix("%s-".formatted(NOTIFICATION_OUTBOX_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = NOTIFICATION_INBOX_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationInboxExecutor(NotificationInboxProperties notificationInboxProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationInboxProperties.getWorkerPoolSize());
+        executor.setMaxPoolSize(notificationInboxProperties.getWorkerPoolSize());
+        executor.setQueueCapacity(notificationInboxProperties.getWorkerPoolSize());
+        executor.setThreadNamePrefix("%s-".formatted(NOTIFICATION_INBOX_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = IRS_CALLBACK_EXECUTOR)
+    public ThreadPoolTaskExecutor irsCallbackExecutor(IrsCallbackQueueProperties irsCallbackQueueProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(irsCallbackQueueProperties.getWorkerPoolSize());
+        executor.setMaxPoolSize(irsCallbackQueueProperties.getWorkerPoolSize());
+        executor.setQueueCapacity(irsCallbackQueueProperties.getWorkerPoolSize());
+        executor.setThreadNamePrefix("%s-".formatted(IRS_CALLBACK_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = BPDM_LOOKUP_EXECUTOR)
+    public ThreadPoolTaskExecutor bpdmLookupExecutor(BpnCacheProperties bpnCacheProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bpnCacheProperties.getLookupParallelism());
+        executor.setMaxPoolSize(bpnCacheProperties.getLookupParallelism());
+        executor.setThreadNamePrefix("%s-".formatted(BPDM_LOOKUP_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = NOTIFICATION_FAN_OUT_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationFanOutExecutor(NotificationFanOutProperties notificationFanOutProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationFanOutProperties.getParallelism());
+        executor.setMaxPoolSize(notificationFanOutProperties.getParallelism());
+        executor.setThreadNamePrefix("%s-".formatted(NOTIFICATION_FAN_OUT_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = DISCOVERY_LOOKUP_EXECUTOR)
+    public ThreadPoolTaskExecutor discoveryLookupExecutor(DiscoveryCacheProperties discoveryCacheProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(discoveryCacheProperties.getLookupParallelism());
+        executor.setMaxPoolSize(discoveryCacheProperties.getLookupParallelism());
+        executor.setThreadNamePrefix("%s-".formatted(DISCOVERY_LOOKUP_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = IMPORT_VALIDATION_EXECUTOR)
+    public ThreadPoolTaskExecutor importValidationExecutor(ImportValidationProperties importValidationProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(importValidationProperties.getParallelism());
+        executor.setMaxPoolSize(importValidationProperties.getParallelism());
+        executor.setThreadNamePrefix("%s-".formatted(IMPORT_VALIDATION_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = SUBMODEL_SERVER_EXECUTOR)
+    public ThreadPoolTaskExecutor submodelServerExecutor(PublishAssetsProperties publishAssetsProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(publishAssetsProperties.getSubmodelServerParallelism());
+        executor.setMaxPoolSize(publishAssetsProperties.getSubmodelServerParallelism());
+        executor.setThreadNamePrefix("%s-".formatted(SUBMODEL_SERVER_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = DTR_EXECUTOR)
+    public ThreadPoolTaskExecutor dtrExecutor(PublishAssetsProperties publishAssetsProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(publishAssetsProperties.getDtrParallelism());
+        executor.setMaxPoolSize(publishAssetsProperties.getDtrParallelism());
+        executor.setThreadNamePrefix("%s-".formatted(DTR_EXECUTOR));
 
         return executor;
     }
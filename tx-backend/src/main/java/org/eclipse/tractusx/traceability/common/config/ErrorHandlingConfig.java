@@ -38,10 +38,12 @@ import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.Impor
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.PolicyBadRequestException;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.PolicyNotFoundException;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.PublishAssetException;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.exception.IrsCallbackQueueFullException;
 import org.eclipse.tractusx.traceability.bpn.domain.model.BpnNotFoundException;
 import org.eclipse.tractusx.traceability.common.domain.ParseLocalDateException;
 import org.eclipse.tractusx.traceability.common.model.UnsupportedSearchCriteriaFieldException;
 import org.eclipse.tractusx.traceability.common.request.exception.InvalidFilterException;
+import org.eclipse.tractusx.traceability.common.request.exception.InvalidCursorException;
 import org.eclipse.tractusx.traceability.common.request.exception.InvalidSortException;
 import org.eclipse.tractusx.traceability.common.security.TechnicalUserAuthorizationException;
 import org.eclipse.tractusx.traceability.contracts.domain.exception.ContractException;
@@ -54,6 +56,7 @@ import org.eclipse.tractusx.traceability.notification.domain.notification.except
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.InvestigationReceiverBpnMismatchException;
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.InvestigationStatusTransitionNotAllowed;
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationIllegalUpdate;
+import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationInboxFullException;
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationNotFoundException;
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationNotSupportedException;
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationSenderAndReceiverBPNEqualException;
@@ -65,6 +68,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -225,6 +229,27 @@ public class ErrorHandlingConfig implements AuthenticationFailureHandler {
                 .body(new ErrorResponse(exception.getMessage()));
     }
 
+    @ExceptionHandler(IrsCallbackQueueFullException.class)
+    ResponseEntity<ErrorResponse> handleIrsCallbackQueueFullException(IrsCallbackQueueFullException exception) {
+        log.warn("handleIrsCallbackQueueFullException", exception);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ErrorResponse(exception.getMessage()));
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException exception) {
+        log.warn("handleTaskRejectedException", exception);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ErrorResponse("Too many requests are in progress, please try again later."));
+    }
+
+    @ExceptionHandler(NotificationInboxFullException.class)
+    ResponseEntity<ErrorResponse> handleNotificationInboxFullException(NotificationInboxFullException exception) {
+        log.warn("handleNotificationInboxFullException", exception);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ErrorResponse(exception.getMessage()));
+    }
+
     @ExceptionHandler(PublishAssetException.class)
     ResponseEntity<ErrorResponse> handlePublishAssetException(PublishAssetException exception) {
         log.warn("handlePublishAssetException", exception);
@@ -420,6 +445,14 @@ public class ErrorHandlingConfig implements AuthenticationFailureHandler {
                 .body(new ErrorResponse(exception.getMessage()));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(final InvalidCursorException exception) {
+        log.error("InvalidCursorException exception", exception);
+
+        return ResponseEntity.status(BAD_REQUEST)
+                .body(new ErrorResponse(exception.getMessage()));
+    }
+
     @ExceptionHandler(SubmodelNotFoundException.class)
     ResponseEntity<ErrorResponse> handleSubmodelNotFoundException(SubmodelNotFoundException exception) {
         String errorMessage = exception
@@ -0,0 +1,46 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Requests a page in cursor mode. The page is continued after the position encoded in the cursor instead of being
+ * skipped to by offset, an empty cursor requests the first page.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class CursorPageRequest extends PageRequest {
+
+    private final String cursor;
+    private final boolean skipCount;
+
+    public CursorPageRequest(int size, Sort sort, String cursor, boolean skipCount) {
+        super(0, size, sort);
+        this.cursor = cursor;
+        this.skipCount = skipCount;
+    }
+
+    public boolean isFirstPage() {
+        return cursor.isEmpty();
+    }
+}
@@ -22,6 +22,7 @@
 package org.eclipse.tractusx.traceability.common.model;
 
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.beans.support.PagedListHolder;
@@ -41,9 +42,16 @@ public record PageResult<T>(
         @Schema(example = "10")
         Integer pageSize,
         @Schema(example = "2")
-        Long totalItems
+        Long totalItems,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Continuation token of the next page in cursor mode, absent on the last page")
+        String nextCursor
 ) {
 
+    public PageResult(List<T> content, Integer page, Integer pageCount, Integer pageSize, Long totalItems) {
+        this(content, page, pageCount, pageSize, totalItems, null);
+    }
+
     public PageResult(List<T> data) {
         this(new PagedListHolder<>(data));
     }
@@ -0,0 +1,50 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("notification-fan-out")
+public class NotificationFanOutProperties {
+
+    private Strategy strategy = Strategy.PARALLEL;
+    private Duration connectorTimeout = Duration.ofMinutes(2);
+    private int parallelism = 20;
+
+    public enum Strategy {
+        /**
+         * The notification is sent to all connectors of the receiver at the same time.
+         */
+        PARALLEL,
+        /**
+         * The notification is sent to all connectors of the receiver at the same time, the remaining connectors are
+         * cancelled as soon as one of them received the notification.
+         */
+        FIRST_SUCCESS
+    }
+
+}
@@ -55,4 +55,8 @@ public class TraceabilityProperties {
     private String irsBase;
     private String submodelBase;
 
+    private int irsCallbackChunkSize = 500;
+
+    private boolean irsResponseStreaming = true;
+
 }
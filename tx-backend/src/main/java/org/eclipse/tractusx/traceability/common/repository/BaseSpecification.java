@@ -20,10 +20,12 @@
 package org.eclipse.tractusx.traceability.common.repository;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.Getter;
 import org.eclipse.tractusx.traceability.common.domain.ParseLocalDateException;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteriaFilter;
@@ -34,12 +36,11 @@ import org.springframework.data.jpa.domain.Specification;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
-import static java.util.stream.Collectors.groupingBy;
 import static org.eclipse.tractusx.traceability.common.model.SearchCriteriaStrategy.AFTER_LOCAL_DATE;
 import static org.eclipse.tractusx.traceability.common.model.SearchCriteriaStrategy.BEFORE_LOCAL_DATE;
 import static org.eclipse.tractusx.traceability.common.model.SearchCriteriaStrategy.EXCLUDE;
@@ -54,10 +55,33 @@ public abstract class BaseSpecification<T> implements Specification<T> {
         this.searchCriteriaFilter = searchCriteriaFilter;
     }
 
-    protected Predicate createPredicate(SearchCriteriaFilter criteria, Root<?> root, CriteriaBuilder builder) {
+    /**
+     * Filters on a to-many association (key joinTable_field) are evaluated in a correlated EXISTS subquery per
+     * criterion, so they neither multiply the rows of the result nor tie independent criteria to the same associated
+     * row. Filters on a to-one association share one join per association.
+     */
+    protected Predicate createPredicate(SearchCriteriaFilter criteria, Root<?> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        if (!isJoinQueryFieldName(criteria.getKey())) {
+            return createPredicate(criteria, root.get(criteria.getKey()), builder);
+        }
+
+        String joinTableName = getJoinTableName(criteria.getKey());
+        String joinTableFieldName = getJoinTableFieldName(criteria.getKey());
+        if (root.getModel().getAttribute(joinTableName).isCollection()) {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Join<?, ?> join = correlate(subquery, root).join(joinTableName);
+            Predicate joinedPredicate = createPredicate(criteria, join.get(joinTableFieldName), builder);
+            if (joinedPredicate == null) {
+                return null;
+            }
+            return builder.exists(subquery.select(builder.literal(1)).where(joinedPredicate));
+        }
+        return createPredicate(criteria, getOrCreateJoin(root, joinTableName).get(joinTableFieldName), builder);
+    }
+
+    private Predicate createPredicate(SearchCriteriaFilter criteria, Path<Object> fieldPath, CriteriaBuilder builder) {
         String expectedFieldValue = criteria.getValue();
         String fieldName = getJoinTableFieldName(criteria.getKey());
-        Path<Object> fieldPath = getFieldPath(root, criteria);
 
         if (SearchCriteriaStrategy.EXCLUDE.equals(criteria.getStrategy())) {
             return builder.notEqual(
@@ -100,12 +124,15 @@ public abstract class BaseSpecification<T> implements Specification<T> {
         return null;
     }
 
-    private Path<Object> getFieldPath(Root<?> root, SearchCriteriaFilter criteria) {
-        if (isJoinQueryFieldName(criteria.getKey())) {
-            Join<?, ?> join = root.join(getJoinTableName(criteria.getKey()));
-            return join.get(getJoinTableFieldName(criteria.getKey()));
-        }
-        return root.get(criteria.getKey());
+    private static <Y> Root<Y> correlate(Subquery<?> subquery, Root<Y> root) {
+        return subquery.correlate(root);
+    }
+
+    private static Join<?, ?> getOrCreateJoin(Root<?> root, String joinTableName) {
+        return root.getJoins().stream()
+                .filter(join -> joinTableName.equals(join.getAttribute().getName()))
+                .findFirst()
+                .orElseGet(() -> root.join(joinTableName));
     }
 
     private static LocalDate getParseLocalDate(String fieldValue, String fieldName) {
@@ -135,70 +162,55 @@ public abstract class BaseSpecification<T> implements Specification<T> {
             return null;
         }
 
-        Map<String, List<BaseSpecification<T>>> groupedSpecifications = specifications.stream()
-                .collect(groupingBy(spec -> spec.getSearchCriteriaFilter().getKey()));
-
-        Map<FieldOperatorMap, Specification<T>> fieldSpecsByFieldName = groupedSpecifications.values().stream()
-                .map(BaseSpecification::combineFieldSpecifications)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-        return combineSpecifications(fieldSpecsByFieldName);
-    }
-
-    // Combines all fields into one specification
-    private static <T> Specification<T> combineSpecifications(Map<FieldOperatorMap, Specification<T>> fieldSpecsByFieldName) {
-        List<Specification<T>> andSpecifications = extractSpecificationsWithOperator(fieldSpecsByFieldName, SearchCriteriaOperator.AND);
-        List<Specification<T>> orSpecifications = extractSpecificationsWithOperator(fieldSpecsByFieldName, SearchCriteriaOperator.OR);
+        Map<String, List<BaseSpecification<T>>> specificationsByFieldName = new LinkedHashMap<>();
+        specifications.forEach(spec -> specificationsByFieldName
+                .computeIfAbsent(spec.getSearchCriteriaFilter().getKey(), fieldName -> new ArrayList<>())
+                .add(spec));
+
+        List<Specification<T>> andSpecifications = new ArrayList<>();
+        List<Specification<T>> orSpecifications = new ArrayList<>();
+        specificationsByFieldName.values().forEach(fieldSpecifications -> {
+            SearchCriteriaOperator operator = fieldSpecifications.get(0).getSearchCriteriaFilter().getOperator();
+            if (SearchCriteriaOperator.AND.equals(operator)) {
+                andSpecifications.add(combineFieldSpecifications(fieldSpecifications));
+            } else if (SearchCriteriaOperator.OR.equals(operator)) {
+                orSpecifications.add(combineFieldSpecifications(fieldSpecifications));
+            }
+        });
 
         return Specification.where(combineSpecificationsWith(andSpecifications, SearchCriteriaOperator.AND))
                 .and(combineSpecificationsWith(orSpecifications, SearchCriteriaOperator.OR));
     }
 
-    private static <T> List<Specification<T>> extractSpecificationsWithOperator(Map<FieldOperatorMap, Specification<T>> fieldSpecsByFieldName, SearchCriteriaOperator searchCriteriaOperator) {
-        return fieldSpecsByFieldName.entrySet().stream()
-                .filter(entry -> searchCriteriaOperator.equals(entry.getKey().operator))
-                .map(Map.Entry::getValue)
-                .toList();
-    }
-
-
-    // Combines specific field specifications
-    private static <T> Map.Entry<FieldOperatorMap, Specification<T>> combineFieldSpecifications(List<BaseSpecification<T>> specifications) {
-        FieldOperatorMap fieldOperatorMap = FieldOperatorMap.builder()
-                .fieldName(specifications.get(0).searchCriteriaFilter.getKey())
-                .operator(specifications.get(0).searchCriteriaFilter.getOperator())
-                .build();
-
-        Specification<T> result;
-        if (hasBeforePredicate(specifications) && hasAfterPredicate(specifications) && dateRangesOverlap(specifications)) {
-            result = combineSpecificationsWith(
-                    specifications.stream().map(baseSpec -> (Specification<T>) baseSpec).toList(),
-                    SearchCriteriaOperator.AND);
-        } else if (hasExcludePredicate(specifications)) {
-            result = combineSpecificationsWith(
-                    specifications.stream().map(baseSpec -> (Specification<T>) baseSpec).toList(),
-                    SearchCriteriaOperator.AND);
-        } else {
-            result = combineSpecificationsWith(
-                    specifications.stream().map(baseSpec -> (Specification<T>) baseSpec).toList(),
-                    SearchCriteriaOperator.OR);
+    // Combines the specifications of one field, evaluating the strategies of its criteria in a single pass
+    private static <T> Specification<T> combineFieldSpecifications(List<BaseSpecification<T>> specifications) {
+        SearchCriteriaFilter before = null;
+        SearchCriteriaFilter after = null;
+        boolean hasExclude = false;
+        for (BaseSpecification<T> specification : specifications) {
+            SearchCriteriaFilter filter = specification.getSearchCriteriaFilter();
+            if (BEFORE_LOCAL_DATE.equals(filter.getStrategy()) && before == null) {
+                before = filter;
+            } else if (AFTER_LOCAL_DATE.equals(filter.getStrategy()) && after == null) {
+                after = filter;
+            } else if (EXCLUDE.equals(filter.getStrategy())) {
+                hasExclude = true;
+            }
         }
 
-        return Map.entry(fieldOperatorMap, result);
+        boolean combineWithAnd = hasExclude || dateRangesOverlap(before, after);
+        return combineSpecificationsWith(new ArrayList<>(specifications),
+                combineWithAnd ? SearchCriteriaOperator.AND : SearchCriteriaOperator.OR);
     }
 
-    private static <T> boolean dateRangesOverlap(List<BaseSpecification<T>> specifications) {
-        Optional<BaseSpecification<T>> before = specifications.stream().filter(BaseSpecification::isBeforePredicate).findFirst();
-        Optional<BaseSpecification<T>> after = specifications.stream().filter(BaseSpecification::isAfterPredicate).findFirst();
-
-        if (before.isEmpty() || after.isEmpty()) {
+    private static boolean dateRangesOverlap(SearchCriteriaFilter before, SearchCriteriaFilter after) {
+        if (before == null || after == null) {
             return false;
         }
 
-        LocalDate beforeDate = getParseLocalDate(before.get().searchCriteriaFilter.getValue(), before.get().searchCriteriaFilter.getKey());
-        LocalDate afterDate = getParseLocalDate(after.get().searchCriteriaFilter.getValue(), after.get().searchCriteriaFilter.getKey());
+        LocalDate beforeDate = getParseLocalDate(before.getValue(), before.getKey());
+        LocalDate afterDate = getParseLocalDate(after.getValue(), after.getKey());
         return beforeDate.isAfter(afterDate);
-
     }
 
     private static <T> Specification<T> combineSpecificationsWith(List<Specification<T>> specifications, SearchCriteriaOperator searchCriteriaOperator) {
@@ -215,24 +227,4 @@ public abstract class BaseSpecification<T> implements Specification<T> {
         }
         return result;
     }
-
-    private static <T> boolean hasBeforePredicate(List<BaseSpecification<T>> specifications) {
-        return !specifications.stream().filter(spec -> BEFORE_LOCAL_DATE.equals(spec.getSearchCriteriaFilter().getStrategy())).toList().isEmpty();
-    }
-
-    private static <T> boolean hasExcludePredicate(List<BaseSpecification<T>> specifications) {
-        return !specifications.stream().filter(spec -> EXCLUDE.equals(spec.getSearchCriteriaFilter().getStrategy())).toList().isEmpty();
-    }
-
-    private static <T> boolean isBeforePredicate(BaseSpecification<T> specification) {
-        return BEFORE_LOCAL_DATE.equals(specification.getSearchCriteriaFilter().getStrategy());
-    }
-
-    private static <T> boolean hasAfterPredicate(List<BaseSpecification<T>> specifications) {
-        return !specifications.stream().filter(spec -> AFTER_LOCAL_DATE.equals(spec.getSearchCriteriaFilter().getStrategy())).toList().isEmpty();
-    }
-
-    private static <T> boolean isAfterPredicate(BaseSpecification<T> specification) {
-        return AFTER_LOCAL_DATE.equals(specification.getSearchCriteriaFilter().getStrategy());
-    }
 }
@@ -0,0 +1,129 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.experimental.UtilityClass;
+import org.eclipse.tractusx.traceability.common.model.CursorPageRequest;
+import org.eclipse.tractusx.traceability.common.model.PageResult;
+import org.eclipse.tractusx.traceability.common.request.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads pages either by offset or, for a {@link CursorPageRequest}, by keyset. In cursor mode the page continues after
+ * the sort key and id of the last item of the previous page, which keeps the cost per page constant, and the total
+ * count is only queried unless skipped.
+ */
+@UtilityClass
+public class KeysetPaging {
+
+    private static final ObjectMapper CURSOR_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public static <E, T> PageResult<T> findPage(JpaSpecificationExecutor<E> repository, Class<E> entityClass,
+                                                @Nullable Specification<E> specification, Pageable pageable,
+                                                Function<E, T> mapping) {
+        if (!(pageable instanceof CursorPageRequest cursorPageRequest)) {
+            return new PageResult<>(repository.findAll(specification, pageable), mapping);
+        }
+
+        KeysetScrollPosition position = decode(cursorPageRequest, entityClass);
+        Specification<E> where = Specification.where(specification);
+        Sort sort = cursorPageRequest.getSort();
+        int pageSize = cursorPageRequest.getPageSize();
+        Window<E> window = repository.findBy(where, query -> query
+                .sortBy(sort)
+                .limit(pageSize)
+                .scroll(position));
+
+        String nextCursor = window.hasNext() ? encode(sort, window.positionAt(window.size() - 1)) : null;
+        Long totalItems = cursorPageRequest.isSkipCount() ? null : repository.count(where);
+        Integer pageCount = totalItems == null ? null : (int) Math.ceil((double) totalItems / pageSize);
+
+        return new PageResult<>(window.map(mapping).getContent(), null, pageCount, pageSize, totalItems, nextCursor);
+    }
+
+    private static KeysetScrollPosition decode(CursorPageRequest cursorPageRequest, Class<?> entityClass) {
+        if (cursorPageRequest.isFirstPage()) {
+            return ScrollPosition.keyset();
+        }
+        Cursor cursor;
+        try {
+            cursor = CURSOR_MAPPER.readValue(Base64.getUrlDecoder().decode(cursorPageRequest.getCursor()), Cursor.class);
+        } catch (IllegalArgumentException | IOException exception) {
+            throw new InvalidCursorException("Invalid cursor provided", exception);
+        }
+        if (cursor.keys() == null || !cursorPageRequest.getSort().toString().equals(cursor.sort())) {
+            throw new InvalidCursorException("Cursor does not match the requested sort order");
+        }
+
+        TypeInformation<?> entityType = TypeInformation.of(entityClass);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        cursor.keys().forEach((property, value) -> keys.put(property, toPropertyType(entityType, property, value)));
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Object toPropertyType(TypeInformation<?> entityType, String property, @Nullable Object value) {
+        TypeInformation<?> propertyType = entityType.getProperty(property);
+        if (propertyType == null) {
+            throw new InvalidCursorException("Cursor contains unknown property %s".formatted(property));
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return CURSOR_MAPPER.convertValue(value, propertyType.getType());
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidCursorException("Cursor contains invalid value for property %s".formatted(property), exception);
+        }
+    }
+
+    private static String encode(Sort sort, ScrollPosition position) {
+        try {
+            Cursor cursor = new Cursor(sort.toString(), ((KeysetScrollPosition) position).getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(CURSOR_MAPPER.writeValueAsBytes(cursor));
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private record Cursor(String sort, Map<String, Object> keys) {
+    }
+}
@@ -26,6 +26,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.eclipse.tractusx.traceability.common.model.BaseRequestFieldMapper;
+import org.eclipse.tractusx.traceability.common.model.CursorPageRequest;
 import org.eclipse.tractusx.traceability.common.model.UnsupportedSearchCriteriaFieldException;
 import org.eclipse.tractusx.traceability.common.request.exception.InvalidSortException;
 import org.springframework.data.domain.PageRequest;
@@ -45,6 +46,14 @@ public class OwnPageable {
     private Integer size;
     @ArraySchema(arraySchema = @Schema(description = "Content of Assets PageResults", additionalProperties = Schema.AdditionalPropertiesValue.FALSE, example = "manufacturerPartId,desc"), maxItems = Integer.MAX_VALUE)
     private List<String> sort;
+    @Schema(description = "Continuation token of the previous page for cursor paging, an empty value requests the first page in cursor mode. Cursor paging ignores page.")
+    private String cursor;
+    @Schema(description = "Skips counting the total number of items in cursor mode", example = "false")
+    private Boolean skipCount;
+
+    public OwnPageable(Integer page, Integer size, List<String> sort) {
+        this(page, size, sort, null, null);
+    }
 
     public static Pageable toPageable(OwnPageable ownPageable, BaseRequestFieldMapper fieldMapper) {
         int usedPage = 0;
@@ -64,6 +73,10 @@ public class OwnPageable {
             usedSort = toDomainSort(ownPageable.getSort(), fieldMapper);
         }
 
+        if (ownPageable.cursor != null) {
+            return new CursorPageRequest(usedPageSize, usedSort, ownPageable.cursor, Boolean.TRUE.equals(ownPageable.skipCount));
+        }
+
         return PageRequest.of(usedPage, usedPageSize, usedSort);
     }
 
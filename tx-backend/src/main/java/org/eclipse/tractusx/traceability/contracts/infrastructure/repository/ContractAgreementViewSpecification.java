@@ -37,6 +37,6 @@ public class ContractAgreementViewSpecification extends BaseSpecification<Contra
 
     @Override
     public Predicate toPredicate(@NotNull Root<ContractAgreementViewEntity> root, @NotNull CriteriaQuery<?> query, @NotNull CriteriaBuilder builder) {
-        return createPredicate(getSearchCriteriaFilter(), root, builder);
+        return createPredicate(getSearchCriteriaFilter(), root, query, builder);
     }
 }
@@ -25,18 +25,19 @@ import org.eclipse.tractusx.irs.edc.client.contract.service.EdcContractAgreement
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.eclipse.tractusx.traceability.common.repository.BaseSpecification;
+import org.eclipse.tractusx.traceability.common.repository.KeysetPaging;
 import org.eclipse.tractusx.traceability.contracts.domain.exception.ContractException;
 import org.eclipse.tractusx.traceability.contracts.domain.model.Contract;
 import org.eclipse.tractusx.traceability.contracts.domain.model.ContractType;
 import org.eclipse.tractusx.traceability.contracts.domain.repository.ContractRepositoryReadOnly;
 import org.eclipse.tractusx.traceability.contracts.infrastructure.model.ContractAgreementBaseEntity;
 import org.eclipse.tractusx.traceability.contracts.infrastructure.model.ContractAgreementViewEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
@@ -61,13 +62,13 @@ public class ContractViewRepositoryImpl extends ContractRepositoryImplBase imple
                     .map(ContractAgreementViewSpecification::new)
                     .toList();
             Specification<ContractAgreementViewEntity> specification = BaseSpecification.toSpecification(contractAgreementSpecifications);
-            Page<ContractAgreementViewEntity> contractAgreementEntities = contractAgreementRepository.findAll(specification, pageable);
+            PageResult<ContractAgreementViewEntity> contractAgreementEntities = KeysetPaging.findPage(contractAgreementRepository, ContractAgreementViewEntity.class, specification, pageable, Function.identity());
 
-            if (contractAgreementEntities.getContent().isEmpty()) {
+            if (contractAgreementEntities.content().isEmpty()) {
                 log.warn("Cannot find contract agreement Ids for asset ids in searchCriteria: " + searchCriteria.getSearchCriteriaFilterList());
                 return new PageResult<>(List.of(), 0, 0, 0, 0L);
             }
-            List<ContractAgreementBaseEntity> baseEntities = contractAgreementEntities.getContent()
+            List<ContractAgreementBaseEntity> baseEntities = contractAgreementEntities.content()
                     .stream()
                     .map(ContractAgreementBaseEntity.class::cast)
                     .toList();
@@ -89,10 +90,11 @@ public class ContractViewRepositoryImpl extends ContractRepositoryImplBase imple
                     .toList();
 
             return new PageResult<>(contracts,
-                    contractAgreementEntities.getPageable().getPageNumber(),
-                    contractAgreementEntities.getTotalPages(),
-                    contractAgreementEntities.getPageable().getPageSize(),
-                    contractAgreementEntities.getTotalElements());
+                    contractAgreementEntities.page(),
+                    contractAgreementEntities.pageCount(),
+                    contractAgreementEntities.pageSize(),
+                    contractAgreementEntities.totalItems(),
+                    contractAgreementEntities.nextCursor());
 
         } catch (ContractAgreementException e) {
             throw new ContractException(e);
@@ -20,8 +20,12 @@ package org.eclipse.tractusx.traceability.discovery.domain.repository;
 
 import org.eclipse.tractusx.traceability.discovery.domain.model.Discovery;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface DiscoveryRepository {
     Optional<Discovery> retrieveDiscoveryByFinderAndEdcDiscoveryService(String bpn);
+
+    Map<String, Discovery> retrieveDiscoveriesByFinderAndEdcDiscoveryService(Collection<String> bpns);
 }
@@ -0,0 +1,88 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.discovery.domain.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.tractusx.traceability.common.properties.DiscoveryCacheProperties;
+import org.eclipse.tractusx.traceability.discovery.domain.model.Discovery;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.DISCOVERY_LOOKUP_EXECUTOR;
+
+/**
+ * Caches the resolved {@link Discovery} per BPN. Concurrent lookups of the same BPN wait for a single resolution, which
+ * runs on the discovery lookup executor. Failed resolutions are not cached, changed BPN mappings invalidate the entry.
+ */
+@Component
+public class DiscoveryCache {
+
+    private final AsyncCache<String, Discovery> cache;
+
+    public DiscoveryCache(DiscoveryCacheProperties discoveryCacheProperties,
+                          MeterRegistry meterRegistry,
+                          @Qualifier(DISCOVERY_LOOKUP_EXECUTOR) ThreadPoolTaskExecutor discoveryLookupExecutor) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(discoveryCacheProperties.getMaximumSize())
+                .expireAfterWrite(discoveryCacheProperties.getExpireAfterWrite())
+                .executor(discoveryLookupExecutor)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, discoveryCacheProperties.getName());
+    }
+
+    public Discovery get(String bpn, Function<String, Discovery> resolver) {
+        return join(cache.get(bpn, resolver));
+    }
+
+    public Map<String, Discovery> getAll(Collection<String> bpns, Function<Set<String>, Map<String, Discovery>> resolver) {
+        return join(cache.getAll(bpns, (missingBpns, executor) ->
+                CompletableFuture.supplyAsync(() -> resolver.apply(Set.copyOf(missingBpns)), executor)));
+    }
+
+    public void invalidateAll(Collection<String> bpns) {
+        cache.synchronous().invalidateAll(bpns);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
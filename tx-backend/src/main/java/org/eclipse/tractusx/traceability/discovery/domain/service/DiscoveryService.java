@@ -23,6 +23,15 @@ package org.eclipse.tractusx.traceability.discovery.domain.service;
 
 import org.eclipse.tractusx.traceability.discovery.domain.model.Discovery;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface DiscoveryService {
     Discovery getDiscoveryByBPN(String bpn);
+
+    /**
+     * Resolves the discoveries of all given BPNs, BPNs which are not cached are resolved together with one request to
+     * the discovery finder and one query of the BPN mappings.
+     */
+    Map<String, Discovery> getDiscoveriesByBPNs(Collection<String> bpns);
 }
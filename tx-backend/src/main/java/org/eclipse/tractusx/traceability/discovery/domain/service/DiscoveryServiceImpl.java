@@ -19,6 +19,8 @@
 
 package org.eclipse.tractusx.traceability.discovery.domain.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnRepository;
@@ -26,12 +28,14 @@ import org.eclipse.tractusx.traceability.common.properties.EdcProperties;
 import org.eclipse.tractusx.traceability.discovery.domain.model.Discovery;
 import org.eclipse.tractusx.traceability.discovery.domain.repository.DiscoveryRepository;
 import org.eclipse.tractusx.traceability.discovery.infrastructure.exception.DiscoveryFinderException;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import static org.eclipse.tractusx.traceability.discovery.domain.model.Discovery.mergeDiscoveries;
 import static org.eclipse.tractusx.traceability.discovery.domain.model.Discovery.toDiscovery;
@@ -41,36 +45,73 @@ import static org.eclipse.tractusx.traceability.discovery.domain.model.Discovery
 @RequiredArgsConstructor
 public class DiscoveryServiceImpl implements DiscoveryService {
 
+    private static final String DISCOVERY_RESOLUTION_METRIC = "discovery.resolution";
+
     private final DiscoveryRepository discoveryRepository;
 
     private final BpnRepository bpnRepository;
 
     private final EdcProperties edcProperties;
 
+    private final DiscoveryCache discoveryCache;
+
+    private final MeterRegistry meterRegistry;
+
 
     @Override
     public Discovery getDiscoveryByBPN(String bpn) {
-        List<Discovery> discoveryList = new ArrayList<>();
+        if (bpn == null) {
+            return mergeDiscoveries(List.of());
+        }
+        return discoveryCache.get(bpn, key -> resolveDiscoveries(Set.of(key)).get(key));
+    }
+
+    @Override
+    public Map<String, Discovery> getDiscoveriesByBPNs(Collection<String> bpns) {
+        return discoveryCache.getAll(bpns, this::resolveDiscoveries);
+    }
+
+    private Map<String, Discovery> resolveDiscoveries(Set<String> bpns) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
-            Optional<Discovery> optionalDiscoveryFromDiscoveryService = getOptionalDiscoveryByBpnFromDiscoveryService(bpn);
-            optionalDiscoveryFromDiscoveryService.ifPresent(discovery -> {
-                discovery.setReceiverUrls(
-                        discovery.getReceiverUrls().stream().map(
-                                DiscoveryServiceImpl::removeTrailingSlash
-                        ).toList()
-                );
-                log.info("Retrieved discovery by bpn from edcDiscoveryService receiverUrls: {}, senderUrls: {}", discovery.getReceiverUrls().toString(), discovery.getSenderUrl());
-                discoveryList.add(discovery);
+            Map<String, Discovery> discoveriesFromDiscoveryService;
+            try {
+                discoveriesFromDiscoveryService = discoveryRepository.retrieveDiscoveriesByFinderAndEdcDiscoveryService(bpns);
+            } catch (Exception e) {
+                throw new DiscoveryFinderException("DiscoveryFinder could not determine result.");
+            }
+            Map<String, String> receiverUrlsFromBpnDatabase = bpnRepository.findUrlsWhereUrlNotNull(bpns);
+
+            Map<String, Discovery> discoveries = new HashMap<>();
+            bpns.forEach(bpn -> {
+                List<Discovery> discoveryList = new ArrayList<>();
+                Discovery discoveryFromDiscoveryService = discoveriesFromDiscoveryService.get(bpn);
+                if (discoveryFromDiscoveryService != null) {
+                    discoveryFromDiscoveryService.setReceiverUrls(
+                            discoveryFromDiscoveryService.getReceiverUrls().stream().map(
+                                    DiscoveryServiceImpl::removeTrailingSlash
+                            ).toList()
+                    );
+                    log.info("Retrieved discovery by bpn from edcDiscoveryService receiverUrls: {}, senderUrls: {}", discoveryFromDiscoveryService.getReceiverUrls().toString(), discoveryFromDiscoveryService.getSenderUrl());
+                    discoveryList.add(discoveryFromDiscoveryService);
+                }
+                String receiverUrlFromBpnDatabase = receiverUrlsFromBpnDatabase.get(bpn);
+                if (receiverUrlFromBpnDatabase != null) {
+                    Discovery discoveryFromBpnDatabase = toDiscovery(receiverUrlFromBpnDatabase, edcProperties.getProviderEdcUrl());
+                    log.info("Retrieved discovery by bpn from BPN Mapping Table receiverUrls: {}, senderUrls: {}", discoveryFromBpnDatabase.getReceiverUrls().toString(), discoveryFromBpnDatabase.getSenderUrl());
+                    discoveryList.add(discoveryFromBpnDatabase);
+                }
+                Discovery discovery = mergeDiscoveries(discoveryList);
+                // the discovery is shared by all callers until it expires
+                discovery.setReceiverUrls(List.copyOf(discovery.getReceiverUrls()));
+                discoveries.put(bpn, discovery);
             });
-            optionalDiscoveryFromDiscoveryService.ifPresent(discoveryList::add);
-        } catch (Exception e) {
-            throw new DiscoveryFinderException("DiscoveryFinder could not determine result.");
+            outcome = "success";
+            return discoveries;
+        } finally {
+            sample.stop(meterRegistry.timer(DISCOVERY_RESOLUTION_METRIC, "outcome", outcome));
         }
-
-        Optional<Discovery> optionalDiscoveryFromBpnDatabase = getOptionalDiscoveryFromBpnDatabase(bpn);
-        optionalDiscoveryFromBpnDatabase.ifPresent(discovery -> log.info("Retrieved discovery by bpn from BPN Mapping Table receiverUrls: {}, senderUrls: {}", discovery.getReceiverUrls().toString(), discovery.getSenderUrl()));
-        optionalDiscoveryFromBpnDatabase.ifPresent(discoveryList::add);
-        return mergeDiscoveries(discoveryList);
     }
 
     private static String removeTrailingSlash(String inputString) {
@@ -80,20 +121,4 @@ public class DiscoveryServiceImpl implements DiscoveryService {
         return inputString;
     }
 
-    @NotNull
-    private Optional<Discovery> getOptionalDiscoveryByBpnFromDiscoveryService(String bpn) {
-        return discoveryRepository.retrieveDiscoveryByFinderAndEdcDiscoveryService(bpn);
-    }
-
-    @NotNull
-    private Optional<Discovery> getOptionalDiscoveryFromBpnDatabase(String bpn) {
-        if (bpnRepository.existsWhereUrlNotNull(bpn)) {
-            String receiverUrl = bpnRepository.findByIdOrThrowNotFoundException(bpn).url();
-            Discovery discovery = toDiscovery(receiverUrl, edcProperties.getProviderEdcUrl());
-            return Optional.of(discovery);
-        }
-        return Optional.empty();
-    }
-
-
 }
@@ -30,9 +30,13 @@ import org.eclipse.tractusx.traceability.discovery.domain.repository.DiscoveryRe
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.eclipse.tractusx.traceability.discovery.domain.model.Discovery.toDiscovery;
 
@@ -46,34 +50,40 @@ public class FeignDiscoveryRepositoryImpl implements DiscoveryRepository {
 
     @Override
     public Optional<Discovery> retrieveDiscoveryByFinderAndEdcDiscoveryService(String bpn) {
+        return Optional.ofNullable(retrieveDiscoveriesByFinderAndEdcDiscoveryService(List.of(bpn)).get(bpn));
+    }
+
+    @Override
+    public Map<String, Discovery> retrieveDiscoveriesByFinderAndEdcDiscoveryService(Collection<String> bpns) {
+        Set<String> requestedBpns = new LinkedHashSet<>(bpns);
         DiscoveryFinderRequest request = new DiscoveryFinderRequest(List.of(BPN));
         DiscoveryResponse discoveryEndpoints = discoveryFinderClient.findDiscoveryEndpoints(request);
-        List<EdcDiscoveryResult> discoveryResults = new ArrayList<>();
+        Map<String, List<EdcDiscoveryResult>> discoveryResultsByBpn = new HashMap<>();
         discoveryEndpoints.endpoints().forEach(discoveryEndpoint -> {
             String endPointAddress = discoveryEndpoint.endpointAddress();
-            discoveryResults.addAll(discoveryFinderClient.findConnectorEndpoints(endPointAddress, List.of(bpn)));
+            discoveryFinderClient.findConnectorEndpoints(endPointAddress, List.copyOf(requestedBpns)).stream()
+                    .filter(edcDiscoveryResult -> requestedBpns.contains(edcDiscoveryResult.bpn()))
+                    .forEach(edcDiscoveryResult -> discoveryResultsByBpn.computeIfAbsent(edcDiscoveryResult.bpn(), key -> new ArrayList<>()).add(edcDiscoveryResult));
         });
-        List<EdcDiscoveryResult> discoveryResultByBPN
-                = discoveryResults.stream().filter(edcDiscoveryResult -> edcDiscoveryResult.bpn().equals(bpn)).toList();
 
-        log.info("Retrieved discoveryResult size for bpn {} is {}",
-                bpn,
-                discoveryResultByBPN.stream()
-                        .findFirst().orElse(new EdcDiscoveryResult(null, Collections.emptyList()))
-                        .connectorEndpoint().size()
-        );
+        Map<String, Discovery> discoveries = new HashMap<>();
+        requestedBpns.forEach(bpn -> {
+            List<EdcDiscoveryResult> discoveryResultByBPN = discoveryResultsByBpn.getOrDefault(bpn, List.of());
 
-        if (discoveryResultByBPN.size() > 1) {
-            log.warn("Multiple discoveryResults with same bpn {} found, but only the edcDiscoveryResultOptional will be used!", bpn);
-        }
+            log.info("Retrieved discoveryResult size for bpn {} is {}",
+                    bpn,
+                    discoveryResultByBPN.stream()
+                            .findFirst().map(edcDiscoveryResult -> edcDiscoveryResult.connectorEndpoint().size()).orElse(0)
+            );
 
-        Optional<EdcDiscoveryResult> edcDiscoveryResultOptional = discoveryResultByBPN.stream().findFirst();
+            if (discoveryResultByBPN.size() > 1) {
+                log.warn("Multiple discoveryResults with same bpn {} found, but only the edcDiscoveryResultOptional will be used!", bpn);
+            }
 
-        if (edcDiscoveryResultOptional.isPresent()) {
-            return Optional.of(toDiscovery(edcDiscoveryResultOptional.get(), edcProperties.getProviderEdcUrl()));
-        } else {
-            log.warn("No discovery result found. Please check if connector for bpn {} is registered in discovery finder.", bpn);
-            return Optional.empty();
-        }
+            discoveryResultByBPN.stream().findFirst().ifPresentOrElse(
+                    edcDiscoveryResult -> discoveries.put(bpn, toDiscovery(edcDiscoveryResult, edcProperties.getProviderEdcUrl())),
+                    () -> log.warn("No discovery result found. Please check if connector for bpn {} is registered in discovery finder.", bpn));
+        });
+        return discoveries;
     }
 }
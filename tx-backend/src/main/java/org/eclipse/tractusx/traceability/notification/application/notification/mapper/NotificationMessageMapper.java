@@ -20,11 +20,13 @@
 package org.eclipse.tractusx.traceability.notification.application.notification.mapper;
 
 import lombok.experimental.UtilityClass;
+import notification.response.NotificationDeliveryStateResponse;
 import notification.response.NotificationMessageResponse;
 import notification.response.NotificationSeverityResponse;
 import notification.response.NotificationSideResponse;
 import notification.response.NotificationStatusResponse;
 import notification.response.NotificationTypeResponse;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSeverity;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSide;
@@ -73,9 +75,14 @@ public class NotificationMessageMapper {
                 .errorMessage(notificationMessage.getErrorMessage())
                 .message(notificationMessage.getMessage())
                 .messageDate(String.valueOf(notificationMessage.getCreated()))
+                .deliveryState(fromDeliveryState(notificationMessage.getDeliveryState()))
                 .build();
     }
 
+    public static NotificationDeliveryStateResponse fromDeliveryState(NotificationDeliveryState deliveryState) {
+        return deliveryState == null ? null : NotificationDeliveryStateResponse.valueOf(deliveryState.name());
+    }
+
     public static NotificationStatusResponse fromStatus(NotificationStatus notificationStatus) {
         return NotificationStatusResponse.fromStringValue(notificationStatus.name());
     }
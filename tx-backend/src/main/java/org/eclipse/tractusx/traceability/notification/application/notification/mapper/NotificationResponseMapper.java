@@ -65,6 +65,15 @@ public class NotificationResponseMapper {
 
     public static PageResult<NotificationResponse> fromAsPageResult(PageResult<Notification> notificationPageResult) {
         List<NotificationResponse> investigationResponses = notificationPageResult.content().stream().map(NotificationResponseMapper::from).toList();
+        if (notificationPageResult.page() == null) {
+            // cursor mode has no page number and may skip the counts
+            return new PageResult<>(investigationResponses,
+                    null,
+                    notificationPageResult.pageCount(),
+                    notificationPageResult.pageSize(),
+                    notificationPageResult.totalItems(),
+                    notificationPageResult.nextCursor());
+        }
         int pageNumber = notificationPageResult.page();
         int pageSize = notificationPageResult.pageSize();
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
@@ -55,6 +55,7 @@ public class NotificationMessage {
     private String messageId;
     private NotificationType type;
     private String errorMessage;
+    private NotificationDeliveryState deliveryState;
 
     public void changeStatusTo(NotificationStatus to) {
         boolean transitionAllowed = notificationStatus.transitionAllowed(to);
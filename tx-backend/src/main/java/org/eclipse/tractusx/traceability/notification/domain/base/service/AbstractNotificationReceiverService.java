@@ -25,15 +25,22 @@ import org.eclipse.tractusx.traceability.common.model.BPN;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationId;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
 import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotification;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
 @Slf4j
 public abstract class AbstractNotificationReceiverService implements NotificationReceiverService {
 
+    private static final Set<NotificationStatus> UPDATE_STATUSES = EnumSet.of(
+            NotificationStatus.ACKNOWLEDGED, NotificationStatus.ACCEPTED, NotificationStatus.DECLINED, NotificationStatus.CLOSED);
+
     protected abstract NotificationRepository getRepository();
 
     protected abstract NotificationMessageMapper getNotificationMessageMapper();
@@ -46,15 +53,33 @@ public abstract class AbstractNotificationReceiverService implements Notificatio
 
     protected abstract BPN getApplicationBpn();
 
+    @Override
+    public void validateReceive(EDCNotification edcNotification, NotificationType notificationType) {
+        toReceivedNotification(edcNotification, notificationType);
+    }
+
+    @Override
+    public void validateUpdate(EDCNotification edcNotification, NotificationType notificationType) {
+        NotificationStatus notificationStatus = edcNotification.convertNotificationStatus();
+        if (!UPDATE_STATUSES.contains(notificationStatus)) {
+            throw getIllegalUpdateException("Failed to handle notification due to unhandled %s status".formatted(notificationStatus));
+        }
+        getNotificationMessageMapper().toNotificationMessage(edcNotification, notificationType);
+    }
+
     @Override
     public void handleReceive(EDCNotification edcNotification, NotificationType notificationType) {
-        BPN investigationCreatorBPN = BPN.of(edcNotification.getSenderBPN());
-        NotificationMessage notification = getNotificationMessageMapper().toNotificationMessage(edcNotification, notificationType);
-        Notification investigation = getNotificationMapper().toNotification(investigationCreatorBPN, edcNotification, notification, notificationType, getApplicationBpn());
+        Notification investigation = toReceivedNotification(edcNotification, notificationType);
         NotificationId investigationId = getRepository().saveNotification(investigation);
         log.info("Stored received edcNotification in investigation with id {}", investigationId);
     }
 
+    private Notification toReceivedNotification(EDCNotification edcNotification, NotificationType notificationType) {
+        BPN investigationCreatorBPN = BPN.of(edcNotification.getSenderBPN());
+        NotificationMessage notification = getNotificationMessageMapper().toNotificationMessage(edcNotification, notificationType);
+        return getNotificationMapper().toNotification(investigationCreatorBPN, edcNotification, notification, notificationType, getApplicationBpn());
+    }
+
     @Override
     public void handleUpdate(EDCNotification edcNotification, NotificationType notificationType) {
 
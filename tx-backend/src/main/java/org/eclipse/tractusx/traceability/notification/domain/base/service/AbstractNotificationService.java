@@ -27,6 +27,7 @@ import org.eclipse.tractusx.traceability.common.properties.TraceabilityPropertie
 import org.eclipse.tractusx.traceability.notification.application.notification.service.NotificationService;
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.SendNotificationException;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationId;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSeverity;
@@ -36,6 +37,7 @@ import org.eclipse.tractusx.traceability.notification.domain.base.model.Notifica
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationSenderAndReceiverBPNEqualException;
 import org.eclipse.tractusx.traceability.notification.domain.notification.model.EditNotification;
 import org.eclipse.tractusx.traceability.notification.domain.notification.model.StartNotification;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationOutboxRepository;
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
 import org.springframework.data.domain.Pageable;
 
@@ -51,6 +53,7 @@ public abstract class AbstractNotificationService implements NotificationService
 
     private final TraceabilityProperties traceabilityProperties;
     private final NotificationPublisherService notificationPublisherService;
+    private final NotificationOutboxRepository notificationOutboxRepository;
 
     private static final List<String> SUPPORTED_ENUM_FIELDS = List.of("status", "side", "severity", "type");
 
@@ -102,6 +105,7 @@ public abstract class AbstractNotificationService implements NotificationService
         }
 
         getNotificationRepository().updateNotification(updatedNotification);
+        enqueuePendingMessages(updatedNotification);
     }
 
     @Override
@@ -150,6 +154,7 @@ public abstract class AbstractNotificationService implements NotificationService
             throw new SendNotificationException(exception.getMessage(), exception);
         }
         getNotificationRepository().updateNotification(approvedInvestigation);
+        enqueuePendingMessages(approvedInvestigation);
     }
 
     @Override
@@ -182,6 +187,14 @@ public abstract class AbstractNotificationService implements NotificationService
                 .orElseThrow(() -> getNotFoundException(edcNotificationId));
     }
 
+    private void enqueuePendingMessages(Notification notification) {
+        List<String> pendingMessageIds = notification.getNotifications().stream()
+                .filter(message -> NotificationDeliveryState.PENDING.equals(message.getDeliveryState()))
+                .map(NotificationMessage::getId)
+                .toList();
+        notificationOutboxRepository.enqueue(notification.getNotificationId().value(), pendingMessageIds);
+    }
+
     private boolean isSupportedEnumType(String fieldName) {
         return SUPPORTED_ENUM_FIELDS.contains(fieldName);
     }
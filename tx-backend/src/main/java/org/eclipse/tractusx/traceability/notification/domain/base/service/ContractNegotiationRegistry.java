@@ -0,0 +1,176 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.domain.base.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.common.properties.ContractNegotiationProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.exception.ContractNegotiationException;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.ContractNegotiationLeaseRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Makes sure that a catalog offer of a counterparty is negotiated only once at a time. Concurrent callers within this
+ * instance share the pending result, other instances wait for the negotiation registered in the
+ * {@link ContractNegotiationLeaseRepository} and reuse its contract agreement.
+ */
+@Slf4j
+@Component
+public class ContractNegotiationRegistry {
+
+    private static final String NEGOTIATION_METRIC = "edc.contract.negotiation";
+
+    private final Map<NegotiationKey, CompletableFuture<NotificationContractCache.CachedContract>> inFlightNegotiations = new ConcurrentHashMap<>();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final ContractNegotiationLeaseRepository contractNegotiationLeaseRepository;
+    private final ContractNegotiationProperties contractNegotiationProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public ContractNegotiationRegistry(ContractNegotiationLeaseRepository contractNegotiationLeaseRepository,
+                                       ContractNegotiationProperties contractNegotiationProperties,
+                                       MeterRegistry meterRegistry,
+                                       Clock clock) {
+        this.contractNegotiationLeaseRepository = contractNegotiationLeaseRepository;
+        this.contractNegotiationProperties = contractNegotiationProperties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * @param reusableUntil  time until which the resulting contract agreement may be reused by other instances
+     * @param negotiation    negotiates a new contract agreement for the offer
+     * @param reuseAgreement obtains an EndpointDataReference for a contract agreement negotiated by another instance
+     */
+    public NotificationContractCache.CachedContract negotiate(NegotiationKey key, Instant reusableUntil,
+                                                              Supplier<NotificationContractCache.CachedContract> negotiation,
+                                                              Function<String, NotificationContractCache.CachedContract> reuseAgreement) {
+        CompletableFuture<NotificationContractCache.CachedContract> ownNegotiation = new CompletableFuture<>();
+        CompletableFuture<NotificationContractCache.CachedContract> pendingNegotiation = inFlightNegotiations.putIfAbsent(key, ownNegotiation);
+        if (pendingNegotiation != null) {
+            log.info("Joining pending contract negotiation for {}", key);
+            count("shared");
+            return join(pendingNegotiation);
+        }
+
+        try {
+            NotificationContractCache.CachedContract contract = negotiateOnce(key, reusableUntil, negotiation, reuseAgreement);
+            ownNegotiation.complete(contract);
+            return contract;
+        } catch (RuntimeException e) {
+            ownNegotiation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightNegotiations.remove(key, ownNegotiation);
+        }
+    }
+
+    private NotificationContractCache.CachedContract negotiateOnce(NegotiationKey key, Instant reusableUntil,
+                                                                   Supplier<NotificationContractCache.CachedContract> negotiation,
+                                                                   Function<String, NotificationContractCache.CachedContract> reuseAgreement) {
+        String negotiationKey = key.asString();
+        Instant waitUntil = clock.instant().plus(contractNegotiationProperties.getLeaseTimeout());
+        boolean reuseFailed = false;
+        while (true) {
+            Optional<String> reusableAgreement = reuseFailed ? Optional.empty() : contractNegotiationLeaseRepository.findReusableContractAgreementId(negotiationKey);
+            if (reusableAgreement.isPresent()) {
+                try {
+                    NotificationContractCache.CachedContract contract = reuseAgreement.apply(reusableAgreement.get());
+                    count("reused");
+                    return contract;
+                } catch (RuntimeException e) {
+                    log.warn("Could not reuse contract agreement {} for {}, negotiating a new one: {}", reusableAgreement.get(), key, e.getMessage());
+                    contractNegotiationLeaseRepository.discardContractAgreement(negotiationKey, reusableAgreement.get());
+                    reuseFailed = true;
+                }
+            }
+
+            if (contractNegotiationLeaseRepository.tryAcquire(negotiationKey, instanceId, clock.instant().plus(contractNegotiationProperties.getLeaseTimeout()))) {
+                return negotiateWithLease(negotiationKey, reusableUntil, negotiation);
+            }
+
+            if (clock.instant().isAfter(waitUntil)) {
+                throw new ContractNegotiationException("Timed out waiting for the contract negotiation of another instance for " + key);
+            }
+            waitForOtherInstance(key);
+        }
+    }
+
+    private NotificationContractCache.CachedContract negotiateWithLease(String negotiationKey, Instant reusableUntil,
+                                                                        Supplier<NotificationContractCache.CachedContract> negotiation) {
+        NotificationContractCache.CachedContract contract;
+        try {
+            contract = negotiation.get();
+        } catch (RuntimeException e) {
+            contractNegotiationLeaseRepository.release(negotiationKey, instanceId);
+            throw e;
+        }
+        contractNegotiationLeaseRepository.complete(negotiationKey, instanceId, contract.contractAgreementId(), reusableUntil);
+        count("negotiated");
+        return contract;
+    }
+
+    private void waitForOtherInstance(NegotiationKey key) {
+        log.info("Contract negotiation for {} is in progress on another instance, waiting for its agreement", key);
+        try {
+            Thread.sleep(contractNegotiationProperties.getPollInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContractNegotiationException("Interrupted while waiting for the contract negotiation of another instance for " + key, e);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(NEGOTIATION_METRIC, "outcome", outcome).increment();
+    }
+
+    private static NotificationContractCache.CachedContract join(CompletableFuture<NotificationContractCache.CachedContract> negotiation) {
+        try {
+            return negotiation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Identifies a catalog offer of a counterparty connector, the policy is part of the key since an offer can be
+     * published again with a changed policy.
+     */
+    public record NegotiationKey(String bpn, String connectorUrl, String offerId, String policyDigest) {
+
+        String asString() {
+            return String.join("|", bpn, connectorUrl, offerId, policyDigest);
+        }
+    }
+}
@@ -22,8 +22,10 @@ package org.eclipse.tractusx.traceability.notification.domain.base.service;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 
-import java.util.concurrent.CompletableFuture;
-
 public interface EdcNotificationService {
-    CompletableFuture<NotificationMessage> asyncNotificationMessageExecutor(NotificationMessage message, Notification notification);
+
+    /**
+     * @return the message if it was received by at least one connector of the receiver, otherwise null
+     */
+    NotificationMessage sendNotificationMessage(NotificationMessage message, Notification notification);
 }
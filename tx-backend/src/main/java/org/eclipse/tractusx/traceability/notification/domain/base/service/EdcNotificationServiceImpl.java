@@ -21,10 +21,11 @@
 
 package org.eclipse.tractusx.traceability.notification.domain.base.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig;
+import org.eclipse.tractusx.traceability.common.properties.NotificationFanOutProperties;
 import org.eclipse.tractusx.traceability.discovery.domain.model.Discovery;
 import org.eclipse.tractusx.traceability.discovery.domain.service.DiscoveryService;
 import org.eclipse.tractusx.traceability.discovery.infrastructure.exception.DiscoveryFinderException;
@@ -36,13 +37,25 @@ import org.eclipse.tractusx.traceability.notification.domain.base.model.Notifica
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.NOTIFICATION_FAN_OUT_EXECUTOR;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -50,65 +63,162 @@ import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 @Transactional(dontRollbackOn = DiscoveryFinderException.class)
 public class EdcNotificationServiceImpl implements EdcNotificationService {
 
+    private static final String CONNECTOR_SEND_METRIC = "edc.notification.connector.send";
+
     private final NotificationsEDCFacade edcFacade;
     private final DiscoveryService discoveryService;
     private final NotificationRepository notificationRepository;
+    private final NotificationFanOutProperties notificationFanOutProperties;
+    private final MeterRegistry meterRegistry;
+    @Qualifier(NOTIFICATION_FAN_OUT_EXECUTOR)
+    private final ThreadPoolTaskExecutor notificationFanOutExecutor;
 
     @Override
-    @Async(value = AssetsAsyncConfig.UPDATE_NOTIFICATION_EXECUTOR)
-    public CompletableFuture<NotificationMessage> asyncNotificationMessageExecutor(NotificationMessage message, Notification notification) {
-        log.info("::asyncNotificationExecutor::message {}", message);
+    public NotificationMessage sendNotificationMessage(NotificationMessage message, Notification notification) {
+        log.info("::sendNotificationMessage::message {}", message);
         try {
             Discovery discovery = discoveryService.getDiscoveryByBPN(message.getSentTo());
 
             String senderEdcUrl = discovery.getSenderUrl();
             List<String> receiverUrls = emptyIfNull(discovery.getReceiverUrls());
-            List<Boolean> sendResults = List.of();
+            List<ConnectorResult> sendResults = List.of();
 
             if (message.getType().equals(NotificationType.ALERT)) {
-                log.info("::asyncNotificationExecutor::isQualityAlert");
-                sendResults = receiverUrls
-                        .stream().map(receiverUrl -> handleSendingNotification(message, senderEdcUrl, receiverUrl, notification)).toList();
+                log.info("::sendNotificationMessage::isQualityAlert");
+                sendResults = sendToConnectors(message, senderEdcUrl, receiverUrls, notification);
             }
 
             if (message.getType().equals(NotificationType.INVESTIGATION)) {
-                log.info("::asyncNotificationExecutor::isQualityInvestigation");
-                sendResults = receiverUrls
-                        .stream().map(receiverUrl -> handleSendingNotification(message, senderEdcUrl, receiverUrl, notification)).toList();
+                log.info("::sendNotificationMessage::isQualityInvestigation");
+                sendResults = sendToConnectors(message, senderEdcUrl, receiverUrls, notification);
             }
 
-            Boolean wasSent = sendResults.stream().anyMatch(Boolean.TRUE::equals);
-
-            if (Boolean.TRUE.equals(wasSent)) {
-                return CompletableFuture.completedFuture(message);
+            boolean wasSent = sendResults.stream().anyMatch(ConnectorResult::sent);
+            if (!wasSent || notificationFanOutProperties.getStrategy() == NotificationFanOutProperties.Strategy.PARALLEL) {
+                sendResults.stream()
+                        .filter(result -> !result.sent())
+                        .forEach(result -> enrichNotificationByError(result.error(), notification, message));
             }
 
-            return CompletableFuture.completedFuture(null);
+            return wasSent ? message : null;
 
         } catch (DiscoveryFinderException discoveryFinderException) {
             enrichNotificationByError(discoveryFinderException, notification, message);
-            return CompletableFuture.completedFuture(null);
+            return null;
+        }
+    }
+
+    /**
+     * Sends the message to all connectors of the receiver at the same time, each connector gets its own copy of the
+     * message. A connector which did not answer within the connector timeout after its sending started is cancelled,
+     * connectors still waiting for a thread of the executor do not time out. With the strategy FIRST_SUCCESS all
+     * remaining connectors are cancelled as soon as one of them received the message.
+     */
+    private List<ConnectorResult> sendToConnectors(NotificationMessage message, String senderEdcUrl, List<String> receiverUrls, Notification notification) {
+        ExecutorCompletionService<ConnectorResult> completionService = new ExecutorCompletionService<>(notificationFanOutExecutor);
+        Map<Future<ConnectorResult>, PendingSend> pending = new LinkedHashMap<>();
+        receiverUrls.forEach(receiverUrl -> {
+            PendingSend pendingSend = new PendingSend(receiverUrl, new AtomicLong());
+            pending.put(completionService.submit(() -> {
+                pendingSend.startedAt().set(System.nanoTime());
+                return handleSendingNotification(message.toBuilder().build(), senderEdcUrl, receiverUrl, notification);
+            }), pendingSend);
+        });
+
+        long connectorTimeout = notificationFanOutProperties.getConnectorTimeout().toNanos();
+        String bpn = message.getSentTo();
+        List<ConnectorResult> results = new ArrayList<>();
+        try {
+            while (!pending.isEmpty()) {
+                Future<ConnectorResult> completed = completionService.poll(nextTimeout(pending.values(), connectorTimeout), TimeUnit.NANOSECONDS);
+                if (completed == null) {
+                    cancelTimedOut(pending, connectorTimeout, bpn, results);
+                    continue;
+                }
+                pending.remove(completed);
+                ConnectorResult result = getResult(completed);
+                recordConnectorMetric(bpn, result.sent() ? "sent" : "failed", result.duration());
+                results.add(result);
+                if (result.sent()) {
+                    message.setContractAgreementId(result.message().getContractAgreementId());
+                    if (notificationFanOutProperties.getStrategy() == NotificationFanOutProperties.Strategy.FIRST_SUCCESS) {
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pending.forEach((future, pendingSend) -> results.add(cancel(future, pendingSend, "cancelled", bpn)));
         }
+        return results;
+    }
+
+    // time until the earliest started connector times out, connectors which have not started yet are checked again after one timeout
+    private static long nextTimeout(Collection<PendingSend> pending, long connectorTimeout) {
+        long now = System.nanoTime();
+        return pending.stream()
+                .filter(PendingSend::started)
+                .mapToLong(pendingSend -> pendingSend.startedAt().get() + connectorTimeout - now)
+                .min()
+                .orElse(connectorTimeout);
+    }
+
+    private void cancelTimedOut(Map<Future<ConnectorResult>, PendingSend> pending, long connectorTimeout, String bpn, List<ConnectorResult> results) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Future<ConnectorResult>, PendingSend>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Future<ConnectorResult>, PendingSend> entry = iterator.next();
+            if (entry.getValue().started() && now - entry.getValue().startedAt().get() >= connectorTimeout) {
+                iterator.remove();
+                results.add(cancel(entry.getKey(), entry.getValue(), "timeout", bpn));
+            }
+        }
+    }
+
+    private ConnectorResult cancel(Future<ConnectorResult> future, PendingSend pendingSend, String outcome, String bpn) {
+        future.cancel(true);
+        Duration duration = pendingSend.started() ? Duration.ofNanos(System.nanoTime() - pendingSend.startedAt().get()) : Duration.ZERO;
+        recordConnectorMetric(bpn, outcome, duration);
+        log.warn("Sending message to {} was {} after {}", pendingSend.receiverUrl(), outcome, duration);
+        return new ConnectorResult(pendingSend.receiverUrl(), null,
+                new SendNotificationException("Sending notification to %s was %s after %s".formatted(pendingSend.receiverUrl(), outcome, duration)),
+                duration);
     }
 
-    private boolean handleSendingNotification(NotificationMessage message, String senderEdcUrl, String receiverUrl, Notification notification) {
+    private ConnectorResult handleSendingNotification(NotificationMessage message, String senderEdcUrl, String receiverUrl, Notification notification) {
+        long start = System.nanoTime();
         try {
             edcFacade.startEdcTransfer(message, receiverUrl, senderEdcUrl, notification);
-            return true;
+            return new ConnectorResult(receiverUrl, message, null, Duration.ofNanos(System.nanoTime() - start));
         } catch (NoCatalogItemException e) {
             log.warn("Could not send message to {} no catalog item found. ", receiverUrl, e);
-            enrichNotificationByError(e, notification, message);
+            return new ConnectorResult(receiverUrl, message, e, Duration.ofNanos(System.nanoTime() - start));
         } catch (SendNotificationException e) {
             log.warn("Could not send message to {} ", receiverUrl, e);
-            enrichNotificationByError(e, notification, message);
+            return new ConnectorResult(receiverUrl, message, e, Duration.ofNanos(System.nanoTime() - start));
         } catch (NoEndpointDataReferenceException e) {
             log.warn("Could not send message to {} no endpoint data reference found", receiverUrl, e);
-            enrichNotificationByError(e, notification, message);
+            return new ConnectorResult(receiverUrl, message, e, Duration.ofNanos(System.nanoTime() - start));
         } catch (ContractNegotiationException e) {
             log.warn("Could not send message to {} could not negotiate contract agreement", receiverUrl, e);
-            enrichNotificationByError(e, notification, message);
+            return new ConnectorResult(receiverUrl, message, e, Duration.ofNanos(System.nanoTime() - start));
         }
-        return false;
+    }
+
+    private static ConnectorResult getResult(Future<ConnectorResult> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void recordConnectorMetric(String bpn, String outcome, Duration duration) {
+        meterRegistry.timer(CONNECTOR_SEND_METRIC, "bpn", bpn, "outcome", outcome).record(duration);
     }
 
     private void enrichNotificationByError(Exception e, Notification notification, NotificationMessage message) {
@@ -118,5 +228,16 @@ public class EdcNotificationServiceImpl implements EdcNotificationService {
         notificationRepository.updateErrorMessage(notification, message);
 
     }
-}
 
+    private record ConnectorResult(String receiverUrl, NotificationMessage message, Exception error, Duration duration) {
+        boolean sent() {
+            return error == null;
+        }
+    }
+
+    private record PendingSend(String receiverUrl, AtomicLong startedAt) {
+        boolean started() {
+            return startedAt.get() != 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.domain.base.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
+import org.eclipse.tractusx.irs.edc.client.model.EDRAuthCode;
+import org.eclipse.tractusx.traceability.common.properties.NotificationContractCacheProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the catalog offer, the contract agreement and the latest EndpointDataReference used to send notifications to
+ * a counterparty connector for one notification taxonomy type. Entries expire with the usage policy of the offer or
+ * after expireAfterWrite, whichever comes first. EndpointDataReferences are renewed with the cached agreement before
+ * they expire, see {@link NotificationContractRefreshScheduler}.
+ */
+@Slf4j
+@Component
+public class NotificationContractCache {
+
+    private final Cache<Key, CachedContract> cache;
+    private final NotificationContractCacheProperties properties;
+    private final Clock clock;
+
+    public NotificationContractCache(NotificationContractCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<Key, CachedContract>() {
+                    @Override
+                    public long expireAfterCreate(Key key, CachedContract contract, long currentTime) {
+                        return timeToLive(contract).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, CachedContract contract, long currentTime, long currentDuration) {
+                        return timeToLive(contract).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, CachedContract contract, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, properties.getName());
+    }
+
+    public Optional<CachedContract> get(Key key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public CachedContract put(Key key, CatalogItem catalogItem, String contractAgreementId, EndpointDataReference endpointDataReference) {
+        CachedContract contract = new CachedContract(catalogItem, clock.instant(), contractAgreementId, endpointDataReference, expiryOf(endpointDataReference));
+        cache.put(key, contract);
+        return contract;
+    }
+
+    public CachedContract renew(Key key, CachedContract previous, String contractAgreementId, EndpointDataReference endpointDataReference) {
+        CachedContract contract = new CachedContract(previous.catalogItem(), previous.catalogFetchedAt(), contractAgreementId, endpointDataReference, expiryOf(endpointDataReference));
+        cache.put(key, contract);
+        return contract;
+    }
+
+    public void invalidate(Key key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public boolean isEndpointDataReferenceUsable(CachedContract contract) {
+        Instant expiry = contract.endpointDataReferenceExpiry();
+        return expiry != null && expiry.isAfter(clock.instant().plus(properties.getMinRemainingEdrValidity()));
+    }
+
+    public Map<Key, CachedContract> findRefreshDue() {
+        Instant refreshBefore = clock.instant().plus(properties.getRefreshBefore());
+        return cache.asMap().entrySet().stream()
+                .filter(entry -> entry.getValue().endpointDataReferenceExpiry() != null)
+                .filter(entry -> entry.getValue().endpointDataReferenceExpiry().isBefore(refreshBefore))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private Duration timeToLive(CachedContract contract) {
+        Instant expiry = contract.catalogFetchedAt().plus(properties.getExpireAfterWrite());
+        Instant policyValidUntil = contract.catalogItem().getValidUntil();
+        if (policyValidUntil != null && policyValidUntil.isBefore(expiry)) {
+            expiry = policyValidUntil;
+        }
+        Duration timeToLive = Duration.between(clock.instant(), expiry);
+        return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+    }
+
+    @Nullable
+    private Instant expiryOf(EndpointDataReference endpointDataReference) {
+        try {
+            return Instant.ofEpochSecond(EDRAuthCode.fromAuthCodeToken(endpointDataReference.getAuthCode()).getExp());
+        } catch (Exception e) {
+            log.warn("Could not read the expiry of the EndpointDataReference, it will not be reused: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public record Key(String bpn, String connectorUrl, String taxonomyType) {
+    }
+
+    public record CachedContract(CatalogItem catalogItem, Instant catalogFetchedAt, String contractAgreementId,
+                                 EndpointDataReference endpointDataReference, @Nullable Instant endpointDataReferenceExpiry) {
+    }
+}
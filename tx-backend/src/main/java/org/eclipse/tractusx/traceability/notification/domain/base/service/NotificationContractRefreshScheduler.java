@@ -0,0 +1,56 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.domain.base.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renews the EndpointDataReferences of cached notification contracts shortly before they expire, so that sending a
+ * notification does not have to wait for a transfer process.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class NotificationContractRefreshScheduler {
+
+    private final NotificationContractCache notificationContractCache;
+    private final NotificationsEDCFacade notificationsEDCFacade;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${cache.notificationContract.refreshInterval:PT30S}")
+    public void refreshExpiringContracts() {
+        notificationContractCache.findRefreshDue().forEach((key, contract) -> {
+            try {
+                notificationsEDCFacade.renewEndpointDataReference(key, contract);
+                meterRegistry.counter("edc.notification.contract.refresh", "result", "renewed").increment();
+            } catch (Exception e) {
+                log.warn("Could not renew EndpointDataReference of contract agreement {} for {}, removing it from the cache: {}",
+                        contract.contractAgreementId(), key, e.getMessage());
+                notificationContractCache.invalidate(key);
+                meterRegistry.counter("edc.notification.contract.refresh", "result", "failed").increment();
+            }
+        });
+    }
+}
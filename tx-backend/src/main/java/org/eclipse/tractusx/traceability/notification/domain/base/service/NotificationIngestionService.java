@@ -0,0 +1,146 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.domain.base.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.common.properties.NotificationInboxProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationInboxFullException;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationInboxRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotification;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Accepts received EDC notifications into the notification inbox, from where they are stored asynchronously.
+ * Notifications are mapped before they are accepted, so malformed notifications are rejected to the sender.
+ * Notifications accepted recently by this instance are recognized without a database round trip, all others are
+ * deduplicated by the unique edcNotificationId of the inbox. Updates are handled synchronously unless the
+ * notification they update is still waiting in the inbox, then they are queued behind it.
+ */
+@Slf4j
+@Component
+public class NotificationIngestionService {
+
+    private final NotificationInboxRepository notificationInboxRepository;
+    private final NotificationReceiverService notificationReceiverService;
+    private final NotificationInboxProperties notificationInboxProperties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Boolean> recentlyAccepted;
+    private final Counter acceptedCounter;
+    private final Counter duplicateCounter;
+    private final Counter rejectedCounter;
+
+    public NotificationIngestionService(NotificationInboxRepository notificationInboxRepository,
+                                        NotificationReceiverService notificationReceiverService,
+                                        NotificationInboxProperties notificationInboxProperties,
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry) {
+        this.notificationInboxRepository = notificationInboxRepository;
+        this.notificationReceiverService = notificationReceiverService;
+        this.notificationInboxProperties = notificationInboxProperties;
+        this.objectMapper = objectMapper;
+        this.recentlyAccepted = Caffeine.newBuilder()
+                .maximumSize(notificationInboxProperties.getRecentlyAcceptedMaximumSize())
+                .expireAfterWrite(notificationInboxProperties.getRetention())
+                .build();
+        this.acceptedCounter = ingestedCounter(meterRegistry, "accepted");
+        this.duplicateCounter = ingestedCounter(meterRegistry, "duplicate");
+        this.rejectedCounter = ingestedCounter(meterRegistry, "rejected");
+        Gauge.builder("notification.inbox.pending", notificationInboxRepository, NotificationInboxRepository::approximateDepth)
+                .description("Approximate number of received notifications waiting to be stored, as used for admission")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws NotificationInboxFullException if too many received notifications are waiting to be stored
+     */
+    public void ingest(EDCNotification edcNotification, NotificationType notificationType) {
+        String edcNotificationId = edcNotification.getNotificationId();
+        if (recentlyAccepted.getIfPresent(edcNotificationId) != null) {
+            log.info("Ignoring redelivered edcNotification {}", edcNotificationId);
+            duplicateCounter.increment();
+            return;
+        }
+        notificationReceiverService.validateReceive(edcNotification, notificationType);
+        rejectIfFull(edcNotificationId);
+
+        boolean enqueued = notificationInboxRepository.enqueue(edcNotificationId, notificationType, toPayload(edcNotification));
+        recentlyAccepted.put(edcNotificationId, Boolean.TRUE);
+        countEnqueued(edcNotificationId, enqueued);
+    }
+
+    /**
+     * @throws NotificationInboxFullException if the update has to be queued and too many received notifications are
+     *                                        waiting to be stored
+     */
+    public void ingestUpdate(EDCNotification edcNotification, NotificationType notificationType) {
+        String edcNotificationId = edcNotification.getNotificationId();
+        if (!notificationInboxRepository.hasPending(edcNotificationId)) {
+            notificationReceiverService.handleUpdate(edcNotification, notificationType);
+            return;
+        }
+        notificationReceiverService.validateUpdate(edcNotification, notificationType);
+        rejectIfFull(edcNotificationId);
+
+        String updateId = Objects.requireNonNullElse(edcNotification.getMessageId(), edcNotification.convertNotificationStatus().name());
+        log.info("Queueing update of edcNotification {} behind its pending receive", edcNotificationId);
+        countEnqueued(edcNotificationId, notificationInboxRepository.enqueueUpdate(edcNotificationId, updateId, notificationType, toPayload(edcNotification)));
+    }
+
+    private void rejectIfFull(String edcNotificationId) {
+        if (notificationInboxRepository.approximateDepth() >= notificationInboxProperties.getMaxPending()) {
+            rejectedCounter.increment();
+            throw new NotificationInboxFullException(edcNotificationId);
+        }
+    }
+
+    private void countEnqueued(String edcNotificationId, boolean enqueued) {
+        if (enqueued) {
+            acceptedCounter.increment();
+        } else {
+            log.info("Ignoring redelivered edcNotification {}", edcNotificationId);
+            duplicateCounter.increment();
+        }
+    }
+
+    private String toPayload(EDCNotification edcNotification) {
+        try {
+            return objectMapper.writeValueAsString(edcNotification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize edcNotification %s".formatted(edcNotification.getNotificationId()), e);
+        }
+    }
+
+    private static Counter ingestedCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("notification.inbox.ingested")
+                .description("Number of received notifications by ingestion outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -30,6 +30,7 @@ import org.eclipse.tractusx.traceability.common.model.BPN;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.SendNotificationException;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSide;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
@@ -42,7 +43,6 @@ import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 
 import static java.util.stream.Collectors.groupingBy;
 
@@ -52,7 +52,6 @@ import static java.util.stream.Collectors.groupingBy;
 public class NotificationPublisherService {
 
     private final TraceabilityProperties traceabilityProperties;
-    private final EdcNotificationService edcNotificationService;
     private final AssetAsBuiltRepository assetAsBuiltRepository;
     private final BpnRepository bpnRepository;
     private final Clock clock;
@@ -107,7 +106,8 @@ public class NotificationPublisherService {
     }
 
     /**
-     * Approves an ongoing notification with the given BPN and ID to the next stage.
+     * Approves an ongoing notification with the given BPN and ID to the next stage. The messages to send are marked
+     * as pending and delivered by the notification outbox once the notification was stored.
      *
      * @param notification the Notification to send
      */
@@ -120,7 +120,7 @@ public class NotificationPublisherService {
         createMessages(notification, applicationBPN, assetAsBuiltRepository);
 
         // For each asset within investigation a notification was created before
-        List<CompletableFuture<NotificationMessage>> futures =
+        List<NotificationMessage> messagesToSend =
                 notification
                         .getNotifications()
                         .stream()
@@ -128,21 +128,14 @@ public class NotificationPublisherService {
                                 notificationMessage.getNotificationStatus().name()
                                         .equals(NotificationStatus.SENT.name()))
                         .filter(notificationMessage -> StringUtils.isBlank(notificationMessage.getErrorMessage()))
-                        .map(notificationMessage -> edcNotificationService.asyncNotificationMessageExecutor(notificationMessage, notification))
-                        .filter(Objects::nonNull)
                         .toList();
-        List<NotificationMessage> sentMessages = futures.stream()
-                .map(CompletableFuture::join)
-                .filter(Objects::nonNull)
-                .toList();
-        if (sentMessages.isEmpty()) {
-            throw new SendNotificationException("No Message was sent");
-        }
+        markPendingOrThrow(messagesToSend);
         return notification;
     }
 
     /**
-     * Updates an ongoing notification with the given BPN, ID, status and reason.
+     * Updates an ongoing notification with the given BPN, ID, status and reason. The messages to send are marked
+     * as pending and delivered by the notification outbox once the notification was stored.
      *
      * @param notification the Notification to update
      * @param status       the NotificationStatus of the notification to update
@@ -171,20 +164,16 @@ public class NotificationPublisherService {
             log.info("::updateNotificationPublisher::notificationToSend {}", qNotification);
         });
 
-        List<CompletableFuture<NotificationMessage>> futures = relevantNotifications.stream()
-                .map(message -> edcNotificationService.asyncNotificationMessageExecutor(message, notification))
-                .filter(Objects::nonNull)
-                .toList();
-        List<NotificationMessage> sentMessages = futures.stream()
-                .map(CompletableFuture::join)
-                .filter(Objects::nonNull)
-                .toList();
+        markPendingOrThrow(relevantNotifications);
 
-        if (sentMessages.isEmpty()) {
+        return notification;
+    }
+
+    private void markPendingOrThrow(List<NotificationMessage> messagesToSend) {
+        if (messagesToSend.isEmpty()) {
             throw new SendNotificationException("No Message was sent");
         }
-
-        return notification;
+        messagesToSend.forEach(message -> message.setDeliveryState(NotificationDeliveryState.PENDING));
     }
 
     private void validate(BPN applicationBpn, NotificationStatus status, Notification notification) {
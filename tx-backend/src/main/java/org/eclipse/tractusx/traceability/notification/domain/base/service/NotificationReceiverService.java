@@ -23,6 +23,17 @@ import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.E
 
 public interface NotificationReceiverService {
 
+    /**
+     * Maps the received notification like {@link #handleReceive} without storing it, so malformed notifications are
+     * rejected before they are queued.
+     */
+    void validateReceive(EDCNotification edcNotification, NotificationType notificationType);
+
+    /**
+     * Checks everything of an update which does not depend on the stored notification.
+     */
+    void validateUpdate(EDCNotification edcNotification, NotificationType notificationType);
+
     void handleReceive(EDCNotification edcNotification, NotificationType notificationType);
 
     void handleUpdate(EDCNotification edcNotification, NotificationType notificationType);
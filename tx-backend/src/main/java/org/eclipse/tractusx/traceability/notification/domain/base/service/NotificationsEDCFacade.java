@@ -22,18 +22,24 @@ package org.eclipse.tractusx.traceability.notification.domain.base.service;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.catalog.spi.CatalogRequest;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.edc.client.ContractNegotiationService;
 import org.eclipse.tractusx.irs.edc.client.EDCCatalogFacade;
 import org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStorage;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
 import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
 import org.eclipse.tractusx.traceability.common.properties.EdcProperties;
+import org.eclipse.tractusx.traceability.common.properties.NotificationContractCacheProperties;
 import org.eclipse.tractusx.traceability.contracts.application.service.ContractService;
 import org.eclipse.tractusx.traceability.contracts.domain.model.ContractType;
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.BadRequestException;
@@ -55,6 +61,11 @@ import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -69,6 +80,11 @@ public class NotificationsEDCFacade {
 
     public static final String DEFAULT_PROTOCOL = "dataspace-protocol-http";
 
+    private static final ObjectMapper CANONICAL_POLICY_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
     private final ObjectMapper objectMapper;
 
     private final EdcProperties edcProperties;
@@ -79,6 +95,10 @@ public class NotificationsEDCFacade {
     private final ContractNegotiationService contractNegotiationService;
     private final EndpointDataReferenceStorage endpointDataReferenceStorage;
     private final ContractService contractNotificationServiceImpl;
+    private final NotificationContractCache notificationContractCache;
+    private final ContractNegotiationRegistry contractNegotiationRegistry;
+    private final NotificationContractCacheProperties notificationContractCacheProperties;
+    private final Clock clock;
 
     public NotificationsEDCFacade(ObjectMapper objectMapper,
                                   EdcProperties edcProperties,
@@ -86,7 +106,11 @@ public class NotificationsEDCFacade {
                                   EDCCatalogFacade edcCatalogFacade,
                                   ContractNegotiationService contractNegotiationService,
                                   EndpointDataReferenceStorage endpointDataReferenceStorage,
-                                  @Qualifier("contractNotificationServiceImpl") ContractService contractNotificationServiceImpl) {
+                                  @Qualifier("contractNotificationServiceImpl") ContractService contractNotificationServiceImpl,
+                                  NotificationContractCache notificationContractCache,
+                                  ContractNegotiationRegistry contractNegotiationRegistry,
+                                  NotificationContractCacheProperties notificationContractCacheProperties,
+                                  Clock clock) {
         this.objectMapper = objectMapper;
         this.edcProperties = edcProperties;
         this.edcNotificationTemplate = edcNotificationTemplate;
@@ -94,6 +118,10 @@ public class NotificationsEDCFacade {
         this.contractNegotiationService = contractNegotiationService;
         this.endpointDataReferenceStorage = endpointDataReferenceStorage;
         this.contractNotificationServiceImpl = contractNotificationServiceImpl;
+        this.notificationContractCache = notificationContractCache;
+        this.contractNegotiationRegistry = contractNegotiationRegistry;
+        this.notificationContractCacheProperties = notificationContractCacheProperties;
+        this.clock = clock;
     }
 
     public static final String CX_TAXO_QUALITY_INVESTIGATION_RECEIVE = "https://w3id.org/catenax/taxonomy#ReceiveQualityInvestigationNotification";
@@ -107,33 +135,138 @@ public class NotificationsEDCFacade {
             final String senderEdcUrl,
             final Notification notification) {
 
-        CatalogItem catalogItem = getCatalogItem(notificationMessage, receiverEdcUrl);
+        NotificationContractCache.Key key = new NotificationContractCache.Key(notificationMessage.getSentTo(), receiverEdcUrl, taxonomyType(notificationMessage));
+        NotificationContractCache.CachedContract contract = resolveContract(key);
+        final EndpointDataReference dataReference = contract.endpointDataReference();
+
+        notificationMessage.setContractAgreementId(contract.contractAgreementId());
 
-        String contractAgreementId = negotiateContractAgreement(receiverEdcUrl, catalogItem, notificationMessage.getSentTo());
+        try {
+            EdcNotificationRequest notificationRequest = toEdcNotificationRequest(notificationMessage, senderEdcUrl, dataReference, notification);
+            sendRequest(notificationRequest);
+        } catch (Exception e) {
+            notificationContractCache.invalidate(key);
+            throw new SendNotificationException("Failed to send notificationMessage.", e);
+        }
+    }
+
+    /**
+     * Reuses the cached contract agreement and EndpointDataReference for the receiver while they are valid. An expired
+     * EndpointDataReference is renewed with the cached agreement, a new agreement is only negotiated if that fails or
+     * nothing is cached.
+     */
+    private NotificationContractCache.CachedContract resolveContract(NotificationContractCache.Key key) {
+        Optional<NotificationContractCache.CachedContract> cachedContract = notificationContractCache.get(key);
+        if (cachedContract.isPresent()) {
+            if (notificationContractCache.isEndpointDataReferenceUsable(cachedContract.get())) {
+                log.info("Reusing contract agreement {} for {}", cachedContract.get().contractAgreementId(), key);
+                return cachedContract.get();
+            }
+            try {
+                return renewEndpointDataReference(key, cachedContract.get());
+            } catch (Exception e) {
+                log.warn("Could not renew EndpointDataReference of contract agreement {}, negotiating a new one: {}", cachedContract.get().contractAgreementId(), e.getMessage());
+                notificationContractCache.invalidate(key);
+            }
+        }
+        return negotiateContract(key);
+    }
+
+    /**
+     * Negotiates the offer of the catalog once at a time, concurrent callers for the same offer and policy share the
+     * negotiation, see {@link ContractNegotiationRegistry}.
+     */
+    private NotificationContractCache.CachedContract negotiateContract(NotificationContractCache.Key key) {
+        CatalogItem catalogItem = getCatalogItem(key);
+        ContractNegotiationRegistry.NegotiationKey negotiationKey = new ContractNegotiationRegistry.NegotiationKey(
+                key.bpn(), key.connectorUrl(), catalogItem.getOfferId(), policyDigest(catalogItem.getPolicy()));
+
+        return contractNegotiationRegistry.negotiate(negotiationKey, reusableUntil(catalogItem),
+                () -> negotiateNewContract(key, catalogItem),
+                contractAgreementId -> reuseContractAgreement(key, catalogItem, contractAgreementId));
+    }
+
+    /**
+     * Digests the canonical json of the policy, the properties and map entries are sorted so independently fetched
+     * catalogs with the same policy result in the same digest.
+     */
+    public static String policyDigest(Policy policy) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(CANONICAL_POLICY_MAPPER.writeValueAsBytes(policy));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new ContractNegotiationException("Failed to digest the policy of the catalog offer: " + e.getMessage(), e);
+        }
+    }
+
+    private NotificationContractCache.CachedContract negotiateNewContract(NotificationContractCache.Key key, CatalogItem catalogItem) {
+        String contractAgreementId = negotiateContractAgreement(key.connectorUrl(), catalogItem, key.bpn(), null);
 
         final EndpointDataReference dataReference = endpointDataReferenceStorage.get(contractAgreementId)
                 .orElseThrow(() -> new NoEndpointDataReferenceException("No EndpointDataReference was found"));
 
-        notificationMessage.setContractAgreementId(contractAgreementId);
         try {
             contractNotificationServiceImpl.saveContractAgreementFromNotification(contractAgreementId, ContractType.NOTIFICATION);
         } catch (Exception e) {
             log.warn("Could not save contractAgreementId for notification {}", e.getMessage());
         }
+        return notificationContractCache.put(key, catalogItem, contractAgreementId, dataReference);
+    }
 
-        try {
-            EdcNotificationRequest notificationRequest = toEdcNotificationRequest(notificationMessage, senderEdcUrl, dataReference, notification);
-            sendRequest(notificationRequest);
-        } catch (Exception e) {
-            throw new SendNotificationException("Failed to send notificationMessage.", e);
+    /**
+     * Reuses a contract agreement which was negotiated by another instance. Its stored EndpointDataReference is used
+     * while it is valid long enough, otherwise a transfer process is started for the agreement.
+     */
+    private NotificationContractCache.CachedContract reuseContractAgreement(NotificationContractCache.Key key, CatalogItem catalogItem, String contractAgreementId) {
+        Optional<EndpointDataReference> storedReference = endpointDataReferenceStorage.get(contractAgreementId);
+        if (storedReference.isPresent()) {
+            NotificationContractCache.CachedContract contract = notificationContractCache.put(key, catalogItem, contractAgreementId, storedReference.get());
+            if (notificationContractCache.isEndpointDataReferenceUsable(contract)) {
+                log.info("Reusing stored EndpointDataReference of contract agreement {} for {}", contractAgreementId, key);
+                return contract;
+            }
+            notificationContractCache.invalidate(key);
         }
+
+        EndpointDataReference agreementReference = EndpointDataReference.Builder.newInstance()
+                .id(contractAgreementId)
+                .contractId(contractAgreementId)
+                .endpoint(key.connectorUrl())
+                .build();
+        EndpointDataReferenceStatus expiredStatus = new EndpointDataReferenceStatus(agreementReference, EndpointDataReferenceStatus.TokenStatus.EXPIRED);
+        String transferredAgreementId = negotiateContractAgreement(key.connectorUrl(), catalogItem, key.bpn(), expiredStatus);
+
+        final EndpointDataReference dataReference = endpointDataReferenceStorage.get(transferredAgreementId)
+                .orElseThrow(() -> new NoEndpointDataReferenceException("No EndpointDataReference was found"));
+
+        return notificationContractCache.put(key, catalogItem, transferredAgreementId, dataReference);
+    }
+
+    private Instant reusableUntil(CatalogItem catalogItem) {
+        Instant reusableUntil = clock.instant().plus(notificationContractCacheProperties.getExpireAfterWrite());
+        Instant policyValidUntil = catalogItem.getValidUntil();
+        return policyValidUntil != null && policyValidUntil.isBefore(reusableUntil) ? policyValidUntil : reusableUntil;
     }
 
-    private String negotiateContractAgreement(final String receiverEdcUrl, final CatalogItem catalogItem, String receiverBpn) {
+    /**
+     * Starts a new transfer process for the cached contract agreement and caches the resulting EndpointDataReference.
+     */
+    public NotificationContractCache.CachedContract renewEndpointDataReference(NotificationContractCache.Key key, NotificationContractCache.CachedContract cachedContract) {
+        EndpointDataReferenceStatus expiredStatus = new EndpointDataReferenceStatus(cachedContract.endpointDataReference(), EndpointDataReferenceStatus.TokenStatus.EXPIRED);
+        String contractAgreementId = negotiateContractAgreement(key.connectorUrl(), cachedContract.catalogItem(), key.bpn(), expiredStatus);
+
+        final EndpointDataReference dataReference = endpointDataReferenceStorage.get(contractAgreementId)
+                .filter(reference -> !Objects.equals(reference.getAuthCode(), cachedContract.endpointDataReference().getAuthCode()))
+                .orElseThrow(() -> new NoEndpointDataReferenceException("No renewed EndpointDataReference was found"));
+
+        return notificationContractCache.renew(key, cachedContract, contractAgreementId, dataReference);
+    }
+
+    private String negotiateContractAgreement(final String receiverEdcUrl, final CatalogItem catalogItem, String receiverBpn, EndpointDataReferenceStatus endpointDataReferenceStatus) {
 
         try {
             log.info("Negotiation of contract agreement for receiverEdcUrl {} and catalogItem {}", receiverEdcUrl, catalogItem);
-            return Optional.ofNullable(contractNegotiationService.negotiate(receiverEdcUrl + edcProperties.getIdsPath(), catalogItem, null, receiverBpn))
+            return Optional.ofNullable(contractNegotiationService.negotiate(receiverEdcUrl + edcProperties.getIdsPath(), catalogItem, endpointDataReferenceStatus, receiverBpn))
                     .orElseThrow()
                     .getContractAgreementId();
         } catch (Exception e) {
@@ -141,25 +274,24 @@ public class NotificationsEDCFacade {
         }
     }
 
-    private CatalogItem getCatalogItem(final NotificationMessage notification, final String receiverEdcUrl) {
-        try {
-
-            String taxoValue;
-            if (NotificationType.ALERT.equals(notification.getType()) && notification.getNotificationStatus().equals(NotificationStatus.SENT)) {
-                taxoValue = CX_TAXO_QUALITY_ALERT_RECEIVE;
-            } else if (!NotificationType.ALERT.equals(notification.getType()) && notification.getNotificationStatus().equals(NotificationStatus.SENT)) {
-                taxoValue = CX_TAXO_QUALITY_INVESTIGATION_RECEIVE;
-            } else if (NotificationType.ALERT.equals(notification.getType())) {
-                taxoValue = CX_TAXO_QUALITY_ALERT_UPDATE;
-            } else {
-                taxoValue = CX_TAXO_QUALITY_INVESTIGATION_UPDATE;
-            }
+    private static String taxonomyType(final NotificationMessage notification) {
+        if (NotificationType.ALERT.equals(notification.getType()) && notification.getNotificationStatus().equals(NotificationStatus.SENT)) {
+            return CX_TAXO_QUALITY_ALERT_RECEIVE;
+        } else if (!NotificationType.ALERT.equals(notification.getType()) && notification.getNotificationStatus().equals(NotificationStatus.SENT)) {
+            return CX_TAXO_QUALITY_INVESTIGATION_RECEIVE;
+        } else if (NotificationType.ALERT.equals(notification.getType())) {
+            return CX_TAXO_QUALITY_ALERT_UPDATE;
+        }
+        return CX_TAXO_QUALITY_INVESTIGATION_UPDATE;
+    }
 
+    private CatalogItem getCatalogItem(final NotificationContractCache.Key key) {
+        try {
             return edcCatalogFacade.fetchCatalogItems(
                             CatalogRequest.Builder.newInstance()
                                     .protocol(DEFAULT_PROTOCOL)
-                                    .counterPartyAddress(receiverEdcUrl + edcProperties.getIdsPath())
-                                    .counterPartyId(notification.getSentTo())
+                                    .counterPartyAddress(key.connectorUrl() + edcProperties.getIdsPath())
+                                    .counterPartyId(key.bpn())
                                     .querySpec(QuerySpec.Builder.newInstance()
                                             // https://github.com/eclipse-tractusx/traceability-foss/issues/978
                                             // Probably:
@@ -167,7 +299,7 @@ public class NotificationsEDCFacade {
                                             // rightOperand = https://w3id.org/catenax/taxonomy#ReceiveQualityAlertNotification (make sure to check the input for the correct one Receive/Update and Alert or Investigation
                                             // The types are all in the ticket documented
                                             .filter(
-                                                    List.of(new Criterion("'http://purl.org/dc/terms/type'.'@id'", "=", taxoValue))
+                                                    List.of(new Criterion("'http://purl.org/dc/terms/type'.'@id'", "=", key.taxonomyType()))
                                             )
                                             .build())
                                     .build()
@@ -0,0 +1,100 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.domain.base.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStorage;
+import org.eclipse.tractusx.irs.edc.client.model.EDRAuthCode;
+import org.eclipse.tractusx.traceability.common.properties.EndpointDataReferenceStoreProperties;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.EndpointDataReferenceRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replaces the in-memory storage of the EDC client library, so that EndpointDataReferences received by the callback
+ * of any instance survive restarts and are shared by all instances. References are kept until their token expires,
+ * or for the configured retention if the expiry can not be read from the token. The number of stored references is
+ * counted when expired references are evicted, not on every scrape of the gauge.
+ */
+@Slf4j
+@Primary
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "endpointDataReferenceStore.persistent", havingValue = "true", matchIfMissing = true)
+public class PersistentEndpointDataReferenceStorage extends EndpointDataReferenceStorage {
+
+    private final EndpointDataReferenceRepository endpointDataReferenceRepository;
+    private final EndpointDataReferenceStoreProperties endpointDataReferenceStoreProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final AtomicLong storedReferences = new AtomicLong();
+
+    public PersistentEndpointDataReferenceStorage(EndpointDataReferenceRepository endpointDataReferenceRepository,
+                                                  EndpointDataReferenceStoreProperties endpointDataReferenceStoreProperties,
+                                                  MeterRegistry meterRegistry,
+                                                  Clock clock) {
+        super(endpointDataReferenceStoreProperties.getRetention());
+        this.endpointDataReferenceRepository = endpointDataReferenceRepository;
+        this.endpointDataReferenceStoreProperties = endpointDataReferenceStoreProperties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        meterRegistry.gauge("edc.endpoint.data.reference.stored", storedReferences);
+    }
+
+    @Override
+    public void put(String contractAgreementId, EndpointDataReference endpointDataReference) {
+        endpointDataReferenceRepository.save(contractAgreementId, endpointDataReference, expiryOf(endpointDataReference));
+    }
+
+    @Override
+    public Optional<EndpointDataReference> get(String contractAgreementId) {
+        Optional<EndpointDataReference> endpointDataReference = endpointDataReferenceRepository.findValid(contractAgreementId);
+        meterRegistry.counter("edc.endpoint.data.reference.lookup", "result", endpointDataReference.isPresent() ? "hit" : "miss").increment();
+        return endpointDataReference;
+    }
+
+    @Scheduled(fixedDelayString = "${endpointDataReferenceStore.cleanupInterval:PT5M}")
+    public void evictExpired() {
+        int evicted = endpointDataReferenceRepository.deleteExpired();
+        if (evicted > 0) {
+            log.info("Evicted {} expired EndpointDataReferences", evicted);
+        }
+        storedReferences.set(endpointDataReferenceRepository.count());
+    }
+
+    private Instant expiryOf(EndpointDataReference endpointDataReference) {
+        try {
+            return Instant.ofEpochSecond(EDRAuthCode.fromAuthCodeToken(endpointDataReference.getAuthCode()).getExp());
+        } catch (Exception e) {
+            log.debug("Could not read the expiry of the EndpointDataReference, keeping it for the retention: {}", e.getMessage());
+            return clock.instant().plus(endpointDataReferenceStoreProperties.getRetention());
+        }
+    }
+}
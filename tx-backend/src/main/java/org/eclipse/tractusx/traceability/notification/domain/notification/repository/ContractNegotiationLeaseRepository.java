@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.domain.notification.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Registry of contract negotiations shared by all instances, every negotiation key is negotiated by one instance at a
+ * time and the resulting contract agreement can be reused by the other instances until it expires.
+ */
+public interface ContractNegotiationLeaseRepository {
+
+    /**
+     * @return true if the caller owns the negotiation of the key until the lease expires, false if another instance
+     * negotiates the key or already stored a reusable contract agreement for it
+     */
+    boolean tryAcquire(String negotiationKey, String owner, Instant leaseUntil);
+
+    Optional<String> findReusableContractAgreementId(String negotiationKey);
+
+    void complete(String negotiationKey, String owner, String contractAgreementId, Instant reusableUntil);
+
+    /**
+     * Releases the lease of the key if it is still owned by the given owner, so another instance can negotiate it.
+     */
+    void release(String negotiationKey, String owner);
+
+    /**
+     * Removes the stored contract agreement of the key if it was not replaced in the meantime, e.g. because it could
+     * not be reused any longer.
+     */
+    void discardContractAgreement(String negotiationKey, String contractAgreementId);
+
+}
@@ -0,0 +1,49 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.domain.notification.repository;
+
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+
+public interface NotificationInboxRepository {
+
+    /**
+     * Queues a received EDC notification for persistence. Returns false if a notification with the same
+     * edcNotificationId has already been received, in which case nothing is queued.
+     */
+    boolean enqueue(String edcNotificationId, NotificationType notificationType, String payload);
+
+    /**
+     * Queues an update of a received EDC notification behind the entries of the same edcNotificationId. Returns false
+     * if the update with the given id has already been queued.
+     */
+    boolean enqueueUpdate(String edcNotificationId, String updateId, NotificationType notificationType, String payload);
+
+    /**
+     * Whether entries of the given edcNotificationId are waiting for or in processing.
+     */
+    boolean hasPending(String edcNotificationId);
+
+    /**
+     * Number of received notifications waiting to be persisted, as last counted by the inbox worker plus the
+     * notifications queued since. Cheap enough to be checked for every received notification.
+     */
+    long approximateDepth();
+
+}
@@ -0,0 +1,52 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.domain.notification.repository;
+
+import org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationOutboxRepository {
+
+    /**
+     * Queues the given messages of a notification for delivery to the receiving EDC. Must be called within the
+     * transaction that persisted the messages, messages which are already queued are ignored.
+     */
+    void enqueue(Long notificationId, List<String> messageIds);
+
+    /**
+     * Claims up to limit due messages for delivery, only the oldest queued message of a notification is due.
+     */
+    List<NotificationOutboxEntity> claim(int limit);
+
+    void complete(String messageId, String contractAgreementId);
+
+    /**
+     * Schedules the next delivery attempt with exponential backoff or gives up after the configured attempts.
+     */
+    void retryLater(String messageId, String errorMessage);
+
+    long depth();
+
+    long deadLetters();
+
+    Optional<Instant> oldestPendingCreatedOn();
+}
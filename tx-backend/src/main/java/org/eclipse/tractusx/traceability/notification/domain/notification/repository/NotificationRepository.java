@@ -32,6 +32,7 @@ import org.eclipse.tractusx.traceability.notification.domain.base.model.Notifica
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface NotificationRepository {
@@ -42,6 +43,8 @@ public interface NotificationRepository {
 
     long countNotificationsBySideAndType(NotificationSide investigationSide, NotificationType notificationType);
 
+    Map<NotificationSide, Map<NotificationType, Long>> countNotificationsGroupedBySideAndType();
+
     NotificationId saveNotification(Notification investigation);
 
     void updateNotification(Notification investigation);
@@ -52,6 +55,8 @@ public interface NotificationRepository {
 
     long countOpenNotificationsByOwnershipAndNotificationType(List<Owner> owners, NotificationType notificationType);
 
+    Map<Owner, Map<NotificationType, Long>> countAssetsWithOpenNotificationsGroupedByOwnerAndType();
+
     List<String> getDistinctFieldValues(String fieldName, String startWith, Integer resultLimit, NotificationSide owner);
 
     void updateErrorMessage(Notification notification, NotificationMessage message);
@@ -23,6 +23,7 @@ import org.eclipse.tractusx.traceability.common.properties.TraceabilityPropertie
 import org.eclipse.tractusx.traceability.notification.domain.base.service.AbstractNotificationService;
 import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationPublisherService;
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationNotFoundException;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationOutboxRepository;
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
 import org.springframework.stereotype.Service;
 
@@ -32,8 +33,9 @@ public class NotificationServiceImpl extends AbstractNotificationService {
 
     public NotificationServiceImpl(TraceabilityProperties traceabilityProperties,
                                    NotificationRepository alertRepository,
-                                   NotificationPublisherService notificationPublisherService) {
-        super(traceabilityProperties, notificationPublisherService);
+                                   NotificationPublisherService notificationPublisherService,
+                                   NotificationOutboxRepository notificationOutboxRepository) {
+        super(traceabilityProperties, notificationPublisherService, notificationOutboxRepository);
         this.notificationRepository = alertRepository;
 
     }
@@ -32,8 +32,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationIngestionService;
 import org.eclipse.tractusx.traceability.notification.domain.notification.exception.InvestigationIllegalUpdate;
-import org.eclipse.tractusx.traceability.notification.domain.notification.service.NotificationReceiverService;
 import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotification;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -51,7 +51,7 @@ import static org.eclipse.tractusx.traceability.common.model.SecurityUtils.sanit
 @RequestMapping(path = "/internal")
 public class EdcController {
 
-    private final NotificationReceiverService notificationReceiverService;
+    private final NotificationIngestionService notificationIngestionService;
 
     /**
      * Receiver API call for EDC Transfer
@@ -110,7 +110,7 @@ public class EdcController {
         EDCNotification cleanEdcNotification = sanitize(edcNotification);
         log.info("EdcController [investigationNotificationReceive] notificationId:{}", cleanEdcNotification);
         validateIsInvestigation(cleanEdcNotification);
-        notificationReceiverService.handleReceive(cleanEdcNotification, NotificationType.INVESTIGATION);
+        notificationIngestionService.ingest(cleanEdcNotification, NotificationType.INVESTIGATION);
     }
 
     /**
@@ -170,7 +170,7 @@ public class EdcController {
     public void investigationNotificationUpdate(final @ValidEDCNotification @Valid @RequestBody EDCNotification edcNotification) {
         EDCNotification cleanEdcNotification = sanitize(edcNotification);
         log.info("EdcController [investigationNotificationUpdate] notificationId:{}", cleanEdcNotification);
-        notificationReceiverService.handleUpdate(cleanEdcNotification, NotificationType.INVESTIGATION);
+        notificationIngestionService.ingestUpdate(cleanEdcNotification, NotificationType.INVESTIGATION);
     }
 
     /**
@@ -230,7 +230,7 @@ public class EdcController {
         EDCNotification cleanEdcNotification = sanitize(edcNotification);
         log.info("EdcController [alertNotificationReceive] notificationId:{}", cleanEdcNotification);
         validateIsAlert(cleanEdcNotification);
-        notificationReceiverService.handleReceive(cleanEdcNotification, NotificationType.ALERT);
+        notificationIngestionService.ingest(cleanEdcNotification, NotificationType.ALERT);
     }
 
     /**
@@ -289,7 +289,7 @@ public class EdcController {
     public void alertNotificationUpdate(final @ValidEDCNotification @Valid @RequestBody EDCNotification edcNotification) {
         EDCNotification cleanEdcNotification = sanitize(edcNotification);
         log.info("EdcController [alertNotificationUpdate] notificationId:{}", cleanEdcNotification);
-        notificationReceiverService.handleUpdate(cleanEdcNotification, NotificationType.ALERT);
+        notificationIngestionService.ingestUpdate(cleanEdcNotification, NotificationType.ALERT);
     }
 
 
@@ -0,0 +1,93 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.edr;
+
+import org.eclipse.tractusx.traceability.common.properties.EndpointDataReferenceStoreProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Encrypts the credentials of stored EndpointDataReferences with AES-GCM and the configured
+ * endpointDataReferenceStore.encryptionKey. The random IV is stored in front of the cipher text.
+ */
+@Component
+@ConditionalOnProperty(name = "endpointDataReferenceStore.persistent", havingValue = "true", matchIfMissing = true)
+public class EndpointDataReferenceCipher {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final Set<Integer> KEY_LENGTHS = Set.of(16, 24, 32);
+
+    private final SecretKeySpec key;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public EndpointDataReferenceCipher(EndpointDataReferenceStoreProperties endpointDataReferenceStoreProperties) {
+        String encryptionKey = endpointDataReferenceStoreProperties.getEncryptionKey();
+        if (encryptionKey == null || encryptionKey.isBlank()) {
+            throw new IllegalStateException("endpointDataReferenceStore.encryptionKey must be set to store EndpointDataReferences in the database");
+        }
+        byte[] keyBytes = Base64.getDecoder().decode(encryptionKey);
+        if (!KEY_LENGTHS.contains(keyBytes.length)) {
+            throw new IllegalStateException("endpointDataReferenceStore.encryptionKey must be a Base64 encoded AES key of 128, 192 or 256 bits");
+        }
+        this.key = new SecretKeySpec(keyBytes, "AES");
+    }
+
+    public String encrypt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            secureRandom.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            byte[] cipherText = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + cipherText.length).put(iv).put(cipherText).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt EndpointDataReference", e);
+        }
+    }
+
+    public String decrypt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            byte[] encrypted = Base64.getDecoder().decode(value);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, encrypted, 0, IV_LENGTH));
+            return new String(cipher.doFinal(encrypted, IV_LENGTH, encrypted.length - IV_LENGTH), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decrypt EndpointDataReference", e);
+        }
+    }
+}
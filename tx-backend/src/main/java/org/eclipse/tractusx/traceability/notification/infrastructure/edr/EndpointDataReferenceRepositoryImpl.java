@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.edr;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.EndpointDataReferenceRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edr.model.EndpointDataReferenceEntity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@Transactional
+@ConditionalOnProperty(name = "endpointDataReferenceStore.persistent", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class EndpointDataReferenceRepositoryImpl implements EndpointDataReferenceRepository {
+
+    private final JpaEndpointDataReferenceRepository jpaEndpointDataReferenceRepository;
+    private final EndpointDataReferenceCipher endpointDataReferenceCipher;
+    private final Clock clock;
+
+    @Override
+    public void save(String contractAgreementId, EndpointDataReference endpointDataReference, Instant expiresOn) {
+        jpaEndpointDataReferenceRepository.save(EndpointDataReferenceEntity.from(contractAgreementId, endpointDataReference, expiresOn, clock.instant(), endpointDataReferenceCipher::encrypt));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EndpointDataReference> findValid(String contractAgreementId) {
+        return jpaEndpointDataReferenceRepository.findValid(contractAgreementId, clock.instant())
+                .map(entity -> entity.toDomain(endpointDataReferenceCipher::decrypt));
+    }
+
+    @Override
+    public int deleteExpired() {
+        return jpaEndpointDataReferenceRepository.deleteExpired(clock.instant());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long count() {
+        return jpaEndpointDataReferenceRepository.count();
+    }
+}
@@ -0,0 +1,44 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.edr;
+
+import org.eclipse.tractusx.traceability.notification.infrastructure.edr.model.EndpointDataReferenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface JpaEndpointDataReferenceRepository extends JpaRepository<EndpointDataReferenceEntity, String> {
+
+    @Query("""
+            SELECT reference FROM EndpointDataReferenceEntity reference
+            WHERE reference.contractAgreementId = :contractAgreementId AND reference.expiresOn > :now
+            """)
+    Optional<EndpointDataReferenceEntity> findValid(@Param("contractAgreementId") String contractAgreementId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM EndpointDataReferenceEntity reference WHERE reference.expiresOn <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
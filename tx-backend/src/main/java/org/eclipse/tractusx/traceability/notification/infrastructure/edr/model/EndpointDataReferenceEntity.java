@@ -0,0 +1,75 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.edr.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+
+import java.time.Instant;
+import java.util.function.UnaryOperator;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@SuperBuilder
+@Table(name = "endpoint_data_reference")
+public class EndpointDataReferenceEntity {
+
+    @Id
+    private String contractAgreementId;
+    private String transferProcessId;
+    private String contractId;
+    private String endpoint;
+    private String authKey;
+    private String authCode;
+    private Instant expiresOn;
+    private Instant updatedOn;
+
+    public static EndpointDataReferenceEntity from(String contractAgreementId, EndpointDataReference endpointDataReference,
+                                                   Instant expiresOn, Instant updatedOn, UnaryOperator<String> encrypt) {
+        return EndpointDataReferenceEntity.builder()
+                .contractAgreementId(contractAgreementId)
+                .transferProcessId(endpointDataReference.getId())
+                .contractId(endpointDataReference.getContractId())
+                .endpoint(endpointDataReference.getEndpoint())
+                .authKey(encrypt.apply(endpointDataReference.getAuthKey()))
+                .authCode(encrypt.apply(endpointDataReference.getAuthCode()))
+                .expiresOn(expiresOn)
+                .updatedOn(updatedOn)
+                .build();
+    }
+
+    public EndpointDataReference toDomain(UnaryOperator<String> decrypt) {
+        return EndpointDataReference.Builder.newInstance()
+                .id(transferProcessId)
+                .contractId(contractId)
+                .endpoint(endpoint)
+                .authKey(decrypt.apply(authKey))
+                .authCode(decrypt.apply(authCode))
+                .build();
+    }
+}
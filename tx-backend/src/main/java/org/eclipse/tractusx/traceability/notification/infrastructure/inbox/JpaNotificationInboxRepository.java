@@ -0,0 +1,81 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.inbox;
+
+import org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaNotificationInboxRepository extends JpaRepository<NotificationInboxEntity, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_inbox (inbox_id, edc_notification_id, kind, notification_type, payload, status, attempts, next_attempt_on, created_on, updated_on)
+            VALUES (:inboxId, :edcNotificationId, :kind, :notificationType, :payload, 'PENDING', 0, :now, :now, :now)
+            ON CONFLICT (inbox_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("inboxId") String inboxId, @Param("edcNotificationId") String edcNotificationId, @Param("kind") String kind,
+                       @Param("notificationType") String notificationType, @Param("payload") String payload, @Param("now") Instant now);
+
+    // an update is processed after the receive of its notification, failed entries do not hold back later ones
+    @Query(value = """
+            SELECT inbox.* FROM notification_inbox inbox
+            WHERE ((inbox.status = 'PENDING' AND inbox.next_attempt_on <= :now)
+                OR (inbox.status = 'IN_PROGRESS' AND inbox.updated_on < :staleBefore))
+              AND NOT EXISTS (SELECT 1 FROM notification_inbox older
+                              WHERE older.edc_notification_id = inbox.edc_notification_id
+                                AND older.sequence_number < inbox.sequence_number
+                                AND older.status IN ('PENDING', 'IN_PROGRESS'))
+            ORDER BY inbox.next_attempt_on
+            LIMIT :limit
+            FOR UPDATE OF inbox SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationInboxEntity> findDueForUpdate(@Param("now") Instant now, @Param("staleBefore") Instant staleBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            UPDATE NotificationInboxEntity entry
+            SET entry.status = org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxStatus.PROCESSED,
+                entry.payload = '', entry.errorMessage = NULL, entry.updatedOn = :now
+            WHERE entry.inboxId IN :inboxIds
+            """)
+    int markProcessed(@Param("inboxIds") Collection<String> inboxIds, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM NotificationInboxEntity entry WHERE entry.status = :status AND entry.updatedOn < :before")
+    int deleteByStatusAndUpdatedOnBefore(@Param("status") NotificationInboxStatus status, @Param("before") Instant before);
+
+    long countByStatusIn(List<NotificationInboxStatus> statuses);
+
+    boolean existsByEdcNotificationIdAndStatusIn(String edcNotificationId, List<NotificationInboxStatus> statuses);
+
+    @Query("SELECT MIN(entry.createdOn) FROM NotificationInboxEntity entry WHERE entry.status = :status")
+    Optional<Instant> findOldestCreatedOnByStatus(@Param("status") NotificationInboxStatus status);
+}
@@ -0,0 +1,145 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.inbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.common.properties.NotificationInboxProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationInboxRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxKind;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxKind.RECEIVE;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxKind.UPDATE;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxStatus.FAILED;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxStatus.IN_PROGRESS;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxStatus.PENDING;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxStatus.PROCESSED;
+
+/**
+ * Durable inbox of received EDC notifications, backed by the notification_inbox table. Receives are keyed by their
+ * edcNotificationId and updates by their edcNotificationId and messageId, so redelivered notifications are rejected by
+ * the database and processed notifications are kept for the configured retention to recognize late redeliveries.
+ */
+@Slf4j
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class NotificationInboxRepositoryImpl implements NotificationInboxRepository {
+
+    private final JpaNotificationInboxRepository jpaNotificationInboxRepository;
+    private final NotificationInboxProperties notificationInboxProperties;
+    private final Clock clock;
+
+    private final AtomicLong approximateDepth = new AtomicLong();
+
+    @Override
+    public boolean enqueue(String edcNotificationId, NotificationType notificationType, String payload) {
+        return insertIfAbsent(edcNotificationId, edcNotificationId, RECEIVE, notificationType, payload);
+    }
+
+    @Override
+    public boolean enqueueUpdate(String edcNotificationId, String updateId, NotificationType notificationType, String payload) {
+        return insertIfAbsent("%s/%s".formatted(edcNotificationId, updateId), edcNotificationId, UPDATE, notificationType, payload);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasPending(String edcNotificationId) {
+        return jpaNotificationInboxRepository.existsByEdcNotificationIdAndStatusIn(edcNotificationId, List.of(PENDING, IN_PROGRESS));
+    }
+
+    @Override
+    public long approximateDepth() {
+        return approximateDepth.get();
+    }
+
+    public List<NotificationInboxEntity> claim(int limit) {
+        Instant now = clock.instant();
+        List<NotificationInboxEntity> dueNotifications = jpaNotificationInboxRepository.findDueForUpdate(now, now.minus(notificationInboxProperties.getLeaseTimeout()), limit);
+        dueNotifications.forEach(notification -> {
+            notification.setStatus(IN_PROGRESS);
+            notification.setUpdatedOn(now);
+        });
+        return dueNotifications;
+    }
+
+    public void complete(Collection<String> inboxIds) {
+        if (!inboxIds.isEmpty()) {
+            jpaNotificationInboxRepository.markProcessed(inboxIds, clock.instant());
+        }
+    }
+
+    public void retryLater(String inboxId, String errorMessage) {
+        jpaNotificationInboxRepository.findById(inboxId).ifPresent(notification -> {
+            Instant now = clock.instant();
+            int attempts = notification.getAttempts() + 1;
+            notification.setAttempts(attempts);
+            notification.setErrorMessage(errorMessage);
+            notification.setUpdatedOn(now);
+            if (attempts >= notificationInboxProperties.getMaxAttempts()) {
+                log.warn("Received notification {} could not be stored {} times and will not be retried anymore.", inboxId, attempts);
+                notification.setStatus(FAILED);
+            } else {
+                notification.setStatus(PENDING);
+                notification.setNextAttemptOn(now.plus(notificationInboxProperties.getInitialBackoff().multipliedBy(1L << (attempts - 1))));
+            }
+        });
+    }
+
+    public int deleteProcessedBefore(Instant before) {
+        return jpaNotificationInboxRepository.deleteByStatusAndUpdatedOnBefore(PROCESSED, before);
+    }
+
+    private boolean insertIfAbsent(String inboxId, String edcNotificationId, NotificationInboxKind kind, NotificationType notificationType, String payload) {
+        boolean enqueued = jpaNotificationInboxRepository.insertIfAbsent(inboxId, edcNotificationId, kind.name(), notificationType.name(), payload, clock.instant()) > 0;
+        if (enqueued) {
+            approximateDepth.incrementAndGet();
+        }
+        return enqueued;
+    }
+
+    @Transactional(readOnly = true)
+    public long depth() {
+        long depth = jpaNotificationInboxRepository.countByStatusIn(List.of(PENDING, IN_PROGRESS));
+        approximateDepth.set(depth);
+        return depth;
+    }
+
+    @Transactional(readOnly = true)
+    public long deadLetters() {
+        return jpaNotificationInboxRepository.countByStatusIn(List.of(FAILED));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> oldestPendingCreatedOn() {
+        return jpaNotificationInboxRepository.findOldestCreatedOnByStatus(PENDING);
+    }
+}
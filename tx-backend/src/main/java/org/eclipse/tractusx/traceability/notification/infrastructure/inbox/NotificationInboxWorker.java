@@ -0,0 +1,191 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.inbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.tractusx.traceability.common.properties.NotificationInboxProperties;
+import org.eclipse.tractusx.traceability.notification.domain.notification.service.NotificationReceiverService;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotification;
+import org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxKind;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.NOTIFICATION_INBOX_EXECUTOR;
+
+/**
+ * Stores the notifications of the {@link NotificationInboxRepositoryImpl} in batches with the bounded
+ * notificationInboxExecutor pool and exposes depth, lag, dead letters and processing time as metrics. A batch is stored
+ * and marked processed in one transaction, if it fails its notifications are stored one by one, so only the failing
+ * ones are retried.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class NotificationInboxWorker {
+
+    private final NotificationInboxRepositoryImpl notificationInboxRepository;
+    private final NotificationReceiverService notificationReceiverService;
+    private final NotificationInboxProperties notificationInboxProperties;
+    private final ThreadPoolTaskExecutor notificationInboxExecutor;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final AtomicLong inboxDepth = new AtomicLong();
+    private final AtomicLong inboxLagSeconds = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+    private final Timer processedTimer;
+    private final Timer failedTimer;
+
+    public NotificationInboxWorker(
+            NotificationInboxRepositoryImpl notificationInboxRepository,
+            NotificationReceiverService notificationReceiverService,
+            NotificationInboxProperties notificationInboxProperties,
+            @Qualifier(NOTIFICATION_INBOX_EXECUTOR) ThreadPoolTaskExecutor notificationInboxExecutor,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.notificationInboxRepository = notificationInboxRepository;
+        this.notificationReceiverService = notificationReceiverService;
+        this.notificationInboxProperties = notificationInboxProperties;
+        this.notificationInboxExecutor = notificationInboxExecutor;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+
+        Gauge.builder("notification.inbox.depth", inboxDepth, AtomicLong::get)
+                .description("Number of received notifications waiting to be stored")
+                .register(meterRegistry);
+        Gauge.builder("notification.inbox.lag", inboxLagSeconds, AtomicLong::get)
+                .description("Age of the oldest received notification waiting to be stored")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("notification.inbox.dead.letters", deadLetters, AtomicLong::get)
+                .description("Number of received notifications which will not be retried anymore")
+                .register(meterRegistry);
+        this.processedTimer = Timer.builder("notification.inbox.processing")
+                .tag("outcome", "processed")
+                .register(meterRegistry);
+        this.failedTimer = Timer.builder("notification.inbox.processing")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notificationInbox.pollInterval:PT1S}")
+    public void drain() {
+        refreshInboxMetrics();
+
+        int freeWorkers = notificationInboxExecutor.getMaxPoolSize() - notificationInboxExecutor.getActiveCount();
+        if (freeWorkers <= 0) {
+            return;
+        }
+
+        int batchSize = notificationInboxProperties.getBatchSize();
+        List<NotificationInboxEntity> claimed = notificationInboxRepository.claim(freeWorkers * batchSize);
+        for (List<NotificationInboxEntity> batch : ListUtils.partition(claimed, batchSize)) {
+            try {
+                notificationInboxExecutor.execute(() -> process(batch));
+            } catch (TaskRejectedException e) {
+                // the claimed notifications are picked up again once their lease timed out
+                log.warn("Processing of {} received notifications was rejected by the worker pool.", batch.size());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notificationInbox.cleanupInterval:PT1H}")
+    public void deleteProcessed() {
+        int deleted = notificationInboxRepository.deleteProcessedBefore(clock.instant().minus(notificationInboxProperties.getRetention()));
+        if (deleted > 0) {
+            log.info("Deleted {} processed notifications from the inbox.", deleted);
+        }
+    }
+
+    void process(List<NotificationInboxEntity> batch) {
+        List<Duration> processingTimes = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batch.forEach(entry -> processingTimes.add(store(entry)));
+                notificationInboxRepository.complete(batch.stream().map(NotificationInboxEntity::getInboxId).toList());
+            });
+            processingTimes.forEach(processedTimer::record);
+        } catch (Exception e) {
+            log.warn("Storing {} received notifications in one transaction failed, storing them one by one.", batch.size(), e);
+            batch.forEach(this::processSeparately);
+        }
+    }
+
+    private void processSeparately(NotificationInboxEntity entry) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                store(entry);
+                notificationInboxRepository.complete(List.of(entry.getInboxId()));
+            });
+            processedTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.warn("Storing received notification {} failed.", entry.getInboxId(), e);
+            notificationInboxRepository.retryLater(entry.getInboxId(), e.getMessage());
+            failedTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private Duration store(NotificationInboxEntity entry) {
+        long start = System.nanoTime();
+        EDCNotification edcNotification;
+        try {
+            edcNotification = objectMapper.readValue(entry.getPayload(), EDCNotification.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Received notification %s is not readable.".formatted(entry.getInboxId()), e);
+        }
+        if (entry.getKind() == NotificationInboxKind.UPDATE) {
+            notificationReceiverService.handleUpdate(edcNotification, entry.getNotificationType());
+        } else {
+            notificationReceiverService.handleReceive(edcNotification, entry.getNotificationType());
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void refreshInboxMetrics() {
+        inboxDepth.set(notificationInboxRepository.depth());
+        deadLetters.set(notificationInboxRepository.deadLetters());
+        inboxLagSeconds.set(notificationInboxRepository.oldestPendingCreatedOn()
+                .map(createdOn -> Duration.between(createdOn, clock.instant()).toSeconds())
+                .orElse(0L));
+    }
+}
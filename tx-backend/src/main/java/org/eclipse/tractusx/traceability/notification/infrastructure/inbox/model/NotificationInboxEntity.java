@@ -0,0 +1,58 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@SuperBuilder
+@Table(name = "notification_inbox")
+public class NotificationInboxEntity {
+
+    @Id
+    private String inboxId;
+    private String edcNotificationId;
+    @Enumerated(EnumType.STRING)
+    private NotificationInboxKind kind;
+    @Enumerated(EnumType.STRING)
+    private NotificationType notificationType;
+    private String payload;
+    @Enumerated(EnumType.STRING)
+    private NotificationInboxStatus status;
+    private int attempts;
+    private String errorMessage;
+    private Instant nextAttemptOn;
+    private Instant createdOn;
+    private Instant updatedOn;
+}
@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.infrastructure.negotiation;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.ContractNegotiationLeaseRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.eclipse.tractusx.traceability.notification.infrastructure.negotiation.model.ContractNegotiationLeaseStatus.COMPLETED;
+
+/**
+ * Every lease operation commits in its own transaction, other instances see a lease as soon as it is acquired and a
+ * negotiated contract agreement stays reusable even if the transaction sending the notification is rolled back.
+ */
+@Component
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+@RequiredArgsConstructor
+public class ContractNegotiationLeaseRepositoryImpl implements ContractNegotiationLeaseRepository {
+
+    private final JpaContractNegotiationLeaseRepository jpaContractNegotiationLeaseRepository;
+    private final Clock clock;
+
+    @Override
+    public boolean tryAcquire(String negotiationKey, String owner, Instant leaseUntil) {
+        Instant now = clock.instant();
+        jpaContractNegotiationLeaseRepository.deleteExpired(now);
+        return jpaContractNegotiationLeaseRepository.acquireIfAbsentOrExpired(negotiationKey, owner, leaseUntil, now) > 0;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<String> findReusableContractAgreementId(String negotiationKey) {
+        return jpaContractNegotiationLeaseRepository.findContractAgreementId(negotiationKey, COMPLETED, clock.instant());
+    }
+
+    @Override
+    public void complete(String negotiationKey, String owner, String contractAgreementId, Instant reusableUntil) {
+        jpaContractNegotiationLeaseRepository.complete(negotiationKey, owner, COMPLETED, contractAgreementId, reusableUntil, clock.instant());
+    }
+
+    @Override
+    public void release(String negotiationKey, String owner) {
+        jpaContractNegotiationLeaseRepository.deleteOwned(negotiationKey, owner);
+    }
+
+    @Override
+    public void discardContractAgreement(String negotiationKey, String contractAgreementId) {
+        jpaContractNegotiationLeaseRepository.deleteContractAgreement(negotiationKey, COMPLETED, contractAgreementId);
+    }
+}
@@ -0,0 +1,80 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.infrastructure.negotiation;
+
+import org.eclipse.tractusx.traceability.notification.infrastructure.negotiation.model.ContractNegotiationLeaseEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.negotiation.model.ContractNegotiationLeaseStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface JpaContractNegotiationLeaseRepository extends JpaRepository<ContractNegotiationLeaseEntity, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO contract_negotiation_lease (negotiation_key, status, owner, contract_agreement_id, expires_on, updated_on)
+            VALUES (:negotiationKey, 'IN_PROGRESS', :owner, NULL, :leaseUntil, :now)
+            ON CONFLICT (negotiation_key) DO UPDATE
+                SET status = 'IN_PROGRESS', owner = :owner, contract_agreement_id = NULL, expires_on = :leaseUntil, updated_on = :now
+                WHERE contract_negotiation_lease.expires_on < :now
+            """, nativeQuery = true)
+    int acquireIfAbsentOrExpired(@Param("negotiationKey") String negotiationKey, @Param("owner") String owner,
+                                 @Param("leaseUntil") Instant leaseUntil, @Param("now") Instant now);
+
+    @Query("""
+            SELECT lease.contractAgreementId FROM ContractNegotiationLeaseEntity lease
+            WHERE lease.negotiationKey = :negotiationKey AND lease.status = :status AND lease.expiresOn > :now
+            """)
+    Optional<String> findContractAgreementId(@Param("negotiationKey") String negotiationKey,
+                                             @Param("status") ContractNegotiationLeaseStatus status,
+                                             @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+            UPDATE ContractNegotiationLeaseEntity lease
+            SET lease.status = :status, lease.contractAgreementId = :contractAgreementId, lease.expiresOn = :expiresOn, lease.updatedOn = :now
+            WHERE lease.negotiationKey = :negotiationKey AND lease.owner = :owner
+            """)
+    int complete(@Param("negotiationKey") String negotiationKey, @Param("owner") String owner,
+                 @Param("status") ContractNegotiationLeaseStatus status, @Param("contractAgreementId") String contractAgreementId,
+                 @Param("expiresOn") Instant expiresOn, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM ContractNegotiationLeaseEntity lease WHERE lease.negotiationKey = :negotiationKey AND lease.owner = :owner")
+    int deleteOwned(@Param("negotiationKey") String negotiationKey, @Param("owner") String owner);
+
+    @Modifying
+    @Query("""
+            DELETE FROM ContractNegotiationLeaseEntity lease
+            WHERE lease.negotiationKey = :negotiationKey AND lease.status = :status AND lease.contractAgreementId = :contractAgreementId
+            """)
+    int deleteContractAgreement(@Param("negotiationKey") String negotiationKey,
+                                @Param("status") ContractNegotiationLeaseStatus status,
+                                @Param("contractAgreementId") String contractAgreementId);
+
+    @Modifying
+    @Query("DELETE FROM ContractNegotiationLeaseEntity lease WHERE lease.expiresOn < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
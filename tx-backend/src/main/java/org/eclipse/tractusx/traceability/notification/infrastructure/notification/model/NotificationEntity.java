@@ -21,6 +21,7 @@ package org.eclipse.tractusx.traceability.notification.infrastructure.notificati
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.JoinColumn;
@@ -33,6 +34,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.dashboard.DashboardCacheInvalidationListener;
 import org.eclipse.tractusx.traceability.common.model.BPN;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationId;
@@ -53,6 +55,7 @@ import static org.eclipse.tractusx.traceability.common.date.DateUtil.convertInst
 @Getter
 @Setter
 @Entity
+@EntityListeners(DashboardCacheInvalidationListener.class)
 @SuperBuilder
 @Table(name = "notification")
 public class NotificationEntity extends NotificationBaseEntity {
@@ -103,6 +106,21 @@ public class NotificationEntity extends NotificationBaseEntity {
                 .build();
     }
 
+    /**
+     * Maps only what is needed to reference the notification from an asset, the messages and affected parts are not
+     * loaded.
+     */
+    public static Notification toReference(NotificationEntity notificationEntity) {
+        return Notification.builder()
+                .title(notificationEntity.getTitle())
+                .notificationId(new NotificationId(notificationEntity.getId()))
+                .notificationStatus(NotificationStatus.fromStringValue(notificationEntity.getStatus().name()))
+                .notificationSide(NotificationSide.valueOf(notificationEntity.getSide().name()))
+                .notificationType(NotificationType.valueOf(notificationEntity.getType().name()))
+                .createdAt(notificationEntity.getCreatedDate())
+                .build();
+    }
+
     public static NotificationEntity from(Notification notification, List<AssetAsBuiltEntity> assetEntities) {
         return NotificationEntity.builder()
                 .title(notification.getTitle())
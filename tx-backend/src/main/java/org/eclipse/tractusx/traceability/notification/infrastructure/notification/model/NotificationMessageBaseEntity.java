@@ -26,6 +26,7 @@ import jakarta.persistence.PreUpdate;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
 
 import java.time.LocalDateTime;
 
@@ -50,6 +51,8 @@ public class NotificationMessageBaseEntity {
     private NotificationStatusBaseEntity status;
     private String errorMessage;
     private String message;
+    @Enumerated(EnumType.STRING)
+    private NotificationDeliveryState deliveryState;
 
     @PreUpdate
     public void preUpdate() {
@@ -82,6 +82,7 @@ public class NotificationMessageEntity extends NotificationMessageBaseEntity {
                 .updated(notificationMessageEntity.getUpdated())
                 .type(notificationMessageEntity.getNotification().getType().toDomain())
                 .errorMessage(notificationMessageEntity.getErrorMessage())
+                .deliveryState(notificationMessageEntity.getDeliveryState())
                 .build();
     }
 
@@ -105,6 +106,7 @@ public class NotificationMessageEntity extends NotificationMessageBaseEntity {
                 .edcNotificationId(notificationMessage.getEdcNotificationId())
                 .status(NotificationStatusBaseEntity.fromStringValue(notificationMessage.getNotificationStatus().name()))
                 .messageId(notificationMessage.getMessageId())
+                .deliveryState(notificationMessage.getDeliveryState())
                 .build();
     }
 }
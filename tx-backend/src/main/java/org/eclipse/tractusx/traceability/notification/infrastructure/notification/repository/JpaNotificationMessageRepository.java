@@ -19,15 +19,38 @@
 
 package org.eclipse.tractusx.traceability.notification.infrastructure.notification.repository;
 
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationMessageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface JpaNotificationMessageRepository extends JpaRepository<NotificationMessageEntity, String> {
     @Transactional
     default NotificationMessageEntity updateOrInsert(NotificationMessageEntity notificationMessageEntity) {
         return save(notificationMessageEntity);
     }
+
+    @Query("SELECT message.id FROM NotificationMessageEntity message WHERE message.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("UPDATE NotificationMessageEntity message SET message.errorMessage = :errorMessage, message.updated = :updated WHERE message.id = :id")
+    int updateErrorMessage(@Param("id") String id, @Param("errorMessage") String errorMessage, @Param("updated") LocalDateTime updated);
+
+    @Modifying
+    @Query("UPDATE NotificationMessageEntity message SET message.deliveryState = :deliveryState, message.updated = :updated WHERE message.id = :id")
+    int updateDeliveryState(@Param("id") String id, @Param("deliveryState") NotificationDeliveryState deliveryState, @Param("updated") LocalDateTime updated);
+
+    @Modifying
+    @Query("UPDATE NotificationMessageEntity message SET message.deliveryState = :deliveryState, message.contractAgreementId = :contractAgreementId, message.errorMessage = NULL, message.updated = :updated WHERE message.id = :id")
+    int updateDeliveryStateAndContractAgreementId(@Param("id") String id, @Param("deliveryState") NotificationDeliveryState deliveryState, @Param("contractAgreementId") String contractAgreementId, @Param("updated") LocalDateTime updated);
 }
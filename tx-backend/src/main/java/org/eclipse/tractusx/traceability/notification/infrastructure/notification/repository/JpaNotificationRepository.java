@@ -39,6 +39,12 @@ public interface JpaNotificationRepository extends JpaRepository<NotificationEnt
 
     long countAllBySideEqualsAndTypeEquals(NotificationSideBaseEntity notificationSide, NotificationTypeEntity notificationType);
 
+    @Query("SELECT notification.side, notification.type, COUNT(notification) FROM NotificationEntity notification GROUP BY notification.side, notification.type")
+    List<Object[]> countGroupedBySideAndType();
+
+    @Query("SELECT asset.owner, notification.type, COUNT(DISTINCT asset.id) FROM NotificationEntity notification JOIN notification.assets asset WHERE notification.status IN :statuses GROUP BY asset.owner, notification.type")
+    List<Object[]> countDistinctAssetsGroupedByOwnerAndType(@Param("statuses") List<NotificationStatusBaseEntity> statuses);
+
     @Query("SELECT notification FROM NotificationEntity notification JOIN notification.messages notificationMessage WHERE notificationMessage.edcNotificationId = :edcNotificationId")
     Optional<NotificationEntity> findByNotificationMessageEdcNotificationId(@Param("edcNotificationId") String edcNotificationId);
 
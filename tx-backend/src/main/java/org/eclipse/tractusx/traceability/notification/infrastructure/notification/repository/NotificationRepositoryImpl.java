@@ -30,6 +30,7 @@ import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.eclipse.tractusx.traceability.common.repository.BaseSpecification;
 import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
+import org.eclipse.tractusx.traceability.common.repository.KeysetPaging;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationAffectedPart;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationId;
@@ -52,9 +53,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
@@ -91,6 +96,14 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         );
     }
 
+    @Override
+    public Map<NotificationSide, Map<NotificationType, Long>> countNotificationsGroupedBySideAndType() {
+        return jpaNotificationRepository.countGroupedBySideAndType().stream()
+                .collect(Collectors.groupingBy(
+                        row -> NotificationSide.valueOf(((NotificationSideBaseEntity) row[0]).name()),
+                        Collectors.toMap(row -> ((NotificationTypeEntity) row[1]).toDomain(), row -> (Long) row[2])));
+    }
+
     @Override
     public NotificationId saveNotification(Notification notification) {
         List<AssetAsBuiltEntity> assetEntities = getAssetEntitiesByNotification(notification);
@@ -102,7 +115,7 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 
         jpaNotificationRepository.save(notificationEntity);
 
-        notification.getNotifications().forEach(notificationMessage -> handleMessageCreate(notificationEntity, notificationMessage, assetEntities));
+        saveNewMessages(notificationEntity, notification.getNotifications(), assetEntities);
 
         return new NotificationId(notificationEntity.getId());
     }
@@ -139,7 +152,7 @@ public class NotificationRepositoryImpl implements NotificationRepository {
                 .map(NotificationSpecification::new)
                 .toList();
         Specification<NotificationEntity> specification = BaseSpecification.toSpecification(notificationSpecifications);
-        return new PageResult<>(jpaNotificationRepository.findAll(specification, pageable), NotificationEntity::toDomain);
+        return KeysetPaging.findPage(jpaNotificationRepository, NotificationEntity.class, specification, pageable, NotificationEntity::toDomain);
     }
 
     @Override
@@ -156,6 +169,17 @@ public class NotificationRepositoryImpl implements NotificationRepository {
                 .size();
     }
 
+    @Override
+    public Map<Owner, Map<NotificationType, Long>> countAssetsWithOpenNotificationsGroupedByOwnerAndType() {
+        return jpaNotificationRepository.countDistinctAssetsGroupedByOwnerAndType(
+                        NotificationStatusBaseEntity.from(NotificationStatus.ACTIVE_STATES))
+                .stream()
+                .filter(row -> row[0] != null)
+                .collect(Collectors.groupingBy(
+                        row -> (Owner) row[0],
+                        Collectors.toMap(row -> ((NotificationTypeEntity) row[1]).toDomain(), row -> (Long) row[2])));
+    }
+
     @Override
     public List<String> getDistinctFieldValues(String fieldName, String startWith, Integer resultLimit, NotificationSide side) {
         return CriteriaUtility.getDistinctNotificationFieldValues(fieldName, startWith, resultLimit, side, NotificationEntity.class, entityManager);
@@ -164,13 +188,18 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     @Override
     public void updateErrorMessage(Notification notification, NotificationMessage message) {
         log.info("Starting update of error message with notification {}", notification);
+        LocalDateTime updated = LocalDateTime.ofInstant(clock.instant(), clock.getZone());
+        if (message.getId() != null && jpaNotificationMessageRepository.updateErrorMessage(message.getId(), message.getErrorMessage(), updated) > 0) {
+            return;
+        }
+
         NotificationEntity notificationEntity = jpaNotificationRepository.findById(notification.getNotificationId().value())
                 .orElseThrow(() -> new IllegalArgumentException(String.format("Notification with id %s not found!", notification.getNotificationId().value())));
 
-        List<AssetAsBuiltEntity> assetEntitiesByNotification = getAssetEntitiesByNotification(notification);
-        NotificationMessageEntity notificationMessageEntity = toNotificationMessageEntity(notificationEntity, message, assetEntitiesByNotification);
+        Map<String, AssetAsBuiltEntity> assetsById = indexById(getAssetEntitiesByNotification(notification));
+        NotificationMessageEntity notificationMessageEntity = toNotificationMessageEntity(notificationEntity, message, assetsById);
         notificationMessageEntity.setErrorMessage(message.getErrorMessage());
-        notificationMessageEntity.setUpdated(LocalDateTime.ofInstant(clock.instant(), clock.getZone()));
+        notificationMessageEntity.setUpdated(updated);
         jpaNotificationMessageRepository.updateOrInsert(notificationMessageEntity);
     }
 
@@ -187,25 +216,31 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         return assetsAsBuiltRepository.findByIdIn(assetIds);
     }
 
-    private void handleMessageCreate(NotificationEntity notificationEntity, NotificationMessage messageDomain, List<AssetAsBuiltEntity> assetEntities) {
-        NotificationMessageEntity notificationMessageEntity = toNotificationMessageEntity(notificationEntity, messageDomain, assetEntities);
-
-        Optional<NotificationMessageEntity> optionalNotificationMessage = jpaNotificationMessageRepository.findById(notificationMessageEntity.getId());
+    /**
+     * Persists the messages which are not stored yet. The assets are indexed once for all messages and the new
+     * messages are inserted together, so the number of queries does not grow with the number of messages.
+     */
+    private void saveNewMessages(NotificationEntity notificationEntity, List<NotificationMessage> messages, List<AssetAsBuiltEntity> assetEntities) {
+        List<String> messageIds = messages.stream().map(NotificationMessage::getId).filter(Objects::nonNull).toList();
+        Set<String> storedMessageIds = messageIds.isEmpty() ? new HashSet<>() : new HashSet<>(jpaNotificationMessageRepository.findExistingIds(messageIds));
+        Map<String, AssetAsBuiltEntity> assetsById = indexById(assetEntities);
+
+        List<NotificationMessageEntity> newMessages = messages.stream()
+                .filter(message -> storedMessageIds.add(message.getId()))
+                .map(message -> toNotificationMessageEntity(notificationEntity, message, assetsById))
+                .toList();
 
-        optionalNotificationMessage.ifPresentOrElse(
-                // If present
-                investigationNotificationEntity -> log.info("Investigation has the following old notification with id {} and status {}", investigationNotificationEntity.getId(), investigationNotificationEntity.getStatus().name()),
-                // If not present
-                () -> {
-                    // Persist
-                    log.info("Investigation has the following new notification with id {} and status {}", notificationMessageEntity.getId(), notificationMessageEntity.getStatus().name());
-                    jpaNotificationMessageRepository.save(notificationMessageEntity);
-                    log.info("Successfully persisted notification entity {}", notificationMessageEntity);
-                });
+        newMessages.forEach(entityManager::persist);
+        log.info("Notification {} has {} new and {} stored messages", notificationEntity.getId(), newMessages.size(), messages.size() - newMessages.size());
     }
 
-    private NotificationMessageEntity toNotificationMessageEntity(NotificationEntity notificationEntity, NotificationMessage notificationMessage, List<AssetAsBuiltEntity> investigationAssets) {
-        List<AssetAsBuiltEntity> notificationAssets = filterNotificationAssets(notificationMessage, investigationAssets);
+    private NotificationMessageEntity toNotificationMessageEntity(NotificationEntity notificationEntity, NotificationMessage notificationMessage, Map<String, AssetAsBuiltEntity> assetsById) {
+        List<AssetAsBuiltEntity> notificationAssets = notificationMessage.getAffectedParts().stream()
+                .map(NotificationAffectedPart::assetId)
+                .distinct()
+                .map(assetsById::get)
+                .filter(Objects::nonNull)
+                .toList();
 
         if (notificationAssets.isEmpty()) {
             throw new IllegalStateException("Investigation with id %s has no notificationMessage assets".formatted(notificationEntity.getId()));
@@ -213,17 +248,12 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         return NotificationMessageEntity.from(notificationEntity, notificationMessage, notificationAssets);
     }
 
-    private List<AssetAsBuiltEntity> filterNotificationAssets(NotificationMessage notificationMessage, List<AssetAsBuiltEntity> assets) {
-        Set<String> notificationAffectedAssetIds = notificationMessage.getAffectedParts().stream().map(NotificationAffectedPart::assetId).collect(Collectors.toSet());
-
-        return assets.stream().filter(it -> notificationAffectedAssetIds.contains(it.getId())).toList();
+    private static Map<String, AssetAsBuiltEntity> indexById(List<AssetAsBuiltEntity> assets) {
+        return assets.stream().collect(Collectors.toMap(AssetAsBuiltEntity::getId, Function.identity(), (first, second) -> first));
     }
 
     private void handleMessageUpdate(NotificationEntity notificationEntity, Notification notification) {
-        for (NotificationMessage notificationMessage : notification.getNotifications()) {
-            List<AssetAsBuiltEntity> assetEntitiesByNotification = getAssetEntitiesByNotification(notification);
-            handleMessageCreate(notificationEntity, notificationMessage, assetEntitiesByNotification);
-        }
+        saveNewMessages(notificationEntity, notification.getNotifications(), getAssetEntitiesByNotification(notification));
     }
 
 }
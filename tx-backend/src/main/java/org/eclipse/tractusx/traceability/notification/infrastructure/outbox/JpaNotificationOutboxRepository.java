@@ -0,0 +1,64 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.infrastructure.outbox;
+
+import org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaNotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, String> {
+
+    // flushes the notification messages of the surrounding transaction, the outbox references them
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO notification_outbox (notification_message_id, notification_id, status, attempts, next_attempt_on, created_on, updated_on)
+            VALUES (:messageId, :notificationId, 'PENDING', 0, :now, :now, :now)
+            ON CONFLICT (notification_message_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("messageId") String messageId, @Param("notificationId") Long notificationId, @Param("now") Instant now);
+
+    // dead letters do not hold back the later messages of their notification
+    @Query(value = """
+            SELECT outbox.* FROM notification_outbox outbox
+            WHERE ((outbox.status = 'PENDING' AND outbox.next_attempt_on <= :now)
+                OR (outbox.status = 'IN_PROGRESS' AND outbox.updated_on < :staleBefore))
+              AND NOT EXISTS (SELECT 1 FROM notification_outbox older
+                              WHERE older.notification_id = outbox.notification_id
+                                AND older.sequence_number < outbox.sequence_number
+                                AND older.status <> 'FAILED')
+            ORDER BY outbox.next_attempt_on
+            LIMIT :limit
+            FOR UPDATE OF outbox SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutboxEntity> findDueForUpdate(@Param("now") Instant now, @Param("staleBefore") Instant staleBefore, @Param("limit") int limit);
+
+    long countByStatusIn(List<NotificationOutboxStatus> statuses);
+
+    @Query("SELECT MIN(entry.createdOn) FROM NotificationOutboxEntity entry WHERE entry.status = :status")
+    Optional<Instant> findOldestCreatedOnByStatus(@Param("status") NotificationOutboxStatus status);
+}
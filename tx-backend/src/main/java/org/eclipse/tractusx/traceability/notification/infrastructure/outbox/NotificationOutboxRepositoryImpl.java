@@ -0,0 +1,120 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.common.properties.NotificationOutboxProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationOutboxRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.repository.JpaNotificationMessageRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxStatus.FAILED;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxStatus.IN_PROGRESS;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxStatus.PENDING;
+
+/**
+ * Outbox of notification messages waiting for delivery to the receiving EDC, backed by the notification_outbox table.
+ * Messages are queued in the transaction which changed the notification status, concurrent workers claim due
+ * messages with row level locks, so multiple instances can drain the same outbox.
+ */
+@Slf4j
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryImpl implements NotificationOutboxRepository {
+
+    private final JpaNotificationOutboxRepository jpaNotificationOutboxRepository;
+    private final JpaNotificationMessageRepository jpaNotificationMessageRepository;
+    private final NotificationOutboxProperties notificationOutboxProperties;
+    private final Clock clock;
+
+    @Override
+    public void enqueue(Long notificationId, List<String> messageIds) {
+        Instant now = clock.instant();
+        messageIds.forEach(messageId -> jpaNotificationOutboxRepository.insertIfAbsent(messageId, notificationId, now));
+    }
+
+    @Override
+    public List<NotificationOutboxEntity> claim(int limit) {
+        Instant now = clock.instant();
+        List<NotificationOutboxEntity> dueMessages = jpaNotificationOutboxRepository.findDueForUpdate(now, now.minus(notificationOutboxProperties.getLeaseTimeout()), limit);
+        dueMessages.forEach(message -> {
+            message.setStatus(IN_PROGRESS);
+            message.setUpdatedOn(now);
+        });
+        return dueMessages;
+    }
+
+    @Override
+    public void complete(String messageId, String contractAgreementId) {
+        jpaNotificationOutboxRepository.deleteById(messageId);
+        jpaNotificationMessageRepository.updateDeliveryStateAndContractAgreementId(messageId, NotificationDeliveryState.SENT, contractAgreementId, now());
+    }
+
+    @Override
+    public void retryLater(String messageId, String errorMessage) {
+        jpaNotificationOutboxRepository.findById(messageId).ifPresent(message -> {
+            Instant now = clock.instant();
+            int attempts = message.getAttempts() + 1;
+            message.setAttempts(attempts);
+            message.setErrorMessage(errorMessage);
+            message.setUpdatedOn(now);
+            if (attempts >= notificationOutboxProperties.getMaxAttempts()) {
+                log.warn("Delivery of notification message {} failed {} times and will not be retried anymore.", messageId, attempts);
+                message.setStatus(FAILED);
+                jpaNotificationMessageRepository.updateDeliveryState(messageId, NotificationDeliveryState.FAILED, now());
+            } else {
+                message.setStatus(PENDING);
+                message.setNextAttemptOn(now.plus(notificationOutboxProperties.getInitialBackoff().multipliedBy(1L << (attempts - 1))));
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long depth() {
+        return jpaNotificationOutboxRepository.countByStatusIn(List.of(PENDING, IN_PROGRESS));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long deadLetters() {
+        return jpaNotificationOutboxRepository.countByStatusIn(List.of(FAILED));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> oldestPendingCreatedOn() {
+        return jpaNotificationOutboxRepository.findOldestCreatedOnByStatus(PENDING);
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), clock.getZone());
+    }
+}
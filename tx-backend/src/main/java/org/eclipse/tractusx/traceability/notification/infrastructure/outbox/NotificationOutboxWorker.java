@@ -0,0 +1,149 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationId;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.EdcNotificationService;
+import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationNotFoundException;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationOutboxRepository;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.NOTIFICATION_OUTBOX_EXECUTOR;
+
+/**
+ * Delivers the notification messages of the {@link NotificationOutboxRepository} to the receiving EDC with the
+ * bounded notificationOutboxExecutor pool and exposes depth, lag, dead letters and delivery time as metrics.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class NotificationOutboxWorker {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final EdcNotificationService edcNotificationService;
+    private final ThreadPoolTaskExecutor notificationOutboxExecutor;
+    private final Clock clock;
+
+    private final AtomicLong outboxDepth = new AtomicLong();
+    private final AtomicLong outboxLagSeconds = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+    private final Timer deliveredTimer;
+    private final Timer failedTimer;
+
+    public NotificationOutboxWorker(
+            NotificationOutboxRepository notificationOutboxRepository,
+            NotificationRepository notificationRepository,
+            EdcNotificationService edcNotificationService,
+            @Qualifier(NOTIFICATION_OUTBOX_EXECUTOR) ThreadPoolTaskExecutor notificationOutboxExecutor,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.edcNotificationService = edcNotificationService;
+        this.notificationOutboxExecutor = notificationOutboxExecutor;
+        this.clock = clock;
+
+        Gauge.builder("notification.outbox.depth", outboxDepth, AtomicLong::get)
+                .description("Number of notification messages waiting for or in delivery")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.lag", outboxLagSeconds, AtomicLong::get)
+                .description("Age of the oldest notification message waiting for delivery")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.dead.letters", deadLetters, AtomicLong::get)
+                .description("Number of notification messages which will not be retried anymore")
+                .register(meterRegistry);
+        this.deliveredTimer = Timer.builder("notification.outbox.delivery")
+                .tag("outcome", "delivered")
+                .register(meterRegistry);
+        this.failedTimer = Timer.builder("notification.outbox.delivery")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notificationOutbox.pollInterval:PT2S}")
+    public void drain() {
+        refreshOutboxMetrics();
+
+        int freeWorkers = notificationOutboxExecutor.getMaxPoolSize() - notificationOutboxExecutor.getActiveCount();
+        if (freeWorkers <= 0) {
+            return;
+        }
+
+        for (NotificationOutboxEntity entry : notificationOutboxRepository.claim(freeWorkers)) {
+            try {
+                notificationOutboxExecutor.execute(() -> process(entry.getNotificationId(), entry.getNotificationMessageId()));
+            } catch (TaskRejectedException e) {
+                // the claimed message is picked up again once its lease timed out
+                log.warn("Delivery of notification message {} was rejected by the worker pool.", entry.getNotificationMessageId());
+            }
+        }
+    }
+
+    void process(Long notificationId, String messageId) {
+        long start = System.nanoTime();
+        try {
+            Notification notification = notificationRepository.findOptionalNotificationById(new NotificationId(notificationId))
+                    .orElseThrow(() -> new NotificationNotFoundException(String.valueOf(notificationId)));
+            NotificationMessage message = notification.getNotifications().stream()
+                    .filter(notificationMessage -> messageId.equals(notificationMessage.getId()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Notification %s has no message with id %s".formatted(notificationId, messageId)));
+
+            NotificationMessage sentMessage = edcNotificationService.sendNotificationMessage(message, notification);
+            if (sentMessage == null) {
+                notificationOutboxRepository.retryLater(messageId, message.getErrorMessage());
+                failedTimer.record(Duration.ofNanos(System.nanoTime() - start));
+                return;
+            }
+            notificationOutboxRepository.complete(messageId, sentMessage.getContractAgreementId());
+            deliveredTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.warn("Delivery of notification message {} failed.", messageId, e);
+            notificationOutboxRepository.retryLater(messageId, e.getMessage());
+            failedTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private void refreshOutboxMetrics() {
+        outboxDepth.set(notificationOutboxRepository.depth());
+        deadLetters.set(notificationOutboxRepository.deadLetters());
+        outboxLagSeconds.set(notificationOutboxRepository.oldestPendingCreatedOn()
+                .map(createdOn -> Duration.between(createdOn, clock.instant()).toSeconds())
+                .orElse(0L));
+    }
+}
@@ -0,0 +1,40 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.shelldescriptor.domain.repository;
+
+import java.time.Instant;
+import java.util.Map;
+
+public interface ShellDescriptorFingerprintRepository {
+
+    /**
+     * Returns the confirmed fingerprints of all shell descriptors synchronized after the given instant by global asset id.
+     */
+    Map<String, String> findFingerprintsSynchronizedAfter(Instant synchronizedAfter);
+
+    /**
+     * Stores the fingerprints of submitted synchronizations, they are not compared until they are confirmed.
+     */
+    void savePending(Map<String, String> fingerprints, Instant pendingSince);
+
+    /**
+     * Confirms the pending fingerprint of the twin once its synchronization was processed.
+     */
+    void confirmPending(String globalAssetId, Instant synchronizedOn);
+}
@@ -21,6 +21,9 @@
 
 package org.eclipse.tractusx.traceability.shelldescriptor.domain.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.Shell;
@@ -32,10 +35,22 @@ import org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
 import org.eclipse.tractusx.traceability.shelldescriptor.application.DecentralRegistryService;
 import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.DecentralRegistryRepository;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.ShellDescriptorFingerprintRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel.BATCH;
 import static org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel.JUSTINSEQUENCE;
@@ -47,10 +62,20 @@ import static org.eclipse.tractusx.traceability.assets.domain.base.model.Semanti
 @Component
 public class DecentralRegistryServiceImpl implements DecentralRegistryService {
 
+    private static final String SYNCHRONIZED_ASSETS_METRIC = "registry.sync.assets";
+
     private final AssetAsBuiltServiceImpl assetAsBuiltService;
     private final AssetAsPlannedServiceImpl assetAsPlannedService;
     private final TraceabilityProperties traceabilityProperties;
     private final DecentralRegistryRepository decentralRegistryRepository;
+    private final ShellDescriptorFingerprintRepository shellDescriptorFingerprintRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    @Value("${registry.deltaSync.enabled}")
+    private final boolean deltaSyncEnabled;
+    @Value("${registry.deltaSync.maxFingerprintAge}")
+    private final Duration maxFingerprintAge;
 
 
     private static final List<String> AS_BUILT_ASPECT_TYPES = List.of(SERIALPART.getValue(), BATCH.getValue(), JUSTINSEQUENCE.getValue());
@@ -60,21 +85,74 @@ public class DecentralRegistryServiceImpl implements DecentralRegistryService {
     @Async(value = AssetsAsyncConfig.LOAD_SHELL_DESCRIPTORS_EXECUTOR)
     public void synchronizeAssets() {
         List<Shell> shellDescriptors = decentralRegistryRepository.retrieveShellDescriptorsByBpn(traceabilityProperties.getBpn().toString());
+        Instant synchronizedOn = clock.instant();
+        Map<String, String> fingerprints = deltaSyncEnabled ? fingerprintShellDescriptors(shellDescriptors) : Map.of();
+        Map<String, String> synchronizedFingerprints = deltaSyncEnabled
+                ? shellDescriptorFingerprintRepository.findFingerprintsSynchronizedAfter(synchronizedOn.minus(maxFingerprintAge))
+                : Map.of();
+
         List<String> asBuiltAssetIds = shellDescriptors.stream().map(Shell::payload).filter(this::isAsBuilt).map(AssetAdministrationShellDescriptor::getGlobalAssetId).toList();
         List<String> asPlannedAssetIds = shellDescriptors.stream().map(Shell::payload).filter(this::isAsPlanned).map(AssetAdministrationShellDescriptor::getGlobalAssetId).toList();
 
-        List<String> existingAsBuiltInSyncAndTransientStates = assetAsBuiltService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION);
-        List<String> existingAsPlannedInSyncAndTransientStates = assetAsPlannedService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION);
-
-        List<String> asBuiltAssetsToSync = asBuiltAssetIds.stream().filter(assetId -> !existingAsBuiltInSyncAndTransientStates.contains(assetId)).toList();
-        List<String> asPlannedAssetsToSync = asPlannedAssetIds.stream().filter(assetId -> !existingAsPlannedInSyncAndTransientStates.contains(assetId)).toList();
-
-        log.info("Try to sync {} assets asBuilt", asBuiltAssetsToSync.size());
+        Set<String> existingAsBuiltInSyncAndTransientStates = assetAsBuiltService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION);
+        Set<String> existingAsPlannedInSyncAndTransientStates = assetAsPlannedService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION);
+        // a twin missing locally is synchronized even if its shell descriptor is unchanged
+        Set<String> storedAsBuiltAssetIds = deltaSyncEnabled ? assetAsBuiltService.getExistingAssetIds(asBuiltAssetIds) : Set.of();
+        Set<String> storedAsPlannedAssetIds = deltaSyncEnabled ? assetAsPlannedService.getExistingAssetIds(asPlannedAssetIds) : Set.of();
+
+        List<String> asBuiltAssetsToSync = asBuiltAssetIds.stream()
+                .filter(assetId -> !existingAsBuiltInSyncAndTransientStates.contains(assetId))
+                .filter(assetId -> isNewOrChanged(assetId, fingerprints, synchronizedFingerprints, storedAsBuiltAssetIds))
+                .toList();
+        List<String> asPlannedAssetsToSync = asPlannedAssetIds.stream()
+                .filter(assetId -> !existingAsPlannedInSyncAndTransientStates.contains(assetId))
+                .filter(assetId -> isNewOrChanged(assetId, fingerprints, synchronizedFingerprints, storedAsPlannedAssetIds))
+                .toList();
+
+        // the fingerprints stay pending until the IRS callback of the twin was processed, see JobRepositoryImpl
+        if (deltaSyncEnabled) {
+            Map<String, String> submittedAssetFingerprints = new HashMap<>();
+            Stream.concat(asBuiltAssetsToSync.stream(), asPlannedAssetsToSync.stream())
+                    .filter(fingerprints::containsKey)
+                    .forEach(assetId -> submittedAssetFingerprints.put(assetId, fingerprints.get(assetId)));
+            shellDescriptorFingerprintRepository.savePending(submittedAssetFingerprints, synchronizedOn);
+        }
+
+        report("asBuilt", asBuiltAssetsToSync.size(), asBuiltAssetIds.size() - asBuiltAssetsToSync.size());
         asBuiltAssetsToSync.forEach(assetAsBuiltService::synchronizeAssetsAsync);
-        log.info("Try to sync {} assets asPlanned", asPlannedAssetsToSync.size());
+        report("asPlanned", asPlannedAssetsToSync.size(), asPlannedAssetIds.size() - asPlannedAssetsToSync.size());
         asPlannedAssetsToSync.forEach(assetAsPlannedService::synchronizeAssetsAsync);
     }
 
+    private boolean isNewOrChanged(String assetId, Map<String, String> fingerprints, Map<String, String> synchronizedFingerprints, Set<String> storedAssetIds) {
+        return !deltaSyncEnabled
+                || !storedAssetIds.contains(assetId)
+                || !fingerprints.containsKey(assetId)
+                || !fingerprints.get(assetId).equals(synchronizedFingerprints.get(assetId));
+    }
+
+    private void report(String bomLifecycle, int synced, int skipped) {
+        log.info("Try to sync {} assets {}, skipped {} assets which are unchanged or in synchronization", synced, bomLifecycle, skipped);
+        meterRegistry.counter(SYNCHRONIZED_ASSETS_METRIC, "bomLifecycle", bomLifecycle, "result", "synced").increment(synced);
+        meterRegistry.counter(SYNCHRONIZED_ASSETS_METRIC, "bomLifecycle", bomLifecycle, "result", "skipped").increment(skipped);
+    }
+
+    private Map<String, String> fingerprintShellDescriptors(List<Shell> shellDescriptors) {
+        Map<String, String> fingerprints = new HashMap<>();
+        for (Shell shell : shellDescriptors) {
+            AssetAdministrationShellDescriptor shellDescriptor = shell.payload();
+            if (shellDescriptor.getGlobalAssetId() == null) {
+                continue;
+            }
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(shellDescriptor));
+                fingerprints.put(shellDescriptor.getGlobalAssetId(), HexFormat.of().formatHex(digest));
+            } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+                log.warn("Could not fingerprint shell descriptor for globalAssetId {}, it will be synchronized.", shellDescriptor.getGlobalAssetId(), e);
+            }
+        }
+        return fingerprints;
+    }
 
     // TODO: consider creating support method on AssetAdministrationShellDescriptor.is(BomLifecycle lifecycle) that will be usable on our code
     // IRS already have BomLifecycle in their domain so we can use it there also
@@ -0,0 +1,67 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.shelldescriptor.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.ShellDescriptorFingerprintRepository;
+import org.eclipse.tractusx.traceability.shelldescriptor.infrastructure.model.ShellDescriptorFingerprintEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ShellDescriptorFingerprintRepositoryImpl implements ShellDescriptorFingerprintRepository {
+
+    private final JpaShellDescriptorFingerprintRepository repository;
+
+    @Override
+    public Map<String, String> findFingerprintsSynchronizedAfter(Instant synchronizedAfter) {
+        return repository.findBySynchronizedOnAfter(synchronizedAfter).stream()
+                .collect(Collectors.toMap(ShellDescriptorFingerprintEntity::getGlobalAssetId, ShellDescriptorFingerprintEntity::getFingerprint));
+    }
+
+    @Override
+    @Transactional
+    public void savePending(Map<String, String> fingerprints, Instant pendingSince) {
+        Map<String, ShellDescriptorFingerprintEntity> storedEntities = repository.findAllById(fingerprints.keySet()).stream()
+                .collect(Collectors.toMap(ShellDescriptorFingerprintEntity::getGlobalAssetId, Function.identity()));
+        List<ShellDescriptorFingerprintEntity> entities = fingerprints.entrySet().stream()
+                .map(fingerprint -> {
+                    ShellDescriptorFingerprintEntity entity = storedEntities.getOrDefault(fingerprint.getKey(),
+                            ShellDescriptorFingerprintEntity.builder().globalAssetId(fingerprint.getKey()).build());
+                    entity.setPendingFingerprint(fingerprint.getValue());
+                    entity.setPendingSince(pendingSince);
+                    return entity;
+                })
+                .toList();
+        repository.saveAll(entities);
+    }
+
+    @Override
+    @Transactional
+    public void confirmPending(String globalAssetId, Instant synchronizedOn) {
+        repository.confirmPendingFingerprint(globalAssetId, synchronizedOn);
+    }
+}
@@ -23,6 +23,8 @@ import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.Ass
 import org.eclipse.tractusx.traceability.assets.infrastructure.asplanned.model.AssetAsPlannedEntity;
 import org.eclipse.tractusx.traceability.submodel.infrastructure.model.SubmodelPayloadEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -32,4 +34,10 @@ public interface JpaSubmodelPayloadRepository extends JpaRepository<SubmodelPayl
 
     List<SubmodelPayloadEntity> findByAssetAsPlanned(AssetAsPlannedEntity assetAsPlanned);
 
+    @Query("SELECT payload.assetAsBuilt.id, payload.aspectType, payload.json FROM SubmodelPayloadEntity payload WHERE payload.assetAsBuilt.id IN :assetIds")
+    List<Object[]> findAspectTypesAndPayloadsByAssetAsBuiltIdIn(@Param("assetIds") List<String> assetIds);
+
+    @Query("SELECT payload.assetAsPlanned.id, payload.aspectType, payload.json FROM SubmodelPayloadEntity payload WHERE payload.assetAsPlanned.id IN :assetIds")
+    List<Object[]> findAspectTypesAndPayloadsByAssetAsPlannedIdIn(@Param("assetIds") List<String> assetIds);
+
 }
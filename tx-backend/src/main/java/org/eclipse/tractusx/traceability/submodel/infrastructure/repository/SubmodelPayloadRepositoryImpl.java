@@ -30,10 +30,13 @@ import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.re
 import org.eclipse.tractusx.traceability.submodel.infrastructure.model.SubmodelPayloadEntity;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -45,15 +48,27 @@ public class SubmodelPayloadRepositoryImpl implements SubmodelPayloadRepository
     private static final String ASSET_NOT_FOUND_EXCEPTION_TEMPLATE = "Asset with id: '%s' not found while saving submodels";
 
     @Override
-    public void savePayloadForAssetAsBuilt(String assetId, List<IrsSubmodel> submodels) {
-        AssetAsBuiltEntity asset = jpaAssetAsBuiltRepository.findById(assetId).orElseThrow(() -> new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(assetId)));
-        jpaSubmodelPayloadRepository.saveAll(SubmodelPayloadEntity.from(asset, submodels));
+    public void savePayloadsForAssetsAsBuilt(Map<String, List<IrsSubmodel>> submodelsByAssetId) {
+        if (submodelsByAssetId.isEmpty()) {
+            return;
+        }
+        List<AssetAsBuiltEntity> assets = jpaAssetAsBuiltRepository.findByIdIn(List.copyOf(submodelsByAssetId.keySet()));
+        assertAllAssetsFound(submodelsByAssetId.keySet(), assets.stream().map(AssetAsBuiltEntity::getId).collect(Collectors.toSet()));
+        jpaSubmodelPayloadRepository.saveAll(assets.stream()
+                .flatMap(asset -> SubmodelPayloadEntity.from(asset, submodelsByAssetId.get(asset.getId())).stream())
+                .toList());
     }
 
     @Override
-    public void savePayloadForAssetAsPlanned(String assetId, List<IrsSubmodel> submodels) {
-        AssetAsPlannedEntity asset = jpaAssetAsPlannedRepository.findById(assetId).orElseThrow(() -> new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(assetId)));
-        jpaSubmodelPayloadRepository.saveAll(SubmodelPayloadEntity.from(asset, submodels));
+    public void savePayloadsForAssetsAsPlanned(Map<String, List<IrsSubmodel>> submodelsByAssetId) {
+        if (submodelsByAssetId.isEmpty()) {
+            return;
+        }
+        List<AssetAsPlannedEntity> assets = jpaAssetAsPlannedRepository.findByIdIn(List.copyOf(submodelsByAssetId.keySet()));
+        assertAllAssetsFound(submodelsByAssetId.keySet(), assets.stream().map(AssetAsPlannedEntity::getId).collect(Collectors.toSet()));
+        jpaSubmodelPayloadRepository.saveAll(assets.stream()
+                .flatMap(asset -> SubmodelPayloadEntity.from(asset, submodelsByAssetId.get(asset.getId())).stream())
+                .toList());
     }
 
     @Override
@@ -69,6 +84,30 @@ public class SubmodelPayloadRepositoryImpl implements SubmodelPayloadRepository
         throw new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(assetId));
     }
 
+    @Override
+    public Map<String, Map<String, String>> getAspectTypesAndPayloadsByAssetIds(List<String> assetIds) {
+        if (assetIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Map<String, String>> payloadsByAssetId = new HashMap<>();
+        Stream.concat(jpaAssetAsBuiltRepository.findIdsByIdIn(assetIds).stream(), jpaAssetAsPlannedRepository.findIdsByIdIn(assetIds).stream())
+                .forEach(assetId -> payloadsByAssetId.put(assetId, new HashMap<>()));
+        Stream.concat(jpaSubmodelPayloadRepository.findAspectTypesAndPayloadsByAssetAsBuiltIdIn(assetIds).stream(),
+                        jpaSubmodelPayloadRepository.findAspectTypesAndPayloadsByAssetAsPlannedIdIn(assetIds).stream())
+                .forEach(row -> payloadsByAssetId.computeIfAbsent((String) row[0], assetId -> new HashMap<>())
+                        .put((String) row[1], (String) row[2]));
+        return payloadsByAssetId;
+    }
+
+    private static void assertAllAssetsFound(Set<String> assetIds, Set<String> foundAssetIds) {
+        assetIds.stream()
+                .filter(assetId -> !foundAssetIds.contains(assetId))
+                .findFirst()
+                .ifPresent(assetId -> {
+                    throw new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(assetId));
+                });
+    }
+
     private Map<String, String> toTypesAndPayloadsMap(List<SubmodelPayloadEntity> entities) {
         return entities.stream().map(entity -> Map.entry(entity.getAspectType(), entity.getJson()))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
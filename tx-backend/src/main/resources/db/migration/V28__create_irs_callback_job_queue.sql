@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS irs_callback_job
+(
+    job_id          VARCHAR(255) PRIMARY KEY,
+    job_state       VARCHAR(255),
+    status          VARCHAR(50) NOT NULL,
+    attempts        INTEGER     NOT NULL DEFAULT 0,
+    error_message   TEXT,
+    next_attempt_on TIMESTAMP   NOT NULL,
+    created_on      TIMESTAMP   NOT NULL,
+    updated_on      TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS irs_callback_job_status_next_attempt_on_idx ON irs_callback_job (status, next_attempt_on);
@@ -0,0 +1,10 @@
+-- The fingerprint of a submitted synchronization stays pending until the IRS callback of the twin was processed,
+-- a twin whose synchronization failed is synchronized again by the next delta sync.
+CREATE TABLE IF NOT EXISTS shell_descriptor_fingerprint
+(
+    global_asset_id     VARCHAR(255) PRIMARY KEY,
+    fingerprint         VARCHAR(64),
+    synchronized_on     TIMESTAMP,
+    pending_fingerprint VARCHAR(64),
+    pending_since       TIMESTAMP
+);
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS irs_job_in_flight
+(
+    job_id        VARCHAR(255) PRIMARY KEY,
+    owner         VARCHAR(255) NOT NULL,
+    registered_on TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS irs_job_in_flight_owner_idx ON irs_job_in_flight (owner);
@@ -0,0 +1,154 @@
+CREATE TABLE IF NOT EXISTS assets_as_built_notification_counter
+(
+    asset_id                       VARCHAR(255) PRIMARY KEY REFERENCES assets_as_built (id) ON DELETE CASCADE,
+    received_active_alerts         BIGINT NOT NULL DEFAULT 0,
+    sent_active_alerts             BIGINT NOT NULL DEFAULT 0,
+    received_active_investigations BIGINT NOT NULL DEFAULT 0,
+    sent_active_investigations     BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_counter_received_active_alerts ON assets_as_built_notification_counter (received_active_alerts);
+CREATE INDEX IF NOT EXISTS idx_notification_counter_sent_active_alerts ON assets_as_built_notification_counter (sent_active_alerts);
+CREATE INDEX IF NOT EXISTS idx_notification_counter_received_active_investigations ON assets_as_built_notification_counter (received_active_investigations);
+CREATE INDEX IF NOT EXISTS idx_notification_counter_sent_active_investigations ON assets_as_built_notification_counter (sent_active_investigations);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_notifications_asset_id ON assets_as_built_notifications (asset_id);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_notifications_notification_id ON assets_as_built_notifications (notification_id);
+
+-- Recounts the active notifications of the given assets, used for the initial count. Counter rows are created together
+-- with the assets, the triggers below adjust them incrementally.
+CREATE OR REPLACE FUNCTION refresh_assets_as_built_notification_counter(asset_ids VARCHAR[]) RETURNS VOID AS
+$$
+UPDATE assets_as_built_notification_counter counter
+SET received_active_alerts         = counts.received_active_alerts,
+    sent_active_alerts             = counts.sent_active_alerts,
+    received_active_investigations = counts.received_active_investigations,
+    sent_active_investigations     = counts.sent_active_investigations
+FROM (SELECT ids.asset_id,
+             count(notification.id) FILTER (WHERE notification.side = 'RECEIVER' AND notification.type = 'ALERT')         AS received_active_alerts,
+             count(notification.id) FILTER (WHERE notification.side = 'SENDER' AND notification.type = 'ALERT')           AS sent_active_alerts,
+             count(notification.id) FILTER (WHERE notification.side = 'RECEIVER' AND notification.type = 'INVESTIGATION') AS received_active_investigations,
+             count(notification.id) FILTER (WHERE notification.side = 'SENDER' AND notification.type = 'INVESTIGATION')   AS sent_active_investigations
+      FROM unnest(asset_ids) AS ids(asset_id)
+               LEFT JOIN assets_as_built_notifications notification_assets
+                         ON notification_assets.asset_id = ids.asset_id
+               LEFT JOIN notification notification
+                         ON notification.id = notification_assets.notification_id
+                             AND notification.status IN ('CREATED', 'SENT', 'RECEIVED', 'ACKNOWLEDGED', 'ACCEPTED', 'DECLINED')
+      GROUP BY ids.asset_id) counts
+WHERE counter.asset_id = counts.asset_id;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION create_assets_as_built_notification_counter() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO assets_as_built_notification_counter (asset_id) VALUES (NEW.id) ON CONFLICT DO NOTHING;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION is_active_notification_status(notification_status VARCHAR) RETURNS BOOLEAN AS
+$$
+SELECT coalesce(notification_status IN ('CREATED', 'SENT', 'RECEIVED', 'ACKNOWLEDGED', 'ACCEPTED', 'DECLINED'), FALSE);
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Adds delta once per given asset id to the counter of the side and type. An asset id given twice (linked twice to the
+-- same notification) is adjusted twice. Counter rows are locked in the order of their ids, concurrent adjustments of
+-- overlapping assets do not deadlock on each other.
+CREATE OR REPLACE FUNCTION adjust_assets_as_built_notification_counter(asset_ids VARCHAR[],
+                                                                       notification_side VARCHAR,
+                                                                       notification_type VARCHAR,
+                                                                       delta BIGINT) RETURNS VOID AS
+$$
+BEGIN
+    PERFORM 1
+    FROM assets_as_built_notification_counter
+    WHERE asset_id = ANY (asset_ids)
+    ORDER BY asset_id
+    FOR UPDATE;
+
+    UPDATE assets_as_built_notification_counter counter
+    SET received_active_alerts         = received_active_alerts + CASE WHEN notification_side = 'RECEIVER' AND notification_type = 'ALERT' THEN delta * changes.links ELSE 0 END,
+        sent_active_alerts             = sent_active_alerts + CASE WHEN notification_side = 'SENDER' AND notification_type = 'ALERT' THEN delta * changes.links ELSE 0 END,
+        received_active_investigations = received_active_investigations + CASE WHEN notification_side = 'RECEIVER' AND notification_type = 'INVESTIGATION' THEN delta * changes.links ELSE 0 END,
+        sent_active_investigations     = sent_active_investigations + CASE WHEN notification_side = 'SENDER' AND notification_type = 'INVESTIGATION' THEN delta * changes.links ELSE 0 END
+    FROM (SELECT ids.asset_id, count(*) AS links
+          FROM unnest(asset_ids) AS ids(asset_id)
+          GROUP BY ids.asset_id) changes
+    WHERE counter.asset_id = changes.asset_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The notification is share locked: a concurrent change of its status waits for the link to be committed and then
+-- adjusts it, a link of a notification whose status is being changed waits for the new status.
+CREATE OR REPLACE FUNCTION count_notification_of_asset() RETURNS TRIGGER AS
+$$
+DECLARE
+    link                assets_as_built_notifications%ROWTYPE;
+    linked_notification RECORD;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        link := OLD;
+    ELSE
+        link := NEW;
+    END IF;
+
+    SELECT status, side, type
+    INTO linked_notification
+    FROM notification
+    WHERE id = link.notification_id
+    FOR SHARE;
+
+    IF FOUND AND is_active_notification_status(linked_notification.status) THEN
+        PERFORM adjust_assets_as_built_notification_counter(ARRAY [link.asset_id],
+                                                            linked_notification.side,
+                                                            linked_notification.type,
+                                                            CASE WHEN TG_OP = 'DELETE' THEN -1 ELSE 1 END);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_assets_of_notification() RETURNS TRIGGER AS
+$$
+DECLARE
+    asset_ids VARCHAR[] := ARRAY(SELECT asset_id
+                                 FROM assets_as_built_notifications
+                                 WHERE notification_id = NEW.id);
+BEGIN
+    IF is_active_notification_status(OLD.status) THEN
+        PERFORM adjust_assets_as_built_notification_counter(asset_ids, OLD.side, OLD.type, -1);
+    END IF;
+    IF is_active_notification_status(NEW.status) THEN
+        PERFORM adjust_assets_as_built_notification_counter(asset_ids, NEW.side, NEW.type, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER assets_as_built_notification_counter_create
+    AFTER INSERT
+    ON assets_as_built
+    FOR EACH ROW
+EXECUTE FUNCTION create_assets_as_built_notification_counter();
+
+CREATE TRIGGER assets_as_built_notification_counter_assets
+    AFTER INSERT OR DELETE
+    ON assets_as_built_notifications
+    FOR EACH ROW
+EXECUTE FUNCTION count_notification_of_asset();
+
+CREATE TRIGGER assets_as_built_notification_counter_notification
+    AFTER UPDATE OF status, side, type
+    ON notification
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status
+        OR OLD.side IS DISTINCT FROM NEW.side
+        OR OLD.type IS DISTINCT FROM NEW.type)
+EXECUTE FUNCTION count_assets_of_notification();
+
+INSERT INTO assets_as_built_notification_counter (asset_id)
+SELECT id
+FROM assets_as_built
+ON CONFLICT DO NOTHING;
+
+SELECT refresh_assets_as_built_notification_counter(ARRAY(SELECT asset_id FROM assets_as_built_notifications));
@@ -0,0 +1,19 @@
+ALTER TABLE notification_message ADD COLUMN IF NOT EXISTS delivery_state VARCHAR(50);
+
+-- The messages of a notification are delivered in the order they were queued, a message is only claimed when no
+-- older message of its notification is waiting for or in delivery.
+CREATE TABLE IF NOT EXISTS notification_outbox
+(
+    notification_message_id VARCHAR(255) PRIMARY KEY REFERENCES notification_message (id) ON DELETE CASCADE,
+    notification_id         BIGINT      NOT NULL,
+    status                  VARCHAR(50) NOT NULL,
+    attempts                INTEGER     NOT NULL DEFAULT 0,
+    error_message           TEXT,
+    next_attempt_on         TIMESTAMP   NOT NULL,
+    created_on              TIMESTAMP   NOT NULL,
+    updated_on              TIMESTAMP   NOT NULL,
+    sequence_number         BIGSERIAL
+);
+
+CREATE INDEX IF NOT EXISTS notification_outbox_status_next_attempt_on_idx ON notification_outbox (status, next_attempt_on);
+CREATE INDEX IF NOT EXISTS notification_outbox_notification_id_sequence_number_idx ON notification_outbox (notification_id, sequence_number);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS contract_negotiation_lease
+(
+    negotiation_key       VARCHAR      PRIMARY KEY,
+    status                VARCHAR(50)  NOT NULL,
+    owner                 VARCHAR(255) NOT NULL,
+    contract_agreement_id VARCHAR(255),
+    expires_on            TIMESTAMP    NOT NULL,
+    updated_on            TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_lease_expires_on_idx ON contract_negotiation_lease (expires_on);
@@ -0,0 +1,14 @@
+-- auth_key and auth_code are stored encrypted.
+CREATE TABLE IF NOT EXISTS endpoint_data_reference
+(
+    contract_agreement_id VARCHAR(255) PRIMARY KEY,
+    transfer_process_id   VARCHAR(255) NOT NULL,
+    contract_id           VARCHAR(255) NOT NULL,
+    endpoint              VARCHAR      NOT NULL,
+    auth_key              TEXT,
+    auth_code             TEXT,
+    expires_on            TIMESTAMP    NOT NULL,
+    updated_on            TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS endpoint_data_reference_expires_on_idx ON endpoint_data_reference (expires_on);
@@ -0,0 +1,21 @@
+-- Entries are keyed by inbox_id, which is the edcNotificationId for receives and the edcNotificationId and messageId
+-- for updates. Updates of a notification whose receive is still waiting in the inbox are queued behind it, an entry is
+-- only claimed when no older entry of the same edcNotificationId is waiting for or in processing.
+CREATE TABLE IF NOT EXISTS notification_inbox
+(
+    inbox_id            VARCHAR(255) PRIMARY KEY,
+    edc_notification_id VARCHAR(255) NOT NULL,
+    kind                VARCHAR(50)  NOT NULL DEFAULT 'RECEIVE',
+    notification_type   VARCHAR(50)  NOT NULL,
+    payload             TEXT         NOT NULL,
+    status              VARCHAR(50)  NOT NULL,
+    attempts            INTEGER      NOT NULL DEFAULT 0,
+    error_message       TEXT,
+    next_attempt_on     TIMESTAMP    NOT NULL,
+    created_on          TIMESTAMP    NOT NULL,
+    updated_on          TIMESTAMP    NOT NULL,
+    sequence_number     BIGSERIAL
+);
+
+CREATE INDEX IF NOT EXISTS notification_inbox_status_next_attempt_on_idx ON notification_inbox (status, next_attempt_on);
+CREATE INDEX IF NOT EXISTS notification_inbox_edc_notification_id_sequence_number_idx ON notification_inbox (edc_notification_id, sequence_number);
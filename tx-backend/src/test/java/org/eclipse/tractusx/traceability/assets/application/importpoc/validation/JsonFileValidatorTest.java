@@ -0,0 +1,111 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.application.importpoc.validation;
+
+import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.NotSupportedSchemaException;
+import org.eclipse.tractusx.traceability.common.properties.ImportValidationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonFileValidatorTest {
+
+    private static final JsonSchemaRegistry jsonSchemaRegistry = new JsonSchemaRegistry();
+
+    private final ImportValidationProperties importValidationProperties = new ImportValidationProperties();
+    private final ThreadPoolTaskExecutor importValidationExecutor = new ThreadPoolTaskExecutor();
+
+    private JsonFileValidator jsonFileValidator;
+
+    @BeforeEach
+    void setUp() {
+        importValidationExecutor.setCorePoolSize(4);
+        importValidationExecutor.setMaxPoolSize(4);
+        importValidationExecutor.initialize();
+        jsonFileValidator = new JsonFileValidator(jsonSchemaRegistry, importValidationProperties, importValidationExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importValidationExecutor.shutdown();
+    }
+
+    @Test
+    void givenRegistry_whenGetSchema_thenEverySupportedSchemaIsCompiledOnce() {
+        JsonSchemaRegistry.SUPPORTED_SCHEMA_VALIDATION.keySet().forEach(aspectType ->
+                assertThat(jsonSchemaRegistry.getSchema(aspectType)).isSameAs(jsonSchemaRegistry.getSchema(aspectType)));
+        assertThatThrownBy(() -> jsonSchemaRegistry.getSchema("urn:samm:io.catenax.unknown:1.0.0#Unknown"))
+                .isInstanceOf(NotSupportedSchemaException.class)
+                .hasMessage("'urn:samm:io.catenax.unknown:1.0.0#Unknown' is not supported");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 50})
+    void givenInvalidFile_whenIsValid_thenErrorsAreReportedInAssetOrderForAnyBatchSize(int batchSize) throws IOException {
+        importValidationProperties.setBatchSize(batchSize);
+
+        List<String> errors = jsonFileValidator.isValid(file("invalidImportFile.json"));
+
+        assertThat(errors).containsExactly(
+                "Missing property aspectType",
+                "For Asset with ID: invalidUUID And aspectType: urn:samm:io.catenax.serial_part:3.0.0#SerialPart Following error occurred: object has missing required properties ([\"localIdentifiers\"])",
+                "For Asset with ID: urn:uuid:5205f736-8fc2-4585-b869-6bf36842369a And aspectType: urn:samm:io.catenax.single_level_bom_as_built:3.0.0#SingleLevelBomAsBuilt Following error occurred: object has missing required properties ([\"catenaXId\",\"childItems\"])"
+        );
+    }
+
+    @Test
+    void givenValidFile_whenIsValid_thenNoErrors() throws IOException {
+        importValidationProperties.setBatchSize(2);
+
+        assertThat(jsonFileValidator.isValid(file("validImportFile.json"))).isEmpty();
+    }
+
+    @Test
+    void givenTopLevelFieldsAroundAssets_whenIsValid_thenTopLevelIsReadAndMalformedContentIsReported() {
+        MockMultipartFile validFile = new MockMultipartFile("file", "import.json", "application/json",
+                "{\"version\": {\"major\": 1}, \"assets\": [], \"comment\": \"after the assets\"}".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile malformedFile = new MockMultipartFile("file", "import.json", "application/json",
+                "{\"assets\": [], \"comment\": }".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile fileWithoutAssets = new MockMultipartFile("file", "import.json", "application/json",
+                "{\"comment\": \"no assets\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(jsonFileValidator.isValid(validFile)).isEmpty();
+        assertThat(jsonFileValidator.isValid(malformedFile)).singleElement().asString().startsWith("Json file is not processable.");
+        assertThat(jsonFileValidator.isValid(fileWithoutAssets)).containsExactly("Could not find assets");
+    }
+
+    private static MockMultipartFile file(String fileName) throws IOException {
+        try (InputStream content = JsonFileValidatorTest.class.getResourceAsStream("/testdata/importfiles/" + fileName)) {
+            return new MockMultipartFile("file", fileName, "application/json", content);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.domain.dashboard.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
+import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.model.Dashboard;
+import org.eclipse.tractusx.traceability.common.properties.DashboardCacheProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSide;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceImplTest {
+
+    @Mock
+    private AssetAsBuiltRepository assetAsBuiltRepository;
+
+    @Mock
+    private AssetAsPlannedRepository assetAsPlannedRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private DashboardCache dashboardCache;
+
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        DashboardCacheProperties dashboardCacheProperties = new DashboardCacheProperties();
+        dashboardCacheProperties.setExpireAfterWrite(Duration.ofMinutes(1));
+        dashboardCache = new DashboardCache(dashboardCacheProperties, new SimpleMeterRegistry());
+        dashboardService = new DashboardServiceImpl(assetAsBuiltRepository, assetAsPlannedRepository, notificationRepository, dashboardCache);
+    }
+
+    @Test
+    void givenGroupedCounts_whenGetDashboard_thenMapCountsToDashboard() {
+        // given
+        when(assetAsBuiltRepository.countAssetsGroupedByOwner()).thenReturn(Map.of(Owner.OWN, 3L, Owner.SUPPLIER, 5L));
+        when(assetAsPlannedRepository.countAssetsGroupedByOwner()).thenReturn(Map.of(Owner.CUSTOMER, 7L));
+        when(notificationRepository.countAssetsWithOpenNotificationsGroupedByOwnerAndType()).thenReturn(Map.of(
+                Owner.OWN, Map.of(NotificationType.ALERT, 1L),
+                Owner.SUPPLIER, Map.of(NotificationType.INVESTIGATION, 2L)));
+        when(notificationRepository.countNotificationsGroupedBySideAndType()).thenReturn(Map.of(
+                NotificationSide.SENDER, Map.of(NotificationType.ALERT, 4L, NotificationType.INVESTIGATION, 6L),
+                NotificationSide.RECEIVER, Map.of(NotificationType.INVESTIGATION, 8L)));
+
+        // when
+        Dashboard dashboard = dashboardService.getDashboard();
+
+        // then
+        assertThat(dashboard.getAsBuiltOwnParts()).isEqualTo(3L);
+        assertThat(dashboard.getAsBuiltSupplierParts()).isEqualTo(5L);
+        assertThat(dashboard.getAsBuiltCustomerParts()).isZero();
+        assertThat(dashboard.getAsPlannedCustomerParts()).isEqualTo(7L);
+        assertThat(dashboard.getAsPlannedOwnParts()).isZero();
+        assertThat(dashboard.getMyPartsWithOpenAlerts()).isEqualTo(1L);
+        assertThat(dashboard.getMyPartsWithOpenInvestigations()).isZero();
+        assertThat(dashboard.getSupplierPartsWithOpenInvestigations()).isEqualTo(2L);
+        assertThat(dashboard.getCustomerPartsWithOpenAlerts()).isZero();
+        assertThat(dashboard.getSentActiveAlerts()).isEqualTo(4L);
+        assertThat(dashboard.getSentActiveInvestigations()).isEqualTo(6L);
+        assertThat(dashboard.getReceivedActiveInvestigations()).isEqualTo(8L);
+        assertThat(dashboard.getReceivedActiveAlerts()).isZero();
+    }
+
+    @Test
+    void givenCachedDashboard_whenGetDashboard_thenComputeOnlyAfterInvalidation() {
+        // given
+        when(assetAsBuiltRepository.countAssetsGroupedByOwner()).thenReturn(Map.of());
+        when(assetAsPlannedRepository.countAssetsGroupedByOwner()).thenReturn(Map.of());
+        when(notificationRepository.countAssetsWithOpenNotificationsGroupedByOwnerAndType()).thenReturn(Map.of());
+        when(notificationRepository.countNotificationsGroupedBySideAndType()).thenReturn(Map.of());
+
+        // when
+        dashboardService.getDashboard();
+        dashboardService.getDashboard();
+        dashboardCache.invalidate();
+        dashboardService.getDashboard();
+
+        // then
+        verify(assetAsBuiltRepository, times(2)).countAssetsGroupedByOwner();
+        verify(notificationRepository, times(2)).countNotificationsGroupedBySideAndType();
+    }
+}
@@ -0,0 +1,207 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.registryclient.decentral.exception.CreateDtrShellException;
+import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
+import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.SubmodelPayloadRepository;
+import org.eclipse.tractusx.traceability.common.properties.PublishAssetsProperties;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.service.DecentralRegistryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncPublishServiceTest {
+
+    private static final String POLICY_ID = "default-policy";
+    private static final String SUBMODEL_SERVER_ASSET_ID = "submodel-server-asset";
+
+    @Mock
+    private AssetAsPlannedRepository assetAsPlannedRepository;
+    @Mock
+    private AssetAsBuiltRepository assetAsBuiltRepository;
+    @Mock
+    private EdcAssetCreationService edcAssetCreationService;
+    @Mock
+    private DtrService dtrService;
+    @Mock
+    private DecentralRegistryServiceImpl decentralRegistryService;
+    @Mock
+    private SubmodelPayloadRepository submodelPayloadRepository;
+
+    private final PublishAssetsProperties publishAssetsProperties = new PublishAssetsProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AsyncPublishService asyncPublishService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        publishAssetsProperties.setInitialBackoff(Duration.ZERO);
+        asyncPublishService = new AsyncPublishService(assetAsPlannedRepository, assetAsBuiltRepository, edcAssetCreationService,
+                dtrService, decentralRegistryService, submodelPayloadRepository, publishAssetsProperties, meterRegistry);
+        when(edcAssetCreationService.createEdcContractDefinitionsForDtrAndSubmodel(POLICY_ID)).thenReturn(SUBMODEL_SERVER_ASSET_ID);
+    }
+
+    @Test
+    void givenFailingAsset_whenPublish_thenOnlyFailedAssetIsRetriedWithItsCreatedSubmodels() {
+        // given
+        AssetBase stable = asset("urn:uuid:stable");
+        AssetBase flaky = asset("urn:uuid:flaky");
+        when(submodelPayloadRepository.getAspectTypesAndPayloadsByAssetIds(List.of(stable.getId(), flaky.getId())))
+                .thenReturn(Map.of(stable.getId(), Map.of(), flaky.getId(), Map.of("urn:samm:io.catenax.serial_part:3.0.0#SerialPart", "{}")));
+        when(dtrService.createShellInDtr(eq(stable), anyString(), eq(Map.of()), anyMap(), eq(SUBMODEL_SERVER_ASSET_ID)))
+                .thenReturn(CompletableFuture.completedFuture(stable.getId()));
+        when(dtrService.createShellInDtr(eq(flaky), anyString(), any(), anyMap(), eq(SUBMODEL_SERVER_ASSET_ID)))
+                .thenAnswer(invocation -> {
+                    invocation.<Map<String, UUID>>getArgument(3).put("urn:samm:io.catenax.serial_part:3.0.0#SerialPart", UUID.randomUUID());
+                    return CompletableFuture.failedFuture(new CreateDtrShellException("DTR unavailable"));
+                })
+                .thenAnswer(invocation -> {
+                    assertThat(invocation.<Map<String, UUID>>getArgument(3)).containsKey("urn:samm:io.catenax.serial_part:3.0.0#SerialPart");
+                    return CompletableFuture.completedFuture(flaky.getId());
+                });
+
+        // when
+        asyncPublishService.publishAssetsToCoreServices(List.of(stable, flaky), false);
+
+        // then
+        verify(dtrService, times(1)).createShellInDtr(eq(stable), anyString(), any(), anyMap(), any());
+        verify(dtrService, times(2)).createShellInDtr(eq(flaky), anyString(), any(), anyMap(), any());
+        verify(assetAsBuiltRepository).updateImportStateAndNoteForAssets(ImportState.PUBLISHED_TO_CORE_SERVICES, ImportNote.PUBLISHED_TO_CORE_SERVICES, List.of(stable.getId(), flaky.getId()));
+        assertThat(meterRegistry.get("publish.assets").tag("outcome", "published").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenAssetsInSeveralChunks_whenPublishFailsPermanently_thenEveryChunkIsCheckpointedWithItsOutcome() {
+        // given
+        publishAssetsProperties.setChunkSize(1);
+        AssetBase dtrFailure = asset("urn:uuid:dtr-failure");
+        AssetBase submodelFailure = asset("urn:uuid:submodel-failure");
+        when(submodelPayloadRepository.getAspectTypesAndPayloadsByAssetIds(any()))
+                .thenAnswer(invocation -> Map.of(invocation.<List<String>>getArgument(0).get(0), Map.of()));
+        when(dtrService.createShellInDtr(eq(dtrFailure), anyString(), any(), anyMap(), any()))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(new CreateDtrShellException("DTR unavailable")));
+        when(dtrService.createShellInDtr(eq(submodelFailure), anyString(), any(), anyMap(), any()))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(new IllegalStateException("submodel server unavailable")));
+
+        // when
+        asyncPublishService.publishAssetsToCoreServices(List.of(dtrFailure, submodelFailure), true);
+
+        // then
+        verify(dtrService, times(publishAssetsProperties.getMaxAttempts())).createShellInDtr(eq(dtrFailure), anyString(), any(), anyMap(), any());
+        verify(dtrService, times(publishAssetsProperties.getMaxAttempts())).createShellInDtr(eq(submodelFailure), anyString(), any(), anyMap(), any());
+        verify(assetAsBuiltRepository).updateImportStateAndNoteForAssets(ImportState.ERROR, ImportNote.ERROR_DTR_SHELL_CREATION_FAILED, List.of(dtrFailure.getId()));
+        verify(assetAsBuiltRepository).updateImportStateAndNoteForAssets(ImportState.ERROR, ImportNote.ERROR_SUBMODEL_CREATION_FAILED, List.of(submodelFailure.getId()));
+        verify(decentralRegistryService).synchronizeAssets();
+        assertThat(meterRegistry.get("publish.assets").tag("outcome", "failed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("publish.assets.throughput").gauge().value()).isZero();
+    }
+
+    @Test
+    void givenFailingAsset_whenRetried_thenReuseShellIdOfFirstAttempt() {
+        // given
+        AssetBase flaky = asset("urn:uuid:flaky");
+        when(submodelPayloadRepository.getAspectTypesAndPayloadsByAssetIds(List.of(flaky.getId()))).thenReturn(Map.of(flaky.getId(), Map.of()));
+        when(dtrService.createShellInDtr(eq(flaky), anyString(), anyMap(), anyMap(), any()))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(new CreateDtrShellException("DTR unavailable")))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(flaky.getId()));
+
+        // when
+        asyncPublishService.publishAssetsToCoreServices(List.of(flaky), false);
+
+        // then
+        ArgumentCaptor<String> shellIds = ArgumentCaptor.forClass(String.class);
+        verify(dtrService, times(2)).createShellInDtr(eq(flaky), shellIds.capture(), anyMap(), anyMap(), any());
+        assertThat(shellIds.getAllValues().get(1)).isEqualTo(shellIds.getAllValues().get(0));
+    }
+
+    @Test
+    void givenAssetNotStored_whenPublish_thenFailItWithoutCreatingShell() {
+        // given
+        AssetBase deleted = asset("urn:uuid:deleted");
+        when(submodelPayloadRepository.getAspectTypesAndPayloadsByAssetIds(List.of(deleted.getId()))).thenReturn(Map.of());
+
+        // when
+        asyncPublishService.publishAssetsToCoreServices(List.of(deleted), false);
+
+        // then
+        verify(dtrService, never()).createShellInDtr(any(), any(), any(), any(), any());
+        verify(assetAsBuiltRepository).updateImportStateAndNoteForAssets(ImportState.ERROR, ImportNote.ERROR_ASSET_NOT_FOUND, List.of(deleted.getId()));
+        assertThat(meterRegistry.get("publish.assets").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenInterruptedPublishing_whenChunkIsDone_thenRemainingChunksAreNotPublished() {
+        // given
+        publishAssetsProperties.setChunkSize(1);
+        AssetBase published = asset("urn:uuid:published");
+        AssetBase remaining = asset("urn:uuid:remaining");
+        when(submodelPayloadRepository.getAspectTypesAndPayloadsByAssetIds(List.of(published.getId()))).thenReturn(Map.of(published.getId(), Map.of()));
+        when(dtrService.createShellInDtr(eq(published), anyString(), anyMap(), anyMap(), any()))
+                .thenAnswer(invocation -> {
+                    Thread.currentThread().interrupt();
+                    return CompletableFuture.completedFuture(published.getId());
+                });
+
+        // when
+        try {
+            asyncPublishService.publishAssetsToCoreServices(List.of(published, remaining), true);
+        } finally {
+            Thread.interrupted();
+        }
+
+        // then
+        verify(dtrService, never()).createShellInDtr(eq(remaining), any(), any(), any(), any());
+        verify(assetAsBuiltRepository).updateImportStateAndNoteForAssets(ImportState.PUBLISHED_TO_CORE_SERVICES, ImportNote.PUBLISHED_TO_CORE_SERVICES, List.of(published.getId()));
+        verify(decentralRegistryService, never()).synchronizeAssets();
+    }
+
+    private static AssetBase asset(String id) {
+        return AssetBase.builder()
+                .id(id)
+                .policyId(POLICY_ID)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
+
+import org.eclipse.tractusx.irs.registryclient.decentral.DigitalTwinRegistryCreateShellService;
+import org.eclipse.tractusx.irs.registryclient.decentral.exception.CreateDtrShellException;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.common.properties.EdcProperties;
+import org.eclipse.tractusx.traceability.submodel.domain.repository.SubmodelServerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DtrServiceTest {
+
+    private static final String SHELL_ID = "shell-id";
+
+    @Mock
+    private DigitalTwinRegistryCreateShellService dtrCreateShellService;
+    @Mock
+    private SubmodelServerRepository submodelServerRepository;
+    @Mock
+    private EdcProperties edcProperties;
+
+    private final ThreadPoolTaskExecutor submodelServerExecutor = new ThreadPoolTaskExecutor();
+    private final ThreadPoolTaskExecutor dtrExecutor = new ThreadPoolTaskExecutor();
+
+    private DtrService dtrService;
+
+    @BeforeEach
+    void setUp() {
+        submodelServerExecutor.initialize();
+        dtrExecutor.initialize();
+        dtrService = new DtrService(dtrCreateShellService, submodelServerRepository, edcProperties, submodelServerExecutor, dtrExecutor);
+        dtrService.allowedBpns = "BPNL00000003CML1";
+    }
+
+    @AfterEach
+    void tearDown() {
+        submodelServerExecutor.shutdown();
+        dtrExecutor.shutdown();
+    }
+
+    @Test
+    void givenShellAlreadyCreatedByEarlierAttempt_whenCreateShellInDtr_thenAssetIsPublished() throws Exception {
+        // given
+        AssetBase asset = AssetBase.builder().id("urn:uuid:asset").build();
+        when(dtrCreateShellService.createShell(any())).thenThrow(new CreateDtrShellException(HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict", null, null, null)));
+
+        // when
+        CompletableFuture<String> publication = dtrService.createShellInDtr(asset, SHELL_ID, Map.of(), Map.of(), "submodel-server-asset");
+
+        // then
+        assertThat(publication.join()).isEqualTo(asset.getId());
+    }
+
+    @Test
+    void givenShellRejected_whenCreateShellInDtr_thenPublicationFails() throws Exception {
+        // given
+        AssetBase asset = AssetBase.builder().id("urn:uuid:asset").build();
+        when(dtrCreateShellService.createShell(any())).thenThrow(new CreateDtrShellException(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null)));
+
+        // when
+        CompletableFuture<String> publication = dtrService.createShellInDtr(asset, SHELL_ID, Map.of(), Map.of(), "submodel-server-asset");
+
+        // then
+        assertThatThrownBy(publication::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(CreateDtrShellException.class);
+    }
+}
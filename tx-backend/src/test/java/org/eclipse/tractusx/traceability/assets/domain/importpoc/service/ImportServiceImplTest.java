@@ -20,8 +20,13 @@ package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
 import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportException;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.ImportJobRepository;
@@ -29,6 +34,8 @@ import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.Subm
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.ImportAssetMapper;
 import org.eclipse.tractusx.traceability.common.model.BPN;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
+import org.eclipse.tractusx.traceability.common.repository.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,17 +43,28 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.eclipse.tractusx.traceability.testdata.AssetTestDataFactory.createAssetAsBuiltTestdata;
 import static org.eclipse.tractusx.traceability.testdata.AssetTestDataFactory.createAssetAsPlannedTestdata;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,14 +89,24 @@ class ImportServiceImplTest {
 
     @Mock
     private ImportAssetMapper assetMapper;
+    @Mock
+    private EntityManager entityManager;
+
+    private final StatementCounter statementCounter = new StatementCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @BeforeEach
     public void testSetup() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
 
-        importService = new ImportServiceImpl(objectMapper, assetAsPlannedRepository, assetAsBuiltRepository, traceabilityProperties, submodelPayloadRepository, importJobRepository, assetMapper);
+        importService = new ImportServiceImpl(objectMapper, assetAsPlannedRepository, assetAsBuiltRepository, traceabilityProperties, submodelPayloadRepository, importJobRepository, assetMapper, statementCounter, meterRegistry, entityManager);
+        TransactionSynchronizationManager.initSynchronization();
+    }
 
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
     }
 
     @Test
@@ -99,4 +127,100 @@ class ImportServiceImplTest {
         verify(assetAsBuiltRepository, times(1)).saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList());
         verify(assetAsPlannedRepository, times(1)).saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList());
     }
+
+    @Test
+    void givenLargeFile_whenImportAssets_thenAssetsAreMappedAndPersistedInChunks() throws IOException {
+        // given
+        String asset = """
+                {"assetMetaInfo": {"catenaXId": "urn:uuid:%s"}, "submodels": []}""";
+        String assets = IntStream.range(0, 250)
+                .mapToObj(i -> asset.formatted(UUID.randomUUID()))
+                .collect(Collectors.joining(",", "{\"assets\": [", "]}"));
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "import-request.json", "application/json", assets.getBytes(StandardCharsets.UTF_8));
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(assetMapper.toAssetBaseList(any())).thenAnswer(invocation -> {
+            chunkSizes.add(invocation.<List<?>>getArgument(0).size());
+            return List.of(createAssetAsBuiltTestdata());
+        });
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+
+        // when
+        importService.importAssets(multipartFile, new ImportJob(UUID.randomUUID(), Instant.now(), null, ImportJobStatus.RUNNING, List.of(), List.of()));
+
+        // then
+        assertThat(chunkSizes).containsExactly(100, 100, 50);
+        verify(assetAsBuiltRepository, times(3)).saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList());
+    }
+
+    @Test
+    void givenPartiallyPersistedChunk_whenImportAssets_thenPayloadsAreSavedInOneBatchAndUploadResultIsReconciledById() throws IOException {
+        // given
+        String assets = """
+                {"assets": [
+                {"assetMetaInfo": {"catenaXId": "urn:uuid:built-1"}, "submodels": []},
+                {"assetMetaInfo": {"catenaXId": "urn:uuid:built-2"}, "submodels": []},
+                {"assetMetaInfo": {"catenaXId": "urn:uuid:planned-1"}, "submodels": []}
+                ]}""";
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "import-request.json", "application/json", assets.getBytes(StandardCharsets.UTF_8));
+        AssetBase built1 = asset("urn:uuid:built-1", SemanticDataModel.SERIALPART);
+        AssetBase built2 = asset("urn:uuid:built-2", SemanticDataModel.BATCH);
+        AssetBase planned1 = asset("urn:uuid:planned-1", SemanticDataModel.PARTASPLANNED);
+        when(assetMapper.toAssetBaseList(any())).thenReturn(List.of(built1, built2, planned1));
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+        when(assetAsBuiltRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList())).thenReturn(List.of(built2, built1));
+
+        ImportJob importJob = new ImportJob(UUID.randomUUID(), Instant.now(), null, ImportJobStatus.RUNNING, List.of(), List.of());
+
+        // when
+        Map<String, Boolean> uploadResult = importService.importAssets(multipartFile, importJob);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(meterRegistry.get("import.job.database.round.trips").tag("outcome", "imported").summary().count()).isEqualTo(1);
+        assertThat(uploadResult).containsExactly(entry("urn:uuid:built-1", true), entry("urn:uuid:built-2", true), entry("urn:uuid:planned-1", false));
+        verify(importJobRepository).addAssets(importJob.getId(), List.of("urn:uuid:built-2", "urn:uuid:built-1"), List.of());
+        verify(submodelPayloadRepository).savePayloadsForAssetsAsBuilt(Map.of("urn:uuid:built-1", List.of(), "urn:uuid:built-2", List.of()));
+        verify(submodelPayloadRepository).savePayloadsForAssetsAsPlanned(Map.of());
+    }
+
+    @Test
+    void givenForeignAssetInLastChunk_whenImportAssets_thenImportFailsAfterLinkingTheFirstChunk() {
+        // given
+        String asset = """
+                {"assetMetaInfo": {"catenaXId": "urn:uuid:%s"}, "submodels": []}""";
+        String assets = IntStream.range(0, 150)
+                .mapToObj(i -> asset.formatted(UUID.randomUUID()))
+                .collect(Collectors.joining(",", "{\"assets\": [", "]}"));
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "import-request.json", "application/json", assets.getBytes(StandardCharsets.UTF_8));
+        AssetBase foreignAsset = asset("urn:uuid:foreign", SemanticDataModel.SERIALPART);
+        foreignAsset.setManufacturerId("BPNL00000000FOREIGN");
+        when(assetMapper.toAssetBaseList(any())).thenReturn(
+                List.of(asset("urn:uuid:own", SemanticDataModel.SERIALPART)),
+                List.of(foreignAsset));
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+        ImportJob importJob = new ImportJob(UUID.randomUUID(), Instant.now(), null, ImportJobStatus.RUNNING, List.of(), List.of());
+
+        // when/then
+        assertThatThrownBy(() -> importService.importAssets(multipartFile, importJob))
+                .isInstanceOf(ImportException.class)
+                .hasMessageContaining("does not match the application bpn");
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(assetAsBuiltRepository, times(1)).saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList());
+        verify(importJobRepository, times(1)).addAssets(any(), anyList(), anyList());
+        verify(importJobRepository, never()).save(any());
+        assertThat(meterRegistry.find("import.job.database.round.trips").tag("outcome", "imported").summary()).isNull();
+        assertThat(meterRegistry.get("import.job.database.round.trips").tag("outcome", "failed").summary().count()).isEqualTo(1);
+    }
+
+    private static void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static AssetBase asset(String id, SemanticDataModel semanticDataModel) {
+        return AssetBase.builder()
+                .id(id)
+                .manufacturerId("BPNL00000003CML1")
+                .semanticDataModel(semanticDataModel)
+                .build();
+    }
 }
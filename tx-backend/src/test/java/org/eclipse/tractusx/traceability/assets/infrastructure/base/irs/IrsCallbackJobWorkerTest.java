@@ -0,0 +1,84 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IrsCallbackJobWorkerTest {
+
+    @Mock
+    private IrsCallbackJobQueue irsCallbackJobQueue;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ThreadPoolTaskExecutor irsCallbackExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private IrsCallbackJobWorker irsCallbackJobWorker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        irsCallbackJobWorker = new IrsCallbackJobWorker(irsCallbackJobQueue, jobRepository, irsCallbackExecutor, meterRegistry, Clock.systemUTC());
+    }
+
+    @Test
+    void givenSuccessfulCallback_whenProcess_thenJobIsRemovedFromQueue() {
+        // when
+        irsCallbackJobWorker.process("jobId", "COMPLETED");
+
+        // then
+        verify(jobRepository).handleJobFinishedCallback("jobId", "COMPLETED");
+        verify(irsCallbackJobQueue).complete("jobId");
+        verify(irsCallbackJobQueue, never()).retryLater("jobId", "IRS not reachable");
+        assertThat(meterRegistry.get("irs.callback.processing").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenFailingCallback_whenProcess_thenJobIsRetriedLater() {
+        // given
+        doThrow(new IllegalStateException("IRS not reachable")).when(jobRepository).handleJobFinishedCallback("jobId", "COMPLETED");
+
+        // when
+        irsCallbackJobWorker.process("jobId", "COMPLETED");
+
+        // then
+        verify(irsCallbackJobQueue).retryLater("jobId", "IRS not reachable");
+        verify(irsCallbackJobQueue, never()).complete("jobId");
+        assertThat(meterRegistry.get("irs.callback.processing").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+}
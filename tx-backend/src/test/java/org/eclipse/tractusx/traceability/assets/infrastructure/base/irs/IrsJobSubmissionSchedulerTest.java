@@ -0,0 +1,175 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.RegisterJobRequest;
+import org.eclipse.tractusx.traceability.common.properties.IrsJobSubmissionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IrsJobSubmissionSchedulerTest {
+
+    @Mock
+    private JobClient jobClient;
+    @Mock
+    private IrsJobInFlightRegistry irsJobInFlightRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private IrsJobSubmissionProperties irsJobSubmissionProperties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        irsJobSubmissionProperties = new IrsJobSubmissionProperties();
+        irsJobSubmissionProperties.setJobsPerSecond(1000);
+        irsJobSubmissionProperties.setBurst(10);
+        irsJobSubmissionProperties.setMaxInFlight(1);
+        irsJobSubmissionProperties.setOutstandingJobTimeout(Duration.ofHours(1));
+    }
+
+    @Test
+    void givenMaxInFlightReached_whenCallbackArrives_thenNextJobIsRegistered() throws Exception {
+        // given
+        IrsJobSubmissionScheduler scheduler = scheduler(Clock.systemUTC());
+        when(jobClient.registerJob(any())).thenReturn("job-1", "job-2");
+        when(irsJobInFlightRegistry.register(anyString(), anyString(), any())).thenReturn(true);
+        scheduler.submit(mock(RegisterJobRequest.class));
+        CompletableFuture<Void> secondSubmission = CompletableFuture.runAsync(() -> scheduler.submit(mock(RegisterJobRequest.class)));
+
+        // when
+        TimeUnit.MILLISECONDS.sleep(200);
+        boolean blockedWhileInFlight = !secondSubmission.isDone();
+        scheduler.jobFinished("job-1");
+        secondSubmission.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(blockedWhileInFlight).isTrue();
+        assertThat(scheduler.outstandingJobs()).isEqualTo(1);
+        assertThat(meterRegistry.get("irs.job.submission.outstanding").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void givenJobWithoutCallback_whenTimedOut_thenSlotIsReleased() {
+        // given
+        Instant registeredOn = Instant.parse("2024-08-01T10:00:00Z");
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(registeredOn, registeredOn, registeredOn.plus(Duration.ofMinutes(30)), registeredOn.plus(Duration.ofHours(2)));
+        IrsJobSubmissionScheduler scheduler = scheduler(clock);
+        when(jobClient.registerJob(any())).thenReturn("job-1", "job-2");
+        when(irsJobInFlightRegistry.register(anyString(), anyString(), any())).thenReturn(true);
+        scheduler.submit(mock(RegisterJobRequest.class));
+
+        // when
+        scheduler.releaseTimedOutJobs();
+        int outstandingBeforeTimeout = scheduler.outstandingJobs();
+        scheduler.releaseTimedOutJobs();
+        int outstandingAfterTimeout = scheduler.outstandingJobs();
+
+        // then
+        assertThat(outstandingBeforeTimeout).isEqualTo(1);
+        assertThat(outstandingAfterTimeout).isZero();
+        verify(irsJobInFlightRegistry).removeRegisteredBefore(registeredOn.plus(Duration.ofHours(1)));
+        assertThat(CompletableFuture.runAsync(() -> scheduler.submit(mock(RegisterJobRequest.class))))
+                .succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void givenFailingRegistration_whenSubmit_thenSlotIsReleased() {
+        // given
+        IrsJobSubmissionScheduler scheduler = scheduler(Clock.systemUTC());
+        when(jobClient.registerJob(any())).thenThrow(new IllegalStateException("IRS not reachable")).thenReturn("job-1");
+        when(irsJobInFlightRegistry.register(anyString(), anyString(), any())).thenReturn(true);
+
+        // when
+        assertThatThrownBy(() -> scheduler.submit(mock(RegisterJobRequest.class))).isInstanceOf(IllegalStateException.class);
+        scheduler.submit(mock(RegisterJobRequest.class));
+
+        // then
+        assertThat(scheduler.outstandingJobs()).isEqualTo(1);
+    }
+
+    @Test
+    void givenCallbackArrivedAtAnotherInstance_whenReleaseFinishedJobs_thenSlotIsReleased() throws Exception {
+        // given
+        Instant registeredOn = Instant.parse("2024-08-01T10:00:00Z");
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(registeredOn, registeredOn, registeredOn.plusSeconds(5), registeredOn.plusSeconds(10));
+        IrsJobSubmissionScheduler scheduler = scheduler(clock);
+        when(jobClient.registerJob(any())).thenReturn("job-1", "job-2");
+        when(irsJobInFlightRegistry.register(anyString(), anyString(), any())).thenReturn(true);
+        when(irsJobInFlightRegistry.findJobIds(anyString())).thenReturn(Set.of("job-1"), Set.of());
+        scheduler.submit(mock(RegisterJobRequest.class));
+
+        // when
+        scheduler.releaseFinishedJobs();
+        int outstandingWhileInFlight = scheduler.outstandingJobs();
+        scheduler.releaseFinishedJobs();
+
+        // then
+        assertThat(outstandingWhileInFlight).isEqualTo(1);
+        assertThat(scheduler.outstandingJobs()).isZero();
+        verify(irsJobInFlightRegistry).register(eq("job-1"), anyString(), eq(registeredOn));
+        assertThat(CompletableFuture.runAsync(() -> scheduler.submit(mock(RegisterJobRequest.class))))
+                .succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void givenCallbackArrivedBeforeRegistration_whenSubmit_thenSlotIsReleased() {
+        // given
+        IrsJobSubmissionScheduler scheduler = scheduler(Clock.systemUTC());
+        when(jobClient.registerJob(any())).thenReturn("job-1", "job-2");
+        when(irsJobInFlightRegistry.register(anyString(), anyString(), any())).thenReturn(false, true);
+
+        // when
+        scheduler.submit(mock(RegisterJobRequest.class));
+
+        // then
+        assertThat(scheduler.outstandingJobs()).isZero();
+        verify(irsJobInFlightRegistry).finish(eq("job-1"), any());
+        assertThat(CompletableFuture.runAsync(() -> scheduler.submit(mock(RegisterJobRequest.class))))
+                .succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    private IrsJobSubmissionScheduler scheduler(Clock clock) {
+        return new IrsJobSubmissionScheduler(jobClient, irsJobInFlightRegistry, irsJobSubmissionProperties, meterRegistry, clock);
+    }
+}
@@ -19,14 +19,19 @@
 
 package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
 
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.RegisterJobRequest;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseAssets;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.IrsResponseAssetMapper;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.relationship.Aspect;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnRepository;
 import org.eclipse.tractusx.traceability.common.model.BPN;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.ShellDescriptorFingerprintRepository;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -34,10 +39,19 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,9 +76,18 @@ class JobRepositoryImplTest {
     @Mock
     private JobClient jobClient;
 
+    @Mock
+    private IrsJobSubmissionScheduler irsJobSubmissionScheduler;
+
     @Mock
     private IrsResponseAssetMapper assetMapperFactory;
 
+    @Mock
+    private ShellDescriptorFingerprintRepository shellDescriptorFingerprintRepository;
+
+    @Mock
+    private Clock clock;
+
     @ParameterizedTest
     @MethodSource("provideDirections")
     void testFindAssets_completedJob_returnsConvertedAssets(Direction direction) {
@@ -75,7 +98,66 @@ class JobRepositoryImplTest {
         jobRepositoryImpl.createJobToResolveAssets("1", direction, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
 
         // Then
-        verify(jobClient, times(1)).registerJob(any(RegisterJobRequest.class));
+        verify(irsJobSubmissionScheduler, times(1)).submit(any(RegisterJobRequest.class));
+    }
+
+    @Test
+    void testSaveOrUpdateAssets_persistsAssetsInChunks() {
+        // Given
+        when(traceabilityProperties.getIrsCallbackChunkSize()).thenReturn(2);
+        List<AssetBase> assets = IntStream.range(0, 5)
+                .mapToObj(i -> AssetBase.builder().id("urn:uuid:" + i).build())
+                .toList();
+
+        // When
+        jobRepositoryImpl.saveOrUpdateAssets(assetAsBuiltCallbackRepository, assets);
+
+        // Then
+        verify(assetAsBuiltCallbackRepository).saveOrUpdateAll(assets.subList(0, 2));
+        verify(assetAsBuiltCallbackRepository).saveOrUpdateAll(assets.subList(2, 4));
+        verify(assetAsBuiltCallbackRepository).saveOrUpdateAll(assets.subList(4, 5));
+    }
+
+    @Test
+    void testSaveOrUpdateAssets_retriesChunkOnDataIntegrityViolation() {
+        // Given
+        when(traceabilityProperties.getIrsCallbackChunkSize()).thenReturn(10);
+        List<AssetBase> assets = List.of(AssetBase.builder().id("urn:uuid:1").build());
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .doNothing()
+                .when(assetAsPlannedCallbackRepository).saveOrUpdateAll(assets);
+
+        // When
+        jobRepositoryImpl.saveOrUpdateAssets(assetAsPlannedCallbackRepository, assets);
+
+        // Then
+        verify(assetAsPlannedCallbackRepository, times(2)).saveOrUpdateAll(assets);
+    }
+
+    @Test
+    void testHandleJobFinishedCallback_completedJob_confirmsPendingFingerprint() {
+        // Given
+        Instant now = Instant.parse("2024-08-01T10:00:00Z");
+        JobStatus jobStatus = new JobStatus("jobId", "COMPLETED", new Date(), new Date(), "urn:uuid:1", null);
+        when(traceabilityProperties.isIrsResponseStreaming()).thenReturn(true);
+        when(traceabilityProperties.getIrsCallbackChunkSize()).thenReturn(10);
+        when(jobClient.getIrsJobDetailResponse(eq("jobId"), any())).thenReturn(new IrsResponseAssets(jobStatus, List.of()));
+        when(clock.instant()).thenReturn(now);
+
+        // When
+        jobRepositoryImpl.handleJobFinishedCallback("jobId", "COMPLETED");
+
+        // Then
+        verify(shellDescriptorFingerprintRepository).confirmPending("urn:uuid:1", now);
+    }
+
+    @Test
+    void testHandleJobFinishedCallback_failedJob_keepsFingerprintPending() {
+        // When
+        jobRepositoryImpl.handleJobFinishedCallback("jobId", "ERROR");
+
+        // Then
+        verify(shellDescriptorFingerprintRepository, never()).confirmPending(any(), any());
     }
 
     private static Stream<Arguments> provideDirections() {
@@ -0,0 +1,70 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void givenBurst_whenReserve_thenBurstIsAvailableImmediatelyAndFurtherTokensAreSpaced() {
+        // given
+        TokenBucket tokenBucket = new TokenBucket(2, 3, nanoTime::get);
+
+        // when
+        long first = tokenBucket.reserve();
+        long second = tokenBucket.reserve();
+        long third = tokenBucket.reserve();
+        long fourth = tokenBucket.reserve();
+        long fifth = tokenBucket.reserve();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(fourth).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(fifth).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    void givenIdlePeriod_whenReserve_thenAtMostBurstTokensAreStored() {
+        // given
+        TokenBucket tokenBucket = new TokenBucket(1, 2, nanoTime::get);
+        tokenBucket.reserve();
+        tokenBucket.reserve();
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        // when
+        long first = tokenBucket.reserve();
+        long second = tokenBucket.reserve();
+        long third = tokenBucket.reserve();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+}
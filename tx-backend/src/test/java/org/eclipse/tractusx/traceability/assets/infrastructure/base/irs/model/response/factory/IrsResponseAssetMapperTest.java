@@ -0,0 +1,110 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseAssets;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.SingleLevelBomAsBuiltMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.SingleLevelBomAsPlannedMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.SingleLevelUsageAsBuiltMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.BatchMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.JustInSequenceMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.PartAsPlannedMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.PartSiteInformationAsPlannedMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.SerialPartMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.TractionBatteryCodeMapper;
+import org.eclipse.tractusx.traceability.bpn.domain.service.BpnService;
+import org.eclipse.tractusx.traceability.common.config.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class IrsResponseAssetMapperTest {
+
+    @Mock
+    private BpnService bpnService;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapperBean();
+
+    // configured like the message converter of the IRS rest template
+    private final ObjectMapper irsObjectMapper = JsonMapper.builder()
+            .configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE, true)
+            .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true)
+            .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .build()
+            .registerModules(new JavaTimeModule());
+
+    private IrsResponseAssetMapper irsResponseAssetMapper;
+
+    @BeforeEach
+    void setUp() {
+        AssetBaseMapperProvider assetBaseMapperProvider = new AssetBaseMapperProvider(
+                List.of(new SerialPartMapper(), new BatchMapper(), new JustInSequenceMapper(), new PartAsPlannedMapper()),
+                List.of(),
+                List.of(new SingleLevelBomAsBuiltMapper(), new SingleLevelBomAsPlannedMapper(), new SingleLevelUsageAsBuiltMapper()),
+                List.of(new PartSiteInformationAsPlannedMapper()),
+                List.of(new TractionBatteryCodeMapper()));
+        irsResponseAssetMapper = new IrsResponseAssetMapper(assetBaseMapperProvider, objectMapper, bpnService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/stubs/irs/get/jobs/id/response_200.json",
+            "/stubs/irs/get/jobs/id/response_200_downward_asPlanned.json",
+            "/data/irs_assets_tractionbatterycode.json"
+    })
+    void givenIrsResponse_whenReadStreamed_thenSameAssetsAsFromDeserializedResponse(String resource) throws IOException {
+        // given
+        List<AssetBase> expectedAssets;
+        try (InputStream inputStream = getClass().getResourceAsStream(resource)) {
+            expectedAssets = irsResponseAssetMapper.toAssetBaseList(irsObjectMapper.readValue(inputStream, IRSResponse.class));
+        }
+
+        // when
+        IrsResponseAssets streamedAssets;
+        try (InputStream inputStream = getClass().getResourceAsStream(resource);
+             JsonParser parser = irsObjectMapper.createParser(inputStream)) {
+            streamedAssets = irsResponseAssetMapper.readAssetBaseList(parser);
+        }
+
+        // then
+        assertThat(expectedAssets).isNotEmpty();
+        assertThat(streamedAssets.assets())
+                .usingRecursiveComparison()
+                .isEqualTo(expectedAssets);
+    }
+}
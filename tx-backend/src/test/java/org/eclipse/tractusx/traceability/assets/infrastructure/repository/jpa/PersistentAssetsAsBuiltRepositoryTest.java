@@ -24,6 +24,11 @@ import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.QualityType;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.SemanticDataModelEntity;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationSideBaseEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationStatusBaseEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationTypeEntity;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,7 +37,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.tractusx.traceability.testdata.AssetTestDataFactory.createAssetAsBuiltTestdata;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class PersistentAssetsAsBuiltRepositoryTest {
@@ -99,4 +107,57 @@ class PersistentAssetsAsBuiltRepositoryTest {
         Assertions.assertEquals(asset.getVan(), expected.getVan());
     }
 
+    @Test
+    void givenNotificationsWithoutLoadedMessagesAndParts_whenToAsset_thenMapReferencesGroupedBySideAndType() {
+        // given
+        AssetAsBuiltEntity entity = assetWithNotifications(List.of(
+                notification(1L, NotificationSideBaseEntity.SENDER, NotificationTypeEntity.ALERT, NotificationStatusBaseEntity.SENT),
+                notification(2L, NotificationSideBaseEntity.RECEIVER, NotificationTypeEntity.ALERT, NotificationStatusBaseEntity.RECEIVED),
+                notification(3L, NotificationSideBaseEntity.SENDER, NotificationTypeEntity.INVESTIGATION, NotificationStatusBaseEntity.CLOSED),
+                notification(4L, NotificationSideBaseEntity.RECEIVER, NotificationTypeEntity.INVESTIGATION, NotificationStatusBaseEntity.ACKNOWLEDGED)));
+
+        // when
+        AssetBase asset = entity.toDomain();
+
+        // then
+        assertThat(asset.getSentQualityAlerts()).extracting(notification -> notification.getNotificationId().value()).containsExactly(1L);
+        assertThat(asset.getReceivedQualityAlerts()).extracting(notification -> notification.getNotificationId().value()).containsExactly(2L);
+        assertThat(asset.getSentQualityInvestigations()).extracting(notification -> notification.getNotificationId().value()).containsExactly(3L);
+        assertThat(asset.getReceivedQualityInvestigations()).extracting(notification -> notification.getNotificationId().value()).containsExactly(4L);
+        assertThat(asset.getReceivedQualityInvestigations().get(0).getNotificationStatus()).isEqualTo(NotificationStatus.ACKNOWLEDGED);
+    }
+
+    @Test
+    void givenNotifications_whenToAssetWithoutNotifications_thenDoNotReadThem() {
+        // given
+        List<NotificationEntity> notifications = mock(List.class);
+        AssetAsBuiltEntity entity = assetWithNotifications(notifications);
+
+        // when
+        AssetBase asset = entity.toDomainWithoutNotifications();
+
+        // then
+        verifyNoInteractions(notifications);
+        assertThat(asset.getId()).isEqualTo(entity.getId());
+        assertThat(asset.getSentQualityAlerts()).isNull();
+    }
+
+    private static AssetAsBuiltEntity assetWithNotifications(List<NotificationEntity> notifications) {
+        return AssetAsBuiltEntity.builder()
+                .id("urn:uuid:0733946c-59c6-41ae-9570-cb43a6e4eb01")
+                .owner(Owner.OWN)
+                .childDescriptors(List.of())
+                .parentDescriptors(List.of())
+                .notifications(notifications)
+                .build();
+    }
+
+    private static NotificationEntity notification(Long id, NotificationSideBaseEntity side, NotificationTypeEntity type, NotificationStatusBaseEntity status) {
+        return NotificationEntity.builder()
+                .id(id)
+                .side(side)
+                .type(type)
+                .status(status)
+                .build();
+    }
 }
@@ -42,6 +42,7 @@ import org.eclipse.tractusx.traceability.notification.domain.notification.except
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.mock.http.MockHttpInputMessage;
@@ -186,6 +187,12 @@ class ErrorHandlingConfigTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void givenTaskRejectedException_handler_respondsTooManyRequests() throws Exception {
+        mockMvc.perform(get("/taskRejectedException"))
+                .andExpect(status().isTooManyRequests());
+    }
+
     @Test
     void givenException_handler_respondsInternalServerError() throws Exception {
         mockMvc.perform(get("/exception"))
@@ -330,6 +337,11 @@ class ErrorHandlingConfigTest {
             throw new JsonFileProcessingException(new RuntimeException("reason for JsonFileProcessingException"));
         }
 
+        @GetMapping("/taskRejectedException")
+        public void taskRejectedException() {
+            throw new TaskRejectedException("Executor did not accept task");
+        }
+
         @GetMapping("/exception")
         public void exception() throws Exception {
             throw new Exception("");
@@ -0,0 +1,155 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaFilter;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaOperator;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaStrategy;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.repository.NotificationSpecification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BaseSpecificationTest {
+
+    @Mock
+    private Root<NotificationEntity> root;
+
+    @Mock
+    private CriteriaQuery<Object> query;
+
+    @Mock
+    private CriteriaBuilder builder;
+
+    @Mock
+    private EntityType<NotificationEntity> model;
+
+    @Test
+    void givenFiltersOnToManyAssociation_whenToPredicate_thenOneExistsSubqueryPerCriterionAndNoJoin() {
+        // given
+        Attribute<?, ?> messages = attribute("messages", true);
+        when(root.getModel()).thenReturn(model);
+        doReturn(messages).when(model).getAttribute("messages");
+        Subquery<Integer> subquery = subquery("messages");
+        when(query.subquery(Integer.class)).thenReturn(subquery);
+
+        Specification<NotificationEntity> specification = BaseSpecification.toSpecification(List.of(
+                new NotificationSpecification(filter("messages_sendTo", "BPNL1")),
+                new NotificationSpecification(filter("messages_sendTo", "BPNL2")),
+                new NotificationSpecification(filter("messages_createdBy", "BPNL3"))));
+
+        // when
+        specification.toPredicate(root, query, builder);
+
+        // then
+        verify(query, times(3)).subquery(Integer.class);
+        verify(builder, times(3)).exists(subquery);
+        verify(root, never()).join(anyString());
+    }
+
+    @Test
+    void givenFiltersOnToOneAssociation_whenToPredicate_thenJoinIsReused() {
+        // given
+        Attribute<?, ?> contract = attribute("contract", false);
+        when(root.getModel()).thenReturn(model);
+        doReturn(contract).when(model).getAttribute("contract");
+        Join<NotificationEntity, Object> join = mock(Join.class);
+        doReturn(contract).when(join).getAttribute();
+        doReturn(path()).when(join).get(anyString());
+        doReturn(join).when(root).join("contract");
+        doReturn(Set.of()).doReturn(Set.of(join)).when(root).getJoins();
+
+        Specification<NotificationEntity> specification = BaseSpecification.toSpecification(List.of(
+                new NotificationSpecification(filter("contract_id", "1")),
+                new NotificationSpecification(filter("contract_type", "2"))));
+
+        // when
+        specification.toPredicate(root, query, builder);
+
+        // then
+        verify(root, times(1)).join("contract");
+        verify(query, never()).subquery(any());
+    }
+
+    private Subquery<Integer> subquery(String joinTableName) {
+        Subquery<Integer> subquery = mock(Subquery.class);
+        Root<NotificationEntity> correlatedRoot = mock(Root.class);
+        Join<NotificationEntity, Object> join = mock(Join.class);
+        Path<Object> path = path();
+        when(subquery.correlate(root)).thenReturn(correlatedRoot);
+        doReturn(join).when(correlatedRoot).join(joinTableName);
+        doReturn(path).when(join).get(anyString());
+        when(subquery.select(any())).thenReturn(subquery);
+        when(subquery.where(any(Predicate.class))).thenReturn(subquery);
+        return subquery;
+    }
+
+    private Path<Object> path() {
+        Path<Object> path = mock(Path.class);
+        Expression<String> expression = mock(Expression.class);
+        doReturn(expression).when(path).as(String.class);
+        when(builder.equal(any(Expression.class), any(Object.class))).thenReturn(mock(Predicate.class));
+        return path;
+    }
+
+    private static Attribute<?, ?> attribute(String name, boolean collection) {
+        Attribute<?, ?> attribute = mock(Attribute.class);
+        when(attribute.isCollection()).thenReturn(collection);
+        if (!collection) {
+            when(attribute.getName()).thenReturn(name);
+        }
+        return attribute;
+    }
+
+    private static SearchCriteriaFilter filter(String key, String value) {
+        return SearchCriteriaFilter.builder()
+                .key(key)
+                .strategy(SearchCriteriaStrategy.EQUAL)
+                .value(value)
+                .operator(SearchCriteriaOperator.AND)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.repository;
+
+import org.eclipse.tractusx.traceability.common.model.CursorPageRequest;
+import org.eclipse.tractusx.traceability.common.model.PageResult;
+import org.eclipse.tractusx.traceability.common.request.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetPagingTest {
+
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "created");
+
+    @Mock
+    private JpaSpecificationExecutor<TestEntity> repository;
+
+    @Test
+    void givenPageRequest_whenFindPage_thenReadPageByOffset() {
+        // given
+        PageRequest pageRequest = PageRequest.of(1, 2, SORT);
+        when(repository.findAll((Specification<TestEntity>) null, pageRequest))
+                .thenReturn(new PageImpl<>(List.of(new TestEntity("c", Instant.EPOCH)), pageRequest, 3));
+
+        // when
+        PageResult<String> result = KeysetPaging.findPage(repository, TestEntity.class, null, pageRequest, TestEntity::getId);
+
+        // then
+        assertThat(result.content()).containsExactly("c");
+        assertThat(result.page()).isEqualTo(1);
+        assertThat(result.totalItems()).isEqualTo(3L);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void givenCursorOfPreviousPage_whenFindPage_thenContinueAfterLastItem() {
+        // given
+        Instant created = Instant.parse("2024-05-01T10:15:30.123456Z");
+        FluentQuery.FetchableFluentQuery<TestEntity> query = fluentQuery();
+        when(query.scroll(any())).thenReturn(Window.from(
+                List.of(new TestEntity("a", created)),
+                index -> ScrollPosition.forward(Map.of("created", created, "id", "a")),
+                true));
+        mockFindBy(query);
+        when(repository.count(any(Specification.class))).thenReturn(5L);
+        PageResult<String> firstPage = KeysetPaging.findPage(repository, TestEntity.class, null, new CursorPageRequest(1, SORT, "", false), TestEntity::getId);
+
+        // when
+        KeysetPaging.findPage(repository, TestEntity.class, null, new CursorPageRequest(1, SORT, firstPage.nextCursor(), true), TestEntity::getId);
+
+        // then
+        assertThat(firstPage.content()).containsExactly("a");
+        assertThat(firstPage.page()).isNull();
+        assertThat(firstPage.pageCount()).isEqualTo(5);
+        assertThat(firstPage.totalItems()).isEqualTo(5L);
+        assertThat(firstPage.nextCursor()).isNotBlank();
+
+        ArgumentCaptor<ScrollPosition> positionCaptor = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(query, times(2)).scroll(positionCaptor.capture());
+        assertThat(positionCaptor.getAllValues().get(0).isInitial()).isTrue();
+        assertThat(((KeysetScrollPosition) positionCaptor.getAllValues().get(1)).getKeys())
+                .containsEntry("created", created)
+                .containsEntry("id", "a");
+        verify(repository, times(1)).count(any(Specification.class));
+    }
+
+    @Test
+    void givenLastPageAndSkipCount_whenFindPage_thenReturnNeitherCursorNorCount() {
+        // given
+        FluentQuery.FetchableFluentQuery<TestEntity> query = fluentQuery();
+        when(query.scroll(any())).thenReturn(Window.from(List.of(new TestEntity("a", Instant.EPOCH)), ScrollPosition::offset, false));
+        mockFindBy(query);
+
+        // when
+        PageResult<String> result = KeysetPaging.findPage(repository, TestEntity.class, null, new CursorPageRequest(10, SORT, "", true), TestEntity::getId);
+
+        // then
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.totalItems()).isNull();
+        assertThat(result.pageCount()).isNull();
+        verify(repository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void givenMalformedCursor_whenFindPage_thenThrowInvalidCursorException() {
+        // given
+        CursorPageRequest cursorPageRequest = new CursorPageRequest(10, SORT, "not a cursor", false);
+
+        // when/then
+        assertThatThrownBy(() -> KeysetPaging.findPage(repository, TestEntity.class, null, cursorPageRequest, TestEntity::getId))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FluentQuery.FetchableFluentQuery<TestEntity> fluentQuery() {
+        FluentQuery.FetchableFluentQuery<TestEntity> query = mock(FluentQuery.FetchableFluentQuery.class);
+        when(query.sortBy(any())).thenReturn(query);
+        when(query.limit(anyInt())).thenReturn(query);
+        return query;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockFindBy(FluentQuery.FetchableFluentQuery<TestEntity> query) {
+        when(repository.findBy(any(Specification.class), any(Function.class)))
+                .thenAnswer(invocation -> invocation.<Function<FluentQuery.FetchableFluentQuery<TestEntity>, Object>>getArgument(1).apply(query));
+    }
+
+    private static class TestEntity {
+        private final String id;
+        private final Instant created;
+
+        TestEntity(String id, Instant created) {
+            this.id = id;
+            this.created = created;
+        }
+
+        String getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCounterTest {
+
+    private final StatementCounter statementCounter = new StatementCounter();
+
+    @Test
+    void givenRunningCount_whenStatementsArePrepared_thenOnlyStatementsOfTheCurrentThreadAreCounted() {
+        // given
+        statementCounter.inspect("select 1");
+        statementCounter.start();
+
+        // when
+        String inspected = statementCounter.inspect("insert into assets_as_built values (?)");
+        statementCounter.inspect("insert into assets_as_built_childs values (?)");
+        CompletableFuture.runAsync(() -> statementCounter.inspect("select 2")).join();
+
+        // then
+        assertThat(inspected).isEqualTo("insert into assets_as_built values (?)");
+        assertThat(statementCounter.stop()).isEqualTo(2);
+        assertThat(statementCounter.stop()).isZero();
+    }
+}
@@ -18,28 +18,38 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.discovery.domain.service;
 
-import org.eclipse.tractusx.traceability.bpn.domain.model.BpnEdcMapping;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnRepository;
+import org.eclipse.tractusx.traceability.common.properties.DiscoveryCacheProperties;
 import org.eclipse.tractusx.traceability.common.properties.EdcProperties;
 import org.eclipse.tractusx.traceability.discovery.domain.model.Discovery;
 import org.eclipse.tractusx.traceability.discovery.domain.repository.DiscoveryRepository;
+import org.eclipse.tractusx.traceability.discovery.infrastructure.exception.DiscoveryFinderException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.List;
-import java.util.Optional;
-
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class DiscoveryServiceImplTest {
 
-    @InjectMocks
     private DiscoveryServiceImpl discoveryService;
 
     @Mock
@@ -51,15 +61,32 @@ class DiscoveryServiceImplTest {
     @Mock
     private EdcProperties edcProperties;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private ThreadPoolTaskExecutor discoveryLookupExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        discoveryLookupExecutor = new ThreadPoolTaskExecutor();
+        discoveryLookupExecutor.setCorePoolSize(2);
+        discoveryLookupExecutor.initialize();
+        DiscoveryCache discoveryCache = new DiscoveryCache(new DiscoveryCacheProperties(), meterRegistry, discoveryLookupExecutor);
+        discoveryService = new DiscoveryServiceImpl(discoveryRepository, bpnRepository, edcProperties, discoveryCache, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        discoveryLookupExecutor.shutdown();
+    }
+
     @Test
     void testGetDiscoveryByBPNSuccessfulBoth() {
 
         // given
         Discovery discoveryByService = Discovery.builder().receiverUrls(List.of("receiver2.de")).senderUrl("sender2.de").build();
-        BpnEdcMapping bpnEdcMapping = new BpnEdcMapping("bpn", "receiver.de", "name");
-        when(bpnRepository.existsWhereUrlNotNull(any())).thenReturn(true);
-        when(bpnRepository.findByIdOrThrowNotFoundException(any())).thenReturn(bpnEdcMapping);
-        when(discoveryRepository.retrieveDiscoveryByFinderAndEdcDiscoveryService(any())).thenReturn(Optional.of(discoveryByService));
+        when(bpnRepository.findUrlsWhereUrlNotNull(any())).thenReturn(Map.of("bpn", "receiver.de"));
+        when(discoveryRepository.retrieveDiscoveriesByFinderAndEdcDiscoveryService(any())).thenReturn(Map.of("bpn", discoveryByService));
         when(edcProperties.getProviderEdcUrl()).thenReturn("sender2.de");
         // when
         Discovery discoveryByBPN = discoveryService.getDiscoveryByBPN("bpn");
@@ -72,10 +99,8 @@ class DiscoveryServiceImplTest {
     void givenTrailingUrl_whenTestGetDiscoveryByBPN_thenSuccessfulBoth() {
         // given
         Discovery discoveryByService = Discovery.builder().receiverUrls(List.of("receiver2.de/")).senderUrl("sender2.de").build();
-        BpnEdcMapping bpnEdcMapping = new BpnEdcMapping("bpn", "receiver.de", "name");
-        when(bpnRepository.existsWhereUrlNotNull(any())).thenReturn(true);
-        when(bpnRepository.findByIdOrThrowNotFoundException(any())).thenReturn(bpnEdcMapping);
-        when(discoveryRepository.retrieveDiscoveryByFinderAndEdcDiscoveryService(any())).thenReturn(Optional.of(discoveryByService));
+        when(bpnRepository.findUrlsWhereUrlNotNull(any())).thenReturn(Map.of("bpn", "receiver.de"));
+        when(discoveryRepository.retrieveDiscoveriesByFinderAndEdcDiscoveryService(any())).thenReturn(Map.of("bpn", discoveryByService));
         when(edcProperties.getProviderEdcUrl()).thenReturn("sender2.de");
 
         // when
@@ -92,8 +117,8 @@ class DiscoveryServiceImplTest {
         // given
         Discovery discoveryByService = Discovery.builder().receiverUrls(List.of("receiver2.de")).senderUrl("sender2.de").build();
 
-        when(bpnRepository.existsWhereUrlNotNull(any())).thenReturn(false);
-        when(discoveryRepository.retrieveDiscoveryByFinderAndEdcDiscoveryService(any())).thenReturn(Optional.of(discoveryByService));
+        when(bpnRepository.findUrlsWhereUrlNotNull(any())).thenReturn(Map.of());
+        when(discoveryRepository.retrieveDiscoveriesByFinderAndEdcDiscoveryService(any())).thenReturn(Map.of("bpn", discoveryByService));
 
         // when
         Discovery discoveryByBPN = discoveryService.getDiscoveryByBPN("bpn");
@@ -102,4 +127,79 @@ class DiscoveryServiceImplTest {
         assertThat(discoveryByBPN.getReceiverUrls()).isEqualTo(List.of("receiver2.de"));
         assertThat(discoveryByBPN.getSenderUrl()).isEqualTo("sender2.de");
     }
+
+    @Test
+    void givenCachedDiscovery_whenGetDiscoveryByBPN_thenDoNotResolveAgain() {
+        // given
+        Discovery discoveryByService = Discovery.builder().receiverUrls(List.of("receiver2.de")).senderUrl("sender2.de").build();
+        when(bpnRepository.findUrlsWhereUrlNotNull(any())).thenReturn(Map.of());
+        when(discoveryRepository.retrieveDiscoveriesByFinderAndEdcDiscoveryService(any())).thenReturn(Map.of("bpn", discoveryByService));
+        discoveryService.getDiscoveryByBPN("bpn");
+
+        // when
+        Discovery discoveryByBPN = discoveryService.getDiscoveryByBPN("bpn");
+
+        // then
+        assertThat(discoveryByBPN.getReceiverUrls()).isEqualTo(List.of("receiver2.de"));
+        verify(discoveryRepository, times(1)).retrieveDiscoveriesByFinderAndEdcDiscoveryService(any());
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "discoveries", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("discovery.resolution").tags("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenConcurrentLookups_whenGetDiscoveryByBPN_thenResolveOnce() throws Exception {
+        // given
+        CountDownLatch resolutionStarted = new CountDownLatch(1);
+        CountDownLatch releaseResolution = new CountDownLatch(1);
+        Discovery discoveryByService = Discovery.builder().receiverUrls(List.of("receiver2.de")).senderUrl("sender2.de").build();
+        when(bpnRepository.findUrlsWhereUrlNotNull(any())).thenReturn(Map.of());
+        when(discoveryRepository.retrieveDiscoveriesByFinderAndEdcDiscoveryService(any())).thenAnswer(invocation -> {
+            resolutionStarted.countDown();
+            releaseResolution.await(5, TimeUnit.SECONDS);
+            return Map.of("bpn", discoveryByService);
+        });
+
+        // when
+        CompletableFuture<Discovery> first = CompletableFuture.supplyAsync(() -> discoveryService.getDiscoveryByBPN("bpn"));
+        assertThat(resolutionStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Discovery> second = CompletableFuture.supplyAsync(() -> discoveryService.getDiscoveryByBPN("bpn"));
+        releaseResolution.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).getReceiverUrls()).isEqualTo(List.of("receiver2.de"));
+        assertThat(second.get(5, TimeUnit.SECONDS).getReceiverUrls()).isEqualTo(List.of("receiver2.de"));
+        verify(discoveryRepository, times(1)).retrieveDiscoveriesByFinderAndEdcDiscoveryService(any());
+    }
+
+    @Test
+    void givenDiscoveryFinderFails_whenGetDiscoveryByBPN_thenThrowAndDoNotCacheFailure() {
+        // given
+        when(discoveryRepository.retrieveDiscoveriesByFinderAndEdcDiscoveryService(any())).thenThrow(new IllegalStateException("unavailable"));
+
+        // when/then
+        assertThatThrownBy(() -> discoveryService.getDiscoveryByBPN("bpn")).isInstanceOf(DiscoveryFinderException.class);
+        assertThatThrownBy(() -> discoveryService.getDiscoveryByBPN("bpn")).isInstanceOf(DiscoveryFinderException.class);
+        verify(discoveryRepository, times(2)).retrieveDiscoveriesByFinderAndEdcDiscoveryService(any());
+        assertThat(meterRegistry.get("discovery.resolution").tags("outcome", "failure").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenMultipleBpns_whenGetDiscoveriesByBPNs_thenResolveUncachedBpnsTogether() {
+        // given
+        Discovery discoveryByService = Discovery.builder().receiverUrls(List.of("receiver1.de")).senderUrl("sender.de").build();
+        when(bpnRepository.findUrlsWhereUrlNotNull(any())).thenReturn(Map.of("bpn2", "receiver2.de"));
+        when(discoveryRepository.retrieveDiscoveriesByFinderAndEdcDiscoveryService(any())).thenReturn(Map.of("bpn1", discoveryByService));
+        when(edcProperties.getProviderEdcUrl()).thenReturn("sender.de");
+
+        // when
+        Map<String, Discovery> discoveries = discoveryService.getDiscoveriesByBPNs(List.of("bpn1", "bpn2", "bpn3"));
+
+        // then
+        assertThat(discoveries).containsOnlyKeys("bpn1", "bpn2", "bpn3");
+        assertThat(discoveries.get("bpn1").getReceiverUrls()).isEqualTo(List.of("receiver1.de"));
+        assertThat(discoveries.get("bpn2").getReceiverUrls()).isEqualTo(List.of("receiver2.de"));
+        assertThat(discoveries.get("bpn3").getReceiverUrls()).isEmpty();
+        verify(discoveryRepository, times(1)).retrieveDiscoveriesByFinderAndEdcDiscoveryService(Set.of("bpn1", "bpn2", "bpn3"));
+        verify(bpnRepository, times(1)).findUrlsWhereUrlNotNull(Set.of("bpn1", "bpn2", "bpn3"));
+    }
 }
@@ -33,10 +33,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,4 +77,20 @@ class FeignDiscoveryRepositoryImplTest {
         Optional<Discovery> discoveryByBpnFromConnectorEndpoint = feignDiscoveryRepositoryImpl.retrieveDiscoveryByFinderAndEdcDiscoveryService("bpn");
         Assertions.assertTrue(discoveryByBpnFromConnectorEndpoint.isEmpty());
     }
+
+    @Test
+    void givenMultipleBpns_whenRetrieveDiscoveries_thenRequestConnectorEndpointsOncePerDiscoveryEndpoint() {
+        DiscoveryEndpoint discoveryEndpoint = new DiscoveryEndpoint("bpn", "description", "test.de", "documentation", "resourceId");
+        when(discoveryFinderClient.findDiscoveryEndpoints(any())).thenReturn(new DiscoveryResponse(List.of(discoveryEndpoint)));
+        when(discoveryFinderClient.findConnectorEndpoints("test.de", List.of("bpn1", "bpn2", "bpn3")))
+                .thenReturn(List.of(new EdcDiscoveryResult("bpn1", List.of("edc1.de")), new EdcDiscoveryResult("bpn2", List.of("edc2.de"))));
+        when(edcProperties.getProviderEdcUrl()).thenReturn("sender.de");
+
+        Map<String, Discovery> discoveries = feignDiscoveryRepositoryImpl.retrieveDiscoveriesByFinderAndEdcDiscoveryService(List.of("bpn1", "bpn2", "bpn3"));
+
+        assertThat(discoveries).containsOnlyKeys("bpn1", "bpn2");
+        assertThat(discoveries.get("bpn1").getReceiverUrls()).isEqualTo(List.of("edc1.de"));
+        assertThat(discoveries.get("bpn2").getReceiverUrls()).isEqualTo(List.of("edc2.de"));
+        verify(discoveryFinderClient, times(1)).findConnectorEndpoints(any(), any());
+    }
 }
@@ -19,6 +19,12 @@
 package org.eclipse.tractusx.traceability.infrastructure.edc.blackbox;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.edc.client.ContractNegotiationService;
 import org.eclipse.tractusx.irs.edc.client.EDCCatalogFacade;
@@ -26,7 +32,11 @@ import org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStorage;
 import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
 import org.eclipse.tractusx.irs.edc.client.model.NegotiationResponse;
 import org.eclipse.tractusx.irs.edc.client.policy.PolicyCheckerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.common.properties.ContractNegotiationProperties;
 import org.eclipse.tractusx.traceability.common.properties.EdcProperties;
+import org.eclipse.tractusx.traceability.common.properties.NotificationContractCacheProperties;
+import org.eclipse.tractusx.traceability.contracts.application.service.ContractService;
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.ContractNegotiationException;
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.NoCatalogItemException;
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.SendNotificationException;
@@ -35,19 +45,32 @@ import org.eclipse.tractusx.traceability.notification.domain.base.model.Notifica
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSeverity;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.ContractNegotiationRegistry;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationContractCache;
 import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationsEDCFacade;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.ContractNegotiationLeaseRepository;
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestTemplate;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,9 +89,26 @@ class NotificationsEDCFacadeTest {
     EndpointDataReference endpointDataReference;
     @Mock
     Notification notification;
-    @InjectMocks
+    @Mock
+    NotificationContractCache notificationContractCache;
+    @Mock
+    RestTemplate edcNotificationTemplate;
+    @Mock
+    ContractService contractService;
+    @Mock
+    ContractNegotiationLeaseRepository contractNegotiationLeaseRepository;
+
     NotificationsEDCFacade notificationsEDCFacade;
 
+    @BeforeEach
+    void setUp() {
+        ContractNegotiationRegistry contractNegotiationRegistry = new ContractNegotiationRegistry(
+                contractNegotiationLeaseRepository, new ContractNegotiationProperties(), new SimpleMeterRegistry(), Clock.systemUTC());
+        notificationsEDCFacade = new NotificationsEDCFacade(objectMapper, edcProperties, edcNotificationTemplate, edcCatalogFacade,
+                contractNegotiationService, endpointDataReferenceStorage, contractService, notificationContractCache,
+                contractNegotiationRegistry, new NotificationContractCacheProperties(), Clock.systemUTC());
+    }
+
 
     @Test
     void givenCorrectInvestigationMessageButSendRequestThrowsException_whenStartEdcTransfer_thenThrowSendNotificationException() throws Exception {
@@ -88,6 +128,7 @@ class NotificationsEDCFacadeTest {
         when(notification.getSeverity()).thenReturn(NotificationSeverity.MAJOR);
         when(edcProperties.getIdsPath()).thenReturn(idsPath);
         when(edcCatalogFacade.fetchCatalogItems(any())).thenReturn(List.of(catalogItem));
+        when(contractNegotiationLeaseRepository.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
         when(contractNegotiationService.negotiate(receiverEdcUrl + idsPath, catalogItem, null, null))
                 .thenReturn(NegotiationResponse.builder().contractAgreementId(agreementId).build());
         when(endpointDataReference.getEndpoint()).thenReturn("endpoint");
@@ -95,11 +136,43 @@ class NotificationsEDCFacadeTest {
         when(endpointDataReference.getAuthKey()).thenReturn("authKey");
         when(endpointDataReference.getEndpoint()).thenReturn(dataReferenceEndpoint);
         when(endpointDataReferenceStorage.get(agreementId)).thenReturn(Optional.ofNullable(endpointDataReference));
+        when(notificationContractCache.put(any(), eq(catalogItem), eq(agreementId), eq(endpointDataReference)))
+                .thenReturn(new NotificationContractCache.CachedContract(catalogItem, Instant.now(), agreementId, endpointDataReference, null));
         when(objectMapper.writeValueAsString(any())).thenReturn("{body}");
 
 
         // when/then
         assertThrows(SendNotificationException.class, () -> notificationsEDCFacade.startEdcTransfer(notificationMessage, receiverEdcUrl, senderEdcUrl, notification));
+        verify(notificationContractCache).invalidate(new NotificationContractCache.Key(null, receiverEdcUrl, NotificationsEDCFacade.CX_TAXO_QUALITY_INVESTIGATION_UPDATE));
+    }
+
+    @Test
+    void givenCachedContractWithValidEndpointDataReference_whenStartEdcTransfer_thenReuseContractWithoutNegotiation() throws Exception {
+        // given
+        final String receiverEdcUrl = "https://receiver.com";
+        final String senderEdcUrl = "https://sender.com";
+        final NotificationMessage notificationMessage = NotificationMessage.builder()
+                .type(NotificationType.ALERT)
+                .notificationStatus(NotificationStatus.SENT)
+                .sentTo("BPNL00000000TEST")
+                .build();
+        final NotificationContractCache.Key key = new NotificationContractCache.Key("BPNL00000000TEST", receiverEdcUrl, NotificationsEDCFacade.CX_TAXO_QUALITY_ALERT_RECEIVE);
+        final NotificationContractCache.CachedContract cachedContract = new NotificationContractCache.CachedContract(
+                CatalogItem.builder().build(), Instant.now(), "agreementId", endpointDataReference, Instant.now().plusSeconds(600));
+        when(notificationContractCache.get(key)).thenReturn(Optional.of(cachedContract));
+        when(notificationContractCache.isEndpointDataReferenceUsable(cachedContract)).thenReturn(true);
+        when(notification.getSeverity()).thenReturn(NotificationSeverity.MAJOR);
+        when(endpointDataReference.getAuthCode()).thenReturn("authCode");
+        when(endpointDataReference.getAuthKey()).thenReturn("authKey");
+        when(endpointDataReference.getEndpoint()).thenReturn("https://endpoint.com");
+        when(objectMapper.writeValueAsString(any())).thenReturn("{body}");
+
+        // when
+        assertThrows(SendNotificationException.class, () -> notificationsEDCFacade.startEdcTransfer(notificationMessage, receiverEdcUrl, senderEdcUrl, notification));
+
+        // then
+        assertThat(notificationMessage.getContractAgreementId()).isEqualTo("agreementId");
+        verifyNoInteractions(edcCatalogFacade, contractNegotiationService);
     }
 
     @Test
@@ -116,6 +189,7 @@ class NotificationsEDCFacadeTest {
         final String idsPath = "/api/v1/dsp";
         when(edcProperties.getIdsPath()).thenReturn(idsPath);
         when(edcCatalogFacade.fetchCatalogItems(any())).thenReturn(List.of(catalogItem));
+        when(contractNegotiationLeaseRepository.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
         when(contractNegotiationService.negotiate(receiverEdcUrl + idsPath, catalogItem, null, null))
                 .thenReturn(null);
 
@@ -139,4 +213,67 @@ class NotificationsEDCFacadeTest {
         // when/then
         assertThrows(NoCatalogItemException.class, () -> notificationsEDCFacade.startEdcTransfer(notificationMessage, receiverEdcUrl, senderEdcUrl, notification));
     }
+
+    @Test
+    void givenIndependentlyFetchedCatalogItemsForSameOffer_whenStartEdcTransfer_thenNegotiateWithSameNegotiationKey() throws Exception {
+        // given
+        final String receiverEdcUrl = "https://receiver.com";
+        final String senderEdcUrl = "https://sender.com";
+        final NotificationMessage notificationMessage = NotificationMessage.builder()
+                .type(NotificationType.INVESTIGATION)
+                .notificationStatus(NotificationStatus.CREATED)
+                .sentTo("BPNL00000000TEST")
+                .build();
+        final CatalogItem firstCatalogItem = catalogItem("offerId", "BPNL00000000TEST");
+        final CatalogItem secondCatalogItem = catalogItem("offerId", "BPNL00000000TEST");
+        final String idsPath = "/api/v1/dsp";
+        when(edcProperties.getIdsPath()).thenReturn(idsPath);
+        when(edcCatalogFacade.fetchCatalogItems(any())).thenReturn(List.of(firstCatalogItem), List.of(secondCatalogItem));
+        when(contractNegotiationLeaseRepository.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
+        when(contractNegotiationService.negotiate(eq(receiverEdcUrl + idsPath), any(), eq(null), eq("BPNL00000000TEST")))
+                .thenReturn(null);
+
+        // when
+        assertThrows(ContractNegotiationException.class, () -> notificationsEDCFacade.startEdcTransfer(notificationMessage, receiverEdcUrl, senderEdcUrl, notification));
+        assertThrows(ContractNegotiationException.class, () -> notificationsEDCFacade.startEdcTransfer(notificationMessage, receiverEdcUrl, senderEdcUrl, notification));
+
+        // then
+        ArgumentCaptor<String> negotiationKeys = ArgumentCaptor.forClass(String.class);
+        verify(contractNegotiationLeaseRepository, times(2)).tryAcquire(negotiationKeys.capture(), anyString(), any());
+        assertThat(firstCatalogItem.getPolicy()).isNotSameAs(secondCatalogItem.getPolicy());
+        assertThat(negotiationKeys.getAllValues().get(0))
+                .contains("offerId")
+                .isEqualTo(negotiationKeys.getAllValues().get(1));
+    }
+
+    @Test
+    void givenSameOfferWithChangedPolicy_whenPolicyDigest_thenDigestDiffers() {
+        // given
+        final Policy policy = catalogItem("offerId", "BPNL00000000TEST").getPolicy();
+        final Policy changedPolicy = catalogItem("offerId", "BPNL00000000OTHER").getPolicy();
+
+        // when/then
+        assertThat(NotificationsEDCFacade.policyDigest(policy))
+                .isEqualTo(NotificationsEDCFacade.policyDigest(catalogItem("offerId", "BPNL00000000TEST").getPolicy()))
+                .isNotEqualTo(NotificationsEDCFacade.policyDigest(changedPolicy));
+    }
+
+    private static CatalogItem catalogItem(String offerId, String bpn) {
+        final Policy policy = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance()
+                        .action(Action.Builder.newInstance().type("use").build())
+                        .constraint(AtomicConstraint.Builder.newInstance()
+                                .leftExpression(new LiteralExpression("BusinessPartnerNumber"))
+                                .operator(Operator.EQ)
+                                .rightExpression(new LiteralExpression(bpn))
+                                .build())
+                        .build())
+                .extensibleProperty("odrl:target", "assetId")
+                .extensibleProperty("@type", "odrl:Offer")
+                .build();
+        return CatalogItem.builder()
+                .offerId(offerId)
+                .policy(policy)
+                .build();
+    }
 }
@@ -19,20 +19,31 @@
 
 package org.eclipse.tractusx.traceability.infrastructure.jpa.bpn_edc;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.tractusx.traceability.bpn.domain.model.BpnNotFoundException;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BpnEntity;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartnerResponse;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnNameCache;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnRepository;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnRepositoryImpl;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.JpaBpnRepository;
+import org.eclipse.tractusx.traceability.common.properties.BpnCacheProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,11 +52,14 @@ class BpnRepositoryImplTest {
     @Mock
     private JpaBpnRepository jpaBpnRepository;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private BpnRepository bpnRepository;
 
     @BeforeEach
     void setUp() {
-        bpnRepository = new BpnRepositoryImpl(jpaBpnRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        bpnRepository = new BpnRepositoryImpl(jpaBpnRepository, new BpnNameCache(new BpnCacheProperties(), meterRegistry));
     }
 
     @Test
@@ -68,4 +82,50 @@ class BpnRepositoryImplTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void givenStoredManufacturerNames_whenFindManufacturerNamesTwice_thenDatabaseIsQueriedOnce() {
+        // given
+        when(jpaBpnRepository.findAllById(any())).thenReturn(List.of(
+                BpnEntity.builder().manufacturerId("BPNL1").manufacturerName("Manufacturer 1").build(),
+                BpnEntity.builder().manufacturerId("BPNL2").build()));
+
+        // when
+        bpnRepository.findManufacturerNames(List.of("BPNL1", "BPNL2"));
+        Map<String, Optional<String>> manufacturerNames = bpnRepository.findManufacturerNames(List.of("BPNL1"));
+
+        // then
+        assertThat(manufacturerNames).containsExactlyEntriesOf(Map.of("BPNL1", Optional.of("Manufacturer 1")));
+        verify(jpaBpnRepository, times(1)).findAllById(any());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "bpn-mappings").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenBusinessPartnerWithoutName_whenSaved_thenBpnIsCachedAsUnknown() {
+        // given
+        BusinessPartnerResponse businessPartner = BusinessPartnerResponse.builder().bpn("BPNL1").build();
+        when(jpaBpnRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        bpnRepository.save(businessPartner);
+        Map<String, Optional<String>> manufacturerNames = bpnRepository.findManufacturerNames(List.of("BPNL1"));
+
+        // then
+        assertThat(manufacturerNames).containsExactlyEntriesOf(Map.of("BPNL1", Optional.empty()));
+        verify(jpaBpnRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void givenCachedManufacturerName_whenUpdated_thenNameIsReadAgain() {
+        // given
+        when(jpaBpnRepository.findAllById(any()))
+                .thenReturn(List.of(BpnEntity.builder().manufacturerId("BPNL1").manufacturerName("Old name").build()))
+                .thenReturn(List.of(BpnEntity.builder().manufacturerId("BPNL1").manufacturerName("New name").build()));
+        bpnRepository.findManufacturerName("BPNL1");
+
+        // when
+        bpnRepository.updateManufacturers(Map.of("BPNL1", "New name"));
+
+        // then
+        assertThat(bpnRepository.findManufacturerName("BPNL1")).isEqualTo("New name");
+    }
 }
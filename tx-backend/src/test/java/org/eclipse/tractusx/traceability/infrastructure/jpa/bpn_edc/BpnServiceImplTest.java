@@ -20,19 +20,32 @@
 package org.eclipse.tractusx.traceability.infrastructure.jpa.bpn_edc;
 
 import bpn.request.BpnMappingRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.tractusx.traceability.bpn.domain.model.BpnNotFoundException;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.client.BpdmClient;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BpnEntity;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartnerResponse;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnRepository;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnServiceImpl;
+import org.eclipse.tractusx.traceability.discovery.domain.service.DiscoveryCache;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -44,9 +57,31 @@ class BpnServiceImplTest {
     @Mock
     private BpnRepository bpnRepositoryMock;
 
-    @InjectMocks
+    @Mock
+    private BpdmClient bpdmClientMock;
+
+    @Mock
+    private DiscoveryCache discoveryCacheMock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ThreadPoolTaskExecutor bpdmLookupExecutor;
+
     private BpnServiceImpl bpnServiceImpl;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bpdmLookupExecutor = new ThreadPoolTaskExecutor();
+        bpdmLookupExecutor.setCorePoolSize(2);
+        bpdmLookupExecutor.initialize();
+        bpnServiceImpl = new BpnServiceImpl(bpnRepositoryMock, bpdmClientMock, meterRegistry, bpdmLookupExecutor, discoveryCacheMock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bpdmLookupExecutor.shutdown();
+    }
 
     @Test
     @DisplayName("Test getBpnEdcMappings")
@@ -95,5 +130,47 @@ class BpnServiceImplTest {
         });
         verify(bpnRepositoryMock, never()).deleteById(bpn);
     }
-}
 
+    @Test
+    void givenStoredAndUnknownBpns_whenFindManufacturerNames_thenOnlyUnknownBpnsAreLookedUpOnce() {
+        // given
+        List<String> bpns = Arrays.asList("BPNL1", "BPNL2", "BPNL2", "BPNL3", null);
+        BusinessPartnerResponse businessPartner = BusinessPartnerResponse.builder().bpn("BPNL2").build();
+        when(bpnRepositoryMock.findManufacturerNames(bpns)).thenReturn(Map.of("BPNL1", Optional.of("Manufacturer 1"), "BPNL3", Optional.empty()));
+        when(bpdmClientMock.getBusinessPartner("BPNL2")).thenReturn(businessPartner);
+        when(bpnRepositoryMock.save(businessPartner)).thenReturn(BpnEntity.builder().manufacturerId("BPNL2").manufacturerName("Manufacturer 2").build());
+
+        // when
+        Map<String, String> manufacturerNames = bpnServiceImpl.findManufacturerNames(bpns);
+
+        // then
+        assertThat(manufacturerNames).containsExactlyInAnyOrderEntriesOf(Map.of("BPNL1", "Manufacturer 1", "BPNL2", "Manufacturer 2"));
+        verify(bpdmClientMock).getBusinessPartner("BPNL2");
+        verify(bpdmClientMock, never()).getBusinessPartner("BPNL3");
+        assertThat(meterRegistry.get("bpdm.lookup").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenFailingBpdm_whenFindManufacturerNames_thenExceptionIsPropagated() {
+        // given
+        when(bpnRepositoryMock.findManufacturerNames(List.of("BPNL1"))).thenReturn(Map.of());
+        when(bpdmClientMock.getBusinessPartner("BPNL1")).thenThrow(new IllegalStateException("BPDM not reachable"));
+
+        // when/then
+        assertThatThrownBy(() -> bpnServiceImpl.findManufacturerNames(List.of("BPNL1")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("BPDM not reachable");
+        verify(bpnRepositoryMock, never()).save(any(BusinessPartnerResponse.class));
+        assertThat(meterRegistry.get("bpdm.lookup").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenNullBpn_whenFindByBpn_thenNothingIsLookedUp() {
+        // when
+        String manufacturerName = bpnServiceImpl.findByBpn(null);
+
+        // then
+        assertThat(manufacturerName).isNull();
+        verify(bpnRepositoryMock, never()).findManufacturerNames(any());
+    }
+}
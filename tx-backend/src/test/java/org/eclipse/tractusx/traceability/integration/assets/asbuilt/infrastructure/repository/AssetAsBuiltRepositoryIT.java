@@ -85,6 +85,23 @@ class AssetAsBuiltRepositoryIT extends IntegrationTestSpecification {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    void givenAssets_whenFindIdsByImportStateIn_thenReturnProperAssetIds() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        AssetAsBuiltEntity entityInSyncState = jpaAssetAsBuiltRepository.findById("urn:uuid:d387fa8e-603c-42bd-98c3-4d87fef8d2bb").get();
+        entityInSyncState.setImportState(ImportState.IN_SYNCHRONIZATION);
+        AssetAsBuiltEntity entityTransientState = jpaAssetAsBuiltRepository.findById("urn:uuid:6dafbcec-2fce-4cbb-a5a9-b3b32aa5cffc").get();
+        entityTransientState.setImportState(ImportState.TRANSIENT);
+        jpaAssetAsBuiltRepository.saveAll(List.of(entityInSyncState, entityTransientState));
+
+        // when
+        List<String> result = assetAsBuiltRepository.findIdsByImportStateIn(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("urn:uuid:d387fa8e-603c-42bd-98c3-4d87fef8d2bb", "urn:uuid:6dafbcec-2fce-4cbb-a5a9-b3b32aa5cffc");
+    }
+
     private static Stream<Arguments> fieldNameTestProvider() {
         return Stream.of(
                 Arguments.of("id", "urn:uuid:1", 10, 3),
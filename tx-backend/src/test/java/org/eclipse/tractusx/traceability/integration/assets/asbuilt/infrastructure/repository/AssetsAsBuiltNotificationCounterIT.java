@@ -0,0 +1,167 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.assets.asbuilt.infrastructure.repository;
+
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.integration.common.support.AssetsSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetsAsBuiltNotificationCounterIT extends IntegrationTestSpecification {
+
+    private static final String ASSET_ID = "urn:uuid:d387fa8e-603c-42bd-98c3-4d87fef8d2bb";
+
+    @Autowired
+    AssetsSupport assetsSupport;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void storeAssets() {
+        assetsSupport.defaultAssetsStored();
+    }
+
+    @Test
+    void givenActiveNotification_whenAssetLinked_thenCounted() {
+        // given
+        Long notificationId = storeNotification("SENT", "SENDER", "ALERT");
+
+        // when
+        link(notificationId, ASSET_ID);
+
+        // then
+        assertThat(sentActiveAlerts()).isEqualTo(1);
+        assertThat(sentActiveAlerts()).isEqualTo(countedSentActiveAlerts());
+    }
+
+    @Test
+    void givenLinkedNotification_whenLinkDeleted_thenNoLongerCounted() {
+        // given
+        Long notificationId = storeNotification("SENT", "SENDER", "ALERT");
+        link(notificationId, ASSET_ID);
+
+        // when
+        jdbcTemplate.update("DELETE FROM assets_as_built_notifications WHERE notification_id = ? AND asset_id = ?", notificationId, ASSET_ID);
+
+        // then
+        assertThat(sentActiveAlerts()).isZero();
+    }
+
+    @Test
+    void givenLinkedNotification_whenClosed_thenNoLongerCounted() {
+        // given
+        Long notificationId = storeNotification("SENT", "SENDER", "ALERT");
+        link(notificationId, ASSET_ID);
+
+        // when
+        jdbcTemplate.update("UPDATE notification SET status = 'CLOSED' WHERE id = ?", notificationId);
+
+        // then
+        assertThat(sentActiveAlerts()).isZero();
+    }
+
+    @Test
+    void givenClosedNotification_whenLinked_thenNotCounted() {
+        // given
+        Long notificationId = storeNotification("CLOSED", "SENDER", "ALERT");
+
+        // when
+        link(notificationId, ASSET_ID);
+
+        // then
+        assertThat(sentActiveAlerts()).isZero();
+    }
+
+    @Test
+    void givenNotifications_whenLinkedToSameAssetConcurrently_thenAllCounted() {
+        // given
+        int notificationCount = 20;
+        List<Long> notificationIds = IntStream.range(0, notificationCount)
+                .mapToObj(i -> storeNotification("SENT", "SENDER", "ALERT"))
+                .toList();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(notificationCount);
+
+        // when
+        try {
+            List<CompletableFuture<Void>> links = notificationIds.stream()
+                    .map(notificationId -> CompletableFuture.runAsync(() -> {
+                        awaitQuietly(start);
+                        link(notificationId, ASSET_ID);
+                    }, executor))
+                    .toList();
+            start.countDown();
+            CompletableFuture.allOf(links.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(sentActiveAlerts()).isEqualTo(notificationCount);
+        assertThat(sentActiveAlerts()).isEqualTo(countedSentActiveAlerts());
+    }
+
+    private Long storeNotification(String status, String side, String type) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO notification (status, side, type) VALUES (?, ?, ?) RETURNING id", Long.class, status, side, type);
+    }
+
+    private void link(Long notificationId, String assetId) {
+        jdbcTemplate.update("INSERT INTO assets_as_built_notifications (notification_id, asset_id) VALUES (?, ?)", notificationId, assetId);
+    }
+
+    private long sentActiveAlerts() {
+        return jdbcTemplate.queryForObject(
+                "SELECT sent_active_alerts FROM assets_as_built_notification_counter WHERE asset_id = ?", Long.class, ASSET_ID);
+    }
+
+    private long countedSentActiveAlerts() {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*)
+                FROM assets_as_built_notifications link
+                         JOIN notification ON notification.id = link.notification_id
+                WHERE link.asset_id = ?
+                  AND notification.side = 'SENDER'
+                  AND notification.type = 'ALERT'
+                  AND notification.status IN ('CREATED', 'SENT', 'RECEIVED', 'ACKNOWLEDGED', 'ACCEPTED', 'DECLINED')
+                """, Long.class, ASSET_ID);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -32,12 +32,15 @@ import org.eclipse.tractusx.traceability.integration.common.support.repository.B
 import org.jose4j.lang.JoseException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 class IrsCallbackControllerIT extends IntegrationTestSpecification {
 
@@ -56,6 +59,9 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
     @Autowired
     AssetAsBuiltSupportRepository assetAsBuiltSupportRepository;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
 
     @Test
     void givenAssets_whenCallbackReceived_thenSaveThemAndStoreContractAgreementId() throws JoseException {
@@ -78,6 +84,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        awaitIrsCallbackQueueDrained();
 
         // then
         assertThat(bpnSupportRepository.findAll()).hasSize(1);
@@ -117,6 +124,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        awaitIrsCallbackQueueDrained();
 
         // then
         assertThat(bpnSupportRepository.findAll()).hasSize(1);
@@ -143,6 +151,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        awaitIrsCallbackQueueDrained();
 
         // then
         assertThat(bpnSupportRepository.findAll()).isEmpty();
@@ -171,6 +180,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        awaitIrsCallbackQueueDrained();
 
 
         // then
@@ -216,6 +226,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        awaitIrsCallbackQueueDrained();
 
         // then
         String tombstoneAsBuilt = given()
@@ -266,6 +277,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        awaitIrsCallbackQueueDrained();
 
         // then
         String tombstoneAsPlanned = given()
@@ -304,6 +316,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        awaitIrsCallbackQueueDrained();
 
         // then
         assetsSupport.assertAssetAsBuiltSize(2);
@@ -322,5 +335,8 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
         assertThat(manufacturerName).isNull();
     }
 
-
+    private void awaitIrsCallbackQueueDrained() {
+        await().atMost(30, TimeUnit.SECONDS)
+                .until(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM irs_callback_job", Long.class) == 0);
+    }
 }
@@ -0,0 +1,138 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.assets.infrastructure.base;
+
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.IrsCallbackJobQueue;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.exception.IrsCallbackQueueFullException;
+import org.eclipse.tractusx.traceability.common.properties.IrsCallbackQueueProperties;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IrsCallbackJobQueueIT extends IntegrationTestSpecification {
+
+    @Autowired
+    IrsCallbackJobQueue irsCallbackJobQueue;
+
+    @Autowired
+    IrsCallbackQueueProperties irsCallbackQueueProperties;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private final int capacity = new IrsCallbackQueueProperties().getCapacity();
+
+    @AfterEach
+    void resetCapacity() {
+        irsCallbackQueueProperties.setCapacity(capacity);
+    }
+
+    @Test
+    void givenFailedJob_whenEnqueued_thenQueueItAgain() {
+        // given
+        jdbcTemplate.update("""
+                INSERT INTO irs_callback_job (job_id, job_state, status, attempts, error_message, next_attempt_on, created_on, updated_on)
+                VALUES ('failedJobId', 'COMPLETED', 'FAILED', 5, 'error', now(), now(), now())
+                """);
+
+        // when
+        boolean queued = irsCallbackJobQueue.enqueue("failedJobId", "COMPLETED");
+
+        // then
+        assertThat(queued).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM irs_callback_job WHERE job_id = 'failedJobId'", String.class))
+                .isIn("PENDING", "IN_PROGRESS");
+    }
+
+    @Test
+    void givenQueuedJob_whenEnqueuedAgain_thenNotQueuedTwice() {
+        // given
+        jdbcTemplate.update("""
+                INSERT INTO irs_callback_job (job_id, job_state, status, attempts, next_attempt_on, created_on, updated_on)
+                VALUES ('queuedJobId', 'COMPLETED', 'IN_PROGRESS', 0, now(), now(), now())
+                """);
+
+        // when
+        boolean queued = irsCallbackJobQueue.enqueue("queuedJobId", "COMPLETED");
+
+        // then
+        assertThat(queued).isFalse();
+    }
+
+    @Test
+    void givenQueueAtCapacity_whenEnqueued_thenThrowAndQueueNothing() {
+        // given
+        irsCallbackQueueProperties.setCapacity(0);
+
+        // when/then
+        assertThatThrownBy(() -> irsCallbackJobQueue.enqueue("newJobId", "COMPLETED"))
+                .isInstanceOf(IrsCallbackQueueFullException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM irs_callback_job WHERE job_id = 'newJobId'", Long.class)).isZero();
+    }
+
+    @Test
+    void givenEnqueueInOpenTransaction_whenEnqueuedConcurrently_thenWaitAndRespectCapacity() throws Exception {
+        // given
+        irsCallbackQueueProperties.setCapacity(1);
+        CountDownLatch firstQueued = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            boolean queued = irsCallbackJobQueue.enqueue("firstJobId", "COMPLETED");
+            firstQueued.countDown();
+            await(commitFirst);
+            return queued;
+        }));
+        assertThat(firstQueued.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> irsCallbackJobQueue.enqueue("secondJobId", "COMPLETED"));
+        Thread.sleep(200);
+        boolean secondWaited = !second.isDone();
+        commitFirst.countDown();
+
+        // then
+        assertThat(secondWaited).isTrue();
+        assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IrsCallbackQueueFullException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM irs_callback_job WHERE job_id = 'secondJobId'", Long.class)).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
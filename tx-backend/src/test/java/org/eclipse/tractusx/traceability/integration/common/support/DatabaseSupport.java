@@ -18,6 +18,10 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.integration.common.support;
 
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.service.DashboardCache;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnNameCache;
+import org.eclipse.tractusx.traceability.discovery.domain.service.DiscoveryCache;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationContractCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -37,24 +41,47 @@ public class DatabaseSupport {
             "assets_as_planned_childs",
             "assets_as_built_notifications",
             "assets_as_built_notification_messages",
+            "notification_outbox",
             "notification_message",
             "notification",
             "assets_as_built",
             "assets_as_planned",
             "bpn_storage",
             "traction_battery_code_subcomponent",
-            "import_job"
+            "import_job",
+            "irs_callback_job",
+            "irs_job_in_flight",
+            "shell_descriptor_fingerprint",
+            "contract_negotiation_lease",
+            "endpoint_data_reference",
+            "notification_inbox"
     });
 
 
     @Autowired
     JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    BpnNameCache bpnNameCache;
+
+    @Autowired
+    DashboardCache dashboardCache;
+
+    @Autowired
+    DiscoveryCache discoveryCache;
+
+    @Autowired
+    NotificationContractCache notificationContractCache;
+
     /* This will be called after each test method has been executed. */
     public void clearAllTables() {
         TABLES.forEach(table -> {
             JdbcTestUtils.deleteFromTables(jdbcTemplate, table);
         });
+        bpnNameCache.invalidateAll();
+        dashboardCache.invalidate();
+        discoveryCache.invalidateAll();
+        notificationContractCache.invalidateAll();
     }
 
 }
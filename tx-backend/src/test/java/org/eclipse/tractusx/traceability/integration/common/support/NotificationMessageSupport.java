@@ -20,22 +20,44 @@
 package org.eclipse.tractusx.traceability.integration.common.support;
 
 import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationMessageEntity;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.repository.JpaNotificationMessageRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.outbox.JpaNotificationOutboxRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.outbox.model.NotificationOutboxStatus;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 @Component
 @RequiredArgsConstructor
 public class NotificationMessageSupport {
 
     private final JpaNotificationMessageRepository jpaNotificationMessageRepository;
+    private final JpaNotificationOutboxRepository jpaNotificationOutboxRepository;
 
     public void assertMessageSize(int size) {
         List<NotificationMessageEntity> notifications = jpaNotificationMessageRepository.findAll();
         assertThat(notifications).hasSize(size);
     }
+
+    public void assertDeliveryState(NotificationDeliveryState deliveryState) {
+        assertThat(jpaNotificationMessageRepository.findAll())
+                .extracting(NotificationMessageEntity::getDeliveryState)
+                .containsOnly(deliveryState);
+    }
+
+    public void awaitFailedDeliveryAttempt() {
+        await().atMost(30, TimeUnit.SECONDS)
+                .until(() -> jpaNotificationOutboxRepository.findAll().stream().anyMatch(entry -> entry.getAttempts() > 0));
+    }
+
+    public void awaitOutboxProcessed() {
+        await().atMost(30, TimeUnit.SECONDS)
+                .until(() -> jpaNotificationOutboxRepository.countByStatusIn(List.of(NotificationOutboxStatus.PENDING, NotificationOutboxStatus.IN_PROGRESS)) == 0);
+    }
 }
@@ -40,6 +40,7 @@ import org.eclipse.tractusx.traceability.integration.common.support.DtrApiSuppor
 import org.eclipse.tractusx.traceability.integration.common.support.EdcSupport;
 import org.eclipse.tractusx.traceability.integration.common.support.IrsApiSupport;
 import org.eclipse.tractusx.traceability.integration.common.support.SubmodelSupport;
+import org.eclipse.tractusx.traceability.submodel.infrastructure.repository.JpaSubmodelPayloadRepository;
 import org.hamcrest.Matchers;
 import org.jose4j.lang.JoseException;
 import org.junit.jupiter.api.Test;
@@ -66,6 +67,9 @@ class ImportControllerIT extends IntegrationTestSpecification {
     @Autowired
     JpaAssetAsPlannedRepository jpaAssetAsPlannedRepository;
 
+    @Autowired
+    JpaSubmodelPayloadRepository jpaSubmodelPayloadRepository;
+
     @Autowired
     EdcSupport edcApiSupport;
 
@@ -118,7 +122,7 @@ class ImportControllerIT extends IntegrationTestSpecification {
         );
 
         AssetAsBuiltEntity entity = jpaAssetAsBuiltRepository.findById("urn:uuid:254604ab-2153-45fb-8cad-54ef09f4080f").get();
-        assertThat(entity.getSubmodels()).isNotEmpty();
+        assertThat(jpaSubmodelPayloadRepository.findByAssetAsBuilt(entity)).isNotEmpty();
     }
 
     @Test
@@ -145,7 +149,7 @@ class ImportControllerIT extends IntegrationTestSpecification {
         );
 
         AssetAsBuiltEntity entity = jpaAssetAsBuiltRepository.findById("urn:uuid:6b2296cc-26c0-4f38-8a22-092338c36111").get();
-        assertThat(entity.getSubmodels()).isNotEmpty();
+        assertThat(jpaSubmodelPayloadRepository.findByAssetAsBuilt(entity)).isNotEmpty();
     }
 
     @Test
@@ -174,7 +178,7 @@ class ImportControllerIT extends IntegrationTestSpecification {
         );
 
         AssetAsPlannedEntity entity = jpaAssetAsPlannedRepository.findById("urn:uuid:0733946c-59c6-41ae-9570-cb43a6e4eb02").get();
-        assertThat(entity.getSubmodels()).isNotEmpty();
+        assertThat(jpaSubmodelPayloadRepository.findByAssetAsPlanned(entity)).isNotEmpty();
     }
 
     @Test
@@ -335,6 +335,26 @@ class AlertControllerFilterIT extends IntegrationTestSpecification {
                 .body("content", Matchers.hasSize(3));
     }
 
+    @Test
+    void givenAlerts_whenProvideSeveralFiltersOnMessages_thenReturnEachAlertOnce() throws JoseException {
+        // given
+        alertNotificationsSupport.defaultAlertsStored();
+
+        // when/then
+        given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .body(new PageableFilterRequest(new OwnPageable(0, 10, Collections.emptyList()), new SearchCriteriaRequestParam(List.of("sendTo,STARTS_WITH,B,AND", "sendTo,STARTS_WITH,BP,AND"))))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/api/notifications/filter")
+                .then()
+                .statusCode(200)
+                .body("page", Matchers.is(0))
+                .body("pageSize", Matchers.is(10))
+                .body("totalItems", Matchers.is(3))
+                .body("content", Matchers.hasSize(3));
+    }
+
     @Test
     void givenAlerts_whenProvideFilterSendToSort_thenReturnExpectedResults() throws JoseException {
         // given
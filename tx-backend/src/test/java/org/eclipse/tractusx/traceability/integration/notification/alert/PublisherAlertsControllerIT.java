@@ -45,9 +45,11 @@ import org.eclipse.tractusx.traceability.integration.common.support.DiscoveryFin
 import org.eclipse.tractusx.traceability.integration.common.support.EdcSupport;
 import org.eclipse.tractusx.traceability.integration.common.support.IrsApiSupport;
 import org.eclipse.tractusx.traceability.integration.common.support.NotificationApiSupport;
+import org.eclipse.tractusx.traceability.integration.common.support.NotificationMessageSupport;
 import org.eclipse.tractusx.traceability.integration.common.support.OAuth2ApiSupport;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationAffectedPart;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSeverity;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
@@ -87,6 +89,8 @@ class PublisherAlertsControllerIT extends IntegrationTestSpecification {
     AssetAsPlannedRepository assetAsPlannedRepository;
     @Autowired
     NotificationApiSupport notificationApiSupport;
+    @Autowired
+    NotificationMessageSupport notificationMessageSupport;
 
     @Autowired
     EdcSupport edcSupport;
@@ -438,19 +442,15 @@ class PublisherAlertsControllerIT extends IntegrationTestSpecification {
                 .when()
                 .post("/api/notifications/$alertId/approve".replace("$alertId", String.valueOf(id)))
                 .then()
-                .statusCode(503);
+                .statusCode(204);
 
         alertNotificationsSupport.assertAlertNotificationsSize(1);
+        notificationMessageSupport.awaitFailedDeliveryAttempt();
         edcSupport.performSupportActionsForAsyncNotificationMessageExecutor();
+        notificationMessageSupport.awaitOutboxProcessed();
 
-        given()
-                .contentType(ContentType.JSON)
-                .header(oAuth2Support.jwtAuthorization(SUPERVISOR))
-                .when()
-                .post("/api/notifications/$alertId/approve".replace("$alertId", String.valueOf(id)))
-                .then()
-                .statusCode(204);
         // then
+        notificationMessageSupport.assertDeliveryState(NotificationDeliveryState.SENT);
         given()
                 .header(oAuth2Support.jwtAuthorization(SUPERVISOR))
 
@@ -140,7 +140,9 @@ public class InvestigationPolicyExpirationIT extends IntegrationTestSpecificatio
                 .post("/api/notifications/{investigationId}/approve", investigationId)
                 .then()
                 .log().all()
-                .statusCode(503);
+                .statusCode(204);
+
+        notificationMessageSupport.awaitOutboxProcessed();
 
         // then
         given()
@@ -139,7 +139,9 @@ public class InvestigationPolicyNotSupportedIT extends IntegrationTestSpecificat
                 .post("/api/notifications/{investigationId}/approve", investigationId)
                 .then()
                 .log().all()
-                .statusCode(503);
+                .statusCode(204);
+
+        notificationMessageSupport.awaitOutboxProcessed();
 
         // then
         given()
@@ -412,6 +412,8 @@ class PublisherInvestigationsControllerIT extends IntegrationTestSpecification {
                 .then()
                 .statusCode(204);
 
+        notificationMessageSupport.awaitOutboxProcessed();
+
         // then
         given()
                 .header(oAuth2Support.jwtAuthorization(SUPERVISOR))
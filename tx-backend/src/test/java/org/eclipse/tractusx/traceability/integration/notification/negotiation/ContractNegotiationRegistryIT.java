@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.notification.negotiation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.common.properties.ContractNegotiationProperties;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.ContractNegotiationRegistry;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationContractCache;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.ContractNegotiationLeaseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractNegotiationRegistryIT extends IntegrationTestSpecification {
+
+    @Autowired
+    ContractNegotiationLeaseRepository contractNegotiationLeaseRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    void givenNegotiationInTransactionOfOtherInstance_whenNegotiatingSameKey_thenWaitAndReuseAgreement() throws Exception {
+        // given
+        ContractNegotiationProperties properties = new ContractNegotiationProperties();
+        properties.setPollInterval(Duration.ofMillis(50));
+        ContractNegotiationRegistry firstInstance = registry(properties);
+        ContractNegotiationRegistry secondInstance = registry(properties);
+        ContractNegotiationRegistry.NegotiationKey key = new ContractNegotiationRegistry.NegotiationKey("BPNL00000003CNKC", "https://connector.com", "offerId", "policyDigest");
+        Instant reusableUntil = Instant.now().plus(Duration.ofHours(1));
+        CountDownLatch negotiationStarted = new CountDownLatch(1);
+        CountDownLatch finishNegotiation = new CountDownLatch(1);
+        AtomicInteger negotiations = new AtomicInteger();
+
+        CompletableFuture<NotificationContractCache.CachedContract> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                firstInstance.negotiate(key, reusableUntil, () -> {
+                    negotiations.incrementAndGet();
+                    negotiationStarted.countDown();
+                    await(finishNegotiation);
+                    return contract("agreementId");
+                }, agreementId -> contract("unexpected"))));
+        assertThat(negotiationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<NotificationContractCache.CachedContract> second = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                secondInstance.negotiate(key, reusableUntil, () -> {
+                    negotiations.incrementAndGet();
+                    return contract("secondAgreementId");
+                }, ContractNegotiationRegistryIT::contract)));
+        Thread.sleep(200);
+        boolean secondWaited = !second.isDone();
+        finishNegotiation.countDown();
+
+        // then
+        assertThat(secondWaited).isTrue();
+        assertThat(first.get(10, TimeUnit.SECONDS).contractAgreementId()).isEqualTo("agreementId");
+        assertThat(second.get(10, TimeUnit.SECONDS).contractAgreementId()).isEqualTo("agreementId");
+        assertThat(negotiations).hasValue(1);
+    }
+
+    private ContractNegotiationRegistry registry(ContractNegotiationProperties properties) {
+        return new ContractNegotiationRegistry(contractNegotiationLeaseRepository, properties, new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+
+    private static NotificationContractCache.CachedContract contract(String contractAgreementId) {
+        return new NotificationContractCache.CachedContract(null, Instant.now(), contractAgreementId, null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
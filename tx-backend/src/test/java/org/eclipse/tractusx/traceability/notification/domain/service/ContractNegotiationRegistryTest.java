@@ -0,0 +1,147 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
+import org.eclipse.tractusx.traceability.common.properties.ContractNegotiationProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.exception.ContractNegotiationException;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.ContractNegotiationRegistry;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationContractCache;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.ContractNegotiationLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContractNegotiationRegistryTest {
+
+    private static final ContractNegotiationRegistry.NegotiationKey KEY =
+            new ContractNegotiationRegistry.NegotiationKey("BPNL00000000TEST", "https://receiver.com", "offerId", "policyDigest");
+
+    @Mock
+    ContractNegotiationLeaseRepository contractNegotiationLeaseRepository;
+
+    SimpleMeterRegistry meterRegistry;
+    ContractNegotiationRegistry contractNegotiationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        contractNegotiationRegistry = new ContractNegotiationRegistry(contractNegotiationLeaseRepository,
+                new ContractNegotiationProperties(), meterRegistry, Clock.systemUTC());
+    }
+
+    @Test
+    void givenConcurrentCallersForSameOffer_whenNegotiate_thenNegotiateOnlyOnce() throws Exception {
+        // given
+        when(contractNegotiationLeaseRepository.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
+        AtomicInteger negotiations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationContractCache.CachedContract contract = cachedContract("agreementId");
+
+        // when
+        CompletableFuture<NotificationContractCache.CachedContract> first = CompletableFuture.supplyAsync(() ->
+                contractNegotiationRegistry.negotiate(KEY, Instant.now().plusSeconds(600), () -> {
+                    negotiations.incrementAndGet();
+                    awaitRelease(release);
+                    return contract;
+                }, agreementId -> null));
+        await().until(() -> negotiations.get() == 1);
+        CompletableFuture<NotificationContractCache.CachedContract> second = CompletableFuture.supplyAsync(() ->
+                contractNegotiationRegistry.negotiate(KEY, Instant.now().plusSeconds(600), () -> {
+                    negotiations.incrementAndGet();
+                    return contract;
+                }, agreementId -> null));
+        await().until(() -> meterRegistry.counter("edc.contract.negotiation", "outcome", "shared").count() == 1);
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(contract);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(contract);
+        assertThat(negotiations).hasValue(1);
+        verify(contractNegotiationLeaseRepository).complete(anyString(), anyString(), eq("agreementId"), any());
+    }
+
+    @Test
+    void givenAgreementNegotiatedByOtherInstance_whenNegotiate_thenReuseAgreement() {
+        // given
+        when(contractNegotiationLeaseRepository.findReusableContractAgreementId(anyString())).thenReturn(Optional.of("agreementId"));
+        NotificationContractCache.CachedContract contract = cachedContract("agreementId");
+
+        // when
+        NotificationContractCache.CachedContract result = contractNegotiationRegistry.negotiate(KEY, Instant.now().plusSeconds(600),
+                () -> {
+                    throw new IllegalStateException("must not negotiate");
+                }, agreementId -> contract);
+
+        // then
+        assertThat(result).isSameAs(contract);
+        verify(contractNegotiationLeaseRepository, never()).tryAcquire(anyString(), anyString(), any());
+    }
+
+    @Test
+    void givenFailingNegotiation_whenNegotiate_thenReleaseLease() {
+        // given
+        when(contractNegotiationLeaseRepository.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
+
+        // when
+        assertThrows(ContractNegotiationException.class, () -> contractNegotiationRegistry.negotiate(KEY, Instant.now().plusSeconds(600),
+                () -> {
+                    throw new ContractNegotiationException("failed");
+                }, agreementId -> null));
+
+        // then
+        verify(contractNegotiationLeaseRepository).release(anyString(), anyString());
+        verify(contractNegotiationLeaseRepository, never()).complete(anyString(), anyString(), anyString(), any());
+    }
+
+    private static NotificationContractCache.CachedContract cachedContract(String agreementId) {
+        return new NotificationContractCache.CachedContract(CatalogItem.builder().build(), Instant.now(), agreementId, null, null);
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
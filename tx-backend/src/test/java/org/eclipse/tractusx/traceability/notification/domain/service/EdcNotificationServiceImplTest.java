@@ -19,7 +19,9 @@
 
 package org.eclipse.tractusx.traceability.notification.domain.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.tractusx.traceability.common.model.BPN;
+import org.eclipse.tractusx.traceability.common.properties.NotificationFanOutProperties;
 import org.eclipse.tractusx.traceability.discovery.domain.model.Discovery;
 import org.eclipse.tractusx.traceability.discovery.domain.service.DiscoveryService;
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.ContractNegotiationException;
@@ -33,26 +35,32 @@ import org.eclipse.tractusx.traceability.notification.domain.base.model.Notifica
 import org.eclipse.tractusx.traceability.notification.domain.base.service.EdcNotificationServiceImpl;
 import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationsEDCFacade;
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.tractusx.traceability.notification.domain.base.model.Notification.startNotification;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class EdcNotificationServiceImplTest {
 
-    @InjectMocks
     private EdcNotificationServiceImpl notificationsService;
 
     @Mock
@@ -64,6 +72,24 @@ class EdcNotificationServiceImplTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    private final NotificationFanOutProperties notificationFanOutProperties = new NotificationFanOutProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor notificationFanOutExecutor;
+
+    @BeforeEach
+    void setUp() {
+        notificationFanOutExecutor = new ThreadPoolTaskExecutor();
+        notificationFanOutExecutor.setCorePoolSize(4);
+        notificationFanOutExecutor.initialize();
+        notificationsService = new EdcNotificationServiceImpl(edcFacade, discoveryService, notificationRepository,
+                notificationFanOutProperties, meterRegistry, notificationFanOutExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationFanOutExecutor.shutdown();
+    }
+
     private Notification testNotification(String bpn){
         String title = "Test Notification";
         Instant createDate = Instant.now();
@@ -109,7 +135,7 @@ class EdcNotificationServiceImplTest {
 
         Notification notification = testNotification(bpn);
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -133,7 +159,7 @@ class EdcNotificationServiceImplTest {
         Notification notification = testNotification(bpn);
 
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -155,7 +181,7 @@ class EdcNotificationServiceImplTest {
         Notification notification = testNotification(bpn);
         doThrow(new NoCatalogItemException()).when(edcFacade).startEdcTransfer(message, edcReceiverUrl, edcSenderUrl, notification);
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -179,7 +205,7 @@ class EdcNotificationServiceImplTest {
 
         doThrow(new SendNotificationException("message", new RuntimeException())).when(edcFacade).startEdcTransfer(message, edcReceiverUrl, edcSenderUrl, notification);
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -202,7 +228,7 @@ class EdcNotificationServiceImplTest {
         doThrow(new NoEndpointDataReferenceException("message")).when(edcFacade).startEdcTransfer(message, edcReceiverUrl, edcSenderUrl, notification);
 
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -225,7 +251,7 @@ class EdcNotificationServiceImplTest {
         doThrow(new ContractNegotiationException("message")).when(edcFacade).startEdcTransfer(message, edcReceiverUrl, edcSenderUrl, notification);
 
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -250,7 +276,7 @@ class EdcNotificationServiceImplTest {
         doThrow(new NoCatalogItemException()).when(edcFacade).startEdcTransfer(message, edcReceiverUrl, edcSenderUrl, notification);
 
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -276,7 +302,7 @@ class EdcNotificationServiceImplTest {
 
 
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -300,7 +326,7 @@ class EdcNotificationServiceImplTest {
         doThrow(new NoEndpointDataReferenceException("message")).when(edcFacade).startEdcTransfer(message, edcReceiverUrl, edcSenderUrl, notification);
 
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
@@ -323,9 +349,108 @@ class EdcNotificationServiceImplTest {
         doThrow(new ContractNegotiationException("message")).when(edcFacade).startEdcTransfer(message, edcReceiverUrl, edcSenderUrl, notification);
 
         // when
-        notificationsService.asyncNotificationMessageExecutor(message, notification);
+        notificationsService.sendNotificationMessage(message, notification);
 
         // then
         verify(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
     }
+
+    @Test
+    void givenFirstSuccessStrategy_whenOneConnectorReceivedMessage_thenCancelRemainingConnectors() {
+        // given
+        notificationFanOutProperties.setStrategy(NotificationFanOutProperties.Strategy.FIRST_SUCCESS);
+        String bpn = "BPN1234";
+        String slowReceiverUrl = "https://slow-edc-receiver-url.com";
+        String fastReceiverUrl = "https://fast-edc-receiver-url.com";
+        String edcSenderUrl = "https://not-real-edc-sender-url.com";
+
+        Discovery discovery = Discovery.builder().senderUrl(edcSenderUrl).receiverUrls(List.of(slowReceiverUrl, fastReceiverUrl)).build();
+        when(discoveryService.getDiscoveryByBPN(bpn)).thenReturn(discovery);
+        NotificationMessage message = NotificationMessage.builder()
+                .sentTo(bpn)
+                .type(NotificationType.ALERT)
+                .build();
+        Notification notification = testNotification(bpn);
+        // the slow connector may be cancelled before it was started
+        lenient().doAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        }).when(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(slowReceiverUrl), eq(edcSenderUrl), any(Notification.class));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, NotificationMessage.class).setContractAgreementId("agreementId");
+            return null;
+        }).when(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(fastReceiverUrl), eq(edcSenderUrl), any(Notification.class));
+
+        // when
+        NotificationMessage result = notificationsService.sendNotificationMessage(message, notification);
+
+        // then
+        assertThat(result).isSameAs(message);
+        assertThat(result.getContractAgreementId()).isEqualTo("agreementId");
+        assertThat(meterRegistry.get("edc.notification.connector.send").tags("bpn", bpn, "outcome", "sent").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.notification.connector.send").tags("bpn", bpn, "outcome", "cancelled").timer().count()).isEqualTo(1);
+        verify(notificationRepository, never()).updateErrorMessage(any(), any());
+    }
+
+    @Test
+    void givenConnectorExceedsTimeout_whenSending_thenRecordTimeoutAsError() {
+        // given
+        notificationFanOutProperties.setConnectorTimeout(Duration.ofMillis(100));
+        String bpn = "BPN1234";
+        String edcReceiverUrl = "https://not-real-edc-receiver-url.com";
+        String edcSenderUrl = "https://not-real-edc-sender-url.com";
+
+        Discovery discovery = Discovery.builder().senderUrl(edcSenderUrl).receiverUrls(List.of(edcReceiverUrl)).build();
+        when(discoveryService.getDiscoveryByBPN(bpn)).thenReturn(discovery);
+        NotificationMessage message = NotificationMessage.builder()
+                .sentTo(bpn)
+                .type(NotificationType.INVESTIGATION)
+                .build();
+        Notification notification = testNotification(bpn);
+        doAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        }).when(edcFacade).startEdcTransfer(any(NotificationMessage.class), eq(edcReceiverUrl), eq(edcSenderUrl), any(Notification.class));
+
+        // when
+        NotificationMessage result = notificationsService.sendNotificationMessage(message, notification);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(message.getErrorMessage()).contains(edcReceiverUrl).contains("timeout");
+        assertThat(meterRegistry.get("edc.notification.connector.send").tags("bpn", bpn, "outcome", "timeout").timer().count()).isEqualTo(1);
+        verify(notificationRepository).updateErrorMessage(notification, message);
+    }
+
+    @Test
+    void givenConnectorWaitingForThread_whenSending_thenStartTimeoutWhenSendingStarts() {
+        // given
+        notificationFanOutExecutor.setCorePoolSize(1);
+        notificationFanOutExecutor.setMaxPoolSize(1);
+        notificationFanOutProperties.setConnectorTimeout(Duration.ofMillis(300));
+        String bpn = "BPN1234";
+        String firstReceiverUrl = "https://first-edc-receiver-url.com";
+        String secondReceiverUrl = "https://second-edc-receiver-url.com";
+        String edcSenderUrl = "https://not-real-edc-sender-url.com";
+
+        Discovery discovery = Discovery.builder().senderUrl(edcSenderUrl).receiverUrls(List.of(firstReceiverUrl, secondReceiverUrl)).build();
+        when(discoveryService.getDiscoveryByBPN(bpn)).thenReturn(discovery);
+        NotificationMessage message = NotificationMessage.builder()
+                .sentTo(bpn)
+                .type(NotificationType.ALERT)
+                .build();
+        Notification notification = testNotification(bpn);
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return null;
+        }).when(edcFacade).startEdcTransfer(any(NotificationMessage.class), any(String.class), eq(edcSenderUrl), any(Notification.class));
+
+        // when
+        NotificationMessage result = notificationsService.sendNotificationMessage(message, notification);
+
+        // then
+        assertThat(result).isSameAs(message);
+        assertThat(meterRegistry.get("edc.notification.connector.send").tags("bpn", bpn, "outcome", "sent").timer().count()).isEqualTo(2);
+        verify(notificationRepository, never()).updateErrorMessage(any(), any());
+    }
 }
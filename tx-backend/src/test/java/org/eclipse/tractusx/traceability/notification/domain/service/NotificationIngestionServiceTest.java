@@ -0,0 +1,169 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.common.properties.NotificationInboxProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationIngestionService;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationReceiverService;
+import org.eclipse.tractusx.traceability.notification.domain.notification.exception.NotificationInboxFullException;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationInboxRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotification;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotificationContent;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotificationHeader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationIngestionServiceTest {
+
+    @Mock
+    private NotificationInboxRepository notificationInboxRepository;
+
+    @Mock
+    private NotificationReceiverService notificationReceiverService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationInboxProperties notificationInboxProperties;
+
+    private NotificationIngestionService notificationIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationInboxProperties = new NotificationInboxProperties();
+        notificationInboxProperties.setMaxPending(10);
+        notificationIngestionService = new NotificationIngestionService(notificationInboxRepository, notificationReceiverService, notificationInboxProperties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    @Test
+    void givenRedeliveredNotification_whenIngest_thenEnqueuedOnlyOnce() {
+        // given
+        EDCNotification edcNotification = edcNotification("edcNotificationId");
+        when(notificationInboxRepository.enqueue(eq("edcNotificationId"), eq(NotificationType.ALERT), contains("edcNotificationId"))).thenReturn(true);
+
+        // when
+        notificationIngestionService.ingest(edcNotification, NotificationType.ALERT);
+        notificationIngestionService.ingest(edcNotification, NotificationType.ALERT);
+        notificationIngestionService.ingest(edcNotification, NotificationType.ALERT);
+
+        // then
+        verify(notificationInboxRepository, times(1)).enqueue(anyString(), any(), anyString());
+        assertThat(ingested("accepted")).isEqualTo(1);
+        assertThat(ingested("duplicate")).isEqualTo(2);
+    }
+
+    @Test
+    void givenNotificationAlreadyInInbox_whenIngest_thenCountedAsDuplicate() {
+        // given
+        when(notificationInboxRepository.enqueue(anyString(), any(), anyString())).thenReturn(false);
+
+        // when
+        notificationIngestionService.ingest(edcNotification("receivedByOtherInstance"), NotificationType.INVESTIGATION);
+
+        // then
+        assertThat(ingested("accepted")).isZero();
+        assertThat(ingested("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    void givenFullInbox_whenIngest_thenRejected() {
+        // given
+        when(notificationInboxRepository.approximateDepth()).thenReturn(10L);
+        EDCNotification edcNotification = edcNotification("edcNotificationId");
+
+        // when/then
+        assertThatThrownBy(() -> notificationIngestionService.ingest(edcNotification, NotificationType.ALERT))
+                .isInstanceOf(NotificationInboxFullException.class);
+        verify(notificationInboxRepository, never()).enqueue(anyString(), any(), anyString());
+        assertThat(ingested("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void givenMalformedNotification_whenIngest_thenRejectedBeforeEnqueued() {
+        // given
+        EDCNotification edcNotification = edcNotification("edcNotificationId");
+        doThrow(new IllegalArgumentException("BPN must be present")).when(notificationReceiverService).validateReceive(edcNotification, NotificationType.ALERT);
+
+        // when/then
+        assertThatThrownBy(() -> notificationIngestionService.ingest(edcNotification, NotificationType.ALERT))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(notificationInboxRepository, never()).enqueue(anyString(), any(), anyString());
+    }
+
+    @Test
+    void givenNoPendingReceive_whenIngestUpdate_thenHandledSynchronously() {
+        // given
+        EDCNotification edcNotification = edcNotification("edcNotificationId");
+
+        // when
+        notificationIngestionService.ingestUpdate(edcNotification, NotificationType.ALERT);
+
+        // then
+        verify(notificationReceiverService).handleUpdate(edcNotification, NotificationType.ALERT);
+        verify(notificationInboxRepository, never()).enqueueUpdate(anyString(), anyString(), any(), anyString());
+    }
+
+    @Test
+    void givenPendingReceive_whenIngestUpdate_thenQueuedBehindIt() {
+        // given
+        EDCNotification edcNotification = edcNotification("edcNotificationId");
+        when(notificationInboxRepository.hasPending("edcNotificationId")).thenReturn(true);
+        when(notificationInboxRepository.enqueueUpdate(eq("edcNotificationId"), eq("messageId"), eq(NotificationType.ALERT), anyString())).thenReturn(true);
+
+        // when
+        notificationIngestionService.ingestUpdate(edcNotification, NotificationType.ALERT);
+
+        // then
+        verify(notificationReceiverService).validateUpdate(edcNotification, NotificationType.ALERT);
+        verify(notificationReceiverService, never()).handleUpdate(any(), any());
+        assertThat(ingested("accepted")).isEqualTo(1);
+    }
+
+    private double ingested(String outcome) {
+        return meterRegistry.get("notification.inbox.ingested").tag("outcome", outcome).counter().count();
+    }
+
+    private static EDCNotification edcNotification(String notificationId) {
+        EDCNotificationHeader header = new EDCNotificationHeader(notificationId, "BPNL00000001TEST", "http://sender", "BPNL00000002TEST",
+                "QM-Alert", "MINOR", null, "SENT", null, "messageId");
+        return new EDCNotification(header, new EDCNotificationContent("information", List.of("urn:uuid:1")));
+    }
+}
@@ -27,13 +27,13 @@ import org.eclipse.tractusx.traceability.common.properties.TraceabilityPropertie
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.SendNotificationException;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationAffectedPart;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationDeliveryState;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSeverity;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSide;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.exception.NotificationIllegalUpdate;
-import org.eclipse.tractusx.traceability.notification.domain.base.service.EdcNotificationService;
 import org.eclipse.tractusx.traceability.notification.domain.base.service.NotificationPublisherService;
 import org.eclipse.tractusx.traceability.notification.domain.notification.model.StartNotification;
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
@@ -52,13 +52,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,8 +73,6 @@ class NotificationPublisherServiceTest {
     @Mock
     private Clock clock;
     @Mock
-    private EdcNotificationService notificationsService;
-    @Mock
     private BpnRepository bpnRepository;
     @Mock
     private TraceabilityProperties traceabilityProperties;
@@ -157,29 +152,30 @@ class NotificationPublisherServiceTest {
         // Given
         final BPN bpn = new BPN("bpn123");
         Notification investigation = InvestigationTestDataFactory.createInvestigationTestData(NotificationStatus.CREATED, NotificationStatus.CREATED);
-        NotificationMessage notificationMessage = investigation.getNotifications().stream().findFirst().get();
         when(traceabilityProperties.getBpn()).thenReturn(bpn);
-        when(notificationsService.asyncNotificationMessageExecutor(any(), any())).thenReturn(CompletableFuture.completedFuture(notificationMessage));
 
         // When
         Notification result = notificationPublisherService.approveNotification(investigation);
 
         // Then
         assertThat(result.getNotificationStatus()).isEqualTo(NotificationStatus.SENT);
-        verify(notificationsService).asyncNotificationMessageExecutor(any(), any());
+        assertThat(result.getNotifications())
+                .filteredOn(message -> NotificationStatus.SENT.equals(message.getNotificationStatus()))
+                .extracting(NotificationMessage::getDeliveryState)
+                .containsOnly(NotificationDeliveryState.PENDING);
     }
 
     @Test
-    void testSendInvestigationFailed() {
+    void testSendInvestigationFailedWithoutMessageToSend() {
         // Given
         final BPN bpn = new BPN("bpn123");
         Notification investigation = InvestigationTestDataFactory.createInvestigationTestData(NotificationStatus.CREATED, NotificationStatus.CREATED);
+        investigation.getNotifications().forEach(message -> message.setErrorMessage("EDC not reachable"));
         when(traceabilityProperties.getBpn()).thenReturn(bpn);
-        when(notificationsService.asyncNotificationMessageExecutor(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When/Then
         assertThrows(SendNotificationException.class, () -> notificationPublisherService.approveNotification(investigation));
-        verify(notificationsService).asyncNotificationMessageExecutor(any(), any());
+        assertThat(investigation.getNotifications()).allMatch(message -> message.getDeliveryState() == null);
     }
 
     @Test
@@ -213,15 +209,13 @@ class NotificationPublisherServiceTest {
 
         Notification investigationTestData = InvestigationTestDataFactory.createInvestigationTestDataWithNotificationList(NotificationStatus.RECEIVED, "recipientBPN", notifications);
         when(traceabilityProperties.getBpn()).thenReturn(bpn);
-        when(notificationsService.asyncNotificationMessageExecutor(any(), any())).thenReturn(CompletableFuture.completedFuture(notification2));
 
         // When
         Notification result = notificationPublisherService.updateNotificationPublisher(investigationTestData, status, reason);
 
         // Then
         assertThat(result.getNotificationStatus()).isEqualTo(NotificationStatus.ACKNOWLEDGED);
-
-        Mockito.verify(notificationsService, times(1)).asyncNotificationMessageExecutor(any(NotificationMessage.class), any(Notification.class));
+        assertThat(notification2.getDeliveryState()).isEqualTo(NotificationDeliveryState.PENDING);
     }
 
     @Test
@@ -256,14 +250,13 @@ class NotificationPublisherServiceTest {
 
         Notification investigationTestData = InvestigationTestDataFactory.createInvestigationTestDataWithNotificationList(NotificationStatus.ACKNOWLEDGED, "recipientBPN", notifications);
         when(traceabilityProperties.getBpn()).thenReturn(bpn);
-        when(notificationsService.asyncNotificationMessageExecutor(any(), any())).thenReturn(CompletableFuture.completedFuture(notification2));
 
         // When
         Notification result = notificationPublisherService.updateNotificationPublisher(investigationTestData, status, reason);
 
         // Then
         assertThat(result.getNotificationStatus()).isEqualTo(NotificationStatus.ACCEPTED);
-        Mockito.verify(notificationsService, times(1)).asyncNotificationMessageExecutor(any(NotificationMessage.class), any(Notification.class));
+        assertThat(notification2.getDeliveryState()).isEqualTo(NotificationDeliveryState.PENDING);
     }
 
     @Test
@@ -298,14 +291,13 @@ class NotificationPublisherServiceTest {
 
         Notification investigationTestData = InvestigationTestDataFactory.createInvestigationTestDataWithNotificationList(NotificationStatus.ACKNOWLEDGED, "recipientBPN", notifications);
         when(traceabilityProperties.getBpn()).thenReturn(bpn);
-        when(notificationsService.asyncNotificationMessageExecutor(any(), any())).thenReturn(CompletableFuture.completedFuture(notification2));
 
         // When
         Notification result = notificationPublisherService.updateNotificationPublisher(investigationTestData, status, reason);
 
         // Then
         assertThat(result.getNotificationStatus()).isEqualTo(NotificationStatus.DECLINED);
-        Mockito.verify(notificationsService, times(1)).asyncNotificationMessageExecutor(any(NotificationMessage.class), any(Notification.class));
+        assertThat(notification2.getDeliveryState()).isEqualTo(NotificationDeliveryState.PENDING);
     }
 
     @Test
@@ -340,14 +332,13 @@ class NotificationPublisherServiceTest {
 
         Notification investigationTestData = InvestigationTestDataFactory.createInvestigationTestDataWithNotificationList(NotificationStatus.ACCEPTED, "senderBPN", notifications);
         when(traceabilityProperties.getBpn()).thenReturn(bpn);
-        when(notificationsService.asyncNotificationMessageExecutor(any(), any())).thenReturn(CompletableFuture.completedFuture(notification2));
 
         // When
         Notification result = notificationPublisherService.updateNotificationPublisher(investigationTestData, status, reason);
 
         // Then
         assertThat(result.getNotificationStatus()).isEqualTo(NotificationStatus.CLOSED);
-        Mockito.verify(notificationsService, times(1)).asyncNotificationMessageExecutor(any(NotificationMessage.class), any(Notification.class));
+        assertThat(notification2.getDeliveryState()).isEqualTo(NotificationDeliveryState.PENDING);
     }
 
     @Test
@@ -377,7 +368,7 @@ class NotificationPublisherServiceTest {
 
         // Then
         Mockito.verify(repository, never()).updateNotification(investigationTestData);
-        Mockito.verify(notificationsService, never()).asyncNotificationMessageExecutor(any(NotificationMessage.class), any(Notification.class));
+        assertThat(notification.getDeliveryState()).isNull();
     }
 
 }
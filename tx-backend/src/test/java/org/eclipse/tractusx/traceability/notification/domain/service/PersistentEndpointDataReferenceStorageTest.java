@@ -0,0 +1,128 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.traceability.common.properties.EndpointDataReferenceStoreProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.PersistentEndpointDataReferenceStorage;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.EndpointDataReferenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PersistentEndpointDataReferenceStorageTest {
+
+    private static final Instant NOW = Instant.parse("2024-08-01T10:00:00Z");
+
+    @Mock
+    EndpointDataReferenceRepository endpointDataReferenceRepository;
+
+    SimpleMeterRegistry meterRegistry;
+    PersistentEndpointDataReferenceStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storage = new PersistentEndpointDataReferenceStorage(endpointDataReferenceRepository,
+                new EndpointDataReferenceStoreProperties(), meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void givenTokenWithExpiry_whenPut_thenStoreUntilTokenExpires() {
+        // given
+        Instant tokenExpiry = NOW.plusSeconds(300);
+        EndpointDataReference endpointDataReference = endpointDataReference(token(tokenExpiry));
+
+        // when
+        storage.put("agreementId", endpointDataReference);
+
+        // then
+        verify(endpointDataReferenceRepository).save("agreementId", endpointDataReference, tokenExpiry);
+    }
+
+    @Test
+    void givenTokenWithoutReadableExpiry_whenPut_thenStoreForRetention() {
+        // given
+        EndpointDataReference endpointDataReference = endpointDataReference("integration-tests");
+
+        // when
+        storage.put("agreementId", endpointDataReference);
+
+        // then
+        verify(endpointDataReferenceRepository).save("agreementId", endpointDataReference, NOW.plus(new EndpointDataReferenceStoreProperties().getRetention()));
+    }
+
+    @Test
+    void givenStoredReference_whenGet_thenReturnItAndCountHit() {
+        // given
+        EndpointDataReference endpointDataReference = endpointDataReference(token(NOW.plusSeconds(300)));
+        when(endpointDataReferenceRepository.findValid("agreementId")).thenReturn(Optional.of(endpointDataReference));
+
+        // when
+        Optional<EndpointDataReference> result = storage.get("agreementId");
+
+        // then
+        assertThat(result).contains(endpointDataReference);
+        assertThat(meterRegistry.counter("edc.endpoint.data.reference.lookup", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenEvictExpired_thenRefreshStoredGauge() {
+        // given
+        when(endpointDataReferenceRepository.deleteExpired()).thenReturn(2);
+        when(endpointDataReferenceRepository.count()).thenReturn(5L);
+
+        // when
+        storage.evictExpired();
+
+        // then
+        assertThat(meterRegistry.get("edc.endpoint.data.reference.stored").gauge().value()).isEqualTo(5);
+    }
+
+    private static EndpointDataReference endpointDataReference(String authCode) {
+        return EndpointDataReference.Builder.newInstance()
+                .id("transferProcessId")
+                .contractId("agreementId")
+                .endpoint("https://endpoint.com")
+                .authKey("Authorization")
+                .authCode(authCode)
+                .build();
+    }
+
+    private static String token(Instant expiry) {
+        String payload = "{\"exp\":" + expiry.getEpochSecond() + "}";
+        return "header." + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+}
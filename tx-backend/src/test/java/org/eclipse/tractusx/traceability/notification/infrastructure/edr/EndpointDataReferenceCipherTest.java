@@ -0,0 +1,63 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.edr;
+
+import org.eclipse.tractusx.traceability.common.properties.EndpointDataReferenceStoreProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EndpointDataReferenceCipherTest {
+
+    private static final String KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    @Test
+    void givenValue_whenEncrypt_thenDecryptReturnsValue() {
+        // given
+        EndpointDataReferenceCipher cipher = new EndpointDataReferenceCipher(properties(KEY));
+
+        // when
+        String encrypted = cipher.encrypt("authCode");
+
+        // then
+        assertThat(encrypted).isNotEqualTo("authCode").isNotEqualTo(cipher.encrypt("authCode"));
+        assertThat(cipher.decrypt(encrypted)).isEqualTo("authCode");
+        assertThat(cipher.encrypt(null)).isNull();
+    }
+
+    @Test
+    void givenNoKey_whenCreate_thenThrow() {
+        assertThatThrownBy(() -> new EndpointDataReferenceCipher(properties("")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenKeyOfInvalidLength_whenCreate_thenThrow() {
+        assertThatThrownBy(() -> new EndpointDataReferenceCipher(properties("c2hvcnQ=")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static EndpointDataReferenceStoreProperties properties(String encryptionKey) {
+        EndpointDataReferenceStoreProperties properties = new EndpointDataReferenceStoreProperties();
+        properties.setEncryptionKey(encryptionKey);
+        return properties;
+    }
+}
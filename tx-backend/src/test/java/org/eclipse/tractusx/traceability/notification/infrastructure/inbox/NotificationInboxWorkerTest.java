@@ -0,0 +1,166 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.notification.infrastructure.inbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.common.properties.NotificationInboxProperties;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+import org.eclipse.tractusx.traceability.notification.domain.notification.service.NotificationReceiverService;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotification;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotificationContent;
+import org.eclipse.tractusx.traceability.notification.infrastructure.edc.model.EDCNotificationHeader;
+import org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.inbox.model.NotificationInboxKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationInboxWorkerTest {
+
+    @Mock
+    private NotificationInboxRepositoryImpl notificationInboxRepository;
+
+    @Mock
+    private NotificationReceiverService notificationReceiverService;
+
+    @Mock
+    private ThreadPoolTaskExecutor notificationInboxExecutor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationInboxWorker notificationInboxWorker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        NotificationInboxProperties notificationInboxProperties = new NotificationInboxProperties();
+        notificationInboxProperties.setBatchSize(2);
+        notificationInboxWorker = new NotificationInboxWorker(notificationInboxRepository, notificationReceiverService, notificationInboxProperties,
+                notificationInboxExecutor, objectMapper, new TransactionTemplate(transactionManager), meterRegistry, Clock.systemUTC());
+    }
+
+    @Test
+    void givenFreeWorkers_whenDrain_thenClaimedNotificationsAreProcessedInBatches() {
+        // given
+        when(notificationInboxExecutor.getMaxPoolSize()).thenReturn(4);
+        when(notificationInboxExecutor.getActiveCount()).thenReturn(1);
+        List<NotificationInboxEntity> claimed = IntStream.range(0, 5).mapToObj(i -> entry("edcNotificationId" + i)).toList();
+        when(notificationInboxRepository.claim(6)).thenReturn(claimed);
+
+        // when
+        notificationInboxWorker.drain();
+
+        // then
+        verify(notificationInboxExecutor, times(3)).execute(any());
+    }
+
+    @Test
+    void givenBatch_whenProcess_thenBatchIsStoredInOneTransaction() {
+        // given
+        List<NotificationInboxEntity> batch = List.of(entry("first"), entry("second"));
+
+        // when
+        notificationInboxWorker.process(batch);
+
+        // then
+        verify(notificationReceiverService, times(2)).handleReceive(any(EDCNotification.class), eq(NotificationType.ALERT));
+        verify(notificationInboxRepository).complete(List.of("first", "second"));
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertThat(meterRegistry.get("notification.inbox.processing").tag("outcome", "processed").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenBatchWithFailingNotification_whenProcess_thenNotificationsAreStoredOneByOneAndOnlyStoredOnesAreCompleted() {
+        // given
+        NotificationInboxEntity stored = entry("stored");
+        NotificationInboxEntity broken = entry("broken");
+        broken.setPayload("{");
+
+        // when
+        notificationInboxWorker.process(List.of(stored, broken));
+
+        // then
+        verify(transactionManager, times(2)).rollback(any());
+        verify(notificationReceiverService, times(2)).handleReceive(any(EDCNotification.class), eq(NotificationType.ALERT));
+        verify(notificationInboxRepository).complete(List.of("stored"));
+        verify(notificationInboxRepository, never()).complete(List.of("stored", "broken"));
+        verify(notificationInboxRepository).retryLater(eq("broken"), anyString());
+        assertThat(meterRegistry.get("notification.inbox.processing").tag("outcome", "processed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.inbox.processing").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenQueuedUpdate_whenProcess_thenNotificationIsUpdated() {
+        // given
+        NotificationInboxEntity update = entry("edcNotificationId");
+        update.setInboxId("edcNotificationId/messageId");
+        update.setKind(NotificationInboxKind.UPDATE);
+
+        // when
+        notificationInboxWorker.process(List.of(update));
+
+        // then
+        verify(notificationReceiverService).handleUpdate(any(EDCNotification.class), eq(NotificationType.ALERT));
+        verify(notificationReceiverService, never()).handleReceive(any(), any());
+        verify(notificationInboxRepository).complete(List.of("edcNotificationId/messageId"));
+    }
+
+    private NotificationInboxEntity entry(String edcNotificationId) {
+        EDCNotificationHeader header = new EDCNotificationHeader(edcNotificationId, "BPNL00000001TEST", "http://sender", "BPNL00000002TEST",
+                "QM-Alert", "MINOR", null, "SENT", null, "messageId");
+        try {
+            return NotificationInboxEntity.builder()
+                    .inboxId(edcNotificationId)
+                    .edcNotificationId(edcNotificationId)
+                    .kind(NotificationInboxKind.RECEIVE)
+                    .notificationType(NotificationType.ALERT)
+                    .payload(objectMapper.writeValueAsString(new EDCNotification(header, new EDCNotificationContent("information", List.of()))))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
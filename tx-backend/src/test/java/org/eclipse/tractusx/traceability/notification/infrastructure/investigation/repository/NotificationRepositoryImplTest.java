@@ -18,6 +18,7 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.notification.infrastructure.investigation.repository;
 
+import jakarta.persistence.EntityManager;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.repository.JpaAssetAsBuiltRepository;
 import org.eclipse.tractusx.traceability.common.model.BPN;
@@ -27,24 +28,33 @@ import org.eclipse.tractusx.traceability.notification.domain.base.model.Notifica
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationMessageEntity;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.repository.JpaNotificationMessageRepository;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.repository.JpaNotificationRepository;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.repository.NotificationRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +75,14 @@ class NotificationRepositoryImplTest {
     @Mock
     private Clock clock;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationRepository, "entityManager", entityManager);
+    }
+
     @Test
     void updateErrorMessage() {
 
@@ -83,4 +101,52 @@ class NotificationRepositoryImplTest {
         verify(jpaNotificationMessageRepository, times(1)).updateOrInsert(any());
 
     }
+
+    @Test
+    void givenStoredMessage_whenUpdateErrorMessage_thenUpdateWithoutReloadingAssets() {
+        // Given
+        NotificationMessage message = NotificationMessage.builder().id("messageId").errorMessage("error").notificationStatus(NotificationStatus.ACKNOWLEDGED).build();
+        Notification notification = Notification.builder().notificationId(new NotificationId(123L)).notifications(List.of(message)).build();
+        when(clock.instant()).thenReturn(Instant.now());
+        when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+        when(jpaNotificationMessageRepository.updateErrorMessage(eq("messageId"), eq("error"), any())).thenReturn(1);
+
+        // When
+        notificationRepository.updateErrorMessage(notification, message);
+
+        // Then
+        verifyNoInteractions(assetsRepository, jpaNotificationRepository);
+        verify(jpaNotificationMessageRepository, never()).updateOrInsert(any());
+    }
+
+    @Test
+    void givenManyMessages_whenUpdateNotification_thenLoadAssetsAndStoredMessagesOnce() {
+        // Given
+        List<String> assetIds = IntStream.range(0, 100).mapToObj(i -> "asset-" + i).toList();
+        List<NotificationMessage> messages = IntStream.range(0, 50)
+                .mapToObj(i -> NotificationMessage.builder()
+                        .id("message-" + i)
+                        .notificationStatus(NotificationStatus.SENT)
+                        .affectedParts(List.of(new NotificationAffectedPart(assetIds.get(i)), new NotificationAffectedPart(assetIds.get(i + 50))))
+                        .build())
+                .toList();
+        Notification notification = Notification.builder().notificationStatus(NotificationStatus.SENT).affectedPartIds(assetIds)
+                .notificationId(new NotificationId(123L)).notifications(messages).build();
+        List<AssetAsBuiltEntity> assets = assetIds.stream().<AssetAsBuiltEntity>map(id -> AssetAsBuiltEntity.builder().id(id).build()).toList();
+        when(jpaNotificationRepository.findById(123L)).thenReturn(Optional.of(NotificationEntity.builder().id(123L).assets(assets).build()));
+        when(assetsRepository.findByIdIn(assetIds)).thenReturn(assets);
+        when(jpaNotificationMessageRepository.findExistingIds(any())).thenReturn(List.of("message-0", "message-1"));
+        when(clock.instant()).thenReturn(Instant.now());
+
+        // When
+        notificationRepository.updateNotification(notification);
+
+        // Then
+        verify(assetsRepository, times(1)).findByIdIn(any());
+        verify(jpaNotificationMessageRepository, times(1)).findExistingIds(any());
+        verify(jpaNotificationMessageRepository, never()).findById(any());
+        ArgumentCaptor<NotificationMessageEntity> persisted = ArgumentCaptor.forClass(NotificationMessageEntity.class);
+        verify(entityManager, times(48)).persist(persisted.capture());
+        assertThat(persisted.getAllValues()).allSatisfy(entity -> assertThat(entity.getAssets()).hasSize(2));
+    }
 }
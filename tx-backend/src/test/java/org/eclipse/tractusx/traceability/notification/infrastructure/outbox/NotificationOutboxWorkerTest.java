@@ -0,0 +1,129 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.notification.infrastructure.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationId;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
+import org.eclipse.tractusx.traceability.notification.domain.base.service.EdcNotificationService;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationOutboxRepository;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
+import org.eclipse.tractusx.traceability.testdata.InvestigationTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxWorkerTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private EdcNotificationService edcNotificationService;
+
+    @Mock
+    private ThreadPoolTaskExecutor notificationOutboxExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationOutboxWorker notificationOutboxWorker;
+
+    private NotificationMessage message;
+
+    private Notification notification;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationOutboxWorker = new NotificationOutboxWorker(notificationOutboxRepository, notificationRepository, edcNotificationService, notificationOutboxExecutor, meterRegistry, Clock.systemUTC());
+        message = NotificationMessage.builder()
+                .id("messageId")
+                .notificationStatus(NotificationStatus.SENT)
+                .build();
+        notification = InvestigationTestDataFactory.createInvestigationTestDataWithNotificationList(NotificationStatus.SENT, "senderBPN", List.of(message));
+        when(notificationRepository.findOptionalNotificationById(new NotificationId(1L))).thenReturn(Optional.of(notification));
+    }
+
+    @Test
+    void givenDeliveredMessage_whenProcess_thenMessageIsRemovedFromOutbox() {
+        // given
+        when(edcNotificationService.sendNotificationMessage(message, notification)).thenAnswer(invocation -> {
+            message.setContractAgreementId("agreementId");
+            return message;
+        });
+
+        // when
+        notificationOutboxWorker.process(1L, "messageId");
+
+        // then
+        verify(notificationOutboxRepository).complete("messageId", "agreementId");
+        verify(notificationOutboxRepository, never()).retryLater(anyString(), any());
+        assertThat(meterRegistry.get("notification.outbox.delivery").tag("outcome", "delivered").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenUndeliveredMessage_whenProcess_thenMessageIsRetriedLater() {
+        // given
+        when(edcNotificationService.sendNotificationMessage(message, notification)).thenAnswer(invocation -> {
+            message.setErrorMessage("EDC not reachable");
+            return null;
+        });
+
+        // when
+        notificationOutboxWorker.process(1L, "messageId");
+
+        // then
+        verify(notificationOutboxRepository).retryLater("messageId", "EDC not reachable");
+        verify(notificationOutboxRepository, never()).complete(anyString(), any());
+        assertThat(meterRegistry.get("notification.outbox.delivery").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenFailingDelivery_whenProcess_thenMessageIsRetriedLater() {
+        // given
+        when(edcNotificationService.sendNotificationMessage(message, notification)).thenThrow(new IllegalStateException("Discovery not reachable"));
+
+        // when
+        notificationOutboxWorker.process(1L, "messageId");
+
+        // then
+        verify(notificationOutboxRepository).retryLater("messageId", "Discovery not reachable");
+        verify(notificationOutboxRepository, never()).complete(anyString(), any());
+    }
+}
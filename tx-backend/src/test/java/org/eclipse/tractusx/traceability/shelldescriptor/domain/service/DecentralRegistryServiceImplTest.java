@@ -0,0 +1,214 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.shelldescriptor.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.Reference;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.SemanticId;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.SubmodelDescriptor;
+import org.eclipse.tractusx.traceability.assets.domain.asbuilt.service.AssetAsBuiltServiceImpl;
+import org.eclipse.tractusx.traceability.assets.domain.asplanned.service.AssetAsPlannedServiceImpl;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.eclipse.tractusx.traceability.common.model.BPN;
+import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.DecentralRegistryRepository;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.ShellDescriptorFingerprintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DecentralRegistryServiceImplTest {
+
+    private static final String BPN_VALUE = "BPNL00000003CML1";
+    private static final Instant NOW = Instant.parse("2024-08-01T10:00:00Z");
+
+    @Mock
+    private AssetAsBuiltServiceImpl assetAsBuiltService;
+
+    @Mock
+    private AssetAsPlannedServiceImpl assetAsPlannedService;
+
+    @Mock
+    private TraceabilityProperties traceabilityProperties;
+
+    @Mock
+    private DecentralRegistryRepository decentralRegistryRepository;
+
+    @Mock
+    private ShellDescriptorFingerprintRepository shellDescriptorFingerprintRepository;
+
+    @Captor
+    private ArgumentCaptor<Map<String, String>> fingerprintsCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(traceabilityProperties.getBpn()).thenReturn(new BPN(BPN_VALUE));
+    }
+
+    @Test
+    void givenUnchangedShellDescriptor_whenSynchronizeAssetsAgain_thenOnlyChangedTwinIsSynchronized() {
+        // given
+        DecentralRegistryServiceImpl decentralRegistryService = decentralRegistryService(true);
+        when(decentralRegistryRepository.retrieveShellDescriptorsByBpn(BPN_VALUE))
+                .thenReturn(List.of(asBuiltShell("id1", "shellId1"), asBuiltShell("id2", "shellId2")))
+                .thenReturn(List.of(asBuiltShell("id1", "shellId1"), asBuiltShell("id2", "changedShellId2")));
+        when(shellDescriptorFingerprintRepository.findFingerprintsSynchronizedAfter(NOW.minus(Duration.ofDays(7)))).thenReturn(Map.of());
+        when(assetAsBuiltService.getExistingAssetIds(List.of("id1", "id2"))).thenReturn(Set.of("id1", "id2"));
+        decentralRegistryService.synchronizeAssets();
+        verify(shellDescriptorFingerprintRepository).savePending(fingerprintsCaptor.capture(), any());
+        when(shellDescriptorFingerprintRepository.findFingerprintsSynchronizedAfter(NOW.minus(Duration.ofDays(7)))).thenReturn(fingerprintsCaptor.getValue());
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService, times(1)).synchronizeAssetsAsync("id1");
+        verify(assetAsBuiltService, times(2)).synchronizeAssetsAsync("id2");
+        verify(shellDescriptorFingerprintRepository, times(2)).savePending(fingerprintsCaptor.capture(), any());
+        assertThat(fingerprintsCaptor.getValue()).containsOnlyKeys("id2");
+        assertThat(meterRegistry.get("registry.sync.assets").tag("bomLifecycle", "asBuilt").tag("result", "synced").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("registry.sync.assets").tag("bomLifecycle", "asBuilt").tag("result", "skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenUnchangedShellDescriptorOfMissingAsset_whenSynchronizeAssets_thenTwinIsSynchronized() {
+        // given
+        DecentralRegistryServiceImpl decentralRegistryService = decentralRegistryService(true);
+        when(decentralRegistryRepository.retrieveShellDescriptorsByBpn(BPN_VALUE))
+                .thenReturn(List.of(asBuiltShell("id1", "shellId1"), asBuiltShell("id2", "shellId2")))
+                .thenReturn(List.of(asBuiltShell("id1", "shellId1"), asBuiltShell("id2", "shellId2")));
+        when(shellDescriptorFingerprintRepository.findFingerprintsSynchronizedAfter(NOW.minus(Duration.ofDays(7)))).thenReturn(Map.of());
+        decentralRegistryService.synchronizeAssets();
+        verify(shellDescriptorFingerprintRepository).savePending(fingerprintsCaptor.capture(), any());
+        when(shellDescriptorFingerprintRepository.findFingerprintsSynchronizedAfter(NOW.minus(Duration.ofDays(7)))).thenReturn(fingerprintsCaptor.getValue());
+        when(assetAsBuiltService.getExistingAssetIds(List.of("id1", "id2"))).thenReturn(Set.of("id1"));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService, times(1)).synchronizeAssetsAsync("id1");
+        verify(assetAsBuiltService, times(2)).synchronizeAssetsAsync("id2");
+    }
+
+    @Test
+    void givenChangedShellDescriptor_whenSynchronizeAssets_thenFingerprintIsPendingBeforeSynchronization() {
+        // given
+        DecentralRegistryServiceImpl decentralRegistryService = decentralRegistryService(true);
+        when(decentralRegistryRepository.retrieveShellDescriptorsByBpn(BPN_VALUE)).thenReturn(List.of(asBuiltShell("id1", "shellId1")));
+        when(shellDescriptorFingerprintRepository.findFingerprintsSynchronizedAfter(NOW.minus(Duration.ofDays(7)))).thenReturn(Map.of());
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        InOrder inOrder = inOrder(shellDescriptorFingerprintRepository, assetAsBuiltService);
+        inOrder.verify(shellDescriptorFingerprintRepository).savePending(fingerprintsCaptor.capture(), eq(NOW));
+        inOrder.verify(assetAsBuiltService).synchronizeAssetsAsync("id1");
+        assertThat(fingerprintsCaptor.getValue()).containsOnlyKeys("id1");
+    }
+
+    @Test
+    void givenDeltaSyncDisabled_whenSynchronizeAssets_thenAllTwinsAreSynchronized() {
+        // given
+        DecentralRegistryServiceImpl decentralRegistryService = decentralRegistryService(false);
+        when(decentralRegistryRepository.retrieveShellDescriptorsByBpn(BPN_VALUE))
+                .thenReturn(List.of(asBuiltShell("id1", "shellId1"), asBuiltShell("id2", "shellId2")));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService).synchronizeAssetsAsync("id1");
+        verify(assetAsBuiltService).synchronizeAssetsAsync("id2");
+        verify(shellDescriptorFingerprintRepository, never()).findFingerprintsSynchronizedAfter(any());
+        verify(shellDescriptorFingerprintRepository, never()).savePending(any(), any());
+        verify(assetAsPlannedService, never()).synchronizeAssetsAsync(anyString());
+    }
+
+    @Test
+    void givenTwinInSynchronization_whenSynchronizeAssets_thenTwinIsSkipped() {
+        // given
+        DecentralRegistryServiceImpl decentralRegistryService = decentralRegistryService(false);
+        when(decentralRegistryRepository.retrieveShellDescriptorsByBpn(BPN_VALUE))
+                .thenReturn(List.of(asBuiltShell("id1", "shellId1"), asBuiltShell("id2", "shellId2")));
+        when(assetAsBuiltService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION)).thenReturn(Set.of("id2"));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService).synchronizeAssetsAsync("id1");
+        verify(assetAsBuiltService, never()).synchronizeAssetsAsync("id2");
+        assertThat(meterRegistry.get("registry.sync.assets").tag("bomLifecycle", "asBuilt").tag("result", "skipped").counter().count()).isEqualTo(1);
+    }
+
+    private DecentralRegistryServiceImpl decentralRegistryService(boolean deltaSyncEnabled) {
+        return new DecentralRegistryServiceImpl(assetAsBuiltService, assetAsPlannedService, traceabilityProperties,
+                decentralRegistryRepository, shellDescriptorFingerprintRepository, new ObjectMapper(), meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC), deltaSyncEnabled, Duration.ofDays(7));
+    }
+
+    private static Shell asBuiltShell(String globalAssetId, String shellId) {
+        AssetAdministrationShellDescriptor shellDescriptor = AssetAdministrationShellDescriptor.builder()
+                .id(shellId)
+                .globalAssetId(globalAssetId)
+                .submodelDescriptors(List.of(
+                        SubmodelDescriptor.builder()
+                                .semanticId(Reference.builder()
+                                        .keys(List.of(SemanticId.builder()
+                                                .type("GlobalReference")
+                                                .value("urn:samm:io.catenax.serial_part:3.0.0#SerialPart")
+                                                .build()))
+                                        .build())
+                                .build()))
+                .build();
+        return Shell.builder().payload(shellDescriptor).build();
+    }
+}
@@ -54,4 +54,6 @@ public class NotificationMessageResponse {
     @Size(max = 255)
     private String errorMessage;
     private String message;
+    @Enumerated(EnumType.STRING)
+    private NotificationDeliveryStateResponse deliveryState;
 }